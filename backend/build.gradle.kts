@@ -2,6 +2,8 @@ plugins {
     java
     id("org.springframework.boot") version "3.4.1"
     id("io.spring.dependency-management") version "1.1.7"
+    id("me.champeau.jmh") version "0.7.2"
+    id("io.github.reyerizo.gradle.jcstress") version "0.8.15"
 }
 
 group = "com.crypto"
@@ -23,6 +25,7 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-websocket")
     implementation("org.springframework.boot:spring-boot-starter-data-redis")
     implementation("org.springframework.boot:spring-boot-starter-validation")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
 
     // Lettuce (Redis client)
     implementation("io.lettuce:lettuce-core")
@@ -54,6 +57,18 @@ dependencies {
     testImplementation("com.redis.testcontainers:testcontainers-redis-junit:1.6.4")
 }
 
+// Benchmarks: ./gradlew jmh
+jmh {
+    warmupIterations = 2
+    iterations = 3
+    fork = 1
+}
+
+// Concurrency stress tests: ./gradlew jcstress
+jcstress {
+    mode = "quick"
+}
+
 tasks.withType<Test> {
     useJUnitPlatform()
 }
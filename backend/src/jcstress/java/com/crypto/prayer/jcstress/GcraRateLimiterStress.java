@@ -0,0 +1,71 @@
+package com.crypto.prayer.jcstress;
+
+import com.crypto.prayer.adapter.in.websocket.ratelimit.GcraRateLimiter;
+import com.crypto.prayer.adapter.in.websocket.ratelimit.RateLimitConfig;
+import org.openjdk.jcstress.annotations.*;
+import org.openjdk.jcstress.infra.results.ZZZ_Result;
+import org.openjdk.jcstress.infra.results.ZZ_Result;
+
+/**
+ * GcraRateLimiter CAS 루프 동시성 검증 (시계를 고정해 남은 허용량을 정확히 센다)
+ */
+public class GcraRateLimiterStress {
+
+    private static RateLimitConfig config(int burst) {
+        RateLimitConfig config = new RateLimitConfig();
+        config.setRatePerSecond(1);
+        config.setBurst(burst);
+        return config;
+    }
+
+    /**
+     * 허용량 1을 두 스레드가 다투면 정확히 하나만 성공한다
+     */
+    @JCStressTest
+    @Outcome(id = {"true, false", "false, true"}, expect = Expect.ACCEPTABLE, desc = "Exactly one consumer wins")
+    @Outcome(id = "true, true", expect = Expect.FORBIDDEN, desc = "Burst exceeded")
+    @Outcome(id = "false, false", expect = Expect.FORBIDDEN, desc = "Allowance lost")
+    @State
+    public static class SingleToken {
+
+        private final GcraRateLimiter limiter = new GcraRateLimiter(config(1), () -> 0L);
+
+        @Actor
+        public void actor1(ZZ_Result r) {
+            r.r1 = limiter.tryConsume("client");
+        }
+
+        @Actor
+        public void actor2(ZZ_Result r) {
+            r.r2 = limiter.tryConsume("client");
+        }
+    }
+
+    /**
+     * 새 클라이언트 항목을 세 스레드가 동시에 만들어도 허용량 2를 정확히 나눠 갖는다
+     */
+    @JCStressTest
+    @Outcome(id = {"true, true, false", "true, false, true", "false, true, true"},
+        expect = Expect.ACCEPTABLE, desc = "Exactly two consumers win")
+    @Outcome(expect = Expect.FORBIDDEN, desc = "Allowance exceeded or lost")
+    @State
+    public static class ConcurrentFirstUse {
+
+        private final GcraRateLimiter limiter = new GcraRateLimiter(config(2), () -> 0L);
+
+        @Actor
+        public void actor1(ZZZ_Result r) {
+            r.r1 = limiter.tryConsume("client");
+        }
+
+        @Actor
+        public void actor2(ZZZ_Result r) {
+            r.r2 = limiter.tryConsume("client");
+        }
+
+        @Actor
+        public void actor3(ZZZ_Result r) {
+            r.r3 = limiter.tryConsume("client");
+        }
+    }
+}
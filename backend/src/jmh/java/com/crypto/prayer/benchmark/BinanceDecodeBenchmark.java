@@ -0,0 +1,118 @@
+package com.crypto.prayer.benchmark;
+
+import com.crypto.prayer.adapter.out.binance.decode.BinanceEventDecoder;
+import com.crypto.prayer.adapter.out.binance.decode.LiquidationEvent;
+import com.crypto.prayer.adapter.out.binance.decode.TickerEvent;
+import com.crypto.prayer.adapter.out.binance.dto.BinanceLiquidationEvent;
+import com.crypto.prayer.adapter.out.binance.dto.BinanceTickerEvent;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 바이낸스 이벤트 디코딩 비교
+ * - binding: ObjectMapper.readValue로 DTO 레코드 바인딩 후 Double.parseDouble (기존 방식)
+ * - streaming: BinanceEventDecoder (필요한 필드만, 토큰 버퍼에서 바로 숫자 변환, 홀더 재사용)
+ * 할당량은 jmh { profilers = listOf("gc") } 로 함께 비교한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BinanceDecodeBenchmark {
+
+    private static final String TICKER = """
+        {"e":"24hrTicker","E":1672515782136,"s":"BTCUSDT","p":"-1203.40000000","P":"-1.223",\
+        "w":"97512.33810000","c":"97123.45000000","Q":"0.012","o":"98326.85000000",\
+        "h":"99100.00000000","l":"96500.10000000","v":"182345.12300000","q":"17782345678.12",\
+        "O":1672429382136,"C":1672515782136,"F":1000,"L":2000,"n":1001}""";
+
+    private static final String LIQUIDATION = """
+        {"e":"forceOrder","E":1568014460893,"o":{"s":"BTCUSDT","S":"SELL","o":"LIMIT","f":"IOC",\
+        "q":"0.014","p":"9910","ap":"9910","X":"FILLED","l":"0.014","z":"0.014","T":1568014460893}}""";
+
+    private static final int ARRAY_SIZE = 50;
+
+    private ObjectMapper objectMapper;
+    private BinanceEventDecoder decoder;
+    private String liquidationArray;
+
+    private Blackhole blackhole;
+    private Consumer<TickerEvent> tickerSink;
+    private Consumer<LiquidationEvent> liquidationSink;
+
+    @Setup
+    public void setUp() {
+        this.objectMapper = new ObjectMapper();
+        this.decoder = new BinanceEventDecoder(objectMapper.getFactory());
+        this.tickerSink = event -> {
+            this.blackhole.consume(event.symbol());
+            this.blackhole.consume(event.price());
+            this.blackhole.consume(event.priceChangePercent());
+        };
+        this.liquidationSink = event -> {
+            this.blackhole.consume(event.symbol());
+            this.blackhole.consume(event.side());
+            this.blackhole.consume(event.quantity());
+            this.blackhole.consume(event.price());
+        };
+
+        StringJoiner joiner = new StringJoiner(",", "[", "]");
+        for (int i = 0; i < ARRAY_SIZE; i++) {
+            joiner.add(LIQUIDATION);
+        }
+        this.liquidationArray = joiner.toString();
+    }
+
+    @Benchmark
+    public void tickerBinding(Blackhole bh) throws Exception {
+        BinanceTickerEvent event = objectMapper.readValue(TICKER, BinanceTickerEvent.class);
+        bh.consume(event.symbol());
+        bh.consume(event.getPrice());
+        bh.consume(event.getPriceChangePercent());
+    }
+
+    @Benchmark
+    public int tickerStreaming(Blackhole bh) throws Exception {
+        blackhole = bh;
+        return decoder.forEachTicker(TICKER, tickerSink);
+    }
+
+    @Benchmark
+    public void liquidationBinding(Blackhole bh) throws Exception {
+        consume(bh, objectMapper.readValue(LIQUIDATION, BinanceLiquidationEvent.class));
+    }
+
+    @Benchmark
+    public int liquidationStreaming(Blackhole bh) throws Exception {
+        blackhole = bh;
+        return decoder.forEachLiquidation(LIQUIDATION, liquidationSink);
+    }
+
+    @Benchmark
+    public void liquidationArrayBinding(Blackhole bh) throws Exception {
+        List<BinanceLiquidationEvent> events = objectMapper.readValue(
+            liquidationArray, new TypeReference<List<BinanceLiquidationEvent>>() { });
+        for (BinanceLiquidationEvent event : events) {
+            consume(bh, event);
+        }
+    }
+
+    @Benchmark
+    public int liquidationArrayStreaming(Blackhole bh) throws Exception {
+        blackhole = bh;
+        return decoder.forEachLiquidation(liquidationArray, liquidationSink);
+    }
+
+    private static void consume(Blackhole bh, BinanceLiquidationEvent event) {
+        bh.consume(event.getSymbol());
+        bh.consume(event.getSide());
+        bh.consume(event.getQuantity());
+        bh.consume(event.getPrice());
+    }
+}
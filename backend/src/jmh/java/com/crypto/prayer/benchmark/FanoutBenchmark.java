@@ -0,0 +1,223 @@
+package com.crypto.prayer.benchmark;
+
+import com.crypto.prayer.adapter.in.websocket.dto.PrayerResponse;
+import com.crypto.prayer.adapter.in.websocket.fanout.EncodeOnceBroadcaster;
+import com.crypto.prayer.adapter.in.websocket.fanout.FanoutConfig;
+import com.crypto.prayer.adapter.in.websocket.fanout.TopicSubscriptionRegistry;
+import com.crypto.prayer.adapter.in.websocket.fanout.WebSocketSessionRegistry;
+import com.crypto.prayer.adapter.in.websocket.outbound.OutboundConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpHeaders;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompEncoder;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.security.Principal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * /topic/prayer 틱당 팬아웃 비용 비교
+ * - brokerPath: SimpMessagingTemplate → SimpleBroker → 세션별 STOMP 인코딩 (StompSubProtocolHandler 경로 재현)
+ * - encodeOncePath: EncodeOnceBroadcaster (한 번 직렬화, subscription id별 프레임 공유)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FanoutBenchmark {
+
+    private static final String TOPIC = "/topic/prayer";
+
+    @Param({"1000", "10000"})
+    private int sessions;
+
+    private SimpMessagingTemplate template;
+    private EncodeOnceBroadcaster encodeOnceBroadcaster;
+    private PrayerResponse response;
+
+    private long brokerBytes;
+    private long encodeOnceBytes;
+
+    @Setup
+    public void setUp() throws Exception {
+        response = PrayerResponse.from(123_456L, 98_765L, 420.0, 380.0);
+        setUpBrokerPath();
+        setUpEncodeOncePath();
+    }
+
+    @Benchmark
+    public long brokerPath() {
+        template.convertAndSend(TOPIC, response);
+        return brokerBytes;
+    }
+
+    @Benchmark
+    public long encodeOncePath() {
+        encodeOnceBroadcaster.broadcast(TOPIC, response);
+        return encodeOnceBytes;
+    }
+
+    private void setUpBrokerPath() {
+        ExecutorSubscribableChannel clientInbound = new ExecutorSubscribableChannel();
+        ExecutorSubscribableChannel clientOutbound = new ExecutorSubscribableChannel();
+        ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+
+        StompEncoder encoder = new StompEncoder();
+        clientOutbound.subscribe(message -> {
+            SimpMessageHeaderAccessor simp = SimpMessageHeaderAccessor.wrap(message);
+            StompHeaderAccessor stomp = StompHeaderAccessor.create(StompCommand.MESSAGE);
+            stomp.setDestination(simp.getDestination());
+            stomp.setSubscriptionId(simp.getSubscriptionId());
+            stomp.setMessageId(simp.getSessionId() + "-" + brokerBytes);
+            stomp.setContentType(MimeTypeUtils.APPLICATION_JSON);
+            byte[] frame = encoder.encode(stomp.getMessageHeaders(), (byte[]) message.getPayload());
+            brokerBytes += new TextMessage(frame).getPayloadLength();
+        });
+
+        SimpleBrokerMessageHandler broker = new SimpleBrokerMessageHandler(
+            clientInbound, clientOutbound, brokerChannel, List.of("/topic"));
+        broker.start();
+
+        for (int i = 0; i < sessions; i++) {
+            SimpMessageHeaderAccessor subscribe = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+            subscribe.setSessionId("s" + i);
+            subscribe.setSubscriptionId("sub-0");
+            subscribe.setDestination(TOPIC);
+            broker.handleMessage(MessageBuilder.createMessage(new byte[0], subscribe.getMessageHeaders()));
+        }
+
+        template = new SimpMessagingTemplate(brokerChannel);
+        template.setMessageConverter(new MappingJackson2MessageConverter());
+    }
+
+    private void setUpEncodeOncePath() throws Exception {
+        FanoutConfig config = new FanoutConfig();
+        config.setEnabled(true);
+        WebSocketSessionRegistry sessionRegistry = new WebSocketSessionRegistry(config, new OutboundConfig());
+        TopicSubscriptionRegistry subscriptionRegistry = new TopicSubscriptionRegistry(config);
+
+        WebSocketHandler handler = sessionRegistry.decorate(new TextWebSocketHandler());
+        for (int i = 0; i < sessions; i++) {
+            String sessionId = "s" + i;
+            handler.afterConnectionEstablished(new SinkSession(sessionId));
+            subscriptionRegistry.subscribe(sessionId, "sub-0", TOPIC);
+        }
+
+        encodeOnceBroadcaster = new EncodeOnceBroadcaster(
+            config, sessionRegistry, subscriptionRegistry, new ObjectMapper());
+    }
+
+    /**
+     * 전송 바이트만 집계하는 세션
+     */
+    private class SinkSession implements WebSocketSession {
+
+        private final String id;
+        private final Map<String, Object> attributes = new HashMap<>();
+
+        SinkSession(String id) {
+            this.id = id;
+        }
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public URI getUri() {
+            return null;
+        }
+
+        @Override
+        public HttpHeaders getHandshakeHeaders() {
+            return new HttpHeaders();
+        }
+
+        @Override
+        public Map<String, Object> getAttributes() {
+            return attributes;
+        }
+
+        @Override
+        public Principal getPrincipal() {
+            return null;
+        }
+
+        @Override
+        public InetSocketAddress getLocalAddress() {
+            return null;
+        }
+
+        @Override
+        public InetSocketAddress getRemoteAddress() {
+            return null;
+        }
+
+        @Override
+        public String getAcceptedProtocol() {
+            return "v12.stomp";
+        }
+
+        @Override
+        public void setTextMessageSizeLimit(int messageSizeLimit) {
+        }
+
+        @Override
+        public int getTextMessageSizeLimit() {
+            return Integer.MAX_VALUE;
+        }
+
+        @Override
+        public void setBinaryMessageSizeLimit(int messageSizeLimit) {
+        }
+
+        @Override
+        public int getBinaryMessageSizeLimit() {
+            return Integer.MAX_VALUE;
+        }
+
+        @Override
+        public List<WebSocketExtension> getExtensions() {
+            return List.of();
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) {
+            encodeOnceBytes += message.getPayloadLength();
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public void close(CloseStatus status) {
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.crypto.prayer.benchmark;
+
+import com.crypto.prayer.adapter.in.websocket.ratelimit.GcraRateLimiter;
+import com.crypto.prayer.adapter.in.websocket.ratelimit.RateLimitConfig;
+import com.crypto.prayer.adapter.in.websocket.ratelimit.RateLimiter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 레이트 리미터 tryConsume 비용 비교 (8 스레드)
+ * - tokenBucket: synchronized + AtomicLong + currentTimeMillis (기존 방식)
+ * - gcra: 클라이언트당 AtomicLong 하나, CAS 루프 + nanoTime
+ * 두 구현에 같은 rate/burst를 주고 경로를 나눠 잰다.
+ * - allow: 측정 중 한도에 닿지 않는 허용량이라 항상 통과
+ * - deny: 초당 1회, 버스트 1이라 첫 요청 뒤로는 거의 모두 거부
+ * shared: 모든 스레드가 한 클라이언트를 두드리는 최악의 경합, perThread: 스레드마다 다른 클라이언트
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+public class RateLimiterBenchmark {
+
+    @Param({"tokenBucket", "gcra"})
+    private String implementation;
+
+    @Param({"allow", "deny"})
+    private String path;
+
+    private RateLimiter rateLimiter;
+
+    @Setup
+    public void setUp() {
+        RateLimitConfig config = new RateLimitConfig();
+        switch (path) {
+            case "allow" -> {
+                config.setRatePerSecond(1_000_000_000);
+                config.setBurst(Integer.MAX_VALUE);
+            }
+            case "deny" -> {
+                config.setRatePerSecond(1);
+                config.setBurst(1);
+            }
+            default -> throw new IllegalArgumentException(path);
+        }
+        rateLimiter = switch (implementation) {
+            case "tokenBucket" -> new TokenBucketRateLimiter(config.getRatePerSecond(), config.getBurst());
+            case "gcra" -> new GcraRateLimiter(config);
+            default -> throw new IllegalArgumentException(implementation);
+        };
+    }
+
+    @State(Scope.Thread)
+    public static class Client {
+
+        private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+        String id;
+
+        @Setup
+        public void setUp() {
+            id = "client-" + SEQUENCE.incrementAndGet();
+        }
+    }
+
+    @Benchmark
+    public boolean shared() {
+        return rateLimiter.tryConsume("shared");
+    }
+
+    @Benchmark
+    public boolean perThread(Client client) {
+        return rateLimiter.tryConsume(client.id);
+    }
+}
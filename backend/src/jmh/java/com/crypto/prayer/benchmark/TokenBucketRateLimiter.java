@@ -1,16 +1,27 @@
-package com.crypto.prayer.adapter.in.websocket.ratelimit;
+package com.crypto.prayer.benchmark;
+
+import com.crypto.prayer.adapter.in.websocket.ratelimit.RateLimiter;
 
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 
-public class TokenBucketRateLimiter implements RateLimiter {
+/**
+ * GCRA 이전에 쓰던 토큰 버킷 (벤치마크 기준선)
+ * 버킷마다 synchronized + AtomicLong, currentTimeMillis로 200ms 단위 리필.
+ * 비교가 공정하도록 rate와 burst만 생성자로 받는다.
+ */
+class TokenBucketRateLimiter implements RateLimiter {
 
-    // 초당 5회, 버스트 최대 20
-    private static final double REFILL_RATE = 5.0;
-    private static final long MAX_TOKENS = 20;
     private static final long REFILL_INTERVAL_MS = 200;
 
     private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final double refillRate;
+    private final long maxTokens;
+
+    TokenBucketRateLimiter(double refillRate, long maxTokens) {
+        this.refillRate = refillRate;
+        this.maxTokens = maxTokens;
+    }
 
     @Override
     public boolean tryConsume(String clientId) {
@@ -23,20 +34,8 @@ public class TokenBucketRateLimiter implements RateLimiter {
         buckets.remove(clientId);
     }
 
-    /**
-     * 오래된 버킷 정리 (메모리 관리)
-     * @param maxIdleTimeMs 최대 유휴 시간 (ms)
-     */
-    public void cleanupStaleEntries(long maxIdleTimeMs) {
-        long now = System.currentTimeMillis();
-        buckets.entrySet().removeIf(entry -> {
-            TokenBucket bucket = entry.getValue();
-            return (now - bucket.lastRefillTime) > maxIdleTimeMs;
-        });
-    }
-
-    private static class TokenBucket {
-        private final AtomicLong tokens = new AtomicLong(MAX_TOKENS);
+    private class TokenBucket {
+        private final AtomicLong tokens = new AtomicLong(maxTokens);
         private volatile long lastRefillTime = System.currentTimeMillis();
 
         synchronized boolean tryConsume() {
@@ -54,9 +53,9 @@ public class TokenBucketRateLimiter implements RateLimiter {
             long elapsed = now - lastRefillTime;
 
             if (elapsed >= REFILL_INTERVAL_MS) {
-                long tokensToAdd = (long) (elapsed / 1000.0 * REFILL_RATE);
+                long tokensToAdd = (long) (elapsed / 1000.0 * refillRate);
                 if (tokensToAdd > 0) {
-                    long newTokens = Math.min(MAX_TOKENS, tokens.get() + tokensToAdd);
+                    long newTokens = Math.min(maxTokens, tokens.get() + tokensToAdd);
                     tokens.set(newTokens);
                     lastRefillTime = now;
                 }
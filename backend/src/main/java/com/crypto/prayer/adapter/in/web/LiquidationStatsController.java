@@ -0,0 +1,35 @@
+package com.crypto.prayer.adapter.in.web;
+
+import com.crypto.prayer.adapter.in.websocket.dto.LiquidationLeaderboardMessage;
+import com.crypto.prayer.adapter.in.websocket.dto.LiquidationSummaryMessage;
+import com.crypto.prayer.application.port.in.LiquidationStatsQuery;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/liquidations")
+public class LiquidationStatsController {
+
+    private final LiquidationStatsQuery liquidationStatsQuery;
+
+    public LiquidationStatsController(LiquidationStatsQuery liquidationStatsQuery) {
+        this.liquidationStatsQuery = liquidationStatsQuery;
+    }
+
+    /**
+     * 1m/5m/1h/24h 롱/숏 청산 집계 (/topic/liquidation/summary 와 같은 형식)
+     */
+    @GetMapping("/summary")
+    public LiquidationSummaryMessage getSummary() {
+        return LiquidationSummaryMessage.from(liquidationStatsQuery.getSummary());
+    }
+
+    /**
+     * 최근 청산 상위 심볼 (/topic/liquidation/leaderboard 와 같은 형식)
+     */
+    @GetMapping("/leaderboard")
+    public LiquidationLeaderboardMessage getLeaderboard() {
+        return LiquidationLeaderboardMessage.from(liquidationStatsQuery.getLeaderboard());
+    }
+}
@@ -0,0 +1,45 @@
+package com.crypto.prayer.adapter.in.web;
+
+import com.crypto.prayer.adapter.in.web.dto.PrayerHistoryResponse;
+import com.crypto.prayer.application.port.in.PrayerHistoryQuery;
+import com.crypto.prayer.domain.model.HistoryResolution;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+@RestController
+@RequestMapping("/api/prayers")
+public class PrayerHistoryController {
+
+    private static final long DEFAULT_RANGE_MS = 3_600_000L;
+
+    private final PrayerHistoryQuery prayerHistoryQuery;
+
+    public PrayerHistoryController(PrayerHistoryQuery prayerHistoryQuery) {
+        this.prayerHistoryQuery = prayerHistoryQuery;
+    }
+
+    /**
+     * 분 버킷 기도 히스토리 (resolution: 1m/5m/1h, from/to: epoch millis, 기본 최근 1시간)
+     */
+    @GetMapping("/history")
+    public PrayerHistoryResponse getHistory(
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) Long to,
+            @RequestParam(defaultValue = "1m") String resolution) {
+        HistoryResolution step = HistoryResolution.fromLabel(resolution)
+            .orElseThrow(() -> new ResponseStatusException(
+                HttpStatus.BAD_REQUEST, "Unknown resolution: " + resolution));
+
+        long end = to != null ? to : System.currentTimeMillis();
+        long start = from != null ? from : end - DEFAULT_RANGE_MS;
+        try {
+            return PrayerHistoryResponse.from(prayerHistoryQuery.getHistory(start, end, step));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.crypto.prayer.adapter.in.web.dto;
+
+import com.crypto.prayer.domain.model.PrayerHistory;
+
+import java.util.List;
+
+public record PrayerHistoryResponse(
+    String resolution,
+    long from,
+    long to,
+    List<PrayerHistory.Bucket> buckets
+) {
+    public static PrayerHistoryResponse from(PrayerHistory history) {
+        return new PrayerHistoryResponse(
+            history.resolution().label(),
+            history.from(),
+            history.to(),
+            history.buckets()
+        );
+    }
+}
@@ -0,0 +1,94 @@
+package com.crypto.prayer.adapter.in.websocket;
+
+import com.crypto.prayer.application.port.out.MarketDataSubscriptionPort;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * /topic/ticker/{symbol} 구독 현황을 업스트림 구독 수요로 전달
+ * 세션의 구독 하나마다 acquire 한 번, 해제/연결 종료 시 release 한 번을 보장한다.
+ */
+@Component
+public class TickerSubscriptionTracker {
+
+    static final String TICKER_TOPIC_PREFIX = "/topic/ticker/";
+
+    private final MarketDataSubscriptionPort subscriptionPort;
+
+    // sessionId → (subscriptionId → symbol)
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, String>> sessions =
+        new ConcurrentHashMap<>();
+
+    public TickerSubscriptionTracker(MarketDataSubscriptionPort subscriptionPort) {
+        this.subscriptionPort = subscriptionPort;
+    }
+
+    @EventListener
+    public void handleSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        subscribe(accessor.getSessionId(), accessor.getSubscriptionId(), accessor.getDestination());
+    }
+
+    @EventListener
+    public void handleUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        unsubscribe(accessor.getSessionId(), accessor.getSubscriptionId());
+    }
+
+    @EventListener
+    public void handleDisconnect(SessionDisconnectEvent event) {
+        removeSession(event.getSessionId());
+    }
+
+    public void subscribe(String sessionId, String subscriptionId, String destination) {
+        if (sessionId == null || subscriptionId == null || destination == null
+                || !destination.startsWith(TICKER_TOPIC_PREFIX)) {
+            return;
+        }
+        String symbol = destination.substring(TICKER_TOPIC_PREFIX.length());
+        // 브로드캐스트는 대문자 심볼 토픽으로만 나가므로 다른 표기는 받을 수 없는 구독이다
+        if (symbol.isEmpty() || symbol.indexOf('/') >= 0 || !symbol.equals(symbol.toUpperCase(Locale.ROOT))) {
+            return;
+        }
+
+        String previous = sessions.computeIfAbsent(sessionId, k -> new ConcurrentHashMap<>())
+            .put(subscriptionId, symbol);
+        subscriptionPort.acquireTicker(symbol);
+        // 같은 구독 ID로 다시 구독하면 이전 심볼은 해제
+        if (previous != null) {
+            subscriptionPort.releaseTicker(previous);
+        }
+    }
+
+    public void unsubscribe(String sessionId, String subscriptionId) {
+        if (sessionId == null || subscriptionId == null) {
+            return;
+        }
+        Map<String, String> subscriptions = sessions.get(sessionId);
+        if (subscriptions == null) {
+            return;
+        }
+        String symbol = subscriptions.remove(subscriptionId);
+        if (symbol != null) {
+            subscriptionPort.releaseTicker(symbol);
+        }
+    }
+
+    public void removeSession(String sessionId) {
+        if (sessionId == null) {
+            return;
+        }
+        Map<String, String> subscriptions = sessions.remove(sessionId);
+        if (subscriptions != null) {
+            subscriptions.values().forEach(subscriptionPort::releaseTicker);
+        }
+    }
+}
@@ -1,6 +1,10 @@
 package com.crypto.prayer.adapter.in.websocket;
 
-import com.crypto.prayer.adapter.in.websocket.ratelimit.TokenBucketRateLimiter;
+import com.crypto.prayer.adapter.in.websocket.ratelimit.DistributedRateLimiter;
+import com.crypto.prayer.adapter.in.websocket.ratelimit.GcraRateLimiter;
+import com.crypto.prayer.adapter.in.websocket.ratelimit.RateLimitConfig;
+import com.crypto.prayer.adapter.in.websocket.ratelimit.RateLimiter;
+import com.crypto.prayer.adapter.out.redis.RedisRateLimitLeaser;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -8,7 +12,10 @@ import org.springframework.context.annotation.Configuration;
 public class WebSocketBeans {
 
     @Bean
-    public TokenBucketRateLimiter tokenBucketRateLimiter() {
-        return new TokenBucketRateLimiter();
+    public RateLimiter rateLimiter(RateLimitConfig config, RedisRateLimitLeaser leaser) {
+        if (config.getDistributed().isEnabled()) {
+            return new DistributedRateLimiter(config, leaser);
+        }
+        return new GcraRateLimiter(config);
     }
 }
@@ -1,17 +1,47 @@
 package com.crypto.prayer.adapter.in.websocket;
 
+import com.crypto.prayer.adapter.in.websocket.admission.AdmissionController;
+import com.crypto.prayer.adapter.in.websocket.fanout.WebSocketSessionRegistry;
+import com.crypto.prayer.adapter.in.websocket.outbound.OutboundConfig;
+import com.crypto.prayer.adapter.in.websocket.outbound.SlowConsumerGuard;
+import com.crypto.prayer.adapter.in.websocket.ratelimit.ClientIdentityHandshakeInterceptor;
+import com.crypto.prayer.adapter.in.websocket.snapshot.SnapshotOnSubscribeInterceptor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 @Configuration
 @EnableScheduling
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final WebSocketSessionRegistry sessionRegistry;
+    private final SnapshotOnSubscribeInterceptor snapshotInterceptor;
+    private final ClientIdentityHandshakeInterceptor identityInterceptor;
+    private final AdmissionController admissionController;
+    private final SlowConsumerGuard slowConsumerGuard;
+    private final OutboundConfig outboundConfig;
+
+    public WebSocketConfig(
+            WebSocketSessionRegistry sessionRegistry,
+            SnapshotOnSubscribeInterceptor snapshotInterceptor,
+            ClientIdentityHandshakeInterceptor identityInterceptor,
+            AdmissionController admissionController,
+            SlowConsumerGuard slowConsumerGuard,
+            OutboundConfig outboundConfig) {
+        this.sessionRegistry = sessionRegistry;
+        this.snapshotInterceptor = snapshotInterceptor;
+        this.identityInterceptor = identityInterceptor;
+        this.admissionController = admissionController;
+        this.slowConsumerGuard = slowConsumerGuard;
+        this.outboundConfig = outboundConfig;
+    }
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
         registry.enableSimpleBroker("/topic", "/queue");
@@ -21,11 +51,32 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
+        // IP·클라이언트 ID를 세션 속성에 저장한 뒤 입장 제어 (차단 목록, 노드/IP 세션 상한)
         registry.addEndpoint("/ws")
+            .addInterceptors(identityInterceptor, admissionController)
             .setAllowedOriginPatterns("*")
             .withSockJS();
 
         registry.addEndpoint("/ws")
+            .addInterceptors(identityInterceptor, admissionController)
             .setAllowedOriginPatterns("*");
     }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        // SUBSCRIBE /user/queue/snapshot 처리 직후 현재 상태 스냅샷 전송
+        registration.interceptors(snapshotInterceptor);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        // 팬아웃 직접 쓰기를 위해 세션을 등록, 연결 종료 시 입장 슬롯 반납
+        registration.addDecoratorFactory(sessionRegistry);
+        registration.addDecoratorFactory(admissionController);
+        // 마지막에 등록해 원본 세션을 직접 감싼다: 상태 토픽 conflation, 이벤트가 밀리면 연결 종료
+        registration.addDecoratorFactory(slowConsumerGuard);
+        // Spring 기본 송신 버퍼 한도 (conflation을 끈 경우의 안전망)
+        registration.setSendTimeLimit(outboundConfig.getSendTimeLimitMs())
+            .setSendBufferSizeLimit(outboundConfig.getMaxBufferedBytes());
+    }
 }
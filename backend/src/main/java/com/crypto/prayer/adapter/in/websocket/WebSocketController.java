@@ -1,16 +1,19 @@
 package com.crypto.prayer.adapter.in.websocket;
 
+import com.crypto.prayer.adapter.in.websocket.admission.AdmissionController;
+import com.crypto.prayer.adapter.in.websocket.delta.PrayerDeltaEncoder;
+import com.crypto.prayer.adapter.in.websocket.dto.PrayerDeltaMessage;
 import com.crypto.prayer.adapter.in.websocket.dto.PrayerRequest;
-import com.crypto.prayer.adapter.in.websocket.ratelimit.RateLimitExceededException;
-import com.crypto.prayer.adapter.in.websocket.ratelimit.TokenBucketRateLimiter;
+import com.crypto.prayer.adapter.in.websocket.ratelimit.ClientIdentity;
+import com.crypto.prayer.adapter.in.websocket.ratelimit.RateLimitRejections;
+import com.crypto.prayer.adapter.in.websocket.ratelimit.RateLimiter;
 import com.crypto.prayer.application.port.in.PrayerUseCase;
 import com.crypto.prayer.domain.model.Side;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
-import org.springframework.messaging.simp.annotation.SendToUser;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
 import org.springframework.stereotype.Controller;
 
 @Controller
@@ -19,13 +22,22 @@ public class WebSocketController {
     private static final Logger log = LoggerFactory.getLogger(WebSocketController.class);
 
     private final PrayerUseCase prayerUseCase;
-    private final TokenBucketRateLimiter rateLimiter;
+    private final RateLimiter rateLimiter;
+    private final PrayerDeltaEncoder prayerDeltaEncoder;
+    private final AdmissionController admissionController;
+    private final RateLimitRejections rateLimitRejections;
 
     public WebSocketController(
             PrayerUseCase prayerUseCase,
-            TokenBucketRateLimiter rateLimiter) {
+            RateLimiter rateLimiter,
+            PrayerDeltaEncoder prayerDeltaEncoder,
+            AdmissionController admissionController,
+            RateLimitRejections rateLimitRejections) {
         this.prayerUseCase = prayerUseCase;
         this.rateLimiter = rateLimiter;
+        this.prayerDeltaEncoder = prayerDeltaEncoder;
+        this.admissionController = admissionController;
+        this.rateLimitRejections = rateLimitRejections;
     }
 
     /**
@@ -39,9 +51,13 @@ public class WebSocketController {
 
         String sessionId = headerAccessor.getSessionId();
 
-        // Rate limit 체크
-        if (!rateLimiter.tryConsume(sessionId)) {
-            throw new RateLimitExceededException(sessionId);
+        // Rate limit 체크 (위반이 쌓인 IP는 새 연결부터 차단)
+        // 초과 시 예외 없이 세고, 에러 응답은 세션당 창마다 한 번만
+        ClientIdentity identity = ClientIdentity.of(sessionId, headerAccessor.getSessionAttributes());
+        if (!rateLimiter.tryConsume(identity)) {
+            admissionController.reportAbuse(identity.ip());
+            rateLimitRejections.rejectStomp(sessionId, headerAccessor.getSessionAttributes());
+            return;
         }
 
         Side side = request.toSide();
@@ -57,14 +73,11 @@ public class WebSocketController {
     }
 
     /**
-     * Rate Limit 초과 에러 처리
+     * 델타 스트림 키프레임 요청 (구독 시 1회 응답)
+     * 클라이언트: SUBSCRIBE /app/prayer/keyframe — 최초 연결 시, seq 누락 감지 시 재구독
      */
-    @MessageExceptionHandler(RateLimitExceededException.class)
-    @SendToUser("/queue/errors")
-    public ErrorResponse handleRateLimitExceeded(RateLimitExceededException ex) {
-        log.warn("Rate limit exceeded for session: {}", ex.getSessionId());
-        return new ErrorResponse("RATE_LIMIT_EXCEEDED", "Too many requests. Please slow down.");
+    @SubscribeMapping("/prayer/keyframe")
+    public PrayerDeltaMessage handleKeyframeRequest() {
+        return prayerDeltaEncoder.currentKeyframe();
     }
-
-    public record ErrorResponse(String code, String message) {}
 }
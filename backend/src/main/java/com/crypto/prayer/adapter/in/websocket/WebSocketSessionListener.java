@@ -1,6 +1,6 @@
 package com.crypto.prayer.adapter.in.websocket;
 
-import com.crypto.prayer.adapter.in.websocket.ratelimit.TokenBucketRateLimiter;
+import com.crypto.prayer.adapter.in.websocket.ratelimit.RateLimiter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.event.EventListener;
@@ -15,10 +15,10 @@ public class WebSocketSessionListener {
 
     private static final Logger log = LoggerFactory.getLogger(WebSocketSessionListener.class);
 
-    private final TokenBucketRateLimiter rateLimiter;
+    private final RateLimiter rateLimiter;
     private final AtomicInteger connectedSessions = new AtomicInteger(0);
 
-    public WebSocketSessionListener(TokenBucketRateLimiter rateLimiter) {
+    public WebSocketSessionListener(RateLimiter rateLimiter) {
         this.rateLimiter = rateLimiter;
     }
 
@@ -0,0 +1,88 @@
+package com.crypto.prayer.adapter.in.websocket.admission;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "websocket.admission")
+public class AdmissionConfig {
+
+    private boolean enabled = true;
+
+    // 노드 전체 세션 예산, IP당 동시 세션 (NAT·통신사 게이트웨이 뒤 사용자를 고려해 넉넉하게)
+    private int maxSessions = 20_000;
+    private int maxSessionsPerIp = 50;
+
+    // 거부 응답의 Retry-After 기준 초 (재접속이 한꺼번에 몰리지 않도록 0~기준만큼 지터를 더한다)
+    private long retryAfterSeconds = 5;
+
+    // 최근 남용 IP 차단 목록: 고정 크기 테이블, strikeWindowMs 안에 strikesToBlock번 위반하면 blockDurationMs 동안 차단
+    private int blockListCapacity = 4096;
+    private int strikesToBlock = 100;
+    private long strikeWindowMs = 10_000;
+    private long blockDurationMs = 60_000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaxSessions() {
+        return maxSessions;
+    }
+
+    public void setMaxSessions(int maxSessions) {
+        this.maxSessions = maxSessions;
+    }
+
+    public int getMaxSessionsPerIp() {
+        return maxSessionsPerIp;
+    }
+
+    public void setMaxSessionsPerIp(int maxSessionsPerIp) {
+        this.maxSessionsPerIp = maxSessionsPerIp;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    public void setRetryAfterSeconds(long retryAfterSeconds) {
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public int getBlockListCapacity() {
+        return blockListCapacity;
+    }
+
+    public void setBlockListCapacity(int blockListCapacity) {
+        this.blockListCapacity = blockListCapacity;
+    }
+
+    public int getStrikesToBlock() {
+        return strikesToBlock;
+    }
+
+    public void setStrikesToBlock(int strikesToBlock) {
+        this.strikesToBlock = strikesToBlock;
+    }
+
+    public long getStrikeWindowMs() {
+        return strikeWindowMs;
+    }
+
+    public void setStrikeWindowMs(long strikeWindowMs) {
+        this.strikeWindowMs = strikeWindowMs;
+    }
+
+    public long getBlockDurationMs() {
+        return blockDurationMs;
+    }
+
+    public void setBlockDurationMs(long blockDurationMs) {
+        this.blockDurationMs = blockDurationMs;
+    }
+}
@@ -0,0 +1,239 @@
+package com.crypto.prayer.adapter.in.websocket.admission;
+
+import com.crypto.prayer.adapter.in.websocket.ratelimit.ClientIdentity;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * 핸드셰이크 단계 입장 제어
+ * STOMP 파싱이나 세션 생성 전에 차단 목록 → 노드 세션 예산 → IP당 동시 세션 순으로 검사하고,
+ * 통과하면 세션 슬롯을 예약해 세션 속성에 표시한다. 슬롯은 연결이 닫힐 때(핸들러 데코레이터) 반납한다.
+ * ClientIdentityHandshakeInterceptor 뒤에 등록해야 IP를 읽을 수 있다.
+ */
+@Component
+public class AdmissionController implements HandshakeInterceptor, WebSocketHandlerDecoratorFactory {
+
+    private static final Logger log = LoggerFactory.getLogger(AdmissionController.class);
+
+    // 세션 속성: 예약한 슬롯의 IP (IP를 모르면 빈 문자열)
+    static final String ADMITTED_ATTRIBUTE = "admission.ip";
+    // 서블릿 요청 속성: 핸드셰이크가 실패하면 afterHandshake에서 반납할 예약
+    private static final String PENDING_ATTRIBUTE = AdmissionController.class.getName() + ".pending";
+    private static final String UNKNOWN_IP = "";
+
+    private final AdmissionConfig config;
+    private final LongSupplier clock;
+    private final IpBlockList blockList;
+
+    private final AtomicInteger activeSessions = new AtomicInteger();
+    private final ConcurrentHashMap<String, Integer> sessionsPerIp = new ConcurrentHashMap<>();
+
+    private final Counter blockedRejections;
+    private final Counter ipCapRejections;
+    private final Counter nodeFullRejections;
+
+    @Autowired
+    public AdmissionController(AdmissionConfig config, MeterRegistry meterRegistry) {
+        this(config, meterRegistry, System::currentTimeMillis);
+    }
+
+    public AdmissionController(AdmissionConfig config, MeterRegistry meterRegistry, LongSupplier clock) {
+        this.config = config;
+        this.clock = clock;
+        this.blockList = new IpBlockList(
+            config.getBlockListCapacity(), config.getStrikesToBlock(),
+            config.getStrikeWindowMs(), config.getBlockDurationMs());
+
+        Gauge.builder("websocket.admission.sessions", activeSessions, AtomicInteger::get)
+            .description("Sessions admitted at handshake and not yet closed")
+            .register(meterRegistry);
+        this.blockedRejections = rejections(meterRegistry, "blocked");
+        this.ipCapRejections = rejections(meterRegistry, "ip_cap");
+        this.nodeFullRejections = rejections(meterRegistry, "node_full");
+    }
+
+    @Override
+    public boolean beforeHandshake(
+            ServerHttpRequest request,
+            ServerHttpResponse response,
+            WebSocketHandler wsHandler,
+            Map<String, Object> attributes) {
+        if (!config.isEnabled()) {
+            return true;
+        }
+
+        String ip = (String) attributes.get(ClientIdentity.IP_ATTRIBUTE);
+        if (ip != null) {
+            long blockedForMs = blockList.blockedForMs(ip, clock.getAsLong());
+            if (blockedForMs > 0) {
+                blockedRejections.increment();
+                return reject(response, HttpStatus.FORBIDDEN, (blockedForMs + 999) / 1000);
+            }
+        }
+
+        if (!tryAcquireNodeSlot()) {
+            nodeFullRejections.increment();
+            return reject(response, HttpStatus.SERVICE_UNAVAILABLE, jitteredRetryAfter());
+        }
+
+        if (ip != null && !tryAcquireIpSlot(ip)) {
+            activeSessions.decrementAndGet();
+            ipCapRejections.increment();
+            // 한 IP에서 연결을 계속 여는 것도 남용으로 센다
+            reportAbuse(ip);
+            return reject(response, HttpStatus.TOO_MANY_REQUESTS, jitteredRetryAfter());
+        }
+
+        String admitted = ip != null ? ip : UNKNOWN_IP;
+        attributes.put(ADMITTED_ATTRIBUTE, admitted);
+        if (request instanceof ServletServerHttpRequest servletRequest) {
+            servletRequest.getServletRequest().setAttribute(PENDING_ATTRIBUTE, admitted);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterHandshake(
+            ServerHttpRequest request,
+            ServerHttpResponse response,
+            WebSocketHandler wsHandler,
+            Exception exception) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return;
+        }
+        Object pending = servletRequest.getServletRequest().getAttribute(PENDING_ATTRIBUTE);
+        if (pending == null) {
+            return;
+        }
+        servletRequest.getServletRequest().removeAttribute(PENDING_ATTRIBUTE);
+
+        // 뒤쪽 인터셉터나 업그레이드가 실패하면 세션이 만들어지지 않으므로 여기서 반납
+        boolean failed = exception != null
+            || (response instanceof ServletServerHttpResponse servletResponse
+                && servletResponse.getServletResponse().getStatus() >= 400);
+        if (failed) {
+            release((String) pending);
+        }
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        if (!config.isEnabled()) {
+            return handler;
+        }
+        return new WebSocketHandlerDecorator(handler) {
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                try {
+                    release(session.getAttributes());
+                } finally {
+                    super.afterConnectionClosed(session, closeStatus);
+                }
+            }
+        };
+    }
+
+    /**
+     * 레이트 리밋 위반 등 남용 1회 기록 (누적되면 차단 목록에 올린다)
+     */
+    public void reportAbuse(String ip) {
+        if (!config.isEnabled() || ip == null) {
+            return;
+        }
+        if (blockList.strike(ip, clock.getAsLong())) {
+            log.warn("Blocked abusive IP for {}ms: {}", config.getBlockDurationMs(), ip);
+        }
+    }
+
+    /**
+     * 세션이 예약한 슬롯 반납 (여러 번 불려도 한 번만 반납)
+     */
+    public void release(Map<String, Object> sessionAttributes) {
+        Object admitted = sessionAttributes.remove(ADMITTED_ATTRIBUTE);
+        if (admitted != null) {
+            release((String) admitted);
+        }
+    }
+
+    public int getActiveSessions() {
+        return activeSessions.get();
+    }
+
+    public int getSessionsFrom(String ip) {
+        return sessionsPerIp.getOrDefault(ip, 0);
+    }
+
+    private void release(String ip) {
+        activeSessions.decrementAndGet();
+        if (!UNKNOWN_IP.equals(ip)) {
+            sessionsPerIp.computeIfPresent(ip, (key, count) -> count <= 1 ? null : count - 1);
+        }
+    }
+
+    private boolean tryAcquireNodeSlot() {
+        while (true) {
+            int current = activeSessions.get();
+            if (current >= config.getMaxSessions()) {
+                return false;
+            }
+            if (activeSessions.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private boolean tryAcquireIpSlot(String ip) {
+        boolean[] acquired = {false};
+        sessionsPerIp.compute(ip, (key, count) -> {
+            int current = count != null ? count : 0;
+            if (current >= config.getMaxSessionsPerIp()) {
+                return count;
+            }
+            acquired[0] = true;
+            return current + 1;
+        });
+        return acquired[0];
+    }
+
+    private long jitteredRetryAfter() {
+        long base = Math.max(1, config.getRetryAfterSeconds());
+        return base + ThreadLocalRandom.current().nextLong(base + 1);
+    }
+
+    private static boolean reject(ServerHttpResponse response, HttpStatus status, long retryAfterSeconds) {
+        response.setStatusCode(status);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, retryAfterSeconds)));
+        return false;
+    }
+
+    private static Counter rejections(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("websocket.admission.rejected")
+            .description("WebSocket handshakes rejected by admission control")
+            .tag("reason", reason)
+            .register(meterRegistry);
+    }
+}
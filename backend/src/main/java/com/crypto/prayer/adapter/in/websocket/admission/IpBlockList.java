@@ -0,0 +1,164 @@
+package com.crypto.prayer.adapter.in.websocket.admission;
+
+/**
+ * 최근 남용 IP 차단 목록
+ * IP 문자열 대신 64비트 해시만 고정 크기 배열에 두는 4-way 집합 연관 테이블이라
+ * 연결 폭주 중에도 메모리가 늘지 않는다. 집합이 차면 만료가 가장 이른 항목을 덮어쓴다.
+ * 집합 단위로 나눈 스트라이프 락을 쓰므로 서로 다른 집합의 IP는 서로 기다리지 않는다.
+ */
+public class IpBlockList {
+
+    private static final int WAYS = 4;
+    private static final int MAX_STRIPES = 64;
+    private static final long EMPTY = 0L;
+
+    private final int strikesToBlock;
+    private final long strikeWindowMs;
+    private final long blockDurationMs;
+
+    private final int setMask;
+    private final long[] keys;
+    private final long[] windowStarts;
+    private final int[] strikes;
+    private final long[] blockedUntil;
+    // 집합 번호 & stripeMask 번째 락이 그 집합의 슬롯을 보호
+    private final Object[] stripes;
+    private final int stripeMask;
+
+    public IpBlockList(int capacity, int strikesToBlock, long strikeWindowMs, long blockDurationMs) {
+        if (capacity < WAYS || strikesToBlock < 1) {
+            throw new IllegalArgumentException(
+                "capacity must be >= " + WAYS + " and strikesToBlock positive: " + capacity + ", " + strikesToBlock);
+        }
+        int sets = Integer.highestOneBit(capacity / WAYS);
+        this.setMask = sets - 1;
+        this.keys = new long[sets * WAYS];
+        this.windowStarts = new long[sets * WAYS];
+        this.strikes = new int[sets * WAYS];
+        this.blockedUntil = new long[sets * WAYS];
+        this.stripes = new Object[Math.min(sets, MAX_STRIPES)];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Object();
+        }
+        this.stripeMask = stripes.length - 1;
+        this.strikesToBlock = strikesToBlock;
+        this.strikeWindowMs = strikeWindowMs;
+        this.blockDurationMs = blockDurationMs;
+    }
+
+    /**
+     * @return 남은 차단 시간(ms), 차단되지 않았으면 0
+     */
+    public long blockedForMs(String ip, long now) {
+        long key = hash(ip);
+        int base = setOf(key);
+        synchronized (stripeOf(base)) {
+            int slot = find(key, base);
+            if (slot < 0) {
+                return 0;
+            }
+            return Math.max(0, blockedUntil[slot] - now);
+        }
+    }
+
+    /**
+     * 위반 1회 기록
+     * @return 이번 위반으로 새로 차단되었으면 true
+     */
+    public boolean strike(String ip, long now) {
+        long key = hash(ip);
+        int base = setOf(key);
+        synchronized (stripeOf(base)) {
+            return strike(key, base, now);
+        }
+    }
+
+    private boolean strike(long key, int base, long now) {
+        int slot = find(key, base);
+        if (slot < 0) {
+            slot = claim(key, base, now);
+        }
+        if (blockedUntil[slot] > now) {
+            return false;
+        }
+        if (now - windowStarts[slot] >= strikeWindowMs) {
+            windowStarts[slot] = now;
+            strikes[slot] = 0;
+        }
+        if (++strikes[slot] < strikesToBlock) {
+            return false;
+        }
+        strikes[slot] = 0;
+        blockedUntil[slot] = now + blockDurationMs;
+        return true;
+    }
+
+    /**
+     * 집합마다 따로 잠그므로 전체 시점이 일치하지는 않는다 (메트릭용)
+     */
+    public int blockedCount(long now) {
+        int count = 0;
+        for (int base = 0; base < keys.length; base += WAYS) {
+            synchronized (stripeOf(base)) {
+                for (int slot = base; slot < base + WAYS; slot++) {
+                    if (keys[slot] != EMPTY && blockedUntil[slot] > now) {
+                        count++;
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    private int find(long key, int base) {
+        for (int way = 0; way < WAYS; way++) {
+            if (keys[base + way] == key) {
+                return base + way;
+            }
+        }
+        return -1;
+    }
+
+    private int claim(long key, int base, long now) {
+        int victim = base;
+        long victimExpiry = Long.MAX_VALUE;
+        for (int way = 0; way < WAYS; way++) {
+            int slot = base + way;
+            if (keys[slot] == EMPTY) {
+                victim = slot;
+                break;
+            }
+            // 차단 중인 항목보다 위반 창만 남은 항목을, 그중에서도 먼저 끝나는 것을 내보낸다
+            long expiry = Math.max(blockedUntil[slot], windowStarts[slot] + strikeWindowMs);
+            if (expiry < victimExpiry) {
+                victim = slot;
+                victimExpiry = expiry;
+            }
+        }
+        keys[victim] = key;
+        windowStarts[victim] = now;
+        strikes[victim] = 0;
+        blockedUntil[victim] = 0;
+        return victim;
+    }
+
+    private int setOf(long key) {
+        return ((int) (key ^ (key >>> 32)) & setMask) * WAYS;
+    }
+
+    private Object stripeOf(int base) {
+        return stripes[(base / WAYS) & stripeMask];
+    }
+
+    /**
+     * FNV-1a 64비트 (0은 빈 슬롯 표시로 쓰므로 피한다)
+     */
+    static long hash(String ip) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < ip.length(); i++) {
+            hash ^= ip.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash == EMPTY ? 1L : hash;
+    }
+}
@@ -0,0 +1,48 @@
+package com.crypto.prayer.adapter.in.websocket.binary;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "websocket.binary")
+public class BinaryEndpointConfig {
+
+    private boolean enabled = false;
+    private String path = "/ws/bin";
+
+    // 세션별 송신 제한 (Spring 기본값과 동일)
+    private int sendTimeLimitMs = 10_000;
+    private int sendBufferSizeLimit = 512 * 1024;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public int getSendTimeLimitMs() {
+        return sendTimeLimitMs;
+    }
+
+    public void setSendTimeLimitMs(int sendTimeLimitMs) {
+        this.sendTimeLimitMs = sendTimeLimitMs;
+    }
+
+    public int getSendBufferSizeLimit() {
+        return sendBufferSizeLimit;
+    }
+
+    public void setSendBufferSizeLimit(int sendBufferSizeLimit) {
+        this.sendBufferSizeLimit = sendBufferSizeLimit;
+    }
+}
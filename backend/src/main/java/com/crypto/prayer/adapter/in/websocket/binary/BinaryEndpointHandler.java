@@ -0,0 +1,123 @@
+package com.crypto.prayer.adapter.in.websocket.binary;
+
+import com.crypto.prayer.adapter.in.websocket.admission.AdmissionController;
+import com.crypto.prayer.adapter.in.websocket.dto.PrayerRequest;
+import com.crypto.prayer.adapter.in.websocket.ratelimit.ClientIdentity;
+import com.crypto.prayer.adapter.in.websocket.ratelimit.RateLimitRejections;
+import com.crypto.prayer.adapter.in.websocket.ratelimit.RateLimiter;
+import com.crypto.prayer.application.port.in.PrayerUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.BinaryWebSocketHandler;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * /ws/bin 핸들러
+ * STOMP 엔드포인트와 같은 PrayerUseCase·Rate Limiter로 기도를 처리하고,
+ * BroadcastService가 한 번 인코딩한 프레임을 연결된 모든 세션에 보낸다.
+ */
+@Component
+public class BinaryEndpointHandler extends BinaryWebSocketHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(BinaryEndpointHandler.class);
+
+    private static final byte[] RATE_LIMIT_FRAME =
+        BinaryProtocol.encodeError(BinaryProtocol.ERROR_RATE_LIMIT_EXCEEDED);
+
+    private final PrayerUseCase prayerUseCase;
+    private final RateLimiter rateLimiter;
+    private final BinaryEndpointConfig config;
+    private final AdmissionController admissionController;
+    private final RateLimitRejections rateLimitRejections;
+
+    private final ConcurrentHashMap<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+
+    public BinaryEndpointHandler(
+            PrayerUseCase prayerUseCase,
+            RateLimiter rateLimiter,
+            BinaryEndpointConfig config,
+            AdmissionController admissionController,
+            RateLimitRejections rateLimitRejections) {
+        this.prayerUseCase = prayerUseCase;
+        this.rateLimiter = rateLimiter;
+        this.config = config;
+        this.admissionController = admissionController;
+        this.rateLimitRejections = rateLimitRejections;
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        sessions.put(session.getId(), new ConcurrentWebSocketSessionDecorator(
+            session, config.getSendTimeLimitMs(), config.getSendBufferSizeLimit()));
+        log.debug("Binary WebSocket connected: sessionId={}", session.getId());
+    }
+
+    @Override
+    protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) {
+        PrayerRequest request;
+        try {
+            request = BinaryProtocol.decodePray(message.getPayload());
+        } catch (IllegalArgumentException e) {
+            log.debug("Ignored malformed binary frame: sessionId={}", session.getId());
+            return;
+        }
+
+        String sessionId = session.getId();
+        ClientIdentity identity = ClientIdentity.of(sessionId, session.getAttributes());
+        if (!rateLimiter.tryConsume(identity)) {
+            admissionController.reportAbuse(identity.ip());
+            // 에러 프레임은 세션당 창마다 한 번만
+            if (rateLimitRejections.rejectBinary(session.getAttributes())) {
+                send(sessions.getOrDefault(sessionId, session), RATE_LIMIT_FRAME);
+            }
+            return;
+        }
+
+        if (request.count() == 1) {
+            prayerUseCase.pray(request.toSide(), sessionId);
+        } else {
+            prayerUseCase.prayBatch(request.toSide(), sessionId, request.count());
+        }
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        sessions.remove(session.getId());
+        rateLimiter.removeClient(session.getId());
+        log.debug("Binary WebSocket disconnected: sessionId={}", session.getId());
+    }
+
+    public boolean hasSessions() {
+        return !sessions.isEmpty();
+    }
+
+    /**
+     * @return 전송한 세션 수
+     */
+    public int broadcast(byte[] frame) {
+        int sent = 0;
+        for (WebSocketSession session : sessions.values()) {
+            if (session.isOpen() && send(session, frame)) {
+                sent++;
+            }
+        }
+        return sent;
+    }
+
+    private boolean send(WebSocketSession session, byte[] frame) {
+        try {
+            // 컨테이너가 ByteBuffer position을 소비하므로 세션마다 새로 감싼다 (바이트 배열은 공유)
+            session.sendMessage(new BinaryMessage(frame));
+            return true;
+        } catch (Exception e) {
+            log.debug("Binary send to session {} failed: {}", session.getId(), e.getMessage());
+            return false;
+        }
+    }
+}
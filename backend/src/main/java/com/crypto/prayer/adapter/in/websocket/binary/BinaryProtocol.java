@@ -0,0 +1,158 @@
+package com.crypto.prayer.adapter.in.websocket.binary;
+
+import com.crypto.prayer.adapter.in.websocket.dto.LiquidationMessage;
+import com.crypto.prayer.adapter.in.websocket.dto.PrayerRequest;
+import com.crypto.prayer.adapter.in.websocket.dto.PrayerResponse;
+import com.crypto.prayer.adapter.in.websocket.dto.TickerMessage;
+import com.crypto.prayer.domain.model.Side;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * /ws/bin 바이너리 프로토콜
+ * 모든 프레임은 1바이트 타입 태그로 시작하고, 필드 순서는 고정이다.
+ * 정수는 LEB128 varint(부호 있는 값은 zigzag), 실수는 고정소수점 정수로 보낸다.
+ *
+ * 서버 → 클라이언트
+ * - PRAYER      0x01 | upCount | downCount | upRpm×10 | downRpm×10 | timestamp
+ * - TICKER      0x02 | symbol | price×1e8 | priceChange24h×1e4 (zigzag) | timestamp
+ * - LIQUIDATION 0x03 | symbol | side(0=LONG,1=SHORT) | flags(bit0=isLarge) | quantity×1e8 | price×1e8 | timestamp
+ * - ERROR       0x7F | code
+ *
+ * 클라이언트 → 서버
+ * - PRAY        0x10 | side(0=UP,1=DOWN) | [count(1~20), 생략 시 1]
+ *
+ * symbol은 1바이트 길이 + ASCII, 비율(upRatio 등)·usdValue는 클라이언트에서 계산한다.
+ * 청산 묶음은 LIQUIDATION 프레임을 한 메시지에 이어 붙여 보낸다 (각 프레임은 순서대로 읽으면 경계가 정해진다).
+ */
+public final class BinaryProtocol {
+
+    public static final byte TYPE_PRAYER = 0x01;
+    public static final byte TYPE_TICKER = 0x02;
+    public static final byte TYPE_LIQUIDATION = 0x03;
+    public static final byte TYPE_PRAY = 0x10;
+    public static final byte TYPE_ERROR = 0x7F;
+
+    public static final byte ERROR_RATE_LIMIT_EXCEEDED = 0x01;
+
+    static final long RPM_SCALE = 10;
+    static final long PRICE_SCALE = 100_000_000L;
+    static final long PERCENT_SCALE = 10_000;
+
+    private static final int MAX_SYMBOL_LENGTH = 32;
+    private static final int MAX_VARINT_BYTES = 10;
+
+    private BinaryProtocol() {
+    }
+
+    public static byte[] encodePrayer(PrayerResponse response) {
+        ByteBuffer buffer = ByteBuffer.allocate(1 + 5 * MAX_VARINT_BYTES);
+        buffer.put(TYPE_PRAYER);
+        writeUnsignedVarint(buffer, response.upCount());
+        writeUnsignedVarint(buffer, response.downCount());
+        writeUnsignedVarint(buffer, toFixedPoint(response.upRpm(), RPM_SCALE));
+        writeUnsignedVarint(buffer, toFixedPoint(response.downRpm(), RPM_SCALE));
+        writeUnsignedVarint(buffer, response.timestamp());
+        return toArray(buffer);
+    }
+
+    public static byte[] encodeTicker(TickerMessage ticker) {
+        ByteBuffer buffer = ByteBuffer.allocate(2 + MAX_SYMBOL_LENGTH + 3 * MAX_VARINT_BYTES);
+        buffer.put(TYPE_TICKER);
+        writeSymbol(buffer, ticker.symbol());
+        writeUnsignedVarint(buffer, toFixedPoint(ticker.price(), PRICE_SCALE));
+        writeSignedVarint(buffer, toFixedPoint(ticker.priceChange24h(), PERCENT_SCALE));
+        writeUnsignedVarint(buffer, ticker.timestamp());
+        return toArray(buffer);
+    }
+
+    public static byte[] encodeLiquidation(LiquidationMessage liquidation) {
+        ByteBuffer buffer = ByteBuffer.allocate(4 + MAX_SYMBOL_LENGTH + 3 * MAX_VARINT_BYTES);
+        buffer.put(TYPE_LIQUIDATION);
+        writeSymbol(buffer, liquidation.symbol());
+        buffer.put("SHORT".equals(liquidation.side()) ? (byte) 1 : (byte) 0);
+        buffer.put(liquidation.isLarge() ? (byte) 1 : (byte) 0);
+        writeUnsignedVarint(buffer, toFixedPoint(liquidation.quantity(), PRICE_SCALE));
+        writeUnsignedVarint(buffer, toFixedPoint(liquidation.price(), PRICE_SCALE));
+        writeUnsignedVarint(buffer, liquidation.timestamp());
+        return toArray(buffer);
+    }
+
+    public static byte[] encodeLiquidations(List<LiquidationMessage> liquidations) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(liquidations.size() * 32);
+        for (LiquidationMessage liquidation : liquidations) {
+            out.writeBytes(encodeLiquidation(liquidation));
+        }
+        return out.toByteArray();
+    }
+
+    public static byte[] encodeError(byte code) {
+        return new byte[] {TYPE_ERROR, code};
+    }
+
+    /**
+     * 클라이언트 기도 프레임 해석
+     * @throws IllegalArgumentException 형식이 맞지 않는 프레임
+     */
+    public static PrayerRequest decodePray(ByteBuffer frame) {
+        if (frame.remaining() < 2 || frame.get() != TYPE_PRAY) {
+            throw new IllegalArgumentException("Not a pray frame");
+        }
+        Side side = switch (frame.get()) {
+            case 0 -> Side.UP;
+            case 1 -> Side.DOWN;
+            default -> throw new IllegalArgumentException("Unknown side");
+        };
+        int count = frame.hasRemaining() ? Byte.toUnsignedInt(frame.get()) : 1;
+        // PrayerRequest가 1~20 범위로 보정
+        return new PrayerRequest(side.getKey(), count);
+    }
+
+    static long toFixedPoint(double value, long scale) {
+        return Math.round(value * scale);
+    }
+
+    static void writeUnsignedVarint(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    static void writeSignedVarint(ByteBuffer buffer, long value) {
+        writeUnsignedVarint(buffer, (value << 1) ^ (value >> 63));
+    }
+
+    static long readUnsignedVarint(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Varint too long");
+    }
+
+    static long readSignedVarint(ByteBuffer buffer) {
+        long raw = readUnsignedVarint(buffer);
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    private static void writeSymbol(ByteBuffer buffer, String symbol) {
+        byte[] bytes = symbol.getBytes(StandardCharsets.US_ASCII);
+        int length = Math.min(bytes.length, MAX_SYMBOL_LENGTH);
+        buffer.put((byte) length);
+        buffer.put(bytes, 0, length);
+    }
+
+    private static byte[] toArray(ByteBuffer buffer) {
+        return Arrays.copyOf(buffer.array(), buffer.position());
+    }
+}
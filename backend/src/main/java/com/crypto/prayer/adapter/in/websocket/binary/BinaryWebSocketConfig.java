@@ -0,0 +1,42 @@
+package com.crypto.prayer.adapter.in.websocket.binary;
+
+import com.crypto.prayer.adapter.in.websocket.admission.AdmissionController;
+import com.crypto.prayer.adapter.in.websocket.ratelimit.ClientIdentityHandshakeInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+/**
+ * STOMP/SockJS(/ws)와 나란히 제공하는 원시 바이너리 WebSocket 엔드포인트
+ */
+@Configuration
+@EnableWebSocket
+public class BinaryWebSocketConfig implements WebSocketConfigurer {
+
+    private final BinaryEndpointConfig config;
+    private final BinaryEndpointHandler handler;
+    private final ClientIdentityHandshakeInterceptor identityInterceptor;
+    private final AdmissionController admissionController;
+
+    public BinaryWebSocketConfig(
+            BinaryEndpointConfig config,
+            BinaryEndpointHandler handler,
+            ClientIdentityHandshakeInterceptor identityInterceptor,
+            AdmissionController admissionController) {
+        this.config = config;
+        this.handler = handler;
+        this.identityInterceptor = identityInterceptor;
+        this.admissionController = admissionController;
+    }
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        if (!config.isEnabled()) {
+            return;
+        }
+        registry.addHandler(admissionController.decorate(handler), config.getPath())
+            .addInterceptors(identityInterceptor, admissionController)
+            .setAllowedOriginPatterns("*");
+    }
+}
@@ -0,0 +1,30 @@
+package com.crypto.prayer.adapter.in.websocket.delta;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "prayer.delta")
+public class PrayerDeltaConfig {
+
+    private boolean enabled = false;
+
+    // 전체 키프레임을 다시 보내는 주기
+    private long keyframeIntervalMs = 5_000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getKeyframeIntervalMs() {
+        return keyframeIntervalMs;
+    }
+
+    public void setKeyframeIntervalMs(long keyframeIntervalMs) {
+        this.keyframeIntervalMs = keyframeIntervalMs;
+    }
+}
@@ -0,0 +1,121 @@
+package com.crypto.prayer.adapter.in.websocket.delta;
+
+import com.crypto.prayer.adapter.in.websocket.dto.PrayerDeltaMessage;
+import com.crypto.prayer.adapter.in.websocket.dto.PrayerResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 기도 통계를 키프레임 + 델타 스트림으로 변환
+ * 직전에 "보낸" 값(RPM은 0.1 단위로 반올림한 값)을 기준으로 증감을 계산하므로
+ * 클라이언트가 델타를 누적해도 반올림 오차가 쌓이지 않는다.
+ * 브로드캐스트 스레드와 키프레임 요청(구독) 스레드가 함께 접근하므로 동기화한다.
+ */
+@Component
+public class PrayerDeltaEncoder {
+
+    // RPM 0.1 단위 고정소수점
+    private static final long RPM_SCALE = 10;
+
+    private final PrayerDeltaConfig config;
+    private final LongSupplier clock;
+
+    private long seq;
+    private long lastKeyframeAtMs;
+    private Snapshot last;
+
+    @Autowired
+    public PrayerDeltaEncoder(PrayerDeltaConfig config) {
+        this(config, System::currentTimeMillis);
+    }
+
+    public PrayerDeltaEncoder(PrayerDeltaConfig config, LongSupplier clock) {
+        this.config = config;
+        this.clock = clock;
+    }
+
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    /**
+     * 다음 프레임 생성
+     * @return 키프레임 주기가 지났거나 첫 프레임이면 키프레임, 아니면 델타. 보낼 변화가 없으면 null
+     */
+    public synchronized PrayerDeltaMessage encode(PrayerResponse stats) {
+        Snapshot next = Snapshot.of(stats);
+        long now = clock.getAsLong();
+
+        if (last == null || now - lastKeyframeAtMs >= config.getKeyframeIntervalMs()) {
+            last = next;
+            lastKeyframeAtMs = now;
+            return next.toKeyframe(++seq);
+        }
+
+        if (next.sameValues(last)) {
+            return null;
+        }
+
+        PrayerDeltaMessage delta = PrayerDeltaMessage.delta(
+            ++seq,
+            changed(next.upCount - last.upCount),
+            changed(next.downCount - last.downCount),
+            changedRpm(next.upRpm - last.upRpm),
+            changedRpm(next.downRpm - last.downRpm)
+        );
+        last = next;
+        return delta;
+    }
+
+    /**
+     * 마지막으로 보낸 상태의 키프레임 (구독 시/재동기화용)
+     * seq가 같으므로 클라이언트는 이후 델타를 그대로 이어서 적용할 수 있다.
+     */
+    public synchronized PrayerDeltaMessage currentKeyframe() {
+        if (last == null) {
+            return PrayerDeltaMessage.keyframe(seq, 0, 0, 0.0, 0.0, clock.getAsLong());
+        }
+        return last.toKeyframe(seq);
+    }
+
+    private static Long changed(long delta) {
+        return delta == 0 ? null : delta;
+    }
+
+    private static Double changedRpm(long delta) {
+        return delta == 0 ? null : (double) delta / RPM_SCALE;
+    }
+
+    private record Snapshot(long upCount, long downCount, long upRpm, long downRpm, long timestamp) {
+
+        static Snapshot of(PrayerResponse stats) {
+            return new Snapshot(
+                stats.upCount(),
+                stats.downCount(),
+                Math.round(stats.upRpm() * RPM_SCALE),
+                Math.round(stats.downRpm() * RPM_SCALE),
+                stats.timestamp()
+            );
+        }
+
+        boolean sameValues(Snapshot other) {
+            return upCount == other.upCount
+                && downCount == other.downCount
+                && upRpm == other.upRpm
+                && downRpm == other.downRpm;
+        }
+
+        PrayerDeltaMessage toKeyframe(long seq) {
+            return PrayerDeltaMessage.keyframe(
+                seq,
+                upCount,
+                downCount,
+                (double) upRpm / RPM_SCALE,
+                (double) downRpm / RPM_SCALE,
+                timestamp
+            );
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.crypto.prayer.adapter.in.websocket.dto;
+
+/**
+ * /user/queue/errors 응답
+ */
+public record ErrorResponse(String code, String message) {
+
+    public static final String RATE_LIMIT_EXCEEDED = "RATE_LIMIT_EXCEEDED";
+}
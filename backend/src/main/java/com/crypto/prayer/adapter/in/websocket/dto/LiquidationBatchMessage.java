@@ -0,0 +1,23 @@
+package com.crypto.prayer.adapter.in.websocket.dto;
+
+import java.util.List;
+
+/**
+ * 짧은 윈도우 동안 모은 청산 묶음 (/topic/liquidation)
+ * 단건 LiquidationMessage와 같은 토픽으로 나가며 type으로 구분한다.
+ */
+public record LiquidationBatchMessage(
+    String type,
+    List<LiquidationMessage> liquidations,
+    long timestamp
+) {
+    private static final String TYPE_LIQUIDATION_BATCH = "LIQUIDATION_BATCH";
+
+    public static LiquidationBatchMessage of(List<LiquidationMessage> liquidations) {
+        return new LiquidationBatchMessage(
+            TYPE_LIQUIDATION_BATCH,
+            List.copyOf(liquidations),
+            System.currentTimeMillis()
+        );
+    }
+}
@@ -0,0 +1,23 @@
+package com.crypto.prayer.adapter.in.websocket.dto;
+
+import com.crypto.prayer.domain.model.LiquidationLeaderboard;
+
+import java.util.List;
+
+public record LiquidationLeaderboardMessage(
+    String type,
+    List<LiquidationLeaderboard.Entry> byUsdValue,
+    List<LiquidationLeaderboard.Entry> byCount,
+    long timestamp
+) {
+    private static final String TYPE_LIQUIDATION_LEADERBOARD = "LIQUIDATION_LEADERBOARD";
+
+    public static LiquidationLeaderboardMessage from(LiquidationLeaderboard leaderboard) {
+        return new LiquidationLeaderboardMessage(
+            TYPE_LIQUIDATION_LEADERBOARD,
+            leaderboard.byUsdValue(),
+            leaderboard.byCount(),
+            leaderboard.timestamp()
+        );
+    }
+}
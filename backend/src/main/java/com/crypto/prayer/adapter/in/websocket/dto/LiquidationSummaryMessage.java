@@ -0,0 +1,21 @@
+package com.crypto.prayer.adapter.in.websocket.dto;
+
+import com.crypto.prayer.domain.model.LiquidationSummary;
+
+import java.util.List;
+
+public record LiquidationSummaryMessage(
+    String type,
+    List<LiquidationSummary.WindowTotals> windows,
+    long timestamp
+) {
+    private static final String TYPE_LIQUIDATION_SUMMARY = "LIQUIDATION_SUMMARY";
+
+    public static LiquidationSummaryMessage from(LiquidationSummary summary) {
+        return new LiquidationSummaryMessage(
+            TYPE_LIQUIDATION_SUMMARY,
+            summary.windows(),
+            summary.timestamp()
+        );
+    }
+}
@@ -0,0 +1,42 @@
+package com.crypto.prayer.adapter.in.websocket.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 델타 인코딩된 기도 통계 프레임 (/topic/prayer/delta)
+ * - PRAYER_KEYFRAME: 모든 필드가 절대값
+ * - PRAYER_DELTA: 바뀐 필드만 직전 프레임 대비 증감값으로 포함 (null 필드는 생략)
+ * seq는 프레임마다 1씩 증가하며, 클라이언트는 누락을 감지하면 /app/prayer/keyframe을 구독해 재동기화한다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PrayerDeltaMessage(
+    String type,
+    long seq,
+    Long upCount,
+    Long downCount,
+    Double upRpm,
+    Double downRpm,
+    Long timestamp
+) {
+    public static final String TYPE_KEYFRAME = "PRAYER_KEYFRAME";
+    public static final String TYPE_DELTA = "PRAYER_DELTA";
+
+    public static PrayerDeltaMessage keyframe(
+            long seq,
+            long upCount,
+            long downCount,
+            double upRpm,
+            double downRpm,
+            long timestamp) {
+        return new PrayerDeltaMessage(TYPE_KEYFRAME, seq, upCount, downCount, upRpm, downRpm, timestamp);
+    }
+
+    public static PrayerDeltaMessage delta(
+            long seq,
+            Long upCountDelta,
+            Long downCountDelta,
+            Double upRpmDelta,
+            Double downRpmDelta) {
+        return new PrayerDeltaMessage(TYPE_DELTA, seq, upCountDelta, downCountDelta, upRpmDelta, downRpmDelta, null);
+    }
+}
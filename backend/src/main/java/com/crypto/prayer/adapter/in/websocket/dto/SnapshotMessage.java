@@ -0,0 +1,41 @@
+package com.crypto.prayer.adapter.in.websocket.dto;
+
+import java.util.List;
+
+/**
+ * 구독 직후 1회 전송하는 현재 상태 (아직 받은 값이 없는 항목은 null 또는 빈 목록)
+ * @param ticker 대표 심볼 티커 (/topic/ticker 와 같은 값)
+ * @param tickers 심볼별 최신 티커
+ * @param liquidations 최근 청산 (오래된 것부터)
+ */
+public record SnapshotMessage(
+    String type,
+    PrayerResponse prayer,
+    TickerMessage ticker,
+    List<TickerMessage> tickers,
+    List<LiquidationMessage> liquidations,
+    LiquidationSummaryMessage liquidationSummary,
+    LiquidationLeaderboardMessage liquidationLeaderboard,
+    long timestamp
+) {
+    private static final String TYPE_SNAPSHOT = "SNAPSHOT";
+
+    public static SnapshotMessage of(
+            PrayerResponse prayer,
+            TickerMessage ticker,
+            List<TickerMessage> tickers,
+            List<LiquidationMessage> liquidations,
+            LiquidationSummaryMessage liquidationSummary,
+            LiquidationLeaderboardMessage liquidationLeaderboard) {
+        return new SnapshotMessage(
+            TYPE_SNAPSHOT,
+            prayer,
+            ticker,
+            tickers,
+            liquidations,
+            liquidationSummary,
+            liquidationLeaderboard,
+            System.currentTimeMillis()
+        );
+    }
+}
@@ -0,0 +1,83 @@
+package com.crypto.prayer.adapter.in.websocket.fanout;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 토픽 팬아웃을 브로커를 거치지 않고 처리
+ * 페이로드는 한 번만 직렬화하고, STOMP 프레임은 SharedStompFrame으로 세션 간에 공유한다.
+ */
+@Component
+public class EncodeOnceBroadcaster {
+
+    private static final Logger log = LoggerFactory.getLogger(EncodeOnceBroadcaster.class);
+
+    private final FanoutConfig config;
+    private final WebSocketSessionRegistry sessionRegistry;
+    private final TopicSubscriptionRegistry subscriptionRegistry;
+    private final ObjectMapper objectMapper;
+
+    private final AtomicLong messageIdSequence = new AtomicLong();
+
+    public EncodeOnceBroadcaster(
+            FanoutConfig config,
+            WebSocketSessionRegistry sessionRegistry,
+            TopicSubscriptionRegistry subscriptionRegistry,
+            ObjectMapper objectMapper) {
+        this.config = config;
+        this.sessionRegistry = sessionRegistry;
+        this.subscriptionRegistry = subscriptionRegistry;
+        this.objectMapper = objectMapper;
+    }
+
+    public boolean handles(String destination) {
+        return config.isEnabled() && config.getDestinations().contains(destination);
+    }
+
+    /**
+     * @return 전송한 프레임 수 (구독마다 하나)
+     */
+    public int broadcast(String destination, Object payload) {
+        Map<String, Set<String>> subscribers = subscriptionRegistry.getSubscribers(destination);
+        if (subscribers.isEmpty()) {
+            return 0;
+        }
+
+        SharedStompFrame frame;
+        try {
+            frame = SharedStompFrame.of(
+                destination,
+                "f-" + messageIdSequence.incrementAndGet(),
+                objectMapper.writeValueAsBytes(payload)
+            );
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize {} payload: {}", destination, e.getMessage());
+            return 0;
+        }
+
+        int sent = 0;
+        for (Map.Entry<String, Set<String>> subscriber : subscribers.entrySet()) {
+            WebSocketSession session = sessionRegistry.get(subscriber.getKey());
+            if (session == null || !session.isOpen()) {
+                continue;
+            }
+            for (String subscriptionId : subscriber.getValue()) {
+                try {
+                    session.sendMessage(frame.forSubscription(subscriptionId));
+                    sent++;
+                } catch (Exception e) {
+                    log.debug("Fan-out to session {} failed: {}", subscriber.getKey(), e.getMessage());
+                }
+            }
+        }
+        return sent;
+    }
+}
@@ -0,0 +1,37 @@
+package com.crypto.prayer.adapter.in.websocket.fanout;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@ConfigurationProperties(prefix = "websocket.fanout")
+public class FanoutConfig {
+
+    private boolean enabled = false;
+
+    // 한 번 인코딩한 프레임을 세션에 직접 쓰는 토픽
+    private List<String> destinations = new ArrayList<>(List.of(
+        "/topic/prayer",
+        "/topic/ticker",
+        "/topic/liquidation"
+    ));
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public List<String> getDestinations() {
+        return destinations;
+    }
+
+    public void setDestinations(List<String> destinations) {
+        this.destinations = destinations;
+    }
+}
@@ -0,0 +1,70 @@
+package com.crypto.prayer.adapter.in.websocket.fanout;
+
+import org.springframework.web.socket.TextMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 한 번만 인코딩하는 STOMP MESSAGE 프레임
+ * 세션마다 다른 부분은 subscription 헤더뿐이므로 나머지는 prefix/suffix로 미리 만들어 두고,
+ * 같은 subscription id(stomp.js의 sub-0 등)를 쓰는 세션끼리는 완성된 프레임 자체를 공유한다.
+ */
+public final class SharedStompFrame {
+
+    private static final String CONTENT_TYPE_JSON = "application/json";
+
+    private final String prefix;
+    private final String suffix;
+    private final Map<String, TextMessage> framesBySubscription = new HashMap<>(4);
+
+    private SharedStompFrame(String prefix, String suffix) {
+        this.prefix = prefix;
+        this.suffix = suffix;
+    }
+
+    public static SharedStompFrame of(String destination, String messageId, byte[] jsonPayload) {
+        String prefix = "MESSAGE\n"
+            + "destination:" + escape(destination) + "\n"
+            + "content-type:" + CONTENT_TYPE_JSON + "\n"
+            + "subscription:";
+        String suffix = "\n"
+            + "message-id:" + escape(messageId) + "\n"
+            + "content-length:" + jsonPayload.length + "\n"
+            + "\n"
+            + new String(jsonPayload, StandardCharsets.UTF_8)
+            + '\0';
+        return new SharedStompFrame(prefix, suffix);
+    }
+
+    /**
+     * subscription id에 해당하는 완성 프레임 (단일 스레드 팬아웃 중에만 호출)
+     */
+    public TextMessage forSubscription(String subscriptionId) {
+        return framesBySubscription.computeIfAbsent(subscriptionId,
+            id -> new TextMessage(prefix + escape(id) + suffix));
+    }
+
+    /**
+     * STOMP 1.2 헤더 값 이스케이프
+     */
+    static String escape(String value) {
+        if (value.indexOf('\\') < 0 && value.indexOf(':') < 0
+                && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        StringBuilder sb = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> sb.append("\\\\");
+                case ':' -> sb.append("\\c");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                default -> sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
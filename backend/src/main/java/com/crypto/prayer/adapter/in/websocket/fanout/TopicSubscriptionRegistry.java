@@ -0,0 +1,85 @@
+package com.crypto.prayer.adapter.in.websocket.fanout;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 팬아웃 대상 토픽의 구독 현황 (destination → sessionId → subscriptionId 집합)
+ * 브로커처럼 한 세션이 같은 토픽을 여러 번 구독하면 구독마다 프레임을 받는다.
+ */
+@Component
+public class TopicSubscriptionRegistry {
+
+    private final FanoutConfig config;
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, Set<String>>> subscriptions =
+        new ConcurrentHashMap<>();
+
+    public TopicSubscriptionRegistry(FanoutConfig config) {
+        this.config = config;
+    }
+
+    @EventListener
+    public void handleSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        subscribe(accessor.getSessionId(), accessor.getSubscriptionId(), accessor.getDestination());
+    }
+
+    @EventListener
+    public void handleUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        unsubscribe(accessor.getSessionId(), accessor.getSubscriptionId());
+    }
+
+    @EventListener
+    public void handleDisconnect(SessionDisconnectEvent event) {
+        removeSession(event.getSessionId());
+    }
+
+    public void subscribe(String sessionId, String subscriptionId, String destination) {
+        if (sessionId == null || subscriptionId == null || destination == null
+                || !config.getDestinations().contains(destination)) {
+            return;
+        }
+        subscriptions.computeIfAbsent(destination, k -> new ConcurrentHashMap<>())
+            .compute(sessionId, (k, ids) -> {
+                Set<String> updated = ids != null ? ids : ConcurrentHashMap.newKeySet();
+                updated.add(subscriptionId);
+                return updated;
+            });
+    }
+
+    public void unsubscribe(String sessionId, String subscriptionId) {
+        if (sessionId == null || subscriptionId == null) {
+            return;
+        }
+        // 해제한 구독 ID만 빼고, 같은 세션의 다른 구독은 유지한다
+        subscriptions.values().forEach(sessions -> sessions.computeIfPresent(sessionId, (k, ids) -> {
+            ids.remove(subscriptionId);
+            return ids.isEmpty() ? null : ids;
+        }));
+    }
+
+    public void removeSession(String sessionId) {
+        if (sessionId == null) {
+            return;
+        }
+        subscriptions.values().forEach(sessions -> sessions.remove(sessionId));
+    }
+
+    /**
+     * 토픽 구독자 (sessionId → subscriptionId 집합)
+     */
+    public Map<String, Set<String>> getSubscribers(String destination) {
+        Map<String, Set<String>> sessions = subscriptions.get(destination);
+        return sessions != null ? sessions : Collections.emptyMap();
+    }
+}
@@ -0,0 +1,61 @@
+package com.crypto.prayer.adapter.in.websocket.fanout;
+
+import com.crypto.prayer.adapter.in.websocket.outbound.OutboundConfig;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 팬아웃용 WebSocket 세션 레지스트리
+ * 세션을 다시 감싸지 않고, 바깥 SlowConsumerGuard가 넘긴 세션별 송신 큐를 그대로 등록한다.
+ * 브로커 경로(Spring 데코레이터 → 송신 큐)와 직접 쓰기 경로가 같은 큐를 거치므로
+ * 송신 순서와 버퍼 한도가 하나로 유지된다.
+ */
+@Component
+public class WebSocketSessionRegistry implements WebSocketHandlerDecoratorFactory {
+
+    private final FanoutConfig config;
+    private final ConcurrentHashMap<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+
+    public WebSocketSessionRegistry(FanoutConfig config, OutboundConfig outboundConfig) {
+        // 직접 쓰기는 여러 스레드에서 들어오므로 스레드 안전한 송신 큐가 있어야 한다
+        if (config.isEnabled() && !outboundConfig.isEnabled()) {
+            throw new IllegalStateException("websocket.fanout requires websocket.outbound.enabled");
+        }
+        this.config = config;
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        if (!config.isEnabled()) {
+            return handler;
+        }
+        return new WebSocketHandlerDecorator(handler) {
+
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                sessions.put(session.getId(), session);
+                super.afterConnectionEstablished(session);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                sessions.remove(session.getId());
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    public WebSocketSession get(String sessionId) {
+        return sessions.get(sessionId);
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+}
@@ -0,0 +1,289 @@
+package com.crypto.prayer.adapter.in.websocket.outbound;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 세션별 송신 큐
+ * sendMessage는 큐에 넣고 바로 반환하며, 실제 전송은 세션당 하나의 드레인 작업이 순서대로 한다.
+ * 아직 보내지 못한 상태 토픽 프레임은 큐 안의 자리를 지킨 채 최신 프레임으로 교체(conflation)되므로
+ * 느린 클라이언트에게도 오래된 기도 통계·티커가 쌓이지 않는다.
+ * 이벤트 프레임이 쌓인 채 버퍼 상한을 넘거나 전송이 sendTimeLimit 넘게 막히면 연결을 끊는다.
+ * close는 드레인 작업이 그 전에 큐에 들어온 프레임(STOMP ERROR 등)을 다 보낸 뒤에 하며,
+ * closeDrainTimeout이 지나면 남은 프레임은 버리고 닫는다.
+ */
+class ConflatingSessionDecorator extends WebSocketSessionDecorator {
+
+    private static final Logger log = LoggerFactory.getLogger(ConflatingSessionDecorator.class);
+
+    private final SlowConsumerGuard guard;
+    private final Executor drainExecutor;
+    private final long maxBufferedBytes;
+    private final long sendTimeLimitNanos;
+    private final long closeDrainTimeoutNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ArrayDeque<Slot> queue = new ArrayDeque<>();
+    private final HashMap<String, Slot> pendingState = new HashMap<>();
+    private volatile long bufferedBytes;
+    private long eventBytes;
+
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean limitExceeded = new AtomicBoolean();
+    private volatile boolean sending;
+    private volatile long sendStartedAt;
+
+    // close 요청 (드레인 작업이 큐를 비운 뒤 이 상태로 닫는다)
+    private final AtomicReference<CloseStatus> pendingClose = new AtomicReference<>();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private volatile long closeDeadline;
+
+    ConflatingSessionDecorator(
+            WebSocketSession delegate,
+            SlowConsumerGuard guard,
+            Executor drainExecutor,
+            OutboundConfig config) {
+        super(delegate);
+        this.guard = guard;
+        this.drainExecutor = drainExecutor;
+        this.maxBufferedBytes = config.getMaxBufferedBytes();
+        this.sendTimeLimitNanos = TimeUnit.MILLISECONDS.toNanos(config.getSendTimeLimitMs());
+        this.closeDrainTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(config.getCloseDrainTimeoutMs());
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) {
+        // close 요청 뒤의 프레임은 보내지 않는다
+        if (limitExceeded.get() || pendingClose.get() != null) {
+            return;
+        }
+
+        String key = guard.conflationKey(message);
+        int size = message.getPayloadLength();
+        boolean conflated = false;
+        boolean overflow;
+
+        lock.lock();
+        try {
+            Slot slot = key != null ? pendingState.get(key) : null;
+            if (slot != null) {
+                bufferedBytes += size - slot.size;
+                slot.message = message;
+                slot.size = size;
+                conflated = true;
+            } else {
+                slot = new Slot(key, message, size);
+                queue.add(slot);
+                if (key != null) {
+                    pendingState.put(key, slot);
+                } else {
+                    eventBytes += size;
+                }
+                bufferedBytes += size;
+            }
+            // 상태 프레임은 토픽 수만큼만 쌓이므로 이벤트가 밀렸을 때만 느린 소비자로 본다
+            overflow = eventBytes > 0 && (bufferedBytes > maxBufferedBytes || isSendStalled());
+        } finally {
+            lock.unlock();
+        }
+
+        if (conflated) {
+            guard.recordConflated();
+        }
+        if (overflow) {
+            closeAsSlowConsumer();
+            return;
+        }
+        scheduleDrain();
+    }
+
+    @Override
+    public void close() throws IOException {
+        close(CloseStatus.NORMAL);
+    }
+
+    /**
+     * 밀린 프레임을 드레인 작업이 다 보낸 뒤 닫는다 (호출 스레드는 기다리지 않는다)
+     */
+    @Override
+    public void close(CloseStatus status) throws IOException {
+        if (limitExceeded.get()) {
+            return;
+        }
+        if (!pendingClose.compareAndSet(null, status)) {
+            return;
+        }
+        closeDeadline = guard.nanoTime() + closeDrainTimeoutNanos;
+        // 이미 전송이 막혀 있거나 드레인을 돌릴 수 없으면 남은 프레임은 버리고 바로 닫는다
+        if (isSendStalled() || (!scheduleDrain() && !draining.get())) {
+            clear();
+            closeDelegate();
+        }
+    }
+
+    long getBufferedBytes() {
+        return bufferedBytes;
+    }
+
+    private boolean isSendStalled() {
+        return sending && guard.nanoTime() - sendStartedAt > sendTimeLimitNanos;
+    }
+
+    /**
+     * @return 드레인 작업을 새로 예약했으면 true (이미 돌고 있거나 거부되면 false)
+     */
+    private boolean scheduleDrain() {
+        if (!draining.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            drainExecutor.execute(this::drain);
+            return true;
+        } catch (RejectedExecutionException e) {
+            draining.set(false);
+            log.debug("Outbound drain rejected for session {}: {}", getId(), e.getMessage());
+            return false;
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            WebSocketMessage<?> next = poll();
+            if (next == null) {
+                if (pendingClose.get() != null) {
+                    closeDelegate();
+                    return;
+                }
+                draining.set(false);
+                // 플래그를 내린 직후 들어온 프레임이나 close 요청은 여기서 이어서 처리한다
+                if ((isQueueEmpty() && pendingClose.get() == null) || !draining.compareAndSet(false, true)) {
+                    return;
+                }
+                continue;
+            }
+            if (limitExceeded.get() || !isOpen()) {
+                clear();
+                if (pendingClose.get() != null) {
+                    closeDelegate();
+                }
+                draining.set(false);
+                return;
+            }
+            if (pendingClose.get() != null && guard.nanoTime() - closeDeadline > 0) {
+                log.debug("Close drain timed out for session {}, dropping {} bytes", getId(), bufferedBytes);
+                clear();
+                closeDelegate();
+                return;
+            }
+
+            sendStartedAt = guard.nanoTime();
+            sending = true;
+            try {
+                getDelegate().sendMessage(next);
+            } catch (Exception e) {
+                log.debug("Outbound send to session {} failed: {}", getId(), e.getMessage());
+            } finally {
+                sending = false;
+            }
+        }
+    }
+
+    private WebSocketMessage<?> poll() {
+        lock.lock();
+        try {
+            Slot slot = queue.poll();
+            if (slot == null) {
+                return null;
+            }
+            if (slot.key != null) {
+                pendingState.remove(slot.key);
+            } else {
+                eventBytes -= slot.size;
+            }
+            bufferedBytes -= slot.size;
+            return slot.message;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isQueueEmpty() {
+        lock.lock();
+        try {
+            return queue.isEmpty();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void clear() {
+        lock.lock();
+        try {
+            queue.clear();
+            pendingState.clear();
+            eventBytes = 0;
+            bufferedBytes = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * close 요청을 원본 세션에 한 번만 전달
+     */
+    private void closeDelegate() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            getDelegate().close(pendingClose.get());
+        } catch (Exception e) {
+            log.debug("Failed to close session {}: {}", getId(), e.getMessage());
+        }
+    }
+
+    private void closeAsSlowConsumer() {
+        if (!limitExceeded.compareAndSet(false, true)) {
+            return;
+        }
+        guard.recordSlowConsumer();
+        log.warn("Closing slow consumer session {}: buffered={} bytes, sendStalled={}",
+            getId(), bufferedBytes, isSendStalled());
+        clear();
+        try {
+            getDelegate().close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (Exception e) {
+            log.debug("Failed to close slow consumer session {}: {}", getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 큐의 한 자리 (상태 토픽이면 전송 전까지 message가 최신 프레임으로 교체된다)
+     */
+    private static final class Slot {
+
+        final String key;
+        WebSocketMessage<?> message;
+        int size;
+
+        Slot(String key, WebSocketMessage<?> message, int size) {
+            this.key = key;
+            this.message = message;
+            this.size = size;
+        }
+    }
+}
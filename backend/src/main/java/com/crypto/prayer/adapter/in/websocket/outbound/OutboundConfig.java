@@ -0,0 +1,73 @@
+package com.crypto.prayer.adapter.in.websocket.outbound;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@ConfigurationProperties(prefix = "websocket.outbound")
+public class OutboundConfig {
+
+    private boolean enabled = true;
+
+    // 상태 토픽: 밀린 프레임은 (목적지, 구독)별 최신 하나만 남긴다 ("/*"로 끝나면 접두어 일치)
+    // 나머지(청산, 델타 스트림, 사용자 큐)는 이벤트라 순서대로 모두 보낸다
+    private List<String> conflatedDestinations = new ArrayList<>(List.of(
+        "/topic/prayer",
+        "/topic/ticker",
+        "/topic/ticker/*",
+        "/topic/liquidation/summary",
+        "/topic/liquidation/leaderboard"
+    ));
+
+    // 세션별 버퍼 상한: 넘었을 때 이벤트 프레임이 쌓여 있으면 느린 소비자로 보고 연결을 끊는다
+    private int maxBufferedBytes = 512 * 1024;
+
+    // 한 번의 전송이 이 시간 넘게 막혀 있는데 이벤트 프레임이 쌓이면 끊는다
+    private int sendTimeLimitMs = 10_000;
+
+    // close 요청 뒤 밀린 프레임(ERROR 프레임 등)을 보내는 데 쓸 최대 시간, 넘으면 남은 프레임은 버리고 닫는다
+    private int closeDrainTimeoutMs = 1_000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public List<String> getConflatedDestinations() {
+        return conflatedDestinations;
+    }
+
+    public void setConflatedDestinations(List<String> conflatedDestinations) {
+        this.conflatedDestinations = conflatedDestinations;
+    }
+
+    public int getMaxBufferedBytes() {
+        return maxBufferedBytes;
+    }
+
+    public void setMaxBufferedBytes(int maxBufferedBytes) {
+        this.maxBufferedBytes = maxBufferedBytes;
+    }
+
+    public int getSendTimeLimitMs() {
+        return sendTimeLimitMs;
+    }
+
+    public void setSendTimeLimitMs(int sendTimeLimitMs) {
+        this.sendTimeLimitMs = sendTimeLimitMs;
+    }
+
+    public int getCloseDrainTimeoutMs() {
+        return closeDrainTimeoutMs;
+    }
+
+    public void setCloseDrainTimeoutMs(int closeDrainTimeoutMs) {
+        this.closeDrainTimeoutMs = closeDrainTimeoutMs;
+    }
+}
@@ -0,0 +1,227 @@
+package com.crypto.prayer.adapter.in.websocket.outbound;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.LongSupplier;
+
+/**
+ * STOMP 세션 송신 경로의 느린 소비자 보호
+ * 가장 바깥 데코레이터로 등록되어 원본 세션을 ConflatingSessionDecorator로 감싼다.
+ * 전송은 세션별 드레인 작업이 가상 스레드에서 하므로, 블로킹되는 세션이 아웃바운드 채널 스레드나
+ * Spring 기본 송신 버퍼(변환 없이 프레임을 그대로 쌓는)를 붙잡지 않는다.
+ */
+@Component
+public class SlowConsumerGuard implements WebSocketHandlerDecoratorFactory {
+
+    private static final byte[] MESSAGE_COMMAND = "MESSAGE\n".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] DESTINATION_HEADER = "destination:".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SUBSCRIPTION_HEADER = "subscription:".getBytes(StandardCharsets.UTF_8);
+
+    private final OutboundConfig config;
+    private final Executor drainExecutor;
+    private final LongSupplier nanoClock;
+    private final ConcurrentHashMap<String, ConflatingSessionDecorator> sessions = new ConcurrentHashMap<>();
+
+    private final List<String> exactDestinations;
+    private final List<String> destinationPrefixes;
+
+    private final Counter conflatedFrames;
+    private final Counter slowConsumerDisconnects;
+
+    @Autowired
+    public SlowConsumerGuard(OutboundConfig config, MeterRegistry meterRegistry) {
+        this(config, meterRegistry,
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("ws-outbound-", 0).factory()),
+            System::nanoTime);
+    }
+
+    public SlowConsumerGuard(
+            OutboundConfig config,
+            MeterRegistry meterRegistry,
+            Executor drainExecutor,
+            LongSupplier nanoClock) {
+        this.config = config;
+        this.drainExecutor = drainExecutor;
+        this.nanoClock = nanoClock;
+        this.exactDestinations = config.getConflatedDestinations().stream()
+            .filter(destination -> !destination.endsWith("*"))
+            .toList();
+        this.destinationPrefixes = config.getConflatedDestinations().stream()
+            .filter(destination -> destination.endsWith("*"))
+            .map(destination -> destination.substring(0, destination.length() - 1))
+            .toList();
+
+        this.conflatedFrames = Counter.builder("websocket.outbound.conflated")
+            .description("Pending state-topic frames replaced by a newer frame before sending")
+            .register(meterRegistry);
+        this.slowConsumerDisconnects = Counter.builder("websocket.outbound.slow_consumer.disconnects")
+            .description("Sessions closed because event frames overflowed the outbound buffer")
+            .register(meterRegistry);
+        Gauge.builder("websocket.outbound.buffered.bytes", this, SlowConsumerGuard::getBufferedBytes)
+            .description("Bytes waiting in per-session outbound queues")
+            .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (drainExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * 이 노드의 세션별 송신 큐에 쌓인 바이트 합 (비활성화면 0)
+     */
+    public long getBufferedBytes() {
+        long total = 0;
+        for (ConflatingSessionDecorator session : sessions.values()) {
+            total += session.getBufferedBytes();
+        }
+        return total;
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        if (!config.isEnabled()) {
+            return handler;
+        }
+        return new WebSocketHandlerDecorator(handler) {
+
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                ConflatingSessionDecorator conflating =
+                    new ConflatingSessionDecorator(session, SlowConsumerGuard.this, drainExecutor, config);
+                sessions.put(session.getId(), conflating);
+                super.afterConnectionEstablished(conflating);
+            }
+
+            @Override
+            public void handleMessage(WebSocketSession session, WebSocketMessage<?> message) throws Exception {
+                super.handleMessage(wrapped(session), message);
+            }
+
+            @Override
+            public void handleTransportError(WebSocketSession session, Throwable exception) throws Exception {
+                super.handleTransportError(wrapped(session), exception);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                ConflatingSessionDecorator conflating = sessions.remove(session.getId());
+                super.afterConnectionClosed(conflating != null ? conflating : session, closeStatus);
+            }
+        };
+    }
+
+    private WebSocketSession wrapped(WebSocketSession session) {
+        WebSocketSession conflating = sessions.get(session.getId());
+        return conflating != null ? conflating : session;
+    }
+
+    /**
+     * 상태 토픽 MESSAGE 프레임이면 "목적지\n구독 ID" 키, 아니면 null (이벤트로 취급)
+     * 프레임을 문자열로 디코딩하지 않고 헤더 바이트만 훑는다.
+     */
+    String conflationKey(WebSocketMessage<?> message) {
+        if (!(message instanceof TextMessage text)) {
+            return null;
+        }
+        byte[] frame = text.asBytes();
+        if (!startsWith(frame, 0, MESSAGE_COMMAND)) {
+            return null;
+        }
+
+        String destination = null;
+        String subscription = null;
+        int lineStart = MESSAGE_COMMAND.length;
+        while (lineStart < frame.length && (destination == null || subscription == null)) {
+            int lineEnd = indexOf(frame, (byte) '\n', lineStart);
+            // 빈 줄이면 헤더 끝
+            if (lineEnd <= lineStart) {
+                break;
+            }
+            if (destination == null && startsWith(frame, lineStart, DESTINATION_HEADER)) {
+                destination = value(frame, lineStart + DESTINATION_HEADER.length, lineEnd);
+                if (!isConflated(destination)) {
+                    return null;
+                }
+            } else if (subscription == null && startsWith(frame, lineStart, SUBSCRIPTION_HEADER)) {
+                subscription = value(frame, lineStart + SUBSCRIPTION_HEADER.length, lineEnd);
+            }
+            lineStart = lineEnd + 1;
+        }
+
+        if (destination == null) {
+            return null;
+        }
+        return subscription != null ? destination + '\n' + subscription : destination;
+    }
+
+    long nanoTime() {
+        return nanoClock.getAsLong();
+    }
+
+    void recordConflated() {
+        conflatedFrames.increment();
+    }
+
+    void recordSlowConsumer() {
+        slowConsumerDisconnects.increment();
+    }
+
+    private boolean isConflated(String destination) {
+        if (exactDestinations.contains(destination)) {
+            return true;
+        }
+        for (String prefix : destinationPrefixes) {
+            if (destination.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String value(byte[] frame, int from, int lineEnd) {
+        int end = lineEnd > from && frame[lineEnd - 1] == '\r' ? lineEnd - 1 : lineEnd;
+        return new String(frame, from, end - from, StandardCharsets.UTF_8);
+    }
+
+    private static boolean startsWith(byte[] frame, int offset, byte[] prefix) {
+        if (frame.length - offset < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (frame[offset + i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int indexOf(byte[] frame, byte target, int from) {
+        for (int i = from; i < frame.length; i++) {
+            if (frame[i] == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,36 @@
+package com.crypto.prayer.adapter.in.websocket.ratelimit;
+
+import java.util.Map;
+
+/**
+ * 레이트 리밋 키
+ * 세션 ID는 노드 로컬, IP와 클라이언트 ID는 핸드셰이크 때 세션 속성에 저장되어 레플리카 간 공유 한도의 키가 된다.
+ * @param ip 알 수 없으면 null
+ * @param clientId 클라이언트가 보내지 않았으면 null
+ */
+public record ClientIdentity(String sessionId, String ip, String clientId) {
+
+    public static final String IP_ATTRIBUTE = "rateLimit.ip";
+    public static final String CLIENT_ID_ATTRIBUTE = "rateLimit.clientId";
+
+    public static ClientIdentity of(String sessionId) {
+        return new ClientIdentity(sessionId, null, null);
+    }
+
+    public static ClientIdentity of(String sessionId, Map<String, Object> attributes) {
+        if (attributes == null) {
+            return of(sessionId);
+        }
+        return new ClientIdentity(
+            sessionId,
+            (String) attributes.get(IP_ATTRIBUTE),
+            (String) attributes.get(CLIENT_ID_ATTRIBUTE));
+    }
+
+    /**
+     * 클라이언트 ID가 없으면 세션 단위로 센다
+     */
+    public String clientKey() {
+        return clientId != null ? clientId : sessionId;
+    }
+}
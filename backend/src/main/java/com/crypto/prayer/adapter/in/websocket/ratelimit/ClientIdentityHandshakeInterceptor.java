@@ -0,0 +1,97 @@
+package com.crypto.prayer.adapter.in.websocket.ratelimit;
+
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 핸드셰이크 요청에서 클라이언트 IP와 클라이언트 ID(?cid=)를 읽어 세션 속성에 저장
+ * 형식이 맞지 않는 cid는 무시하고 세션 단위로 센다 (IP 한도는 그대로 적용된다).
+ */
+@Component
+public class ClientIdentityHandshakeInterceptor implements HandshakeInterceptor {
+
+    static final String CLIENT_ID_PARAM = "cid";
+    private static final String FORWARDED_FOR_HEADER = "X-Forwarded-For";
+    private static final Pattern CLIENT_ID_PATTERN = Pattern.compile("[A-Za-z0-9_-]{8,64}");
+
+    private final RateLimitConfig config;
+
+    public ClientIdentityHandshakeInterceptor(RateLimitConfig config) {
+        this.config = config;
+    }
+
+    @Override
+    public boolean beforeHandshake(
+            ServerHttpRequest request,
+            ServerHttpResponse response,
+            WebSocketHandler wsHandler,
+            Map<String, Object> attributes) {
+        String ip = resolveIp(request);
+        if (ip != null) {
+            attributes.put(ClientIdentity.IP_ATTRIBUTE, ip);
+        }
+
+        String clientId = UriComponentsBuilder.fromUri(request.getURI()).build()
+            .getQueryParams().getFirst(CLIENT_ID_PARAM);
+        if (clientId != null && CLIENT_ID_PATTERN.matcher(clientId).matches()) {
+            attributes.put(ClientIdentity.CLIENT_ID_ATTRIBUTE, clientId);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterHandshake(
+            ServerHttpRequest request,
+            ServerHttpResponse response,
+            WebSocketHandler wsHandler,
+            Exception exception) {
+    }
+
+    private String resolveIp(ServerHttpRequest request) {
+        if (config.isTrustForwardedFor()) {
+            String forwarded = forwardedClientIp(request.getHeaders().get(FORWARDED_FOR_HEADER));
+            if (forwarded != null) {
+                return forwarded;
+            }
+        }
+        InetSocketAddress remote = request.getRemoteAddress();
+        if (remote == null || remote.getAddress() == null) {
+            return null;
+        }
+        return remote.getAddress().getHostAddress();
+    }
+
+    /**
+     * 각 프록시는 자기가 본 주소를 X-Forwarded-For 끝에 붙이므로, 신뢰하는 프록시 수만큼
+     * 오른쪽에서 센 주소를 쓴다. 항목이 그보다 적으면 가장 왼쪽 주소를 쓴다.
+     */
+    private String forwardedClientIp(List<String> headerValues) {
+        if (headerValues == null) {
+            return null;
+        }
+
+        List<String> hops = new ArrayList<>();
+        for (String value : headerValues) {
+            for (String hop : value.split(",")) {
+                if (!hop.isBlank()) {
+                    hops.add(hop.trim());
+                }
+            }
+        }
+        if (hops.isEmpty()) {
+            return null;
+        }
+        int index = Math.max(0, hops.size() - Math.max(1, config.getTrustedProxyHops()));
+        return hops.get(index);
+    }
+}
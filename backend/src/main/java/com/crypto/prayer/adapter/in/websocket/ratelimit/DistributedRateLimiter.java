@@ -0,0 +1,413 @@
+package com.crypto.prayer.adapter.in.websocket.ratelimit;
+
+import com.crypto.prayer.adapter.out.redis.RedisRateLimitLeaser;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 레플리카 전체에 걸친 IP/클라이언트 ID 단위 레이트 리미터
+ * 1. 세션 한도를 로컬 GCRA로 먼저 검사한다 (Redis 없이 거부)
+ * 2. IP, 클라이언트 ID 한도는 Redis GCRA에서 leaseSize개씩 받아 온 토큰을 로컬에서 소비한다.
+ *    리스가 바닥났을 때만 Redis를 호출하고, 거부되면 retry-after까지는 Redis 없이 거부한다.
+ * 뒤 단계에서 거부되면 앞 단계에서 받은 토큰은 돌려주므로 거부된 요청은 어느 한도도 쓰지 않는다.
+ * 만료된 리스와 끊긴 세션의 리스에 남은 토큰은 Redis에 반납해 다른 노드가 쓸 수 있게 한다.
+ * Redis 호출이 실패하면 redisRetryMs 동안 같은 한도의 노드 로컬 GCRA로 대체한다.
+ */
+public class DistributedRateLimiter implements RateLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(DistributedRateLimiter.class);
+
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    private final RateLimitConfig config;
+    private final RedisRateLimitLeaser leaser;
+    private final LongSupplier nanoClock;
+
+    private final GcraRateLimiter sessionLimiter;
+    private final Tier ipTier;
+    private final Tier clientTier;
+
+    // "{tier}:{key}" → 로컬에 받아 둔 토큰
+    private final ConcurrentHashMap<String, Lease> leases = new ConcurrentHashMap<>();
+    // 세션이 끊겨 더 쓰이지 않는 리스 (다음 반납 주기에 남은 토큰을 돌려준다)
+    private final ConcurrentLinkedQueue<Lease> orphaned = new ConcurrentLinkedQueue<>();
+    private final long leaseTtlNanos;
+    private final long redisRetryNanos;
+
+    private volatile long redisRetryAt;
+    private volatile boolean redisSuspended;
+
+    private ScheduledExecutorService sweeper;
+
+    public DistributedRateLimiter(RateLimitConfig config, RedisRateLimitLeaser leaser) {
+        this(config, leaser, System::nanoTime);
+    }
+
+    public DistributedRateLimiter(RateLimitConfig config, RedisRateLimitLeaser leaser, LongSupplier nanoClock) {
+        RateLimitConfig.Distributed distributed = config.getDistributed();
+        if (distributed.getLeaseSize() < 1) {
+            throw new IllegalArgumentException("leaseSize must be positive: " + distributed.getLeaseSize());
+        }
+        this.config = config;
+        this.leaser = leaser;
+        this.nanoClock = nanoClock;
+        this.sessionLimiter = new GcraRateLimiter(config, nanoClock);
+        this.ipTier = new Tier("ip", config, distributed.getPerIp(), nanoClock);
+        this.clientTier = new Tier("client", config, distributed.getPerClient(), nanoClock);
+        this.leaseTtlNanos = distributed.getLeaseTtlMs() * NANOS_PER_MILLI;
+        this.redisRetryNanos = distributed.getRedisRetryMs() * NANOS_PER_MILLI;
+        this.redisRetryAt = nanoClock.getAsLong();
+    }
+
+    @PostConstruct
+    public void start() {
+        sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rate-limit-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        // 만료된 리스의 남은 토큰은 리스 TTL마다 반납
+        long leaseTtl = config.getDistributed().getLeaseTtlMs();
+        sweeper.scheduleWithFixedDelay(this::releaseQuietly, leaseTtl, leaseTtl, TimeUnit.MILLISECONDS);
+
+        long interval = config.getSweepIntervalMs();
+        if (interval > 0) {
+            sweeper.scheduleWithFixedDelay(this::sweepQuietly, interval, interval, TimeUnit.MILLISECONDS);
+        }
+        log.info("Distributed rate limiter started: perIp={}/s burst {}, perClient={}/s burst {}, leaseSize={}",
+            ipTier.quota.getRatePerSecond(), ipTier.quota.getBurst(),
+            clientTier.quota.getRatePerSecond(), clientTier.quota.getBurst(),
+            config.getDistributed().getLeaseSize());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (sweeper != null) {
+            sweeper.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean tryConsume(String clientId) {
+        return tryConsume(ClientIdentity.of(clientId));
+    }
+
+    @Override
+    public boolean tryConsume(ClientIdentity identity) {
+        if (!sessionLimiter.tryConsume(identity.sessionId())) {
+            return false;
+        }
+
+        // 뒤 단계에서 거부되면 앞 단계에서 받은 토큰을 돌려준다
+        Source ipSource = null;
+        if (identity.ip() != null) {
+            ipSource = take(ipTier, identity.ip());
+            if (ipSource == null) {
+                sessionLimiter.refund(identity.sessionId());
+                return false;
+            }
+        }
+        if (take(clientTier, identity.clientKey()) == null) {
+            if (ipSource != null) {
+                refund(ipTier, identity.ip(), ipSource);
+            }
+            sessionLimiter.refund(identity.sessionId());
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void removeClient(String clientId) {
+        sessionLimiter.removeClient(clientId);
+
+        // cid 없는 세션은 세션 ID가 클라이언트 키라 이 리스를 쓸 세션이 더 없다
+        // IP·클라이언트 ID 리스는 다른 세션과 공유하므로 만료 때 반납한다
+        Lease lease = leases.remove(clientTier.name + ":" + clientId);
+        if (lease != null) {
+            orphaned.add(lease);
+        }
+    }
+
+    /**
+     * 만료된 리스와 끊긴 세션의 리스에 남은 토큰을 Redis에 반납
+     * @return 반납한 토큰 수
+     */
+    public int releaseUnused() {
+        long now = nanoClock.getAsLong();
+        int released = 0;
+
+        Lease lease;
+        while ((lease = orphaned.poll()) != null) {
+            released += giveBack(lease, lease.drain());
+        }
+        for (Lease active : leases.values()) {
+            // 리필 중인 리스는 다음 주기에
+            if (active.refillLock.tryLock()) {
+                try {
+                    released += giveBack(active, active.drainIfExpired(now));
+                } finally {
+                    active.refillLock.unlock();
+                }
+            }
+        }
+        return released;
+    }
+
+    /**
+     * 만료된 리스와 유휴 로컬 항목 제거 (남은 토큰은 먼저 반납)
+     * @return 제거한 리스 수
+     */
+    public int sweep() {
+        releaseUnused();
+        sessionLimiter.sweep();
+        ipTier.local.sweep();
+        clientTier.local.sweep();
+
+        long now = nanoClock.getAsLong();
+        int before = leases.size();
+        leases.values().removeIf(lease -> lease.isIdle(now) && !lease.refillLock.isLocked());
+        return before - leases.size();
+    }
+
+    public boolean isRedisSuspended() {
+        return redisSuspended;
+    }
+
+    /**
+     * 한도에서 토큰 하나를 받는다
+     * @return 토큰을 받은 곳 (거부되면 null)
+     */
+    private Source take(Tier tier, String key) {
+        long now = nanoClock.getAsLong();
+        Lease lease = leases.computeIfAbsent(tier.name + ":" + key, ignored -> new Lease(tier, key, now));
+        if (lease.tryTake(now)) {
+            return Source.LEASE;
+        }
+        if (lease.deniedUntil - now > 0) {
+            return null;
+        }
+        if (redisSuspended && redisRetryAt - now > 0) {
+            return takeLocal(tier, key);
+        }
+
+        // 같은 키의 리필은 한 스레드만 Redis로 보낸다
+        lease.refillLock.lock();
+        try {
+            long refillAt = nanoClock.getAsLong();
+            if (lease.tryTake(refillAt)) {
+                return Source.LEASE;
+            }
+            // 새 리스로 덮어쓰기 전에 만료된 리스의 남은 토큰을 반납
+            int unused = lease.drainIfExpired(refillAt);
+            if (unused > 0) {
+                leaser.release(tier.redisKey(key), tier.intervalMicros, unused);
+            }
+
+            RedisRateLimitLeaser.Grant grant = leaser.lease(
+                tier.redisKey(key), tier.intervalMicros, tier.toleranceMicros, config.getDistributed().getLeaseSize());
+            markRedisAvailable();
+
+            long granted = nanoClock.getAsLong();
+            if (grant.tokens() <= 0) {
+                lease.deniedUntil = granted + grant.retryAfterMs() * NANOS_PER_MILLI;
+                return null;
+            }
+            lease.refill(grant.tokens() - 1, granted + leaseTtlNanos);
+            return Source.LEASE;
+        } catch (RuntimeException e) {
+            suspendRedis(e);
+            return takeLocal(tier, key);
+        } finally {
+            lease.refillLock.unlock();
+        }
+    }
+
+    private Source takeLocal(Tier tier, String key) {
+        return tier.local.tryConsume(key) ? Source.LOCAL : null;
+    }
+
+    /**
+     * take로 받은 토큰을 받은 곳에 돌려준다
+     * 리스가 그 사이 새로 채워졌어도 이미 Redis에서 받은 토큰이므로 새 리스에 더해도 한도를 넘지 않는다.
+     */
+    private void refund(Tier tier, String key, Source source) {
+        if (source == Source.LOCAL) {
+            tier.local.refund(key);
+            return;
+        }
+        Lease lease = leases.get(tier.name + ":" + key);
+        if (lease != null) {
+            lease.remaining.incrementAndGet();
+        }
+    }
+
+    /**
+     * 남은 토큰을 Redis에 반납 (Redis 장애 중이거나 실패하면 버린다)
+     * @return 반납한 토큰 수
+     */
+    private int giveBack(Lease lease, int tokens) {
+        if (tokens <= 0 || redisSuspended) {
+            return 0;
+        }
+        try {
+            leaser.release(lease.tier.redisKey(lease.key), lease.tier.intervalMicros, tokens);
+            return tokens;
+        } catch (RuntimeException e) {
+            suspendRedis(e);
+            return 0;
+        }
+    }
+
+    private void suspendRedis(RuntimeException e) {
+        redisRetryAt = nanoClock.getAsLong() + redisRetryNanos;
+        if (!redisSuspended) {
+            redisSuspended = true;
+            log.warn("Redis rate limit lease failed, using node-local limits for {}ms: {}",
+                config.getDistributed().getRedisRetryMs(), e.getMessage());
+        }
+    }
+
+    private void markRedisAvailable() {
+        if (redisSuspended) {
+            redisSuspended = false;
+            log.info("Redis rate limit lease recovered");
+        }
+    }
+
+    private void releaseQuietly() {
+        try {
+            int released = releaseUnused();
+            if (released > 0) {
+                log.debug("Released {} unused rate limit tokens", released);
+            }
+        } catch (Exception e) {
+            log.warn("Rate limit lease release failed: {}", e.getMessage());
+        }
+    }
+
+    private void sweepQuietly() {
+        try {
+            int evicted = sweep();
+            if (evicted > 0) {
+                log.debug("Evicted {} idle rate limit leases, remaining={}", evicted, leases.size());
+            }
+        } catch (Exception e) {
+            log.warn("Rate limit sweep failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 토큰을 받은 곳 (돌려줄 때 같은 곳으로)
+     */
+    private enum Source {
+        LEASE,
+        LOCAL
+    }
+
+    /**
+     * IP 또는 클라이언트 ID 한도 (Redis 키 접두어, GCRA 파라미터, Redis 장애 시 쓰는 로컬 리미터)
+     */
+    private static final class Tier {
+
+        final String name;
+        final RateLimitConfig.Quota quota;
+        final String keyPrefix;
+        final long intervalMicros;
+        final long toleranceMicros;
+        final GcraRateLimiter local;
+
+        Tier(String name, RateLimitConfig config, RateLimitConfig.Quota quota, LongSupplier nanoClock) {
+            this.name = name;
+            this.quota = quota;
+            this.keyPrefix = config.getDistributed().getKeyPrefix() + ":" + name + ":";
+
+            RateLimitConfig localConfig = new RateLimitConfig();
+            localConfig.setRatePerSecond(quota.getRatePerSecond());
+            localConfig.setBurst(quota.getBurst());
+            localConfig.setIdleEvictionMs(config.getIdleEvictionMs());
+            this.local = new GcraRateLimiter(localConfig, nanoClock);
+
+            this.intervalMicros = Math.max(1L, Math.round(1_000_000 / quota.getRatePerSecond()));
+            this.toleranceMicros = intervalMicros * (quota.getBurst() - 1);
+        }
+
+        String redisKey(String key) {
+            return keyPrefix + key;
+        }
+    }
+
+    /**
+     * 로컬에 받아 둔 토큰
+     * 소비는 CAS로, 리필은 refillLock을 쥔 스레드만 한다.
+     */
+    private static final class Lease {
+
+        final Tier tier;
+        final String key;
+        final ReentrantLock refillLock = new ReentrantLock();
+        final AtomicInteger remaining = new AtomicInteger();
+        volatile long expiresAt;
+        volatile long deniedUntil;
+
+        Lease(Tier tier, String key, long now) {
+            this.tier = tier;
+            this.key = key;
+            this.expiresAt = now;
+            this.deniedUntil = now;
+        }
+
+        boolean tryTake(long now) {
+            // 만료된 리스의 남은 토큰은 쓰지 않고 반납한다 (다른 노드 몫을 오래 붙잡지 않도록)
+            if (now - expiresAt >= 0) {
+                return false;
+            }
+            while (true) {
+                int current = remaining.get();
+                if (current <= 0) {
+                    return false;
+                }
+                if (remaining.compareAndSet(current, current - 1)) {
+                    return true;
+                }
+            }
+        }
+
+        void refill(int tokens, long expiresAt) {
+            this.expiresAt = expiresAt;
+            remaining.set(tokens);
+        }
+
+        /**
+         * 만료됐으면 남은 토큰을 비우고 그 수를 돌려준다 (refillLock을 쥔 상태에서 호출)
+         */
+        int drainIfExpired(long now) {
+            return now - expiresAt >= 0 ? remaining.getAndSet(0) : 0;
+        }
+
+        int drain() {
+            refillLock.lock();
+            try {
+                return remaining.getAndSet(0);
+            } finally {
+                refillLock.unlock();
+            }
+        }
+
+        boolean isIdle(long now) {
+            return now - expiresAt >= 0 && now - deniedUntil >= 0;
+        }
+    }
+}
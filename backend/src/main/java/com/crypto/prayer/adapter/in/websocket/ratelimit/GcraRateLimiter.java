@@ -0,0 +1,141 @@
+package com.crypto.prayer.adapter.in.websocket.ratelimit;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * GCRA(Generic Cell Rate Algorithm, virtual scheduling) 레이트 리미터
+ * 클라이언트마다 다음 요청의 이론적 도착 시각(TAT) 하나만 AtomicLong에 두고 CAS 루프로 갱신한다.
+ * 락이 없으므로 가상 스레드가 캐리어 스레드에 고정되지 않는다.
+ * - 요청 간격 T = 1초 / rate, 허용 오차 τ = T × (burst - 1)
+ * - max(TAT, now) - now <= τ 이면 허용하고 TAT = max(TAT, now) + T
+ * 시각은 단조 시계(System.nanoTime) 기준이며, 유휴 클라이언트는 스위퍼가 주기적으로 제거한다.
+ */
+public class GcraRateLimiter implements RateLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(GcraRateLimiter.class);
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final ConcurrentHashMap<String, AtomicLong> arrivals = new ConcurrentHashMap<>();
+    private final RateLimitConfig config;
+    private final LongSupplier nanoClock;
+    private final long emissionIntervalNanos;
+    private final long toleranceNanos;
+
+    private ScheduledExecutorService sweeper;
+
+    public GcraRateLimiter(RateLimitConfig config) {
+        this(config, System::nanoTime);
+    }
+
+    public GcraRateLimiter(RateLimitConfig config, LongSupplier nanoClock) {
+        if (!(config.getRatePerSecond() > 0) || config.getBurst() < 1) {
+            throw new IllegalArgumentException(
+                "rate and burst must be positive: rate=" + config.getRatePerSecond() + ", burst=" + config.getBurst());
+        }
+        this.config = config;
+        this.nanoClock = nanoClock;
+        this.emissionIntervalNanos = Math.max(1L, Math.round(NANOS_PER_SECOND / config.getRatePerSecond()));
+        this.toleranceNanos = emissionIntervalNanos * (config.getBurst() - 1);
+    }
+
+    @PostConstruct
+    public void start() {
+        long interval = config.getSweepIntervalMs();
+        if (interval <= 0) {
+            return;
+        }
+
+        sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rate-limit-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sweeper.scheduleWithFixedDelay(this::sweepQuietly, interval, interval, TimeUnit.MILLISECONDS);
+        log.info("GCRA rate limiter started: rate={}/s, burst={}, idleEviction={}ms",
+            config.getRatePerSecond(), config.getBurst(), config.getIdleEvictionMs());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (sweeper != null) {
+            sweeper.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean tryConsume(String clientId) {
+        long now = nanoClock.getAsLong();
+        AtomicLong arrival = arrivals.get(clientId);
+        if (arrival == null) {
+            // 새 클라이언트는 버스트가 가득 찬 상태(TAT = now)로 시작
+            arrival = arrivals.computeIfAbsent(clientId, key -> new AtomicLong(now));
+        }
+
+        while (true) {
+            long tat = arrival.get();
+            // nanoTime은 음수일 수 있으므로 차이로 비교
+            long start = tat - now > 0 ? tat : now;
+            if (start - now > toleranceNanos) {
+                return false;
+            }
+            if (arrival.compareAndSet(tat, start + emissionIntervalNanos)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * tryConsume으로 받은 토큰 하나를 돌려준다 (다음 단계 한도에서 거부됐을 때)
+     * TAT를 요청 간격 하나만큼 되돌리므로, 그 사이 다른 요청이 있었어도 그 몫은 그대로 남는다.
+     */
+    public void refund(String clientId) {
+        AtomicLong arrival = arrivals.get(clientId);
+        if (arrival != null) {
+            arrival.addAndGet(-emissionIntervalNanos);
+        }
+    }
+
+    @Override
+    public void removeClient(String clientId) {
+        arrivals.remove(clientId);
+    }
+
+    /**
+     * 마지막 요청 이후 idleEvictionMs 넘게 지나 버스트가 다 찬 클라이언트 제거
+     * 제거 직전에 들어온 요청 하나는 새 항목에서 다시 계산될 수 있지만, 이미 버스트가 찬 상태라 허용량은 같다.
+     * @return 제거한 수
+     */
+    public int sweep() {
+        long now = nanoClock.getAsLong();
+        long idleNanos = TimeUnit.MILLISECONDS.toNanos(config.getIdleEvictionMs());
+        int before = arrivals.size();
+        arrivals.values().removeIf(arrival -> now - arrival.get() > idleNanos);
+        return before - arrivals.size();
+    }
+
+    public int size() {
+        return arrivals.size();
+    }
+
+    private void sweepQuietly() {
+        try {
+            int evicted = sweep();
+            if (evicted > 0) {
+                log.debug("Evicted {} idle rate limit entries, remaining={}", evicted, arrivals.size());
+            }
+        } catch (Exception e) {
+            log.warn("Rate limit sweep failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.crypto.prayer.adapter.in.websocket.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "websocket.rate-limit")
+public class RateLimitConfig {
+
+    // 초당 5회, 버스트 최대 20
+    private double ratePerSecond = 5.0;
+    private int burst = 20;
+
+    // 이 시간 동안 요청이 없어 버스트가 다 찬 클라이언트는 스위퍼가 제거
+    private long idleEvictionMs = 60_000;
+    private long sweepIntervalMs = 30_000;
+
+    // 거부 시 에러 응답은 세션당 이 간격에 한 번만 (나머지는 메트릭으로만 센다)
+    private long errorReplyIntervalMs = 1_000;
+
+    // 로드밸런서 뒤에서 X-Forwarded-For를 클라이언트 IP로 신뢰할지
+    private boolean trustForwardedFor = false;
+
+    // 앞단의 신뢰하는 프록시 수: X-Forwarded-For 오른쪽에서 이 번째 주소를 클라이언트 IP로 쓴다
+    // (왼쪽 항목은 클라이언트가 임의로 넣을 수 있다)
+    private int trustedProxyHops = 1;
+
+    private Distributed distributed = new Distributed();
+
+    public double getRatePerSecond() {
+        return ratePerSecond;
+    }
+
+    public void setRatePerSecond(double ratePerSecond) {
+        this.ratePerSecond = ratePerSecond;
+    }
+
+    public int getBurst() {
+        return burst;
+    }
+
+    public void setBurst(int burst) {
+        this.burst = burst;
+    }
+
+    public long getIdleEvictionMs() {
+        return idleEvictionMs;
+    }
+
+    public void setIdleEvictionMs(long idleEvictionMs) {
+        this.idleEvictionMs = idleEvictionMs;
+    }
+
+    public long getSweepIntervalMs() {
+        return sweepIntervalMs;
+    }
+
+    public void setSweepIntervalMs(long sweepIntervalMs) {
+        this.sweepIntervalMs = sweepIntervalMs;
+    }
+
+    public long getErrorReplyIntervalMs() {
+        return errorReplyIntervalMs;
+    }
+
+    public void setErrorReplyIntervalMs(long errorReplyIntervalMs) {
+        this.errorReplyIntervalMs = errorReplyIntervalMs;
+    }
+
+    public boolean isTrustForwardedFor() {
+        return trustForwardedFor;
+    }
+
+    public void setTrustForwardedFor(boolean trustForwardedFor) {
+        this.trustForwardedFor = trustForwardedFor;
+    }
+
+    public int getTrustedProxyHops() {
+        return trustedProxyHops;
+    }
+
+    public void setTrustedProxyHops(int trustedProxyHops) {
+        this.trustedProxyHops = trustedProxyHops;
+    }
+
+    public Distributed getDistributed() {
+        return distributed;
+    }
+
+    public void setDistributed(Distributed distributed) {
+        this.distributed = distributed;
+    }
+
+    /**
+     * 레플리카 전체에 걸친 IP/클라이언트 ID 단위 한도 (Redis GCRA + 노드별 토큰 리스)
+     * 세션 단위 한도는 그대로 로컬에서 먼저 검사한다.
+     */
+    public static class Distributed {
+
+        private boolean enabled = false;
+
+        // NAT 뒤 여러 사용자를 고려해 IP 한도는 클라이언트 한도보다 넉넉하게
+        private Quota perIp = new Quota(50.0, 200);
+        private Quota perClient = new Quota(5.0, 20);
+
+        // Redis 한 번에 받아 오는 토큰 수와 받아 온 토큰의 유효 시간
+        // 노드 N개가 동시에 리스를 쥐면 순간 초과분은 최대 N × leaseSize
+        private int leaseSize = 5;
+        private long leaseTtlMs = 1_000;
+
+        // Redis 호출이 실패하면 이 시간 동안 노드 로컬 한도로 대체
+        private long redisRetryMs = 5_000;
+
+        private String keyPrefix = "ratelimit";
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Quota getPerIp() {
+            return perIp;
+        }
+
+        public void setPerIp(Quota perIp) {
+            this.perIp = perIp;
+        }
+
+        public Quota getPerClient() {
+            return perClient;
+        }
+
+        public void setPerClient(Quota perClient) {
+            this.perClient = perClient;
+        }
+
+        public int getLeaseSize() {
+            return leaseSize;
+        }
+
+        public void setLeaseSize(int leaseSize) {
+            this.leaseSize = leaseSize;
+        }
+
+        public long getLeaseTtlMs() {
+            return leaseTtlMs;
+        }
+
+        public void setLeaseTtlMs(long leaseTtlMs) {
+            this.leaseTtlMs = leaseTtlMs;
+        }
+
+        public long getRedisRetryMs() {
+            return redisRetryMs;
+        }
+
+        public void setRedisRetryMs(long redisRetryMs) {
+            this.redisRetryMs = redisRetryMs;
+        }
+
+        public String getKeyPrefix() {
+            return keyPrefix;
+        }
+
+        public void setKeyPrefix(String keyPrefix) {
+            this.keyPrefix = keyPrefix;
+        }
+    }
+
+    public static class Quota {
+
+        private double ratePerSecond;
+        private int burst;
+
+        public Quota() {
+        }
+
+        public Quota(double ratePerSecond, int burst) {
+            this.ratePerSecond = ratePerSecond;
+            this.burst = burst;
+        }
+
+        public double getRatePerSecond() {
+            return ratePerSecond;
+        }
+
+        public void setRatePerSecond(double ratePerSecond) {
+            this.ratePerSecond = ratePerSecond;
+        }
+
+        public int getBurst() {
+            return burst;
+        }
+
+        public void setBurst(int burst) {
+            this.burst = burst;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.crypto.prayer.adapter.in.websocket.ratelimit;
+
+import com.crypto.prayer.adapter.in.websocket.dto.ErrorResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 레이트 리밋 거부 경로
+ * 예외나 응답 객체 생성 없이 거부 건수만 세고, 에러 응답은 세션당 errorReplyIntervalMs에 한 번만 보낸다.
+ * 마지막 응답 시각은 세션 속성에 두므로 세션이 닫히면 함께 사라진다.
+ */
+@Component
+public class RateLimitRejections {
+
+    private static final Logger log = LoggerFactory.getLogger(RateLimitRejections.class);
+
+    static final String LAST_REPLY_ATTRIBUTE = "rateLimit.lastErrorReplyAt";
+    private static final String ERRORS_DESTINATION = "/queue/errors";
+    private static final String USER_PREFIX = "/user/";
+
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final LongSupplier nanoClock;
+    private final long replyIntervalNanos;
+
+    // 모든 세션이 공유하는 직렬화된 STOMP 에러 본문
+    private final byte[] stompErrorPayload;
+
+    private final Counter stompRejected;
+    private final Counter binaryRejected;
+
+    // 인바운드 채널 설정과 메시징 템플릿 사이의 순환 의존을 피하기 위해 지연 주입
+    @Autowired
+    public RateLimitRejections(
+            RateLimitConfig config,
+            ObjectMapper objectMapper,
+            @Lazy SimpMessageSendingOperations messagingTemplate,
+            MeterRegistry meterRegistry) {
+        this(config, objectMapper, messagingTemplate, meterRegistry, System::nanoTime);
+    }
+
+    public RateLimitRejections(
+            RateLimitConfig config,
+            ObjectMapper objectMapper,
+            SimpMessageSendingOperations messagingTemplate,
+            MeterRegistry meterRegistry,
+            LongSupplier nanoClock) {
+        this.messagingTemplate = messagingTemplate;
+        this.nanoClock = nanoClock;
+        this.replyIntervalNanos = TimeUnit.MILLISECONDS.toNanos(config.getErrorReplyIntervalMs());
+        try {
+            this.stompErrorPayload = objectMapper.writeValueAsBytes(new ErrorResponse(
+                ErrorResponse.RATE_LIMIT_EXCEEDED, "Too many requests. Please slow down."));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to encode rate limit error", e);
+        }
+        this.stompRejected = rejected(meterRegistry, "stomp");
+        this.binaryRejected = rejected(meterRegistry, "binary");
+    }
+
+    /**
+     * STOMP 거부: 응답 창이 열려 있으면 공유 본문으로 /user/queue/errors에 보낸다
+     */
+    public void rejectStomp(String sessionId, Map<String, Object> sessionAttributes) {
+        stompRejected.increment();
+        if (sessionId == null || !claimReply(sessionAttributes)) {
+            return;
+        }
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        try {
+            // send는 변환을 거치지 않으므로 바이트 배열이 그대로 프레임 본문이 된다
+            messagingTemplate.send(
+                USER_PREFIX + sessionId + ERRORS_DESTINATION,
+                MessageBuilder.createMessage(stompErrorPayload, accessor.getMessageHeaders()));
+        } catch (Exception e) {
+            log.debug("Failed to send rate limit error to session {}: {}", sessionId, e.getMessage());
+        }
+    }
+
+    /**
+     * 바이너리 거부
+     * @return 에러 프레임을 보내야 하면 true (프레임은 호출자가 미리 인코딩해 둔 것을 쓴다)
+     */
+    public boolean rejectBinary(Map<String, Object> sessionAttributes) {
+        binaryRejected.increment();
+        return claimReply(sessionAttributes);
+    }
+
+    private boolean claimReply(Map<String, Object> sessionAttributes) {
+        if (sessionAttributes == null) {
+            return false;
+        }
+        long now = nanoClock.getAsLong();
+        AtomicLong lastReply = (AtomicLong) sessionAttributes.computeIfAbsent(
+            LAST_REPLY_ATTRIBUTE, key -> new AtomicLong(now - replyIntervalNanos));
+        long previous = lastReply.get();
+        return now - previous >= replyIntervalNanos && lastReply.compareAndSet(previous, now);
+    }
+
+    private static Counter rejected(MeterRegistry meterRegistry, String endpoint) {
+        return Counter.builder("websocket.ratelimit.rejected")
+            .description("Prayer messages rejected by the rate limiter")
+            .tag("endpoint", endpoint)
+            .register(meterRegistry);
+    }
+}
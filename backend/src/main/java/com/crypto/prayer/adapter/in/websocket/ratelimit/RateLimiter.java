@@ -9,6 +9,15 @@ public interface RateLimiter {
      */
     boolean tryConsume(String clientId);
 
+    /**
+     * 세션·IP·클라이언트 ID 기준 토큰 소비 시도 (기본 구현은 세션 단위만 센다)
+     * @param identity 핸드셰이크 때 수집한 식별자
+     * @return 성공 여부
+     */
+    default boolean tryConsume(ClientIdentity identity) {
+        return tryConsume(identity.sessionId());
+    }
+
     /**
      * 클라이언트 제거 (연결 해제 시)
      * @param clientId 클라이언트 식별자
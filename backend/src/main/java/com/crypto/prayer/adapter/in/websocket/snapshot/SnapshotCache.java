@@ -0,0 +1,102 @@
+package com.crypto.prayer.adapter.in.websocket.snapshot;
+
+import com.crypto.prayer.adapter.in.websocket.dto.LiquidationLeaderboardMessage;
+import com.crypto.prayer.adapter.in.websocket.dto.LiquidationMessage;
+import com.crypto.prayer.adapter.in.websocket.dto.LiquidationSummaryMessage;
+import com.crypto.prayer.adapter.in.websocket.dto.PrayerResponse;
+import com.crypto.prayer.adapter.in.websocket.dto.SnapshotMessage;
+import com.crypto.prayer.adapter.in.websocket.dto.TickerMessage;
+import com.crypto.prayer.adapter.out.binance.BinanceConfig;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 마지막으로 브로드캐스트한 값 보관 (새 구독자 스냅샷용)
+ * 브로드캐스트 경로에서 갱신하므로 조회 시 Redis나 바이낸스를 다시 거치지 않는다.
+ */
+@Component
+public class SnapshotCache {
+
+    private final SnapshotConfig config;
+    private final BinanceConfig binanceConfig;
+
+    private final ConcurrentHashMap<String, TickerMessage> tickers = new ConcurrentHashMap<>();
+    private final ArrayDeque<LiquidationMessage> liquidations = new ArrayDeque<>();
+
+    private volatile PrayerResponse prayer;
+    private volatile LiquidationSummaryMessage liquidationSummary;
+    private volatile LiquidationLeaderboardMessage liquidationLeaderboard;
+
+    public SnapshotCache(SnapshotConfig config, BinanceConfig binanceConfig) {
+        this.config = config;
+        this.binanceConfig = binanceConfig;
+    }
+
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    public void updatePrayer(PrayerResponse prayer) {
+        this.prayer = prayer;
+    }
+
+    public void updateTicker(TickerMessage ticker) {
+        tickers.put(ticker.symbol(), ticker);
+    }
+
+    public void addLiquidation(LiquidationMessage liquidation) {
+        addLiquidations(List.of(liquidation));
+    }
+
+    public void addLiquidations(List<LiquidationMessage> batch) {
+        int limit = config.getLiquidationCount();
+        if (limit <= 0) {
+            return;
+        }
+        synchronized (liquidations) {
+            for (LiquidationMessage liquidation : batch) {
+                if (liquidations.size() == limit) {
+                    liquidations.pollFirst();
+                }
+                liquidations.addLast(liquidation);
+            }
+        }
+    }
+
+    public void updateLiquidationSummary(LiquidationSummaryMessage summary) {
+        this.liquidationSummary = summary;
+    }
+
+    public void updateLiquidationLeaderboard(LiquidationLeaderboardMessage leaderboard) {
+        this.liquidationLeaderboard = leaderboard;
+    }
+
+    public SnapshotMessage snapshot() {
+        List<TickerMessage> tickerList = new ArrayList<>(tickers.values());
+        tickerList.sort(Comparator.comparing(TickerMessage::symbol));
+
+        List<LiquidationMessage> recent;
+        synchronized (liquidations) {
+            recent = List.copyOf(liquidations);
+        }
+
+        return SnapshotMessage.of(
+            prayer,
+            primaryTicker(),
+            tickerList,
+            recent,
+            liquidationSummary,
+            liquidationLeaderboard
+        );
+    }
+
+    private TickerMessage primaryTicker() {
+        String primarySymbol = binanceConfig.getPrimarySymbol();
+        return primarySymbol != null ? tickers.get(primarySymbol) : null;
+    }
+}
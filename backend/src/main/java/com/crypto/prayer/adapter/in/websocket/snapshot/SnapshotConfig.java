@@ -0,0 +1,30 @@
+package com.crypto.prayer.adapter.in.websocket.snapshot;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "websocket.snapshot")
+public class SnapshotConfig {
+
+    private boolean enabled = true;
+
+    // 스냅샷에 담을 최근 청산 수
+    private int liquidationCount = 20;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getLiquidationCount() {
+        return liquidationCount;
+    }
+
+    public void setLiquidationCount(int liquidationCount) {
+        this.liquidationCount = liquidationCount;
+    }
+}
@@ -0,0 +1,73 @@
+package com.crypto.prayer.adapter.in.websocket.snapshot;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.user.UserDestinationMessageHandler;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+/**
+ * SUBSCRIBE /user/queue/snapshot 직후 해당 세션에만 현재 상태를 1회 전송
+ * SessionSubscribeEvent는 브로커가 구독을 등록하기 전에 발행될 수 있으므로,
+ * 사용자 목적지 핸들러가 구독을 브로커에 넘긴 뒤(afterMessageHandled)에 보낸다.
+ */
+@Component
+public class SnapshotOnSubscribeInterceptor implements ExecutorChannelInterceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(SnapshotOnSubscribeInterceptor.class);
+
+    public static final String SNAPSHOT_DESTINATION = "/user/queue/snapshot";
+    private static final String USER_SNAPSHOT_QUEUE = "/queue/snapshot";
+
+    private final SnapshotCache snapshotCache;
+    private final SimpMessageSendingOperations messagingTemplate;
+
+    // 인바운드 채널 설정과 메시징 템플릿 사이의 순환 의존을 피하기 위해 지연 주입
+    public SnapshotOnSubscribeInterceptor(
+            SnapshotCache snapshotCache,
+            @Lazy SimpMessageSendingOperations messagingTemplate) {
+        this.snapshotCache = snapshotCache;
+        this.messagingTemplate = messagingTemplate;
+    }
+
+    @Override
+    public void afterMessageHandled(
+            Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        if (ex != null || !(handler instanceof UserDestinationMessageHandler) || !snapshotCache.isEnabled()) {
+            return;
+        }
+        if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.SUBSCRIBE
+                || !SNAPSHOT_DESTINATION.equals(SimpMessageHeaderAccessor.getDestination(message.getHeaders()))) {
+            return;
+        }
+
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        if (sessionId == null) {
+            return;
+        }
+        try {
+            messagingTemplate.convertAndSendToUser(
+                sessionId, USER_SNAPSHOT_QUEUE, snapshotCache.snapshot(), sessionHeaders(sessionId));
+        } catch (Exception e) {
+            log.warn("Failed to send snapshot to session {}: {}", sessionId, e.getMessage());
+        }
+    }
+
+    /**
+     * Principal 없이 세션 단위로 보내기 위해 세션 ID 헤더를 붙인다
+     */
+    private static MessageHeaders sessionHeaders(String sessionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        accessor.setLeaveMutable(true);
+        return accessor.getMessageHeaders();
+    }
+}
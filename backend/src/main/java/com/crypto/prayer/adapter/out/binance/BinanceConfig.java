@@ -3,6 +3,9 @@ package com.crypto.prayer.adapter.out.binance;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Configuration
 @ConfigurationProperties(prefix = "binance")
 public class BinanceConfig {
@@ -13,6 +16,21 @@ public class BinanceConfig {
     private int reconnectInitialDelayMs = 1000;
     private int reconnectMaxDelayMs = 30000;
 
+    // 한 번에 요청하는 수신 메시지 수 (WebSocket.request(n)), 절반 이하로 줄면 다시 채운다
+    private int requestWindow = 16;
+
+    // HttpClient 비동기 작업/리스너 콜백 실행 스레드 수
+    private int httpClientThreads = 2;
+
+    // 재연결 예약 스케줄러 스레드 수
+    private int reconnectThreads = 2;
+
+    // 티커를 받을 심볼 (첫 번째가 대표 심볼, 단일 스트림 모드에서는 tickerStreamUrl 사용)
+    private List<String> symbols = new ArrayList<>(List.of("BTCUSDT"));
+
+    // /stream?streams=a/b/c 결합 스트림 모드
+    private Combined combined = new Combined();
+
     public String getLiquidationStreamUrl() {
         return liquidationStreamUrl;
     }
@@ -44,4 +62,134 @@ public class BinanceConfig {
     public void setReconnectMaxDelayMs(int reconnectMaxDelayMs) {
         this.reconnectMaxDelayMs = reconnectMaxDelayMs;
     }
+
+    public int getRequestWindow() {
+        return requestWindow;
+    }
+
+    public void setRequestWindow(int requestWindow) {
+        this.requestWindow = requestWindow;
+    }
+
+    public int getHttpClientThreads() {
+        return httpClientThreads;
+    }
+
+    public void setHttpClientThreads(int httpClientThreads) {
+        this.httpClientThreads = httpClientThreads;
+    }
+
+    public int getReconnectThreads() {
+        return reconnectThreads;
+    }
+
+    public void setReconnectThreads(int reconnectThreads) {
+        this.reconnectThreads = reconnectThreads;
+    }
+
+    public List<String> getSymbols() {
+        return symbols;
+    }
+
+    public void setSymbols(List<String> symbols) {
+        this.symbols = symbols;
+    }
+
+    /**
+     * 대표 심볼 (대문자)
+     * 항상 수신하고 /topic/ticker·바이너리 엔드포인트·스냅샷의 대표 티커로도 쓰는 유일한 설정이다.
+     */
+    public String getPrimarySymbol() {
+        return symbols.isEmpty() ? null : symbols.get(0).toUpperCase();
+    }
+
+    public boolean isPrimarySymbol(String symbol) {
+        return symbol != null && symbol.equalsIgnoreCase(getPrimarySymbol());
+    }
+
+    public Combined getCombined() {
+        return combined;
+    }
+
+    public void setCombined(Combined combined) {
+        this.combined = combined;
+    }
+
+    public static class Combined {
+
+        private boolean enabled = false;
+
+        private String baseUrl = "wss://fstream.binance.com/stream";
+
+        // 전체 시장 청산 스트림(!forceOrder@arr)도 같은 연결로 받는다
+        private boolean liquidations = true;
+
+        // 연결 하나에 묶을 최대 스트림 수 (바이낸스 선물 제한 200), 넘으면 연결을 나눈다
+        private int maxStreamsPerConnection = 200;
+
+        // 대표 심볼과 청산만 시작 시 구독하고, 나머지 심볼은 로컬 구독이 있을 때만 SUBSCRIBE
+        private boolean demandDriven = false;
+
+        // 마지막 로컬 구독이 사라진 뒤 UNSUBSCRIBE까지 기다리는 시간 (심볼 전환 churn 흡수)
+        private long unsubscribeDelayMs = 10_000;
+
+        // 구독 변경을 모아 SUBSCRIBE/UNSUBSCRIBE 한 번씩으로 보내는 주기 (바이낸스 수신 메시지 제한 대응)
+        private long subscriptionFlushIntervalMs = 250;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getBaseUrl() {
+            return baseUrl;
+        }
+
+        public void setBaseUrl(String baseUrl) {
+            this.baseUrl = baseUrl;
+        }
+
+        public boolean isLiquidations() {
+            return liquidations;
+        }
+
+        public void setLiquidations(boolean liquidations) {
+            this.liquidations = liquidations;
+        }
+
+        public int getMaxStreamsPerConnection() {
+            return maxStreamsPerConnection;
+        }
+
+        public void setMaxStreamsPerConnection(int maxStreamsPerConnection) {
+            this.maxStreamsPerConnection = maxStreamsPerConnection;
+        }
+
+        public boolean isDemandDriven() {
+            return demandDriven;
+        }
+
+        public void setDemandDriven(boolean demandDriven) {
+            this.demandDriven = demandDriven;
+        }
+
+        public long getUnsubscribeDelayMs() {
+            return unsubscribeDelayMs;
+        }
+
+        public void setUnsubscribeDelayMs(long unsubscribeDelayMs) {
+            this.unsubscribeDelayMs = unsubscribeDelayMs;
+        }
+
+        public long getSubscriptionFlushIntervalMs() {
+            return subscriptionFlushIntervalMs;
+        }
+
+        public void setSubscriptionFlushIntervalMs(long subscriptionFlushIntervalMs) {
+            this.subscriptionFlushIntervalMs = subscriptionFlushIntervalMs;
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package com.crypto.prayer.adapter.out.binance;
 
+import com.crypto.prayer.adapter.out.binance.ingest.MarketDataIngest;
 import com.crypto.prayer.adapter.out.binance.reconnect.ExponentialBackoff;
 import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
@@ -11,6 +12,7 @@ import java.net.http.HttpClient;
 import java.net.http.WebSocket;
 import java.time.Duration;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 @Component
@@ -18,33 +20,61 @@ public class BinanceWebSocketClient {
 
     private static final Logger log = LoggerFactory.getLogger(BinanceWebSocketClient.class);
 
+    private static final long SEND_TIMEOUT_SECONDS = 5;
+
     private final BinanceConfig config;
+    private final MarketDataIngest ingest;
+    private final ExecutorService httpExecutor;
     private final HttpClient httpClient;
     private final ScheduledExecutorService scheduler;
     private final ConcurrentHashMap<String, WebSocketConnection> connections;
 
-    public BinanceWebSocketClient(BinanceConfig config) {
+    public BinanceWebSocketClient(BinanceConfig config, MarketDataIngest ingest) {
         this.config = config;
+        this.ingest = ingest;
+        this.httpExecutor = Executors.newFixedThreadPool(
+            Math.max(1, config.getHttpClientThreads()), namedDaemonThreads("binance-http"));
         this.httpClient = HttpClient.newBuilder()
             .connectTimeout(Duration.ofSeconds(10))
+            .executor(httpExecutor)
             .build();
-        this.scheduler = Executors.newScheduledThreadPool(2);
+        this.scheduler = Executors.newScheduledThreadPool(
+            Math.max(1, config.getReconnectThreads()), namedDaemonThreads("binance-reconnect"));
         this.connections = new ConcurrentHashMap<>();
     }
 
     @PreDestroy
     public void destroy() {
         connections.values().forEach(WebSocketConnection::close);
+        connections.keySet().forEach(ingest::detach);
         scheduler.shutdown();
+        httpExecutor.shutdown();
         log.info("BinanceWebSocketClient destroyed");
     }
 
+    private static ThreadFactory namedDaemonThreads(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
     /**
      * 스트림 연결
+     * 수신 큐가 켜져 있으면 핸들러는 리스너 스레드가 아닌 스트림 전용 소비 스레드에서 호출된다.
      */
-    public void connect(String streamName, String url, Consumer<String> messageHandler) {
+    public void connect(String streamName, String url, Consumer<CharSequence> messageHandler) {
+        connect(streamName, url, messageHandler, () -> { });
+    }
+
+    /**
+     * 스트림 연결 (onConnected는 최초 연결과 재연결마다 호출)
+     */
+    public void connect(String streamName, String url, Consumer<CharSequence> messageHandler, Runnable onConnected) {
         WebSocketConnection connection = new WebSocketConnection(
-            streamName, url, messageHandler);
+            streamName, url, ingest.attach(streamName, messageHandler), onConnected);
         connections.put(streamName, connection);
         connection.connect();
     }
@@ -57,6 +87,16 @@ public class BinanceWebSocketClient {
         if (connection != null) {
             connection.close();
         }
+        ingest.detach(streamName);
+    }
+
+    /**
+     * 연결된 스트림으로 텍스트 메시지 전송 (SUBSCRIBE/UNSUBSCRIBE 등)
+     * @return 연결되어 있지 않거나 전송에 실패하면 false
+     */
+    public boolean send(String streamName, String text) {
+        WebSocketConnection connection = connections.get(streamName);
+        return connection != null && connection.send(text);
     }
 
     /**
@@ -71,24 +111,35 @@ public class BinanceWebSocketClient {
 
         private final String streamName;
         private final String url;
-        private final Consumer<String> messageHandler;
+        private final Consumer<CharSequence> messageHandler;
+        private final Runnable onConnected;
         private final ExponentialBackoff backoff;
-        private final StringBuilder messageBuffer;
+        private final FrameAssembler frameAssembler;
+        private final int requestWindow;
+
+        // 남은 수신 요청 수 (리스너 호출은 순차적)
+        private int outstanding;
 
         private volatile WebSocket webSocket;
         private volatile boolean closed = false;
         private volatile boolean connected = false;
 
-        WebSocketConnection(String streamName, String url, Consumer<String> messageHandler) {
+        WebSocketConnection(
+                String streamName,
+                String url,
+                Consumer<CharSequence> messageHandler,
+                Runnable onConnected) {
             this.streamName = streamName;
             this.url = url;
             this.messageHandler = messageHandler;
+            this.onConnected = onConnected;
             this.backoff = new ExponentialBackoff(
                 config.getReconnectInitialDelayMs(),
                 config.getReconnectMaxDelayMs(),
                 2.0, 0.1
             );
-            this.messageBuffer = new StringBuilder();
+            this.frameAssembler = new FrameAssembler();
+            this.requestWindow = Math.max(1, config.getRequestWindow());
         }
 
         void connect() {
@@ -104,6 +155,7 @@ public class BinanceWebSocketClient {
                     this.connected = true;
                     backoff.reset();
                     log.info("Connected to {} stream", streamName);
+                    notifyConnected();
                 })
                 .exceptionally(ex -> {
                     log.error("Failed to connect to {} stream: {}",
@@ -125,6 +177,34 @@ public class BinanceWebSocketClient {
             return connected;
         }
 
+        private void notifyConnected() {
+            try {
+                onConnected.run();
+            } catch (RuntimeException e) {
+                log.error("{} connected callback failed: {}", streamName, e.getMessage());
+            }
+        }
+
+        /**
+         * 이전 전송이 끝나기 전에 sendText를 다시 부르면 안 되므로 연결 단위로 직렬화한다
+         */
+        synchronized boolean send(String text) {
+            WebSocket ws = webSocket;
+            if (!connected || ws == null) {
+                return false;
+            }
+            try {
+                ws.sendText(text, true).get(SEND_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            } catch (ExecutionException | TimeoutException e) {
+                log.warn("Failed to send to {} stream: {}", streamName, e.getMessage());
+                return false;
+            }
+        }
+
         private void scheduleReconnect() {
             if (closed) return;
 
@@ -138,26 +218,25 @@ public class BinanceWebSocketClient {
         @Override
         public void onOpen(WebSocket webSocket) {
             log.debug("{} WebSocket opened", streamName);
-            webSocket.request(1);
+            frameAssembler.reset();
+            outstanding = requestWindow;
+            webSocket.request(requestWindow);
         }
 
         @Override
         public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
-            messageBuffer.append(data);
-
-            if (last) {
-                String message = messageBuffer.toString();
-                messageBuffer.setLength(0);
-
-                try {
-                    messageHandler.accept(message);
-                } catch (Exception e) {
-                    log.error("Error processing {} message: {}",
-                        streamName, e.getMessage());
-                }
+            try {
+                frameAssembler.accept(data, last, messageHandler);
+            } catch (Exception e) {
+                log.error("Error processing {} message: {}",
+                    streamName, e.getMessage());
             }
 
-            webSocket.request(1);
+            // 요청 윈도우가 절반 이하로 줄면 한 번에 다시 채운다
+            if (--outstanding <= requestWindow / 2) {
+                webSocket.request(requestWindow - outstanding);
+                outstanding = requestWindow;
+            }
             return null;
         }
 
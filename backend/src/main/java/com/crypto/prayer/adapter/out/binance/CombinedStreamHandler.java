@@ -0,0 +1,122 @@
+package com.crypto.prayer.adapter.out.binance;
+
+import com.crypto.prayer.adapter.out.binance.decode.BinanceEventDecoder;
+import com.crypto.prayer.adapter.out.binance.decode.LiquidationEvent;
+import com.crypto.prayer.adapter.out.binance.decode.TickerEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 결합 스트림(/stream?streams=a/b/c) 연결
+ * 설정된 심볼들의 티커와 전체 시장 청산을 하나(스트림 수가 많으면 여러 개)의 연결로 받고,
+ * 봉투의 stream 이름으로 티커/청산 핸들러에 나눠 준다. data는 봉투를 읽으며 한 번에 디코딩한다.
+ * 수요 기반 모드에서는 대표 심볼과 청산만 URL로 구독하고 나머지는 TickerDemandSubscriber가 관리한다.
+ */
+@Component
+public class CombinedStreamHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(CombinedStreamHandler.class);
+
+    static final String LIQUIDATION_STREAM = "!forceOrder@arr";
+    private static final String CONNECTION_PREFIX = "combined-";
+
+    private final BinanceWebSocketClient webSocketClient;
+    private final BinanceConfig config;
+    private final ObjectMapper objectMapper;
+    private final TickerDemandSubscriber demandSubscriber;
+    private final Consumer<TickerEvent> tickerConsumer;
+    private final Consumer<LiquidationEvent> liquidationConsumer;
+
+    public CombinedStreamHandler(
+            BinanceWebSocketClient webSocketClient,
+            BinanceConfig config,
+            TickerStreamHandler tickerStreamHandler,
+            LiquidationStreamHandler liquidationStreamHandler,
+            TickerDemandSubscriber demandSubscriber,
+            ObjectMapper objectMapper) {
+        this.webSocketClient = webSocketClient;
+        this.config = config;
+        this.objectMapper = objectMapper;
+        this.demandSubscriber = demandSubscriber;
+        this.tickerConsumer = tickerStreamHandler::onTicker;
+        this.liquidationConsumer = liquidationStreamHandler::onLiquidation;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!config.getCombined().isEnabled()) {
+            return;
+        }
+
+        List<List<String>> shards = shard(streamNames(), config.getCombined().getMaxStreamsPerConnection());
+        for (int i = 0; i < shards.size(); i++) {
+            // 연결마다 소비 스레드가 따로이므로 디코더(재사용 홀더)도 연결마다 둔다
+            BinanceEventDecoder decoder = new BinanceEventDecoder(objectMapper.getFactory());
+            String connectionName = connectionName(i);
+            webSocketClient.connect(
+                connectionName,
+                buildUrl(config.getCombined().getBaseUrl(), shards.get(i)),
+                message -> handleMessage(decoder, message),
+                () -> demandSubscriber.onConnected(connectionName)
+            );
+        }
+        log.info("Combined stream handler started: {} streams over {} connection(s)",
+            shards.stream().mapToInt(List::size).sum(), shards.size());
+    }
+
+    public void handleMessage(BinanceEventDecoder decoder, CharSequence message) {
+        try {
+            decoder.forEachCombined(message, tickerConsumer, liquidationConsumer);
+        } catch (Exception e) {
+            log.error("Failed to parse combined stream message: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 구독할 스트림 이름 (티커는 소문자 심볼 + @ticker)
+     */
+    List<String> streamNames() {
+        List<String> streams = new ArrayList<>();
+        if (config.getCombined().isDemandDriven()) {
+            if (config.getPrimarySymbol() != null) {
+                streams.add(tickerStream(config.getPrimarySymbol()));
+            }
+        } else {
+            for (String symbol : config.getSymbols()) {
+                streams.add(tickerStream(symbol));
+            }
+        }
+        if (config.getCombined().isLiquidations()) {
+            streams.add(LIQUIDATION_STREAM);
+        }
+        return streams;
+    }
+
+    static String tickerStream(String symbol) {
+        return symbol.toLowerCase() + "@ticker";
+    }
+
+    static String connectionName(int shard) {
+        return CONNECTION_PREFIX + shard;
+    }
+
+    static List<List<String>> shard(List<String> streams, int maxStreamsPerConnection) {
+        int size = Math.max(1, maxStreamsPerConnection);
+        List<List<String>> shards = new ArrayList<>();
+        for (int from = 0; from < streams.size(); from += size) {
+            shards.add(List.copyOf(streams.subList(from, Math.min(from + size, streams.size()))));
+        }
+        return shards;
+    }
+
+    static String buildUrl(String baseUrl, List<String> streams) {
+        return baseUrl + "?streams=" + String.join("/", streams);
+    }
+}
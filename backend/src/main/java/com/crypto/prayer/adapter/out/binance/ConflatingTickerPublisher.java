@@ -0,0 +1,177 @@
+package com.crypto.prayer.adapter.out.binance;
+
+import com.crypto.prayer.adapter.in.websocket.dto.TickerMessage;
+import com.crypto.prayer.application.port.out.BroadcastPort;
+import com.crypto.prayer.domain.model.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * 최신값 병합(conflation) 티커 발행기
+ * 업스트림 스레드는 심볼별 최신 Ticker만 덮어쓰고, 전송은 별도 스레드가 emitIntervalMs마다 수행한다.
+ * 팬아웃 비용이 업스트림 수신 속도가 아니라 전송 주기에 비례하도록 한다.
+ */
+@Component
+public class ConflatingTickerPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(ConflatingTickerPublisher.class);
+
+    private final BroadcastPort broadcastPort;
+    private final TickerConflationConfig config;
+    private final LongSupplier clock;
+
+    private final ConcurrentHashMap<String, Slot> slots = new ConcurrentHashMap<>();
+
+    // 전송 전에 더 새로운 값으로 덮어쓴 횟수
+    private final Counter conflatedCounter;
+    // dead-band 안이라 전송을 생략한 횟수
+    private final Counter droppedCounter;
+    private final Counter emittedCounter;
+
+    private ScheduledExecutorService scheduler;
+
+    @Autowired
+    public ConflatingTickerPublisher(
+            BroadcastPort broadcastPort,
+            TickerConflationConfig config,
+            MeterRegistry meterRegistry) {
+        this(broadcastPort, config, meterRegistry, System::currentTimeMillis);
+    }
+
+    public ConflatingTickerPublisher(
+            BroadcastPort broadcastPort,
+            TickerConflationConfig config,
+            MeterRegistry meterRegistry,
+            LongSupplier clock) {
+        this.broadcastPort = broadcastPort;
+        this.config = config;
+        this.clock = clock;
+
+        this.conflatedCounter = Counter.builder("binance.ticker.conflated")
+            .description("Ticker updates overwritten before emit")
+            .register(meterRegistry);
+        this.droppedCounter = Counter.builder("binance.ticker.deadband.dropped")
+            .description("Ticker updates skipped inside the price dead-band")
+            .register(meterRegistry);
+        this.emittedCounter = Counter.builder("binance.ticker.emitted")
+            .description("Ticker updates broadcast to clients")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!config.isEnabled()) {
+            return;
+        }
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ticker-conflation");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(
+            this::emitQuietly,
+            config.getEmitIntervalMs(),
+            config.getEmitIntervalMs(),
+            TimeUnit.MILLISECONDS
+        );
+        log.info("Ticker conflation started: interval={}ms, deadBand={}bp",
+            config.getEmitIntervalMs(), config.getDeadBandBps());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    /**
+     * 업스트림 스레드에서 호출: 심볼별 최신값만 보관
+     */
+    public void offer(Ticker ticker) {
+        Slot slot = slots.computeIfAbsent(ticker.symbol(), symbol -> new Slot());
+        if (slot.pending.getAndSet(ticker) != null) {
+            conflatedCounter.increment();
+        }
+    }
+
+    /**
+     * 심볼별 대기 중인 최신 티커 전송
+     */
+    public void emit() {
+        long now = clock.getAsLong();
+        for (Slot slot : slots.values()) {
+            Ticker ticker = slot.pending.getAndSet(null);
+            if (ticker == null) {
+                continue;
+            }
+
+            if (withinDeadBand(slot, ticker, now)) {
+                droppedCounter.increment();
+                continue;
+            }
+
+            broadcastPort.broadcastTicker(TickerMessage.of(
+                ticker.symbol(),
+                ticker.price(),
+                ticker.priceChange24h()
+            ));
+            slot.lastEmittedPrice = ticker.price();
+            slot.lastEmittedAtMs = now;
+            emittedCounter.increment();
+        }
+    }
+
+    public long getConflatedCount() {
+        return (long) conflatedCounter.count();
+    }
+
+    public long getDroppedCount() {
+        return (long) droppedCounter.count();
+    }
+
+    private boolean withinDeadBand(Slot slot, Ticker ticker, long now) {
+        if (config.getDeadBandBps() <= 0 || Double.isNaN(slot.lastEmittedPrice)) {
+            return false;
+        }
+        if (now - slot.lastEmittedAtMs >= config.getMaxSilenceMs()) {
+            return false;
+        }
+        double movedBps = Math.abs(ticker.price() - slot.lastEmittedPrice) / slot.lastEmittedPrice * 10_000;
+        return movedBps < config.getDeadBandBps();
+    }
+
+    private void emitQuietly() {
+        try {
+            emit();
+        } catch (Exception e) {
+            log.warn("Ticker emit failed: {}", e.getMessage());
+        }
+    }
+
+    private static class Slot {
+        private final AtomicReference<Ticker> pending = new AtomicReference<>();
+
+        // emit 스레드 전용
+        private double lastEmittedPrice = Double.NaN;
+        private long lastEmittedAtMs;
+    }
+}
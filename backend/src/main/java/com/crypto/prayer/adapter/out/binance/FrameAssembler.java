@@ -0,0 +1,50 @@
+package com.crypto.prayer.adapter.out.binance;
+
+import java.util.function.Consumer;
+
+/**
+ * WebSocket 텍스트 조각을 메시지로 조립
+ * - 단일 조각 메시지는 받은 CharSequence를 복사 없이 그대로 넘긴다
+ * - 여러 조각 메시지는 연결마다 재사용하는 버퍼에 모아서 넘긴다
+ * 넘긴 CharSequence는 콜백 안에서만 유효하다 (반환 후 버퍼/원본이 재사용됨).
+ * 한 연결의 리스너 호출은 순차적이므로 동기화하지 않는다.
+ */
+final class FrameAssembler {
+
+    private static final int INITIAL_CAPACITY = 4 * 1024;
+
+    // 큰 메시지 한 번으로 커진 버퍼를 계속 붙잡지 않도록 이 크기를 넘으면 새로 만든다
+    private static final int MAX_RETAINED_CAPACITY = 256 * 1024;
+
+    private StringBuilder buffer = new StringBuilder(INITIAL_CAPACITY);
+
+    void accept(CharSequence fragment, boolean last, Consumer<CharSequence> handler) {
+        if (last && buffer.isEmpty()) {
+            handler.accept(fragment);
+            return;
+        }
+
+        buffer.append(fragment);
+        if (!last) {
+            return;
+        }
+
+        try {
+            handler.accept(buffer);
+        } finally {
+            reset();
+        }
+    }
+
+    void reset() {
+        if (buffer.capacity() > MAX_RETAINED_CAPACITY) {
+            buffer = new StringBuilder(INITIAL_CAPACITY);
+        } else {
+            buffer.setLength(0);
+        }
+    }
+
+    int retainedCapacity() {
+        return buffer.capacity();
+    }
+}
@@ -0,0 +1,52 @@
+package com.crypto.prayer.adapter.out.binance;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "binance.liquidation-batch")
+public class LiquidationBatchConfig {
+
+    private boolean enabled = false;
+
+    // 첫 청산 수신 후 묶음을 전송하기까지의 시간
+    private long windowMs = 100;
+
+    // 윈도우 도중이라도 이 개수가 모이면 즉시 전송
+    private int maxBatchSize = 50;
+
+    // 대형 청산은 윈도우를 건너뛰고 즉시 전송
+    private boolean largeBypass = true;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getWindowMs() {
+        return windowMs;
+    }
+
+    public void setWindowMs(long windowMs) {
+        this.windowMs = windowMs;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public boolean isLargeBypass() {
+        return largeBypass;
+    }
+
+    public void setLargeBypass(boolean largeBypass) {
+        this.largeBypass = largeBypass;
+    }
+}
@@ -0,0 +1,178 @@
+package com.crypto.prayer.adapter.out.binance;
+
+import com.crypto.prayer.adapter.in.websocket.dto.LiquidationBatchMessage;
+import com.crypto.prayer.adapter.in.websocket.dto.LiquidationMessage;
+import com.crypto.prayer.application.port.out.BroadcastPort;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 청산 윈도우 배칭
+ * 캐스케이드 중 몰려오는 청산을 windowMs 또는 maxBatchSize 단위로 모아
+ * 한 번의 브로드캐스트로 보낸다. 대형 청산은 설정에 따라 윈도우를 건너뛴다.
+ */
+@Component
+public class LiquidationBatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(LiquidationBatcher.class);
+
+    private final BroadcastPort broadcastPort;
+    private final LiquidationBatchConfig config;
+    private final DistributionSummary batchSizeSummary;
+
+    private static final long ANY_WINDOW = -1;
+
+    private final Object lock = new Object();
+    // 윈도우 교체부터 전송까지 묶어 타이머 flush와 크기 flush가 윈도우 순서대로 나가게 한다
+    private final Object sendLock = new Object();
+    private List<LiquidationMessage> buffer = new ArrayList<>();
+    // 현재 윈도우 번호와 그 윈도우의 flush 예약 (lock으로 보호)
+    private long windowId;
+    private ScheduledFuture<?> windowTimer;
+
+    private ScheduledExecutorService scheduler;
+
+    public LiquidationBatcher(
+            BroadcastPort broadcastPort,
+            LiquidationBatchConfig config,
+            MeterRegistry meterRegistry) {
+        this.broadcastPort = broadcastPort;
+        this.config = config;
+        this.batchSizeSummary = DistributionSummary.builder("binance.liquidation.batch.size")
+            .description("Liquidations per broadcast")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!config.isEnabled()) {
+            return;
+        }
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "liquidation-batch");
+            thread.setDaemon(true);
+            return thread;
+        });
+        log.info("Liquidation batching started: window={}ms, maxBatchSize={}, largeBypass={}",
+            config.getWindowMs(), config.getMaxBatchSize(), config.isLargeBypass());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        flush();
+    }
+
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    /**
+     * 업스트림 스레드에서 호출
+     */
+    public void offer(LiquidationMessage liquidation) {
+        if (liquidation.isLarge() && config.isLargeBypass()) {
+            broadcastPort.broadcastLiquidation(liquidation);
+            batchSizeSummary.record(1);
+            return;
+        }
+
+        long openedWindow = ANY_WINDOW;
+        boolean full;
+        synchronized (lock) {
+            if (buffer.isEmpty()) {
+                openedWindow = ++windowId;
+            }
+            buffer.add(liquidation);
+            full = buffer.size() >= config.getMaxBatchSize();
+        }
+
+        if (full) {
+            flush();
+        } else if (openedWindow != ANY_WINDOW) {
+            scheduleFlush(openedWindow);
+        }
+    }
+
+    /**
+     * 모인 청산 전송 (1건이면 단건 메시지로 보낸다)
+     */
+    public void flush() {
+        flushWindow(ANY_WINDOW);
+    }
+
+    /**
+     * 지정한 윈도우가 아직 열려 있을 때만 전송
+     * 가득 차서 먼저 전송된 윈도우의 예약이 다음 윈도우를 일찍 닫지 않도록 한다.
+     */
+    void flushWindow(long window) {
+        synchronized (sendLock) {
+            List<LiquidationMessage> batch;
+            ScheduledFuture<?> timer;
+            synchronized (lock) {
+                if (buffer.isEmpty() || (window != ANY_WINDOW && window != windowId)) {
+                    return;
+                }
+                batch = buffer;
+                buffer = new ArrayList<>(config.getMaxBatchSize());
+                timer = windowTimer;
+                windowTimer = null;
+            }
+            if (timer != null) {
+                timer.cancel(false);
+            }
+
+            if (batch.size() == 1) {
+                broadcastPort.broadcastLiquidation(batch.get(0));
+            } else {
+                broadcastPort.broadcastLiquidationBatch(LiquidationBatchMessage.of(batch));
+            }
+            batchSizeSummary.record(batch.size());
+        }
+    }
+
+    private void scheduleFlush(long window) {
+        if (scheduler == null) {
+            return;
+        }
+        ScheduledFuture<?> timer;
+        try {
+            timer = scheduler.schedule(() -> flushQuietly(window), config.getWindowMs(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+            return;
+        }
+        synchronized (lock) {
+            if (window == windowId && !buffer.isEmpty()) {
+                windowTimer = timer;
+                return;
+            }
+        }
+        // 예약하는 사이 이미 전송된 윈도우
+        timer.cancel(false);
+    }
+
+    private void flushQuietly(long window) {
+        try {
+            flushWindow(window);
+        } catch (Exception e) {
+            log.warn("Liquidation batch flush failed: {}", e.getMessage());
+        }
+    }
+}
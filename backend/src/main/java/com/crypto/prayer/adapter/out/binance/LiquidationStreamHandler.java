@@ -1,7 +1,9 @@
 package com.crypto.prayer.adapter.out.binance;
 
 import com.crypto.prayer.adapter.in.websocket.dto.LiquidationMessage;
-import com.crypto.prayer.adapter.out.binance.dto.BinanceLiquidationEvent;
+import com.crypto.prayer.adapter.out.binance.decode.BinanceEventDecoder;
+import com.crypto.prayer.adapter.out.binance.decode.LiquidationEvent;
+import com.crypto.prayer.application.port.in.LiquidationStatsUseCase;
 import com.crypto.prayer.application.port.out.BroadcastPort;
 import com.crypto.prayer.domain.model.Liquidation;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -10,6 +12,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
+import java.util.function.Consumer;
+
 @Component
 public class LiquidationStreamHandler {
 
@@ -18,21 +22,33 @@ public class LiquidationStreamHandler {
     private final BinanceWebSocketClient webSocketClient;
     private final BinanceConfig config;
     private final BroadcastPort broadcastPort;
-    private final ObjectMapper objectMapper;
+    private final LiquidationBatcher liquidationBatcher;
+    private final LiquidationStatsUseCase liquidationStats;
+    private final BinanceEventDecoder liquidationDecoder;
+    private final Consumer<LiquidationEvent> liquidationConsumer = this::onLiquidation;
 
     public LiquidationStreamHandler(
             BinanceWebSocketClient webSocketClient,
             BinanceConfig config,
             BroadcastPort broadcastPort,
+            LiquidationBatcher liquidationBatcher,
+            LiquidationStatsUseCase liquidationStats,
             ObjectMapper objectMapper) {
         this.webSocketClient = webSocketClient;
         this.config = config;
         this.broadcastPort = broadcastPort;
-        this.objectMapper = objectMapper;
+        this.liquidationBatcher = liquidationBatcher;
+        this.liquidationStats = liquidationStats;
+        // 스트림 메시지는 순차적으로 도착하므로 디코더(재사용 홀더)를 하나만 둔다
+        this.liquidationDecoder = new BinanceEventDecoder(objectMapper.getFactory());
     }
 
     @PostConstruct
     public void start() {
+        if (config.getCombined().isEnabled()) {
+            log.info("Liquidation stream served by combined stream connection");
+            return;
+        }
         webSocketClient.connect(
             "liquidation",
             config.getLiquidationStreamUrl(),
@@ -41,38 +57,47 @@ public class LiquidationStreamHandler {
         log.info("Liquidation stream handler started");
     }
 
-    public void handleMessage(String message) {
+    public void handleMessage(CharSequence message) {
         try {
-            BinanceLiquidationEvent event = objectMapper.readValue(
-                message, BinanceLiquidationEvent.class);
+            liquidationDecoder.forEachLiquidation(message, liquidationConsumer);
+        } catch (Exception e) {
+            log.error("Failed to parse liquidation message: {}", e.getMessage());
+        }
+    }
 
-            // 도메인 모델로 변환
-            Liquidation liquidation = Liquidation.of(
-                event.getSymbol(),
-                event.getSide(),
-                event.getQuantity(),
-                event.getPrice()
-            );
+    /**
+     * 단일 스트림/결합 스트림 공통 처리 (결합 스트림은 CombinedStreamHandler가 호출)
+     */
+    void onLiquidation(LiquidationEvent event) {
+        // 도메인 모델로 변환
+        Liquidation liquidation = Liquidation.of(
+            event.symbol(),
+            event.side(),
+            event.quantity(),
+            event.price()
+        );
 
-            // 브로드캐스트 DTO로 변환
-            LiquidationMessage liqMessage = LiquidationMessage.of(
-                liquidation.symbol(),
-                liquidation.side().name(),
-                liquidation.quantity(),
-                liquidation.price()
-            );
+        liquidationStats.record(liquidation);
 
-            broadcastPort.broadcastLiquidation(liqMessage);
+        // 브로드캐스트 DTO로 변환
+        LiquidationMessage liqMessage = LiquidationMessage.of(
+            liquidation.symbol(),
+            liquidation.side().name(),
+            liquidation.quantity(),
+            liquidation.price()
+        );
 
-            if (liquidation.isLarge()) {
-                log.info("Large liquidation detected: {} {} {}",
-                    liquidation.symbol(),
-                    liquidation.side(),
-                    liquidation.formattedValue());
-            }
+        if (liquidationBatcher.isEnabled()) {
+            liquidationBatcher.offer(liqMessage);
+        } else {
+            broadcastPort.broadcastLiquidation(liqMessage);
+        }
 
-        } catch (Exception e) {
-            log.error("Failed to parse liquidation message: {}", e.getMessage());
+        if (liquidation.isLarge()) {
+            log.info("Large liquidation detected: {} {} {}",
+                liquidation.symbol(),
+                liquidation.side(),
+                liquidation.formattedValue());
         }
     }
 }
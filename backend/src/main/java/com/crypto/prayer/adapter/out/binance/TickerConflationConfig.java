@@ -0,0 +1,52 @@
+package com.crypto.prayer.adapter.out.binance;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "binance.ticker-conflation")
+public class TickerConflationConfig {
+
+    private boolean enabled = false;
+
+    // 심볼별 최대 전송 주기 (250ms = 4Hz)
+    private long emitIntervalMs = 250;
+
+    // 직전 전송가 대비 변동이 이 값(bp) 미만이면 전송 생략, 0이면 비활성
+    private double deadBandBps = 0.0;
+
+    // dead-band로 생략하더라도 이 시간이 지나면 전송
+    private long maxSilenceMs = 5_000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getEmitIntervalMs() {
+        return emitIntervalMs;
+    }
+
+    public void setEmitIntervalMs(long emitIntervalMs) {
+        this.emitIntervalMs = emitIntervalMs;
+    }
+
+    public double getDeadBandBps() {
+        return deadBandBps;
+    }
+
+    public void setDeadBandBps(double deadBandBps) {
+        this.deadBandBps = deadBandBps;
+    }
+
+    public long getMaxSilenceMs() {
+        return maxSilenceMs;
+    }
+
+    public void setMaxSilenceMs(long maxSilenceMs) {
+        this.maxSilenceMs = maxSilenceMs;
+    }
+}
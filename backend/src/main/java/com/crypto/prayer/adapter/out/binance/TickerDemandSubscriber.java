@@ -0,0 +1,275 @@
+package com.crypto.prayer.adapter.out.binance;
+
+import com.crypto.prayer.application.port.out.MarketDataSubscriptionPort;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 수요 기반 업스트림 티커 구독
+ * 로컬 STOMP 구독 수를 심볼별로 세어, 구독자가 있는 심볼만 결합 스트림 연결에 SUBSCRIBE 한다.
+ * 마지막 구독이 사라져도 unsubscribeDelayMs 동안은 유지해 심볼을 오가는 클라이언트로 인한 반복 구독을 막고,
+ * 변경 사항은 flush 주기마다 SUBSCRIBE/UNSUBSCRIBE 한 번씩으로 묶어 보낸다.
+ * 대표 심볼은 /topic/ticker 때문에 항상 구독되어 있으므로 관리하지 않는다.
+ */
+@Component
+public class TickerDemandSubscriber implements MarketDataSubscriptionPort {
+
+    private static final Logger log = LoggerFactory.getLogger(TickerDemandSubscriber.class);
+
+    // 동적 구독은 첫 번째 결합 스트림 연결에 건다
+    static final String CONNECTION = CombinedStreamHandler.connectionName(0);
+
+    private final BinanceWebSocketClient webSocketClient;
+    private final BinanceConfig config;
+    private final ObjectMapper objectMapper;
+    private final LongSupplier clock;
+
+    // 심볼(대문자) → 로컬 구독 수
+    private final Map<String, Integer> refCounts = new HashMap<>();
+    // 구독 수가 0이 된 시각 (UNSUBSCRIBE 대기)
+    private final Map<String, Long> releasedAt = new HashMap<>();
+    // 업스트림에 동적으로 구독된 심볼
+    private final Set<String> active = new HashSet<>();
+
+    // flush 전체(전송 포함)를 감싼다. 재연결 시 진행 중인 flush가 끝난 뒤 active를 비우기 위함
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private long requestId;
+    private ScheduledExecutorService scheduler;
+
+    @Autowired
+    public TickerDemandSubscriber(
+            BinanceWebSocketClient webSocketClient,
+            BinanceConfig config,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) {
+        this(webSocketClient, config, objectMapper, meterRegistry, System::currentTimeMillis);
+    }
+
+    public TickerDemandSubscriber(
+            BinanceWebSocketClient webSocketClient,
+            BinanceConfig config,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            LongSupplier clock) {
+        this.webSocketClient = webSocketClient;
+        this.config = config;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+
+        Gauge.builder("binance.subscription.active", this, TickerDemandSubscriber::activeCount)
+            .description("Ticker streams subscribed upstream on demand")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!isEnabled()) {
+            return;
+        }
+
+        long interval = config.getCombined().getSubscriptionFlushIntervalMs();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "binance-demand");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, interval, interval, TimeUnit.MILLISECONDS);
+        log.info("Demand-driven ticker subscription started: unsubscribeDelay={}ms",
+            config.getCombined().getUnsubscribeDelayMs());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    public boolean isEnabled() {
+        return config.getCombined().isEnabled() && config.getCombined().isDemandDriven();
+    }
+
+    @Override
+    public synchronized void acquireTicker(String symbol) {
+        String key = managedSymbol(symbol);
+        if (key == null) {
+            return;
+        }
+        refCounts.merge(key, 1, Integer::sum);
+        releasedAt.remove(key);
+    }
+
+    @Override
+    public synchronized void releaseTicker(String symbol) {
+        String key = managedSymbol(symbol);
+        if (key == null) {
+            return;
+        }
+        Integer count = refCounts.get(key);
+        if (count == null) {
+            return;
+        }
+        if (count > 1) {
+            refCounts.put(key, count - 1);
+        } else {
+            refCounts.remove(key);
+            releasedAt.put(key, clock.getAsLong());
+        }
+    }
+
+    /**
+     * 연결(재연결 포함) 직후: URL로 구독한 스트림만 남아 있으므로 동적 구독을 다시 보내도록 비운다
+     */
+    public void onConnected(String connectionName) {
+        if (!CONNECTION.equals(connectionName)) {
+            return;
+        }
+        // 진행 중인 flush가 이전 연결로 보낸 구독을 비운 뒤에 active에 다시 기록하지 않도록 기다린다
+        flushLock.lock();
+        try {
+            synchronized (this) {
+                active.clear();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 원하는 구독 상태와 업스트림 구독 상태를 맞춘다
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            reconcile();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void reconcile() {
+        List<String> toSubscribe = new ArrayList<>();
+        List<String> toUnsubscribe = new ArrayList<>();
+        synchronized (this) {
+            long now = clock.getAsLong();
+            long delay = config.getCombined().getUnsubscribeDelayMs();
+            Iterator<Map.Entry<String, Long>> released = releasedAt.entrySet().iterator();
+            while (released.hasNext()) {
+                Map.Entry<String, Long> entry = released.next();
+                if (now - entry.getValue() < delay) {
+                    continue;
+                }
+                if (active.contains(entry.getKey())) {
+                    toUnsubscribe.add(entry.getKey());
+                } else {
+                    released.remove();
+                }
+            }
+
+            int room = dynamicCapacity() - active.size();
+            for (String symbol : refCounts.keySet()) {
+                if (!active.contains(symbol)) {
+                    if (toSubscribe.size() >= room) {
+                        log.warn("Upstream stream limit reached, {} not subscribed", symbol);
+                        break;
+                    }
+                    toSubscribe.add(symbol);
+                }
+            }
+        }
+
+        if (!toUnsubscribe.isEmpty() && send("UNSUBSCRIBE", toUnsubscribe)) {
+            synchronized (this) {
+                toUnsubscribe.forEach(active::remove);
+                toUnsubscribe.forEach(releasedAt::remove);
+            }
+        }
+        if (!toSubscribe.isEmpty() && send("SUBSCRIBE", toSubscribe)) {
+            synchronized (this) {
+                active.addAll(toSubscribe);
+            }
+        }
+    }
+
+    public synchronized int activeCount() {
+        return active.size();
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("Failed to flush ticker subscriptions: {}", e.getMessage());
+        }
+    }
+
+    private boolean send(String method, List<String> symbols) {
+        List<String> streams = new ArrayList<>(symbols.size());
+        symbols.forEach(symbol -> streams.add(CombinedStreamHandler.tickerStream(symbol)));
+
+        Map<String, Object> request = new LinkedHashMap<>();
+        request.put("method", method);
+        request.put("params", streams);
+        synchronized (this) {
+            request.put("id", ++requestId);
+        }
+
+        try {
+            boolean sent = webSocketClient.send(CONNECTION, objectMapper.writeValueAsString(request));
+            if (sent) {
+                log.info("Binance {} {}", method, streams);
+            }
+            return sent;
+        } catch (JsonProcessingException e) {
+            log.error("Failed to encode {} request: {}", method, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 허용 목록(binance.symbols)에 있고 대표 심볼이 아닌 경우만 관리, 아니면 null
+     */
+    private String managedSymbol(String symbol) {
+        if (!isEnabled() || symbol == null) {
+            return null;
+        }
+        String key = symbol.toUpperCase();
+        if (key.equals(config.getPrimarySymbol())) {
+            return null;
+        }
+        for (String allowed : config.getSymbols()) {
+            if (allowed.equalsIgnoreCase(key)) {
+                return key;
+            }
+        }
+        return null;
+    }
+
+    private int dynamicCapacity() {
+        int fixedStreams = 1 + (config.getCombined().isLiquidations() ? 1 : 0);
+        return config.getCombined().getMaxStreamsPerConnection() - fixedStreams;
+    }
+}
@@ -1,7 +1,8 @@
 package com.crypto.prayer.adapter.out.binance;
 
 import com.crypto.prayer.adapter.in.websocket.dto.TickerMessage;
-import com.crypto.prayer.adapter.out.binance.dto.BinanceTickerEvent;
+import com.crypto.prayer.adapter.out.binance.decode.BinanceEventDecoder;
+import com.crypto.prayer.adapter.out.binance.decode.TickerEvent;
 import com.crypto.prayer.application.port.out.BroadcastPort;
 import com.crypto.prayer.domain.model.Ticker;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -10,7 +11,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 @Component
 public class TickerStreamHandler {
@@ -20,23 +24,33 @@ public class TickerStreamHandler {
     private final BinanceWebSocketClient webSocketClient;
     private final BinanceConfig config;
     private final BroadcastPort broadcastPort;
-    private final ObjectMapper objectMapper;
+    private final ConflatingTickerPublisher tickerPublisher;
+    private final BinanceEventDecoder tickerDecoder;
+    private final Consumer<TickerEvent> tickerConsumer = this::onTicker;
 
-    private final AtomicReference<Ticker> latestTicker = new AtomicReference<>();
+    // 심볼별 최신 티커
+    private final ConcurrentHashMap<String, Ticker> latestTickers = new ConcurrentHashMap<>();
 
     public TickerStreamHandler(
             BinanceWebSocketClient webSocketClient,
             BinanceConfig config,
             BroadcastPort broadcastPort,
+            ConflatingTickerPublisher tickerPublisher,
             ObjectMapper objectMapper) {
         this.webSocketClient = webSocketClient;
         this.config = config;
         this.broadcastPort = broadcastPort;
-        this.objectMapper = objectMapper;
+        this.tickerPublisher = tickerPublisher;
+        // 스트림 메시지는 순차적으로 도착하므로 디코더(재사용 홀더)를 하나만 둔다
+        this.tickerDecoder = new BinanceEventDecoder(objectMapper.getFactory());
     }
 
     @PostConstruct
     public void start() {
+        if (config.getCombined().isEnabled()) {
+            log.info("Ticker stream served by combined stream connection");
+            return;
+        }
         webSocketClient.connect(
             "ticker",
             config.getTickerStreamUrl(),
@@ -45,35 +59,56 @@ public class TickerStreamHandler {
         log.info("Ticker stream handler started");
     }
 
-    public void handleMessage(String message) {
+    public void handleMessage(CharSequence message) {
         try {
-            BinanceTickerEvent event = objectMapper.readValue(
-                message, BinanceTickerEvent.class);
+            tickerDecoder.forEachTicker(message, tickerConsumer);
+        } catch (Exception e) {
+            log.error("Failed to parse ticker message: {}", e.getMessage());
+        }
+    }
 
-            // 도메인 모델로 변환
-            Ticker ticker = Ticker.of(
-                event.symbol(),
-                event.getPrice(),
-                event.getPriceChangePercent()
-            );
+    /**
+     * 단일 스트림/결합 스트림 공통 처리 (결합 스트림은 CombinedStreamHandler가 호출)
+     */
+    void onTicker(TickerEvent event) {
+        // 도메인 모델로 변환
+        Ticker ticker = Ticker.of(
+            event.symbol(),
+            event.price(),
+            event.priceChangePercent()
+        );
 
-            latestTicker.set(ticker);
+        latestTickers.put(ticker.symbol(), ticker);
 
-            // 브로드캐스트 DTO로 변환 및 전송
-            TickerMessage tickerMessage = TickerMessage.of(
-                ticker.symbol(),
-                ticker.price(),
-                ticker.priceChange24h()
-            );
+        // 병합 모드: 최신값만 남기고 전송은 발행기 주기에 맡김
+        if (tickerPublisher.isEnabled()) {
+            tickerPublisher.offer(ticker);
+            return;
+        }
 
-            broadcastPort.broadcastTicker(tickerMessage);
+        // 브로드캐스트 DTO로 변환 및 전송
+        TickerMessage tickerMessage = TickerMessage.of(
+            ticker.symbol(),
+            ticker.price(),
+            ticker.priceChange24h()
+        );
 
-        } catch (Exception e) {
-            log.error("Failed to parse ticker message: {}", e.getMessage());
-        }
+        broadcastPort.broadcastTicker(tickerMessage);
     }
 
+    /**
+     * 대표 심볼의 최신 티커
+     */
     public Ticker getLatestTicker() {
-        return latestTicker.get();
+        String primarySymbol = config.getPrimarySymbol();
+        return primarySymbol != null ? latestTickers.get(primarySymbol) : null;
+    }
+
+    public Ticker getLatestTicker(String symbol) {
+        return latestTickers.get(symbol.toUpperCase());
+    }
+
+    public Map<String, Ticker> getLatestTickers() {
+        return Collections.unmodifiableMap(latestTickers);
     }
 }
@@ -0,0 +1,370 @@
+package com.crypto.prayer.adapter.out.binance.decode;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.util.function.Consumer;
+
+/**
+ * 바이낸스 이벤트 스트리밍 디코더
+ * JsonParser 토큰을 순서대로 읽으며 필요한 필드만 뽑고, 문자열로 온 숫자는
+ * 토큰 버퍼(char[])에서 바로 double로 변환한다. 결과는 재사용 홀더에 채워 콜백으로 넘긴다.
+ * 단일 객체와 배열 메시지를 모두 처리한다.
+ * 입력은 CharSequence로 받아 String/힙 CharBuffer는 복사 없이, 그 외에는 재사용 버퍼로 한 번만 복사해 읽는다.
+ *
+ * 홀더와 심볼 캐시를 재사용하므로 스레드 안전하지 않다 (스트림당 하나씩 사용).
+ */
+public final class BinanceEventDecoder {
+
+    private static final String TICKER_STREAM_SUFFIX = "@ticker";
+    private static final String TICKER_ARRAY_STREAM = "!ticker@arr";
+    private static final String LIQUIDATION_STREAM_MARKER = "forceOrder";
+
+    private static final String SIDE_BUY = "BUY";
+    private static final String SIDE_SELL = "SELL";
+
+    // 10^0 ~ 10^22 는 double로 정확히 표현된다
+    private static final double[] POWERS_OF_TEN = new double[23];
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+    static {
+        POWERS_OF_TEN[0] = 1.0;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private final JsonFactory jsonFactory;
+    private final TickerEvent tickerEvent = new TickerEvent();
+    private final LiquidationEvent liquidationEvent = new LiquidationEvent();
+    private final SymbolCache symbolCache = new SymbolCache();
+
+    // String/CharBuffer가 아닌 입력(조립 버퍼 등)을 복사해 두는 재사용 배열
+    private char[] scratch = new char[1024];
+
+    public BinanceEventDecoder(JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    /**
+     * @return 콜백으로 넘긴 티커 이벤트 수 (필수 필드가 없는 객체는 건너뜀)
+     */
+    public int forEachTicker(CharSequence json, Consumer<TickerEvent> consumer) throws IOException {
+        try (JsonParser parser = createParser(json)) {
+            return readTickers(parser, parser.nextToken(), consumer);
+        }
+    }
+
+    /**
+     * @return 콜백으로 넘긴 청산 이벤트 수 (필수 필드가 없는 객체는 건너뜀)
+     */
+    public int forEachLiquidation(CharSequence json, Consumer<LiquidationEvent> consumer) throws IOException {
+        try (JsonParser parser = createParser(json)) {
+            return readLiquidations(parser, parser.nextToken(), consumer);
+        }
+    }
+
+    /**
+     * 결합 스트림 봉투 {"stream":"btcusdt@ticker","data":{...}} 를 스트림 이름으로 분기해 한 번에 읽는다
+     * 바이낸스는 stream을 data보다 먼저 보낸다. 순서가 다르거나 모르는 스트림이면 data를 건너뛴다.
+     * @return 콜백으로 넘긴 이벤트 수
+     */
+    public int forEachCombined(
+            CharSequence json,
+            Consumer<TickerEvent> tickerConsumer,
+            Consumer<LiquidationEvent> liquidationConsumer) throws IOException {
+        try (JsonParser parser = createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return 0;
+            }
+            StreamKind kind = StreamKind.UNKNOWN;
+            int count = 0;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("stream".equals(field) && value == JsonToken.VALUE_STRING) {
+                    kind = classify(parser);
+                } else if ("data".equals(field)) {
+                    count += switch (kind) {
+                        case TICKER -> readTickers(parser, value, tickerConsumer);
+                        case LIQUIDATION -> readLiquidations(parser, value, liquidationConsumer);
+                        case UNKNOWN -> {
+                            parser.skipChildren();
+                            yield 0;
+                        }
+                    };
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return count;
+        }
+    }
+
+    private int readTickers(JsonParser parser, JsonToken value, Consumer<TickerEvent> consumer) throws IOException {
+        if (value == JsonToken.START_OBJECT) {
+            return readTicker(parser, consumer);
+        }
+        int count = 0;
+        if (value == JsonToken.START_ARRAY) {
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                count += readTicker(parser, consumer);
+            }
+        }
+        return count;
+    }
+
+    private int readLiquidations(JsonParser parser, JsonToken value, Consumer<LiquidationEvent> consumer)
+            throws IOException {
+        if (value == JsonToken.START_OBJECT) {
+            return readLiquidation(parser, consumer);
+        }
+        int count = 0;
+        if (value == JsonToken.START_ARRAY) {
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                count += readLiquidation(parser, consumer);
+            }
+        }
+        return count;
+    }
+
+    private static StreamKind classify(JsonParser parser) throws IOException {
+        char[] chars = parser.getTextCharacters();
+        int offset = parser.getTextOffset();
+        int length = parser.getTextLength();
+        if (endsWith(chars, offset, length, TICKER_STREAM_SUFFIX)
+                || matches(chars, offset, length, TICKER_ARRAY_STREAM)) {
+            return StreamKind.TICKER;
+        }
+        if (contains(chars, offset, length, LIQUIDATION_STREAM_MARKER)) {
+            return StreamKind.LIQUIDATION;
+        }
+        return StreamKind.UNKNOWN;
+    }
+
+    private JsonParser createParser(CharSequence json) throws IOException {
+        if (json instanceof String string) {
+            return jsonFactory.createParser(string);
+        }
+        if (json instanceof CharBuffer buffer && buffer.hasArray()) {
+            return jsonFactory.createParser(
+                buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+
+        int length = json.length();
+        if (scratch.length < length) {
+            scratch = new char[Math.max(length, scratch.length * 2)];
+        }
+        if (json instanceof StringBuilder builder) {
+            builder.getChars(0, length, scratch, 0);
+        } else {
+            for (int i = 0; i < length; i++) {
+                scratch[i] = json.charAt(i);
+            }
+        }
+        return jsonFactory.createParser(scratch, 0, length);
+    }
+
+    private int readTicker(JsonParser parser, Consumer<TickerEvent> consumer) throws IOException {
+        TickerEvent event = tickerEvent;
+        event.reset();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "s" -> event.symbol = symbolCache.intern(parser);
+                case "E" -> event.eventTime = parser.getValueAsLong();
+                case "c" -> event.price = readDouble(parser);
+                case "P" -> event.priceChangePercent = readDouble(parser);
+                default -> parser.skipChildren();
+            }
+        }
+        if (!event.isComplete()) {
+            return 0;
+        }
+        consumer.accept(event);
+        return 1;
+    }
+
+    private int readLiquidation(JsonParser parser, Consumer<LiquidationEvent> consumer) throws IOException {
+        LiquidationEvent event = liquidationEvent;
+        event.reset();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("E".equals(field)) {
+                event.eventTime = parser.getValueAsLong();
+            } else if ("o".equals(field) && value == JsonToken.START_OBJECT) {
+                readOrder(parser, event);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        if (!event.isComplete()) {
+            return 0;
+        }
+        consumer.accept(event);
+        return 1;
+    }
+
+    private void readOrder(JsonParser parser, LiquidationEvent event) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "s" -> event.symbol = symbolCache.intern(parser);
+                case "S" -> event.side = readSide(parser);
+                case "z" -> event.quantity = readDouble(parser);
+                case "ap" -> event.price = readDouble(parser);
+                default -> parser.skipChildren();
+            }
+        }
+    }
+
+    private static String readSide(JsonParser parser) throws IOException {
+        char[] chars = parser.getTextCharacters();
+        int offset = parser.getTextOffset();
+        int length = parser.getTextLength();
+        if (matches(chars, offset, length, SIDE_SELL)) {
+            return SIDE_SELL;
+        }
+        if (matches(chars, offset, length, SIDE_BUY)) {
+            return SIDE_BUY;
+        }
+        return parser.getText();
+    }
+
+    /**
+     * 숫자 토큰 또는 숫자 문자열을 double로 읽는다
+     */
+    static double readDouble(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+            return parser.getDoubleValue();
+        }
+        if (token != JsonToken.VALUE_STRING) {
+            return Double.NaN;
+        }
+        return parseDecimal(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+    }
+
+    /**
+     * [-]digits[.digits] 형식을 할당 없이 변환
+     * 가수가 2^53 이상이거나 지수 표기 등 다른 형식이면 Double.parseDouble로 처리한다.
+     */
+    static double parseDecimal(char[] chars, int offset, int length) {
+        int end = offset + length;
+        int i = offset;
+        boolean negative = false;
+        if (i < end && (chars[i] == '-' || chars[i] == '+')) {
+            negative = chars[i] == '-';
+            i++;
+        }
+
+        long mantissa = 0;
+        int fractionDigits = 0;
+        boolean seenDot = false;
+        boolean seenDigit = false;
+        for (; i < end; i++) {
+            char c = chars[i];
+            if (c >= '0' && c <= '9') {
+                mantissa = mantissa * 10 + (c - '0');
+                if (mantissa >= MAX_EXACT_MANTISSA) {
+                    return fallback(chars, offset, length);
+                }
+                seenDigit = true;
+                if (seenDot) {
+                    fractionDigits++;
+                }
+            } else if (c == '.' && !seenDot) {
+                seenDot = true;
+            } else {
+                return fallback(chars, offset, length);
+            }
+        }
+
+        if (!seenDigit || fractionDigits >= POWERS_OF_TEN.length) {
+            return fallback(chars, offset, length);
+        }
+        // 정확한 정수 / 정확한 10의 거듭제곱: 한 번의 나눗셈이라 올바르게 반올림된다
+        double value = (double) mantissa / POWERS_OF_TEN[fractionDigits];
+        return negative ? -value : value;
+    }
+
+    private static double fallback(char[] chars, int offset, int length) {
+        try {
+            return Double.parseDouble(new String(chars, offset, length));
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    private static boolean matches(char[] chars, int offset, int length, String expected) {
+        if (length != expected.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (chars[offset + i] != expected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean endsWith(char[] chars, int offset, int length, String suffix) {
+        int start = length - suffix.length();
+        return start >= 0 && matches(chars, offset + start, suffix.length(), suffix);
+    }
+
+    private static boolean contains(char[] chars, int offset, int length, String part) {
+        for (int start = 0; start + part.length() <= length; start++) {
+            if (matches(chars, offset + start, part.length(), part)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private enum StreamKind {
+        TICKER,
+        LIQUIDATION,
+        UNKNOWN
+    }
+
+    /**
+     * 심볼 문자열 캐시
+     * 같은 심볼이 반복되므로 토큰 버퍼 내용과 일치하는 기존 String을 재사용한다.
+     */
+    private static final class SymbolCache {
+
+        private static final int SIZE = 256;
+
+        private final String[] slots = new String[SIZE];
+
+        String intern(JsonParser parser) throws IOException {
+            if (parser.currentToken() != JsonToken.VALUE_STRING) {
+                return null;
+            }
+            char[] chars = parser.getTextCharacters();
+            int offset = parser.getTextOffset();
+            int length = parser.getTextLength();
+
+            int hash = 0;
+            for (int i = 0; i < length; i++) {
+                hash = 31 * hash + chars[offset + i];
+            }
+            int slot = (hash ^ (hash >>> 16)) & (SIZE - 1);
+
+            String cached = slots[slot];
+            if (cached != null && matches(chars, offset, length, cached)) {
+                return cached;
+            }
+            String symbol = new String(chars, offset, length);
+            slots[slot] = symbol;
+            return symbol;
+        }
+    }
+}
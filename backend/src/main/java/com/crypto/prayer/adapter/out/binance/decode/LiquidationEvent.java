@@ -0,0 +1,55 @@
+package com.crypto.prayer.adapter.out.binance.decode;
+
+/**
+ * 재사용되는 청산 이벤트 홀더 (BinanceEventDecoder가 메시지마다 덮어쓴다)
+ * 콜백 밖으로 참조를 넘기지 말고 필요한 값만 복사해서 사용한다.
+ */
+public final class LiquidationEvent {
+
+    String symbol;
+    String side;
+    long eventTime;
+    double quantity = Double.NaN;
+    double price = Double.NaN;
+
+    void reset() {
+        symbol = null;
+        side = null;
+        eventTime = 0;
+        quantity = Double.NaN;
+        price = Double.NaN;
+    }
+
+    boolean isComplete() {
+        return symbol != null && side != null && !Double.isNaN(quantity) && !Double.isNaN(price);
+    }
+
+    public String symbol() {
+        return symbol;
+    }
+
+    /**
+     * 주문 방향 (BUY / SELL)
+     */
+    public String side() {
+        return side;
+    }
+
+    public long eventTime() {
+        return eventTime;
+    }
+
+    /**
+     * 체결 수량 (z)
+     */
+    public double quantity() {
+        return quantity;
+    }
+
+    /**
+     * 평균 체결가 (ap)
+     */
+    public double price() {
+        return price;
+    }
+}
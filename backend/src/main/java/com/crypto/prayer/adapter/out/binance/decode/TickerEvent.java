@@ -0,0 +1,43 @@
+package com.crypto.prayer.adapter.out.binance.decode;
+
+/**
+ * 재사용되는 티커 이벤트 홀더 (BinanceEventDecoder가 메시지마다 덮어쓴다)
+ * 콜백 밖으로 참조를 넘기지 말고 필요한 값만 복사해서 사용한다.
+ */
+public final class TickerEvent {
+
+    String symbol;
+    long eventTime;
+    double price = Double.NaN;
+    double priceChangePercent = Double.NaN;
+
+    void reset() {
+        symbol = null;
+        eventTime = 0;
+        price = Double.NaN;
+        priceChangePercent = Double.NaN;
+    }
+
+    boolean isComplete() {
+        return symbol != null && !Double.isNaN(price);
+    }
+
+    public String symbol() {
+        return symbol;
+    }
+
+    public long eventTime() {
+        return eventTime;
+    }
+
+    public double price() {
+        return price;
+    }
+
+    /**
+     * 변동률이 없는 이벤트는 0
+     */
+    public double priceChangePercent() {
+        return Double.isNaN(priceChangePercent) ? 0.0 : priceChangePercent;
+    }
+}
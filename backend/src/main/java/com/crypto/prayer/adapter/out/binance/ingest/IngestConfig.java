@@ -0,0 +1,71 @@
+package com.crypto.prayer.adapter.out.binance.ingest;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Configuration
+@ConfigurationProperties(prefix = "binance.ingest")
+public class IngestConfig {
+
+    private boolean enabled = false;
+
+    // 스트림별 소비 스레드를 가상 스레드로 생성
+    private boolean virtualThreads = false;
+
+    // 스트림 이름(ticker, liquidation)별 큐 설정, 없으면 기본값
+    private Map<String, StreamSettings> streams = new HashMap<>();
+
+    public StreamSettings settingsFor(String stream) {
+        return streams.getOrDefault(stream, new StreamSettings());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public void setVirtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    public Map<String, StreamSettings> getStreams() {
+        return streams;
+    }
+
+    public void setStreams(Map<String, StreamSettings> streams) {
+        this.streams = streams;
+    }
+
+    public static class StreamSettings {
+
+        private int capacity = 1024;
+
+        private IngestPolicy policy = IngestPolicy.BLOCK;
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        public void setCapacity(int capacity) {
+            this.capacity = capacity;
+        }
+
+        public IngestPolicy getPolicy() {
+            return policy;
+        }
+
+        public void setPolicy(IngestPolicy policy) {
+            this.policy = policy;
+        }
+    }
+}
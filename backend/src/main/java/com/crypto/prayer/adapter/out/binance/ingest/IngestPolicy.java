@@ -0,0 +1,16 @@
+package com.crypto.prayer.adapter.out.binance.ingest;
+
+/**
+ * 수신 큐가 가득 찼을 때의 처리 방식
+ */
+public enum IngestPolicy {
+
+    /** 자리가 날 때까지 수신 스레드를 멈춘다 (유실 없음, 업스트림 읽기 지연) */
+    BLOCK,
+
+    /** 가장 오래된 메시지를 버리고 새 메시지를 넣는다 */
+    DROP_OLDEST,
+
+    /** 대기 중인 메시지를 모두 버리고 최신 메시지만 남긴다 (전체 상태 스냅샷 스트림용) */
+    CONFLATE
+}
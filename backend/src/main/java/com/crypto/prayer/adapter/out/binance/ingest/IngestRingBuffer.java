@@ -0,0 +1,156 @@
+package com.crypto.prayer.adapter.out.binance.ingest;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 스트림별 수신 메시지 링 버퍼 (생산자: WebSocket 리스너, 소비자: 전용 스레드 하나)
+ * 슬롯마다 StringBuilder를 미리 두고 내용을 복사해 넣으므로 메시지마다 String을 만들지 않는다.
+ * 소비자는 꺼낼 슬롯을 자신의 작업 버퍼와 맞바꾸므로 처리 중인 버퍼를 생산자가 덮어쓰지 않는다.
+ */
+final class IngestRingBuffer {
+
+    private static final int INITIAL_SLOT_CAPACITY = 1024;
+
+    // 큰 메시지 한 번으로 커진 슬롯을 계속 붙잡지 않도록 이 크기를 넘으면 새로 만든다
+    private static final int MAX_RETAINED_CAPACITY = 256 * 1024;
+
+    private final StringBuilder[] slots;
+    private final IngestPolicy policy;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+
+    private int head;
+    private int count;
+    private boolean closed;
+
+    // 소비자 전용: 방금 꺼내 처리 중인 버퍼
+    private StringBuilder working = new StringBuilder(INITIAL_SLOT_CAPACITY);
+
+    IngestRingBuffer(int capacity, IngestPolicy policy) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.slots = new StringBuilder[capacity];
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new StringBuilder(INITIAL_SLOT_CAPACITY);
+        }
+        this.policy = policy;
+    }
+
+    /**
+     * 생산자 스레드에서 호출, 반환 후에는 message를 참조하지 않는다
+     * @return 이번 호출로 버려진 메시지 수 (닫혔거나 대기 중 인터럽트되면 새 메시지 1건)
+     */
+    int offer(CharSequence message) {
+        lock.lock();
+        try {
+            int dropped = 0;
+            if (count == slots.length) {
+                switch (policy) {
+                    case BLOCK -> {
+                        while (count == slots.length && !closed) {
+                            notFull.await();
+                        }
+                    }
+                    case DROP_OLDEST -> {
+                        head = next(head);
+                        count--;
+                        dropped = 1;
+                    }
+                    case CONFLATE -> {
+                        dropped = count;
+                        count = 0;
+                    }
+                }
+            }
+            if (closed) {
+                return dropped + 1;
+            }
+
+            StringBuilder slot = slots[(head + count) % slots.length];
+            slot.setLength(0);
+            slot.append(message);
+            count++;
+            notEmpty.signal();
+            return dropped;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 1;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 소비자 스레드에서 호출: 메시지가 올 때까지 기다렸다가 하나를 꺼내 처리
+     * 넘긴 CharSequence는 콜백 안에서만 유효하다.
+     * @return 닫혀서 더 꺼낼 메시지가 없으면 false
+     */
+    boolean take(Consumer<CharSequence> handler) throws InterruptedException {
+        StringBuilder message;
+        lock.lockInterruptibly();
+        try {
+            while (count == 0) {
+                if (closed) {
+                    return false;
+                }
+                notEmpty.await();
+            }
+            message = slots[head];
+            slots[head] = recycle(working);
+            head = next(head);
+            count--;
+            notFull.signal();
+        } finally {
+            lock.unlock();
+        }
+
+        working = message;
+        handler.accept(message);
+        return true;
+    }
+
+    /**
+     * 대기 중인 메시지를 버리고 생산자/소비자를 깨운다
+     */
+    void close() {
+        lock.lock();
+        try {
+            closed = true;
+            count = 0;
+            notEmpty.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int size() {
+        lock.lock();
+        try {
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int capacity() {
+        return slots.length;
+    }
+
+    private int next(int index) {
+        return index + 1 == slots.length ? 0 : index + 1;
+    }
+
+    private static StringBuilder recycle(StringBuilder buffer) {
+        if (buffer.capacity() > MAX_RETAINED_CAPACITY) {
+            return new StringBuilder(INITIAL_SLOT_CAPACITY);
+        }
+        buffer.setLength(0);
+        return buffer;
+    }
+}
@@ -0,0 +1,137 @@
+package com.crypto.prayer.adapter.out.binance.ingest;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 바이낸스 수신과 메시지 처리 분리
+ * WebSocket 리스너는 스트림별 링 버퍼에 메시지를 복사해 넣기만 하고, 파싱/브로드캐스트는
+ * 스트림 전용 소비 스레드가 수행한다. 느린 브로드캐스트가 업스트림 읽기를 막지 않도록 하며,
+ * 큐가 가득 찼을 때의 동작은 스트림별 IngestPolicy로 정한다.
+ * 비활성화 시 핸들러를 그대로 돌려주어 리스너 스레드에서 바로 처리한다.
+ */
+@Component
+public class MarketDataIngest {
+
+    private static final Logger log = LoggerFactory.getLogger(MarketDataIngest.class);
+
+    private final IngestConfig config;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentHashMap<String, Lane> lanes = new ConcurrentHashMap<>();
+
+    public MarketDataIngest(IngestConfig config, MeterRegistry meterRegistry) {
+        this.config = config;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 스트림 핸들러 앞에 수신 큐를 붙인다
+     * @return WebSocket 리스너가 호출할 메시지 소비자
+     */
+    public Consumer<CharSequence> attach(String stream, Consumer<CharSequence> handler) {
+        if (!config.isEnabled()) {
+            return handler;
+        }
+
+        detach(stream);
+        IngestConfig.StreamSettings settings = config.settingsFor(stream);
+        Lane lane = new Lane(stream, handler, settings.getCapacity(), settings.getPolicy());
+        lanes.put(stream, lane);
+        lane.start();
+
+        log.info("Ingest queue attached: stream={}, capacity={}, policy={}",
+            stream, settings.getCapacity(), settings.getPolicy());
+        return lane::offer;
+    }
+
+    /**
+     * 수신 큐 제거 (대기 중인 메시지는 버림)
+     */
+    public void detach(String stream) {
+        Lane lane = lanes.remove(stream);
+        if (lane != null) {
+            lane.stop();
+        }
+    }
+
+    public int queueDepth(String stream) {
+        Lane lane = lanes.get(stream);
+        return lane != null ? lane.ring.size() : 0;
+    }
+
+    @PreDestroy
+    public void destroy() {
+        lanes.keySet().forEach(this::detach);
+    }
+
+    private class Lane {
+
+        private final String stream;
+        private final Consumer<CharSequence> handler;
+        private final IngestRingBuffer ring;
+        private final Gauge depthGauge;
+        private final Counter droppedCounter;
+
+        private Thread consumer;
+
+        Lane(String stream, Consumer<CharSequence> handler, int capacity, IngestPolicy policy) {
+            this.stream = stream;
+            this.handler = handler;
+            this.ring = new IngestRingBuffer(capacity, policy);
+
+            this.depthGauge = Gauge.builder("binance.ingest.queue.depth", ring, IngestRingBuffer::size)
+                .description("Messages waiting in the ingest queue")
+                .tag("stream", stream)
+                .register(meterRegistry);
+            this.droppedCounter = Counter.builder("binance.ingest.dropped")
+                .description("Messages discarded by the ingest queue policy")
+                .tag("stream", stream)
+                .tag("policy", policy.name())
+                .register(meterRegistry);
+        }
+
+        void start() {
+            Thread.Builder builder = config.isVirtualThreads()
+                ? Thread.ofVirtual()
+                : Thread.ofPlatform().daemon(true);
+            consumer = builder.name("binance-ingest-" + stream).start(this::run);
+        }
+
+        void offer(CharSequence message) {
+            int dropped = ring.offer(message);
+            if (dropped > 0) {
+                droppedCounter.increment(dropped);
+            }
+        }
+
+        void stop() {
+            ring.close();
+            if (consumer != null) {
+                consumer.interrupt();
+            }
+            meterRegistry.remove(depthGauge);
+        }
+
+        private void run() {
+            while (!Thread.currentThread().isInterrupted()) {
+                try {
+                    if (!ring.take(handler)) {
+                        return;
+                    }
+                } catch (InterruptedException e) {
+                    return;
+                } catch (RuntimeException e) {
+                    log.error("Failed to handle {} message: {}", stream, e.getMessage());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.crypto.prayer.adapter.out.redis;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "prayer.cluster-stats")
+public class ClusterStatsConfig {
+
+    private boolean enabled = false;
+    private String channel = "prayer:stats:rpm";
+
+    // 틱당 최대 1회 발행
+    private long publishIntervalMs = 200;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    public void setChannel(String channel) {
+        this.channel = channel;
+    }
+
+    public long getPublishIntervalMs() {
+        return publishIntervalMs;
+    }
+
+    public void setPublishIntervalMs(long publishIntervalMs) {
+        this.publishIntervalMs = publishIntervalMs;
+    }
+}
@@ -0,0 +1,67 @@
+package com.crypto.prayer.adapter.out.redis;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "prayer.leader-election")
+public class LeaderElectionConfig {
+
+    private boolean enabled = false;
+
+    private String leaseKey = "prayer:broadcast:leader";
+    private String fencingTokenKey = "prayer:broadcast:fencing-token";
+    private String relayChannel = "prayer:broadcast:stats";
+
+    // 리스 TTL은 갱신 주기보다 충분히 길어야 한다
+    private long leaseTtlMs = 2000;
+    private long renewIntervalMs = 500;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getLeaseKey() {
+        return leaseKey;
+    }
+
+    public void setLeaseKey(String leaseKey) {
+        this.leaseKey = leaseKey;
+    }
+
+    public String getFencingTokenKey() {
+        return fencingTokenKey;
+    }
+
+    public void setFencingTokenKey(String fencingTokenKey) {
+        this.fencingTokenKey = fencingTokenKey;
+    }
+
+    public String getRelayChannel() {
+        return relayChannel;
+    }
+
+    public void setRelayChannel(String relayChannel) {
+        this.relayChannel = relayChannel;
+    }
+
+    public long getLeaseTtlMs() {
+        return leaseTtlMs;
+    }
+
+    public void setLeaseTtlMs(long leaseTtlMs) {
+        this.leaseTtlMs = leaseTtlMs;
+    }
+
+    public long getRenewIntervalMs() {
+        return renewIntervalMs;
+    }
+
+    public void setRenewIntervalMs(long renewIntervalMs) {
+        this.renewIntervalMs = renewIntervalMs;
+    }
+}
@@ -0,0 +1,61 @@
+package com.crypto.prayer.adapter.out.redis;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "prayer.history")
+public class PrayerHistoryConfig {
+
+    private boolean enabled = true;
+
+    // 분 버킷 델타를 모아 HINCRBY 한 번의 스크립트로 반영하는 주기
+    private long flushIntervalMs = 1000;
+
+    // 날짜 해시 TTL (보관 일수 + 1일)
+    private int retentionDays = 7;
+
+    // 분이 끝난 뒤 이 시간이 지나면 닫힌 버킷으로 보고 메모리에 캐시
+    private long cacheGraceMs = 5000;
+    private int cacheMaxMinutes = 10080;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getFlushIntervalMs() {
+        return flushIntervalMs;
+    }
+
+    public void setFlushIntervalMs(long flushIntervalMs) {
+        this.flushIntervalMs = flushIntervalMs;
+    }
+
+    public int getRetentionDays() {
+        return retentionDays;
+    }
+
+    public void setRetentionDays(int retentionDays) {
+        this.retentionDays = retentionDays;
+    }
+
+    public long getCacheGraceMs() {
+        return cacheGraceMs;
+    }
+
+    public void setCacheGraceMs(long cacheGraceMs) {
+        this.cacheGraceMs = cacheGraceMs;
+    }
+
+    public int getCacheMaxMinutes() {
+        return cacheMaxMinutes;
+    }
+
+    public void setCacheMaxMinutes(int cacheMaxMinutes) {
+        this.cacheMaxMinutes = cacheMaxMinutes;
+    }
+}
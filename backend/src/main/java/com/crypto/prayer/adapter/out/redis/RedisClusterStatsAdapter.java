@@ -0,0 +1,159 @@
+package com.crypto.prayer.adapter.out.redis;
+
+import com.crypto.prayer.application.port.out.ClusterStatsPort;
+import com.crypto.prayer.application.service.RpmCalculator;
+import com.crypto.prayer.domain.model.Side;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 멀티 레플리카 클러스터 RPM 집계
+ * 각 노드는 틱마다 로컬 클릭 델타를 Redis 채널에 한 번 발행하고,
+ * 모든 노드의 델타를 클러스터 윈도우에 병합한다.
+ * 메시지 형식: {nodeId}:{epochMillis}:{up}:{down}
+ */
+@Component
+public class RedisClusterStatsAdapter implements ClusterStatsPort, MessageListener {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisClusterStatsAdapter.class);
+
+    private static final char SEPARATOR = ':';
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ClusterStatsConfig config;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final RpmCalculator clusterWindow = new RpmCalculator();
+    private final LongAdder upUnpublished = new LongAdder();
+    private final LongAdder downUnpublished = new LongAdder();
+
+    private ScheduledExecutorService scheduler;
+
+    public RedisClusterStatsAdapter(
+            StringRedisTemplate redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            ClusterStatsConfig config) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.config = config;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        listenerContainer.addMessageListener(this, new ChannelTopic(config.getChannel()));
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cluster-stats-publish");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(
+            this::publishDeltas,
+            config.getPublishIntervalMs(),
+            config.getPublishIntervalMs(),
+            TimeUnit.MILLISECONDS
+        );
+        log.info("Cluster stats enabled: nodeId={}, channel={}", nodeId, config.getChannel());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    @Override
+    public void record(Side side, long count) {
+        if (!config.isEnabled() || count <= 0) {
+            return;
+        }
+
+        // 로컬 클릭은 즉시 클러스터 윈도우에 반영하고, 발행 대기 델타에도 누적
+        clusterWindow.record(side, count);
+        switch (side) {
+            case UP -> upUnpublished.add(count);
+            case DOWN -> downUnpublished.add(count);
+        }
+    }
+
+    @Override
+    public double getClusterRpm(Side side) {
+        return clusterWindow.getRpm(side);
+    }
+
+    /**
+     * 틱마다 누적된 로컬 델타를 한 번에 발행
+     */
+    public void publishDeltas() {
+        if (!config.isEnabled()) {
+            return;
+        }
+
+        long up = upUnpublished.sumThenReset();
+        long down = downUnpublished.sumThenReset();
+        if (up == 0 && down == 0) {
+            return;
+        }
+
+        String message = nodeId + SEPARATOR + System.currentTimeMillis()
+            + SEPARATOR + up + SEPARATOR + down;
+        try {
+            redisTemplate.convertAndSend(config.getChannel(), message);
+        } catch (Exception e) {
+            // RPM은 휘발성 통계이므로 재시도하지 않는다 (로컬 윈도우에는 이미 반영됨)
+            log.warn("Failed to publish cluster stats delta: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split(String.valueOf(SEPARATOR));
+        if (parts.length != 4) {
+            log.warn("Malformed cluster stats message: {}", body);
+            return;
+        }
+
+        // 자기 노드의 델타는 record 시점에 이미 반영됨
+        if (nodeId.equals(parts[0])) {
+            return;
+        }
+
+        try {
+            long epochMillis = Long.parseLong(parts[1]);
+            clusterWindow.recordAt(Side.UP, Long.parseLong(parts[2]), epochMillis);
+            clusterWindow.recordAt(Side.DOWN, Long.parseLong(parts[3]), epochMillis);
+        } catch (NumberFormatException e) {
+            log.warn("Malformed cluster stats message: {}", body);
+        }
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+}
@@ -12,6 +12,7 @@ public class RedisKeyGenerator {
     private static final String PREFIX = "prayer";
     private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
     private static final long TTL_HOURS = 48;
+    private static final String HISTORY_PREFIX = "prayer:history";
 
     public String generateKey(Side side) {
         return generateKey(LocalDate.now(), side);
@@ -30,6 +31,13 @@ public class RedisKeyGenerator {
         return generateKey(Side.DOWN);
     }
 
+    /**
+     * 날짜별 분 버킷 히스토리 해시 키 (prayer:history:yyyyMMdd, UTC 기준)
+     */
+    public String generateHistoryKey(LocalDate date) {
+        return HISTORY_PREFIX + ":" + date.format(DATE_FORMAT);
+    }
+
     public long getTtlSeconds() {
         return TTL_HOURS * 60 * 60;
     }
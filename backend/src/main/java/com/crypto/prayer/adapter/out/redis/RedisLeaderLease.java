@@ -0,0 +1,106 @@
+package com.crypto.prayer.adapter.out.redis;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Redis 리스 기반 리더 선출
+ * 리스를 새로 획득할 때마다 단조 증가하는 펜싱 토큰을 발급하여
+ * 리스가 만료된 이전 리더의 발행을 팔로워가 걸러낼 수 있게 한다.
+ */
+@Component
+public class RedisLeaderLease {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisLeaderLease.class);
+
+    public static final long NOT_LEADER = -1L;
+
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = RedisScript.of(
+        new ClassPathResource("redis/acquire-lease.lua"), Long.class);
+    private static final RedisScript<Long> RELEASE_SCRIPT = RedisScript.of(
+        new ClassPathResource("redis/release-lease.lua"), Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final LeaderElectionConfig config;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private volatile long fencingToken = NOT_LEADER;
+
+    public RedisLeaderLease(
+            StringRedisTemplate redisTemplate,
+            LeaderElectionConfig config,
+            ClusterStatsConfig clusterStatsConfig) {
+        // 리더의 RPM이 노드 로컬 값이면 모든 레플리카가 클러스터 RPM의 1/N만 보게 된다
+        if (config.isEnabled() && !clusterStatsConfig.isEnabled()) {
+            throw new IllegalStateException("prayer.leader-election requires prayer.cluster-stats.enabled");
+        }
+        this.redisTemplate = redisTemplate;
+        this.config = config;
+    }
+
+    /**
+     * 리스 획득 또는 갱신
+     * @return 리더이면 펜싱 토큰, 아니면 NOT_LEADER
+     */
+    public long tryAcquireOrRenew() {
+        long previous = fencingToken;
+        long token;
+        try {
+            Long result = redisTemplate.execute(
+                ACQUIRE_SCRIPT,
+                List.of(config.getLeaseKey(), config.getFencingTokenKey()),
+                nodeId,
+                String.valueOf(config.getLeaseTtlMs())
+            );
+            token = result != null ? result : NOT_LEADER;
+        } catch (Exception e) {
+            // 리스 상태를 확인할 수 없으면 안전하게 리더에서 물러난다
+            log.warn("Leader lease check failed, stepping down: {}", e.getMessage());
+            token = NOT_LEADER;
+        }
+
+        fencingToken = token;
+        if (previous == NOT_LEADER && token != NOT_LEADER) {
+            log.info("Acquired broadcast leadership: nodeId={}, fencingToken={}", nodeId, token);
+        } else if (previous != NOT_LEADER && token == NOT_LEADER) {
+            log.info("Lost broadcast leadership: nodeId={}", nodeId);
+        }
+        return token;
+    }
+
+    /**
+     * 보유 중인 리스 해제 (종료 시 빠른 페일오버용)
+     */
+    public void release() {
+        if (fencingToken == NOT_LEADER) {
+            return;
+        }
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(config.getLeaseKey()), nodeId);
+            log.info("Released broadcast leadership: nodeId={}", nodeId);
+        } catch (Exception e) {
+            log.warn("Failed to release leader lease: {}", e.getMessage());
+        } finally {
+            fencingToken = NOT_LEADER;
+        }
+    }
+
+    public boolean isLeader() {
+        return fencingToken != NOT_LEADER;
+    }
+
+    public long getFencingToken() {
+        return fencingToken;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+}
@@ -5,10 +5,13 @@ import com.crypto.prayer.domain.model.PrayerCount;
 import com.crypto.prayer.domain.model.Side;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
-import java.time.Duration;
 import java.util.List;
 
 @Component
@@ -16,33 +19,89 @@ public class RedisPrayerCountAdapter implements PrayerCountPort {
 
     private static final Logger log = LoggerFactory.getLogger(RedisPrayerCountAdapter.class);
 
+    private static final long DEFAULT_CACHE_FRESHNESS_MS = 100;
+
+    // INCRBY + TTL을 한 번의 왕복으로 처리 (SHA 캐시 후 EVALSHA로 실행)
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> INCREMENT_SCRIPT = RedisScript.of(
+        new ClassPathResource("redis/increment-with-ttl.lua"), List.class);
+
     private final StringRedisTemplate redisTemplate;
     private final RedisKeyGenerator keyGenerator;
+    private final long cacheFreshnessNanos;
+
+    private volatile CachedCount lastKnown;
 
     public RedisPrayerCountAdapter(
             StringRedisTemplate redisTemplate,
             RedisKeyGenerator keyGenerator) {
+        this(redisTemplate, keyGenerator, DEFAULT_CACHE_FRESHNESS_MS);
+    }
+
+    @Autowired
+    public RedisPrayerCountAdapter(
+            StringRedisTemplate redisTemplate,
+            RedisKeyGenerator keyGenerator,
+            @Value("${prayer.count.cache-freshness-ms:100}") long cacheFreshnessMs) {
         this.redisTemplate = redisTemplate;
         this.keyGenerator = keyGenerator;
+        this.cacheFreshnessNanos = cacheFreshnessMs * 1_000_000L;
     }
 
     @Override
     public long increment(Side side, long delta) {
-        String key = keyGenerator.generateKey(side);
-        Long result = redisTemplate.opsForValue().increment(key, delta);
+        PrayerCount count = incrementAndGet(side, delta);
+        return switch (side) {
+            case UP -> count.upCount();
+            case DOWN -> count.downCount();
+        };
+    }
 
-        // TTL 설정 (최초 생성 시에만)
-        if (result != null && result == delta) {
-            redisTemplate.expire(key, Duration.ofSeconds(keyGenerator.getTtlSeconds()));
-        }
+    /**
+     * 기도 카운트 증가 후 UP/DOWN 카운트를 함께 반환
+     */
+    public PrayerCount incrementAndGet(Side side, long delta) {
+        return incrementAll(PrayerCount.zero().increment(side, delta));
+    }
 
-        return result != null ? result : 0L;
+    /**
+     * UP/DOWN 델타를 한 번의 스크립트 호출로 반영 (write-behind flush용)
+     * @return 반영 후 카운트
+     */
+    public PrayerCount incrementAll(PrayerCount delta) {
+        String upKey = keyGenerator.getUpKey();
+        String downKey = keyGenerator.getDownKey();
+
+        List<?> results = redisTemplate.execute(
+            INCREMENT_SCRIPT,
+            List.of(upKey, downKey),
+            String.valueOf(delta.upCount()),
+            String.valueOf(delta.downCount()),
+            String.valueOf(keyGenerator.getTtlSeconds())
+        );
+
+        PrayerCount count = new PrayerCount(toLong(results, 0), toLong(results, 1));
+        remember(upKey, count);
+        return count;
     }
 
+    /**
+     * 현재 카운트 조회
+     * 최근 증가 결과가 충분히 신선하면 MGET 없이 그 값을 반환한다
+     */
     @Override
     public PrayerCount getCount() {
+        String upKey = keyGenerator.getUpKey();
+
+        CachedCount cached = lastKnown;
+        if (cached != null
+                && cached.dayKey().equals(upKey)
+                && System.nanoTime() - cached.atNanos() < cacheFreshnessNanos) {
+            return cached.count();
+        }
+
         List<String> keys = List.of(
-            keyGenerator.getUpKey(),
+            upKey,
             keyGenerator.getDownKey()
         );
 
@@ -55,16 +114,15 @@ public class RedisPrayerCountAdapter implements PrayerCountPort {
         long upCount = parseCount(values.get(0));
         long downCount = parseCount(values.get(1));
 
-        return new PrayerCount(upCount, downCount);
+        PrayerCount count = new PrayerCount(upCount, downCount);
+        remember(upKey, count);
+        return count;
     }
 
     @Override
     public void merge(PrayerCount delta) {
-        if (delta.upCount() > 0) {
-            increment(Side.UP, delta.upCount());
-        }
-        if (delta.downCount() > 0) {
-            increment(Side.DOWN, delta.downCount());
+        if (delta.upCount() > 0 || delta.downCount() > 0) {
+            incrementAll(delta);
         }
         log.info("Merged fallback count: up={}, down={}", delta.upCount(), delta.downCount());
     }
@@ -82,6 +140,32 @@ public class RedisPrayerCountAdapter implements PrayerCountPort {
         }
     }
 
+    /**
+     * 같은 날짜 키라면 사이드별 최대값을 유지 (응답 순서가 뒤바뀌어도 역행하지 않도록)
+     */
+    private void remember(String dayKey, PrayerCount count) {
+        CachedCount previous = lastKnown;
+        PrayerCount merged = count;
+        if (previous != null && previous.dayKey().equals(dayKey)) {
+            merged = new PrayerCount(
+                Math.max(previous.count().upCount(), count.upCount()),
+                Math.max(previous.count().downCount(), count.downCount())
+            );
+        }
+        lastKnown = new CachedCount(dayKey, merged, System.nanoTime());
+    }
+
+    private long toLong(List<?> results, int index) {
+        if (results == null || results.size() <= index) {
+            return 0L;
+        }
+        Object value = results.get(index);
+        if (value instanceof Number number) {
+            return number.longValue();
+        }
+        return value != null ? parseCount(value.toString()) : 0L;
+    }
+
     private long parseCount(String value) {
         if (value == null || value.isEmpty()) {
             return 0L;
@@ -92,4 +176,6 @@ public class RedisPrayerCountAdapter implements PrayerCountPort {
             return 0L;
         }
     }
+
+    private record CachedCount(String dayKey, PrayerCount count, long atNanos) {}
 }
@@ -0,0 +1,337 @@
+package com.crypto.prayer.adapter.out.redis;
+
+import com.crypto.prayer.application.port.out.PrayerHistoryPort;
+import com.crypto.prayer.domain.model.PrayerCount;
+import com.crypto.prayer.domain.model.Side;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 분 단위 기도 히스토리
+ * UTC 날짜별 해시 하나(prayer:history:yyyyMMdd)에 "{하루 중 분}:u", "{하루 중 분}:d" 필드로 저장한다.
+ * 클릭은 분별 LongAdder에 모았다가 flush 주기마다 HINCRBY 스크립트 한 번으로 반영하고,
+ * 닫힌 분 버킷은 더 바뀌지 않으므로 조회 결과를 메모리에 캐시해 다시 읽지 않는다.
+ */
+@Component
+public class RedisPrayerHistoryAdapter implements PrayerHistoryPort {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisPrayerHistoryAdapter.class);
+
+    private static final long MINUTE_MS = 60_000L;
+    private static final int MINUTES_PER_DAY = 1440;
+    private static final String UP_SUFFIX = ":u";
+    private static final String DOWN_SUFFIX = ":d";
+    private static final PrayerCount EMPTY = PrayerCount.zero();
+
+    private static final RedisScript<Long> HINCRBY_SCRIPT = RedisScript.of(
+        new ClassPathResource("redis/history-hincrby.lua"), Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisKeyGenerator keyGenerator;
+    private final PrayerHistoryConfig config;
+    private final LongSupplier clock;
+
+    // epoch minute → 아직 반영되지 않은 델타
+    private final ConcurrentHashMap<Long, MinuteDeltas> pending = new ConcurrentHashMap<>();
+    private final Object flushLock = new Object();
+
+    // 닫힌 분 버킷 (빈 분은 EMPTY), 접근 순서 LRU
+    private final LinkedHashMap<Long, PrayerCount> closedMinutes;
+
+    private ScheduledExecutorService scheduler;
+
+    @Autowired
+    public RedisPrayerHistoryAdapter(
+            StringRedisTemplate redisTemplate,
+            RedisKeyGenerator keyGenerator,
+            PrayerHistoryConfig config) {
+        this(redisTemplate, keyGenerator, config, System::currentTimeMillis);
+    }
+
+    public RedisPrayerHistoryAdapter(
+            StringRedisTemplate redisTemplate,
+            RedisKeyGenerator keyGenerator,
+            PrayerHistoryConfig config,
+            LongSupplier clock) {
+        this.redisTemplate = redisTemplate;
+        this.keyGenerator = keyGenerator;
+        this.config = config;
+        this.clock = clock;
+        int maxMinutes = Math.max(1, config.getCacheMaxMinutes());
+        this.closedMinutes = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, PrayerCount> eldest) {
+                return size() > maxMinutes;
+            }
+        };
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!config.isEnabled()) {
+            return;
+        }
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "prayer-history-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(
+            this::flushQuietly,
+            config.getFlushIntervalMs(),
+            config.getFlushIntervalMs(),
+            TimeUnit.MILLISECONDS
+        );
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdownNow();
+        // 종료 시 남은 델타를 한 번 더 반영
+        flushQuietly();
+    }
+
+    @Override
+    public void record(Side side, long count) {
+        if (!config.isEnabled() || count <= 0) {
+            return;
+        }
+        long minute = clock.getAsLong() / MINUTE_MS;
+        pending.computeIfAbsent(minute, key -> new MinuteDeltas()).add(side, count);
+    }
+
+    /**
+     * 분별 델타를 한 번의 스크립트 호출로 반영
+     * 실패하면 보관 기간 안의 델타를 다시 pending에 넣어 다음 flush에서 재시도한다.
+     */
+    public void flush() {
+        if (!config.isEnabled()) {
+            return;
+        }
+
+        synchronized (flushLock) {
+            long currentMinute = clock.getAsLong() / MINUTE_MS;
+            Map<Long, PrayerCount> batch = new HashMap<>();
+            for (Map.Entry<Long, MinuteDeltas> entry : pending.entrySet()) {
+                long minute = entry.getKey();
+                MinuteDeltas deltas = entry.getValue();
+                // 직전 분까지는 늦게 도착한 기록이 있을 수 있으므로 그보다 오래된 분만 비운다
+                if (minute < currentMinute - 1) {
+                    pending.remove(minute, deltas);
+                }
+                PrayerCount delta = deltas.drain();
+                if (delta.total() > 0) {
+                    batch.put(minute, delta);
+                }
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            try {
+                write(batch);
+            } catch (RuntimeException e) {
+                long oldestRetained = currentMinute - retentionMinutes();
+                batch.forEach((minute, delta) -> {
+                    if (minute >= oldestRetained) {
+                        pending.computeIfAbsent(minute, key -> new MinuteDeltas()).addAll(delta);
+                    }
+                });
+                log.warn("Prayer history flush failed, will retry: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 보관 기간과 현재 분으로 구간을 자른 뒤, 앞쪽의 캐시된 닫힌 분은 건너뛰고 나머지 분의 필드만 HMGET으로 읽는다
+     */
+    @Override
+    public SortedMap<Long, PrayerCount> findByMinute(long fromMinute, long toMinute) {
+        long now = clock.getAsLong();
+        long currentMinute = now / MINUTE_MS;
+        long from = Math.max(fromMinute, currentMinute - retentionMinutes());
+        long to = Math.min(toMinute, currentMinute + 1);
+
+        SortedMap<Long, PrayerCount> result = new TreeMap<>();
+        if (from >= to) {
+            return result;
+        }
+
+        long firstUncached = from;
+        synchronized (closedMinutes) {
+            while (firstUncached < to) {
+                PrayerCount cached = closedMinutes.get(firstUncached);
+                if (cached == null) {
+                    break;
+                }
+                if (cached.total() > 0) {
+                    result.put(firstUncached, cached);
+                }
+                firstUncached++;
+            }
+        }
+        if (firstUncached >= to) {
+            return result;
+        }
+
+        Map<Long, PrayerCount> loaded = load(firstUncached, to);
+        result.putAll(loaded);
+        cacheClosed(firstUncached, to, loaded, now);
+        return result;
+    }
+
+    private void write(Map<Long, PrayerCount> batch) {
+        List<String> keys = new ArrayList<>(batch.size() * 2);
+        List<String> args = new ArrayList<>(batch.size() * 4 + 1);
+        args.add(String.valueOf(ttlSeconds()));
+
+        batch.forEach((minute, delta) -> {
+            String key = keyGenerator.generateHistoryKey(dayOf(minute));
+            int minuteOfDay = (int) Math.floorMod(minute, (long) MINUTES_PER_DAY);
+            if (delta.upCount() > 0) {
+                keys.add(key);
+                args.add(minuteOfDay + UP_SUFFIX);
+                args.add(String.valueOf(delta.upCount()));
+            }
+            if (delta.downCount() > 0) {
+                keys.add(key);
+                args.add(minuteOfDay + DOWN_SUFFIX);
+                args.add(String.valueOf(delta.downCount()));
+            }
+        });
+
+        redisTemplate.execute(HINCRBY_SCRIPT, keys, args.toArray());
+    }
+
+    private Map<Long, PrayerCount> load(long fromMinute, long toMinute) {
+        Map<Long, PrayerCount> loaded = new HashMap<>();
+        long firstDay = Math.floorDiv(fromMinute, (long) MINUTES_PER_DAY);
+        long lastDay = Math.floorDiv(toMinute - 1, (long) MINUTES_PER_DAY);
+
+        for (long day = firstDay; day <= lastDay; day++) {
+            String key = keyGenerator.generateHistoryKey(LocalDate.ofEpochDay(day));
+            long dayStart = day * MINUTES_PER_DAY;
+            long first = Math.max(fromMinute, dayStart);
+            long end = Math.min(toMinute, dayStart + MINUTES_PER_DAY);
+
+            // 분마다 [up, down] 순서로 필드를 요청
+            List<Object> fields = new ArrayList<>((int) (end - first) * 2);
+            for (long minute = first; minute < end; minute++) {
+                long minuteOfDay = minute - dayStart;
+                fields.add(minuteOfDay + UP_SUFFIX);
+                fields.add(minuteOfDay + DOWN_SUFFIX);
+            }
+            List<Object> values = redisTemplate.opsForHash().multiGet(key, fields);
+
+            for (int i = 0; i < values.size(); i++) {
+                Object value = values.get(i);
+                if (value == null) {
+                    continue;
+                }
+                long count;
+                try {
+                    count = Long.parseLong(value.toString());
+                } catch (NumberFormatException e) {
+                    continue;
+                }
+                Side side = i % 2 == 0 ? Side.UP : Side.DOWN;
+                loaded.merge(first + i / 2, EMPTY.increment(side, count), PrayerCount::merge);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 유예 시간이 지났고 재시도 대기 델타도 없는 분만 캐시 (빈 분도 EMPTY로 캐시)
+     */
+    private void cacheClosed(long fromMinute, long toMinute, Map<Long, PrayerCount> loaded, long now) {
+        long closedBefore = (now - config.getCacheGraceMs()) / MINUTE_MS;
+        for (Long minute : pending.keySet()) {
+            closedBefore = Math.min(closedBefore, minute);
+        }
+
+        long end = Math.min(toMinute, closedBefore);
+        if (end <= fromMinute) {
+            return;
+        }
+        synchronized (closedMinutes) {
+            for (long minute = fromMinute; minute < end; minute++) {
+                closedMinutes.put(minute, loaded.getOrDefault(minute, EMPTY));
+            }
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.warn("Prayer history flush failed: {}", e.getMessage());
+        }
+    }
+
+    private long retentionMinutes() {
+        return (long) config.getRetentionDays() * MINUTES_PER_DAY;
+    }
+
+    private long ttlSeconds() {
+        return (config.getRetentionDays() + 1L) * 24 * 60 * 60;
+    }
+
+    private static LocalDate dayOf(long minute) {
+        return LocalDate.ofEpochDay(Math.floorDiv(minute, (long) MINUTES_PER_DAY));
+    }
+
+    int cachedMinutes() {
+        synchronized (closedMinutes) {
+            return closedMinutes.size();
+        }
+    }
+
+    private static final class MinuteDeltas {
+
+        private final LongAdder up = new LongAdder();
+        private final LongAdder down = new LongAdder();
+
+        void add(Side side, long count) {
+            switch (side) {
+                case UP -> up.add(count);
+                case DOWN -> down.add(count);
+            }
+        }
+
+        void addAll(PrayerCount delta) {
+            up.add(delta.upCount());
+            down.add(delta.downCount());
+        }
+
+        PrayerCount drain() {
+            return new PrayerCount(up.sumThenReset(), down.sumThenReset());
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.crypto.prayer.adapter.out.redis;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Redis GCRA 토큰 리스
+ * 키마다 TAT 하나를 Redis에 두고, 노드는 한 번의 스크립트 호출로 여러 토큰을 받아 로컬에서 소비한다.
+ * 예외는 호출자가 로컬 한도로 대체할 수 있도록 그대로 던진다.
+ */
+@Component
+public class RedisRateLimitLeaser {
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> LEASE_SCRIPT = RedisScript.of(
+        new ClassPathResource("redis/gcra-lease.lua"), List.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = RedisScript.of(
+        new ClassPathResource("redis/gcra-release.lua"), Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisRateLimitLeaser(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * @param key TAT 키
+     * @param intervalMicros 요청 간격 T
+     * @param toleranceMicros 허용 오차 τ = T × (burst - 1)
+     * @param requested 받아 올 최대 토큰 수
+     */
+    public Grant lease(String key, long intervalMicros, long toleranceMicros, int requested) {
+        List<?> result = redisTemplate.execute(
+            LEASE_SCRIPT,
+            List.of(key),
+            String.valueOf(intervalMicros),
+            String.valueOf(toleranceMicros),
+            String.valueOf(requested)
+        );
+        if (result == null || result.size() < 2) {
+            throw new IllegalStateException("Unexpected rate limit lease result: " + result);
+        }
+        return new Grant(
+            ((Number) result.get(0)).intValue(),
+            ((Number) result.get(1)).longValue());
+    }
+
+    /**
+     * 쓰지 않은 리스 토큰 반납 (TAT를 반납 수만큼 당긴다)
+     * @param key TAT 키
+     * @param intervalMicros 요청 간격 T
+     * @param tokens 반납할 토큰 수
+     */
+    public void release(String key, long intervalMicros, int tokens) {
+        redisTemplate.execute(
+            RELEASE_SCRIPT,
+            List.of(key),
+            String.valueOf(intervalMicros),
+            String.valueOf(tokens)
+        );
+    }
+
+    /**
+     * @param tokens 발급된 토큰 수
+     * @param retryAfterMs 발급이 0이면 다음 토큰까지 남은 시간
+     */
+    public record Grant(int tokens, long retryAfterMs) {}
+}
@@ -0,0 +1,152 @@
+package com.crypto.prayer.adapter.out.redis;
+
+import com.crypto.prayer.adapter.in.websocket.dto.PrayerResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * 리더가 계산한 기도 통계를 모든 노드로 중계
+ * 리더는 프레임을 한 번 발행하고, 각 노드는 수신한 최신 프레임만 보관했다가
+ * 자기 브로드캐스트 틱에 꺼내 로컬 세션에 전달한다. (팬아웃 비용과 간격은 노드별로 측정·조정)
+ * 메시지 형식: {fencingToken}|{leaderId}|{PrayerResponse JSON}
+ */
+@Component
+public class RedisStatsRelay implements MessageListener {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisStatsRelay.class);
+
+    private static final char SEPARATOR = '|';
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final LeaderElectionConfig config;
+    private final ObjectMapper objectMapper;
+    private final LongSupplier clock;
+
+    // 지금까지 수신한 가장 높은 펜싱 토큰 (this로 보호)
+    private long highestToken = 0;
+    // 더 낮은 토큰으로 계속 발행 중인 리더와 처음 본 시각
+    private String lowerTokenLeaderId;
+    private long lowerTokenSince;
+
+    // 아직 로컬 세션에 전달하지 않은 최신 프레임
+    private final AtomicReference<PrayerResponse> latest = new AtomicReference<>();
+
+    @Autowired
+    public RedisStatsRelay(
+            StringRedisTemplate redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            LeaderElectionConfig config,
+            ObjectMapper objectMapper) {
+        this(redisTemplate, listenerContainer, config, objectMapper, System::currentTimeMillis);
+    }
+
+    public RedisStatsRelay(
+            StringRedisTemplate redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            LeaderElectionConfig config,
+            ObjectMapper objectMapper,
+            LongSupplier clock) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.config = config;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        listenerContainer.addMessageListener(this, new ChannelTopic(config.getRelayChannel()));
+        log.info("Prayer stats relay subscribed: channel={}", config.getRelayChannel());
+    }
+
+    /**
+     * 리더 전용: 통계 프레임 발행
+     */
+    public void publish(long fencingToken, String leaderId, PrayerResponse response) {
+        try {
+            String json = objectMapper.writeValueAsString(response);
+            redisTemplate.convertAndSend(config.getRelayChannel(),
+                fencingToken + String.valueOf(SEPARATOR) + leaderId + SEPARATOR + json);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize prayer stats: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 직전 호출 이후 수신한 최신 프레임을 꺼낸다 (없으면 null)
+     * 틱 사이에 여러 프레임이 오면 마지막 것만 남는다.
+     */
+    public PrayerResponse takeLatest() {
+        return latest.getAndSet(null);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(SEPARATOR);
+        int leaderSeparator = separator > 0 ? body.indexOf(SEPARATOR, separator + 1) : -1;
+        if (leaderSeparator <= separator + 1) {
+            log.warn("Malformed prayer stats frame");
+            return;
+        }
+
+        try {
+            long token = Long.parseLong(body.substring(0, separator));
+            String leaderId = body.substring(separator + 1, leaderSeparator);
+            if (!acceptToken(token, leaderId)) {
+                return;
+            }
+
+            PrayerResponse response = objectMapper.readValue(body.substring(leaderSeparator + 1), PrayerResponse.class);
+            latest.set(response);
+        } catch (NumberFormatException | JsonProcessingException e) {
+            log.warn("Malformed prayer stats frame: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 펜싱: 더 새로운 리더가 이미 발행했다면 이전 리더의 프레임은 버린다
+     * 단, 같은 리더가 낮은 토큰으로 리스 TTL 넘게 계속 발행하면 Redis의 펜싱 키가
+     * 유실·재생성된 것으로 보고 그 토큰부터 다시 받는다. (이전 리더라면 그 전에 리스 갱신에 실패해 발행을 멈춘다)
+     */
+    private synchronized boolean acceptToken(long token, String leaderId) {
+        if (token >= highestToken) {
+            highestToken = token;
+            lowerTokenLeaderId = null;
+            return true;
+        }
+
+        long now = clock.getAsLong();
+        if (!leaderId.equals(lowerTokenLeaderId)) {
+            lowerTokenLeaderId = leaderId;
+            lowerTokenSince = now;
+        } else if (now - lowerTokenSince >= config.getLeaseTtlMs()) {
+            log.warn("Fencing token went backwards for over {}ms, resetting: leaderId={}, token={}, highest={}",
+                config.getLeaseTtlMs(), leaderId, token, highestToken);
+            highestToken = token;
+            lowerTokenLeaderId = null;
+            return true;
+        }
+
+        log.debug("Dropped stale prayer stats frame: token={}, highest={}", token, highestToken);
+        return false;
+    }
+}
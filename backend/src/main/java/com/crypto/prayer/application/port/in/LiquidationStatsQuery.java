@@ -0,0 +1,17 @@
+package com.crypto.prayer.application.port.in;
+
+import com.crypto.prayer.domain.model.LiquidationLeaderboard;
+import com.crypto.prayer.domain.model.LiquidationSummary;
+
+public interface LiquidationStatsQuery {
+
+    /**
+     * 1m/5m/1h/24h 윈도우별 롱/숏 청산 집계 조회
+     */
+    LiquidationSummary getSummary();
+
+    /**
+     * 최근 청산이 많은 심볼 상위 K개 (USD 기준, 건수 기준)
+     */
+    LiquidationLeaderboard getLeaderboard();
+}
@@ -0,0 +1,11 @@
+package com.crypto.prayer.application.port.in;
+
+import com.crypto.prayer.domain.model.Liquidation;
+
+public interface LiquidationStatsUseCase {
+
+    /**
+     * 청산 한 건을 롤링 윈도우 집계에 반영
+     */
+    void record(Liquidation liquidation);
+}
@@ -0,0 +1,13 @@
+package com.crypto.prayer.application.port.in;
+
+import com.crypto.prayer.domain.model.HistoryResolution;
+import com.crypto.prayer.domain.model.PrayerHistory;
+
+public interface PrayerHistoryQuery {
+
+    /**
+     * [from, to) 구간 기도 수를 resolution 단위로 합산
+     * @throws IllegalArgumentException 구간이 비었거나 버킷 수가 너무 많을 때
+     */
+    PrayerHistory getHistory(long from, long to, HistoryResolution resolution);
+}
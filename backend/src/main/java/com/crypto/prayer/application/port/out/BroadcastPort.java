@@ -1,6 +1,9 @@
 package com.crypto.prayer.application.port.out;
 
+import com.crypto.prayer.adapter.in.websocket.dto.LiquidationBatchMessage;
+import com.crypto.prayer.adapter.in.websocket.dto.LiquidationLeaderboardMessage;
 import com.crypto.prayer.adapter.in.websocket.dto.LiquidationMessage;
+import com.crypto.prayer.adapter.in.websocket.dto.LiquidationSummaryMessage;
 import com.crypto.prayer.adapter.in.websocket.dto.PrayerResponse;
 import com.crypto.prayer.adapter.in.websocket.dto.TickerMessage;
 
@@ -11,4 +14,10 @@ public interface BroadcastPort {
     void broadcastTicker(TickerMessage ticker);
 
     void broadcastLiquidation(LiquidationMessage liquidation);
+
+    void broadcastLiquidationBatch(LiquidationBatchMessage batch);
+
+    void broadcastLiquidationSummary(LiquidationSummaryMessage summary);
+
+    void broadcastLiquidationLeaderboard(LiquidationLeaderboardMessage leaderboard);
 }
@@ -0,0 +1,21 @@
+package com.crypto.prayer.application.port.out;
+
+import com.crypto.prayer.domain.model.Side;
+
+public interface ClusterStatsPort {
+
+    /**
+     * 클러스터 통계 모드 활성화 여부
+     */
+    boolean isEnabled();
+
+    /**
+     * 로컬 노드의 기도 기록 (다음 틱에 다른 노드로 전파)
+     */
+    void record(Side side, long count);
+
+    /**
+     * 모든 노드를 합산한 RPM 조회
+     */
+    double getClusterRpm(Side side);
+}
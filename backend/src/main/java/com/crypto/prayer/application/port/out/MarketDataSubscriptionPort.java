@@ -0,0 +1,14 @@
+package com.crypto.prayer.application.port.out;
+
+public interface MarketDataSubscriptionPort {
+
+    /**
+     * 심볼 티커 토픽에 로컬 구독이 하나 생김
+     */
+    void acquireTicker(String symbol);
+
+    /**
+     * 심볼 티커 토픽의 로컬 구독이 하나 사라짐
+     */
+    void releaseTicker(String symbol);
+}
@@ -0,0 +1,22 @@
+package com.crypto.prayer.application.port.out;
+
+import com.crypto.prayer.domain.model.PrayerCount;
+import com.crypto.prayer.domain.model.Side;
+
+import java.util.SortedMap;
+
+public interface PrayerHistoryPort {
+
+    /**
+     * 현재 분 버킷에 기도 기록 (다음 flush에 저장소로 반영)
+     */
+    void record(Side side, long count);
+
+    /**
+     * 분 버킷 조회
+     * @param fromMinute 시작 분 (epoch minute, 포함)
+     * @param toMinute 끝 분 (epoch minute, 제외)
+     * @return 기도가 있었던 분만 담은 epoch minute → 카운트
+     */
+    SortedMap<Long, PrayerCount> findByMinute(long fromMinute, long toMinute);
+}
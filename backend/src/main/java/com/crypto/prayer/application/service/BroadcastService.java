@@ -1,8 +1,18 @@
 package com.crypto.prayer.application.service;
 
+import com.crypto.prayer.adapter.in.websocket.binary.BinaryEndpointHandler;
+import com.crypto.prayer.adapter.in.websocket.binary.BinaryProtocol;
+import com.crypto.prayer.adapter.in.websocket.delta.PrayerDeltaEncoder;
+import com.crypto.prayer.adapter.in.websocket.dto.LiquidationBatchMessage;
+import com.crypto.prayer.adapter.in.websocket.dto.LiquidationLeaderboardMessage;
 import com.crypto.prayer.adapter.in.websocket.dto.LiquidationMessage;
+import com.crypto.prayer.adapter.in.websocket.dto.LiquidationSummaryMessage;
+import com.crypto.prayer.adapter.in.websocket.dto.PrayerDeltaMessage;
 import com.crypto.prayer.adapter.in.websocket.dto.PrayerResponse;
 import com.crypto.prayer.adapter.in.websocket.dto.TickerMessage;
+import com.crypto.prayer.adapter.in.websocket.fanout.EncodeOnceBroadcaster;
+import com.crypto.prayer.adapter.in.websocket.snapshot.SnapshotCache;
+import com.crypto.prayer.adapter.out.binance.BinanceConfig;
 import com.crypto.prayer.application.port.out.BroadcastPort;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,31 +25,105 @@ public class BroadcastService implements BroadcastPort {
     private static final Logger log = LoggerFactory.getLogger(BroadcastService.class);
 
     private static final String TOPIC_PRAYER = "/topic/prayer";
+    private static final String TOPIC_PRAYER_DELTA = "/topic/prayer/delta";
     private static final String TOPIC_TICKER = "/topic/ticker";
     private static final String TOPIC_LIQUIDATION = "/topic/liquidation";
+    private static final String TOPIC_LIQUIDATION_SUMMARY = "/topic/liquidation/summary";
+    private static final String TOPIC_LIQUIDATION_LEADERBOARD = "/topic/liquidation/leaderboard";
 
     private final SimpMessagingTemplate messagingTemplate;
+    private final EncodeOnceBroadcaster encodeOnceBroadcaster;
+    private final BinaryEndpointHandler binaryEndpointHandler;
+    private final PrayerDeltaEncoder prayerDeltaEncoder;
+    private final BinanceConfig binanceConfig;
+    private final SnapshotCache snapshotCache;
 
-    public BroadcastService(SimpMessagingTemplate messagingTemplate) {
+    public BroadcastService(
+            SimpMessagingTemplate messagingTemplate,
+            EncodeOnceBroadcaster encodeOnceBroadcaster,
+            BinaryEndpointHandler binaryEndpointHandler,
+            PrayerDeltaEncoder prayerDeltaEncoder,
+            BinanceConfig binanceConfig,
+            SnapshotCache snapshotCache) {
         this.messagingTemplate = messagingTemplate;
+        this.encodeOnceBroadcaster = encodeOnceBroadcaster;
+        this.binaryEndpointHandler = binaryEndpointHandler;
+        this.prayerDeltaEncoder = prayerDeltaEncoder;
+        this.binanceConfig = binanceConfig;
+        this.snapshotCache = snapshotCache;
     }
 
     @Override
     public void broadcastPrayerStats(PrayerResponse stats) {
-        messagingTemplate.convertAndSend(TOPIC_PRAYER, stats);
+        snapshotCache.updatePrayer(stats);
+        send(TOPIC_PRAYER, stats);
+        if (prayerDeltaEncoder.isEnabled()) {
+            PrayerDeltaMessage frame = prayerDeltaEncoder.encode(stats);
+            if (frame != null) {
+                send(TOPIC_PRAYER_DELTA, frame);
+            }
+        }
+        if (binaryEndpointHandler.hasSessions()) {
+            binaryEndpointHandler.broadcast(BinaryProtocol.encodePrayer(stats));
+        }
     }
 
     @Override
     public void broadcastTicker(TickerMessage ticker) {
-        messagingTemplate.convertAndSend(TOPIC_TICKER, ticker);
+        snapshotCache.updateTicker(ticker);
+        send(TOPIC_TICKER + "/" + ticker.symbol(), ticker);
+        // 기존 클라이언트는 심볼 구분 없이 /topic/ticker 하나만 보므로 대표 심볼만 보낸다
+        if (binanceConfig.isPrimarySymbol(ticker.symbol())) {
+            send(TOPIC_TICKER, ticker);
+            if (binaryEndpointHandler.hasSessions()) {
+                binaryEndpointHandler.broadcast(BinaryProtocol.encodeTicker(ticker));
+            }
+        }
         log.debug("Ticker broadcast: symbol={}, price={}",
             ticker.symbol(), ticker.price());
     }
 
     @Override
     public void broadcastLiquidation(LiquidationMessage liquidation) {
-        messagingTemplate.convertAndSend(TOPIC_LIQUIDATION, liquidation);
+        snapshotCache.addLiquidation(liquidation);
+        send(TOPIC_LIQUIDATION, liquidation);
+        if (binaryEndpointHandler.hasSessions()) {
+            binaryEndpointHandler.broadcast(BinaryProtocol.encodeLiquidation(liquidation));
+        }
         log.debug("Liquidation broadcast: symbol={}, side={}, value=${}",
             liquidation.symbol(), liquidation.side(), liquidation.usdValue());
     }
+
+    @Override
+    public void broadcastLiquidationBatch(LiquidationBatchMessage batch) {
+        snapshotCache.addLiquidations(batch.liquidations());
+        send(TOPIC_LIQUIDATION, batch);
+        if (binaryEndpointHandler.hasSessions()) {
+            binaryEndpointHandler.broadcast(BinaryProtocol.encodeLiquidations(batch.liquidations()));
+        }
+        log.debug("Liquidation batch broadcast: size={}", batch.liquidations().size());
+    }
+
+    @Override
+    public void broadcastLiquidationSummary(LiquidationSummaryMessage summary) {
+        snapshotCache.updateLiquidationSummary(summary);
+        send(TOPIC_LIQUIDATION_SUMMARY, summary);
+    }
+
+    @Override
+    public void broadcastLiquidationLeaderboard(LiquidationLeaderboardMessage leaderboard) {
+        snapshotCache.updateLiquidationLeaderboard(leaderboard);
+        send(TOPIC_LIQUIDATION_LEADERBOARD, leaderboard);
+    }
+
+    /**
+     * 팬아웃 모드 토픽은 한 번 인코딩한 프레임을 세션에 직접 쓰고, 나머지는 브로커를 거친다
+     */
+    private void send(String destination, Object payload) {
+        if (encodeOnceBroadcaster.handles(destination)) {
+            encodeOnceBroadcaster.broadcast(destination, payload);
+        } else {
+            messagingTemplate.convertAndSend(destination, payload);
+        }
+    }
 }
@@ -0,0 +1,74 @@
+package com.crypto.prayer.application.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "liquidation.leaderboard")
+public class LiquidationLeaderboardConfig {
+
+    private boolean enabled = true;
+
+    // 스케치 카운터 수 (심볼 종류 수와 무관한 고정 메모리), 클수록 순위 오차가 작다
+    private int capacity = 64;
+
+    // 발행할 순위 수
+    private int topK = 10;
+
+    // 값이 절반으로 줄어드는 시간 (롤링 윈도우 역할)
+    private long halfLifeMs = 300_000;
+
+    // 발행 주기
+    private long intervalMs = 5000;
+
+    // 순위와 모든 값의 상대 변화가 이 비율 이하이면 그 주기는 발행을 생략한다
+    private double changeEpsilon = 0.001;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public int getTopK() {
+        return topK;
+    }
+
+    public void setTopK(int topK) {
+        this.topK = topK;
+    }
+
+    public long getHalfLifeMs() {
+        return halfLifeMs;
+    }
+
+    public void setHalfLifeMs(long halfLifeMs) {
+        this.halfLifeMs = halfLifeMs;
+    }
+
+    public long getIntervalMs() {
+        return intervalMs;
+    }
+
+    public void setIntervalMs(long intervalMs) {
+        this.intervalMs = intervalMs;
+    }
+
+    public double getChangeEpsilon() {
+        return changeEpsilon;
+    }
+
+    public void setChangeEpsilon(double changeEpsilon) {
+        this.changeEpsilon = changeEpsilon;
+    }
+}
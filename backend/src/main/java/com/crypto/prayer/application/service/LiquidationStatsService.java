@@ -0,0 +1,64 @@
+package com.crypto.prayer.application.service;
+
+import com.crypto.prayer.application.port.in.LiquidationStatsQuery;
+import com.crypto.prayer.application.port.in.LiquidationStatsUseCase;
+import com.crypto.prayer.domain.model.Liquidation;
+import com.crypto.prayer.domain.model.LiquidationLeaderboard;
+import com.crypto.prayer.domain.model.LiquidationSummary;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.function.LongSupplier;
+
+@Service
+public class LiquidationStatsService implements LiquidationStatsUseCase, LiquidationStatsQuery {
+
+    private final LiquidationWindowAggregator aggregator;
+    private final SpaceSavingSketch usdValueSketch;
+    private final SpaceSavingSketch countSketch;
+    private final int topK;
+    private final LongSupplier clock;
+
+    @Autowired
+    public LiquidationStatsService(LiquidationLeaderboardConfig leaderboardConfig) {
+        this(leaderboardConfig, System::currentTimeMillis);
+    }
+
+    public LiquidationStatsService(LiquidationLeaderboardConfig leaderboardConfig, LongSupplier clock) {
+        this.aggregator = new LiquidationWindowAggregator(clock);
+        this.usdValueSketch = new SpaceSavingSketch(
+            leaderboardConfig.getCapacity(), leaderboardConfig.getHalfLifeMs(), clock);
+        this.countSketch = new SpaceSavingSketch(
+            leaderboardConfig.getCapacity(), leaderboardConfig.getHalfLifeMs(), clock);
+        this.topK = leaderboardConfig.getTopK();
+        this.clock = clock;
+    }
+
+    @Override
+    public void record(Liquidation liquidation) {
+        aggregator.record(liquidation.side(), liquidation.usdValue());
+        usdValueSketch.add(liquidation.symbol(), liquidation.usdValue());
+        countSketch.add(liquidation.symbol(), 1.0);
+    }
+
+    @Override
+    public LiquidationSummary getSummary() {
+        return aggregator.summary();
+    }
+
+    @Override
+    public LiquidationLeaderboard getLeaderboard() {
+        return new LiquidationLeaderboard(
+            toEntries(usdValueSketch.top(topK)),
+            toEntries(countSketch.top(topK)),
+            clock.getAsLong()
+        );
+    }
+
+    private static List<LiquidationLeaderboard.Entry> toEntries(List<SpaceSavingSketch.Entry> entries) {
+        return entries.stream()
+            .map(entry -> new LiquidationLeaderboard.Entry(entry.key(), entry.estimate(), entry.error()))
+            .toList();
+    }
+}
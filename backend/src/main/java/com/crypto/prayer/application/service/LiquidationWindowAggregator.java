@@ -0,0 +1,124 @@
+package com.crypto.prayer.application.service;
+
+import com.crypto.prayer.domain.model.Liquidation.LiquidationSide;
+import com.crypto.prayer.domain.model.LiquidationSummary;
+import com.crypto.prayer.domain.model.LiquidationSummary.Totals;
+import com.crypto.prayer.domain.model.LiquidationWindow;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * 롱/숏 청산 롤링 윈도우 집계기
+ * 1초 버킷 300개(1m/5m)와 1분 버킷 1440개(1h/24h)를 방향별로 두고 epoch 단위로 순환시킨다.
+ * 버킷마다 건수, USD 합계, 최대 단건 USD만 배열에 담으므로 이벤트 객체를 보관하지 않는다.
+ * 1h/24h는 분 단위 정밀도이며 현재 진행 중인 분을 포함한다.
+ * 청산 이벤트는 초당 수 건 수준이므로 단일 락으로 보호한다.
+ */
+public class LiquidationWindowAggregator {
+
+    private static final long SECOND_MS = 1000L;
+    private static final long MINUTE_MS = 60_000L;
+    private static final int SECOND_BUCKETS = 300;
+    private static final int MINUTE_BUCKETS = 1440;
+
+    private final LongSupplier clock;
+    private final Ring[] seconds = new Ring[LiquidationSide.values().length];
+    private final Ring[] minutes = new Ring[LiquidationSide.values().length];
+
+    public LiquidationWindowAggregator() {
+        this(System::currentTimeMillis);
+    }
+
+    public LiquidationWindowAggregator(LongSupplier clock) {
+        this.clock = clock;
+        for (int i = 0; i < seconds.length; i++) {
+            seconds[i] = new Ring(SECOND_BUCKETS);
+            minutes[i] = new Ring(MINUTE_BUCKETS);
+        }
+    }
+
+    public synchronized void record(LiquidationSide side, double usdValue) {
+        if (!(usdValue > 0)) {
+            return;
+        }
+        long now = clock.getAsLong();
+        seconds[side.ordinal()].add(now / SECOND_MS, usdValue);
+        minutes[side.ordinal()].add(now / MINUTE_MS, usdValue);
+    }
+
+    public synchronized Totals totals(LiquidationWindow window, LiquidationSide side) {
+        return totalsAt(window, side, clock.getAsLong());
+    }
+
+    public synchronized LiquidationSummary summary() {
+        long now = clock.getAsLong();
+        List<LiquidationSummary.WindowTotals> windows = new ArrayList<>(LiquidationWindow.values().length);
+        for (LiquidationWindow window : LiquidationWindow.values()) {
+            windows.add(new LiquidationSummary.WindowTotals(
+                window.label(),
+                totalsAt(window, LiquidationSide.LONG, now),
+                totalsAt(window, LiquidationSide.SHORT, now)
+            ));
+        }
+        return new LiquidationSummary(List.copyOf(windows), now);
+    }
+
+    private Totals totalsAt(LiquidationWindow window, LiquidationSide side, long now) {
+        if (window.durationMs() <= SECOND_BUCKETS * SECOND_MS) {
+            return seconds[side.ordinal()].sum(now / SECOND_MS, (int) (window.durationMs() / SECOND_MS));
+        }
+        return minutes[side.ordinal()].sum(now / MINUTE_MS, (int) (window.durationMs() / MINUTE_MS));
+    }
+
+    /**
+     * epoch 단위(초/분)로 순환하는 고정 크기 버킷 배열
+     */
+    private static final class Ring {
+
+        private final long[] units;
+        private final long[] counts;
+        private final double[] usdValues;
+        private final double[] maxUsdValues;
+
+        Ring(int size) {
+            this.units = new long[size];
+            this.counts = new long[size];
+            this.usdValues = new double[size];
+            this.maxUsdValues = new double[size];
+            Arrays.fill(units, Long.MIN_VALUE);
+        }
+
+        void add(long unit, double usdValue) {
+            int index = (int) Math.floorMod(unit, (long) units.length);
+            if (units[index] != unit) {
+                // 이전 회전의 버킷은 덮어쓴다
+                units[index] = unit;
+                counts[index] = 0;
+                usdValues[index] = 0.0;
+                maxUsdValues[index] = 0.0;
+            }
+            counts[index]++;
+            usdValues[index] += usdValue;
+            maxUsdValues[index] = Math.max(maxUsdValues[index], usdValue);
+        }
+
+        Totals sum(long currentUnit, int span) {
+            long count = 0;
+            double usdValue = 0.0;
+            double maxUsdValue = 0.0;
+            for (int i = 0; i < span; i++) {
+                long unit = currentUnit - i;
+                int index = (int) Math.floorMod(unit, (long) units.length);
+                if (units[index] == unit) {
+                    count += counts[index];
+                    usdValue += usdValues[index];
+                    maxUsdValue = Math.max(maxUsdValue, maxUsdValues[index]);
+                }
+            }
+            return count == 0 ? Totals.EMPTY : new Totals(count, usdValue, maxUsdValue);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.crypto.prayer.application.service;
+
+import com.crypto.prayer.application.port.in.PrayerHistoryQuery;
+import com.crypto.prayer.application.port.out.PrayerHistoryPort;
+import com.crypto.prayer.domain.model.HistoryResolution;
+import com.crypto.prayer.domain.model.PrayerCount;
+import com.crypto.prayer.domain.model.PrayerHistory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * 분 버킷 히스토리를 요청 해상도로 다운샘플링
+ * 구간은 해상도 경계로 맞추고, 아직 오지 않은 버킷은 잘라낸다.
+ */
+@Service
+public class PrayerHistoryService implements PrayerHistoryQuery {
+
+    // 1m 해상도로 하루, 5m 해상도로 5일
+    static final int MAX_BUCKETS = 1440;
+
+    private static final long MINUTE_MS = 60_000L;
+
+    private final PrayerHistoryPort historyPort;
+    private final LongSupplier clock;
+
+    @Autowired
+    public PrayerHistoryService(PrayerHistoryPort historyPort) {
+        this(historyPort, System::currentTimeMillis);
+    }
+
+    public PrayerHistoryService(PrayerHistoryPort historyPort, LongSupplier clock) {
+        this.historyPort = historyPort;
+        this.clock = clock;
+    }
+
+    @Override
+    public PrayerHistory getHistory(long from, long to, HistoryResolution resolution) {
+        if (from >= to) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+
+        long step = resolution.durationMs();
+        long start = Math.floorDiv(from, step) * step;
+        long currentBucketEnd = (Math.floorDiv(clock.getAsLong(), step) + 1) * step;
+        long end = Math.min(-Math.floorDiv(-to, step) * step, currentBucketEnd);
+        if (end <= start) {
+            return new PrayerHistory(resolution, start, start, List.of());
+        }
+
+        long bucketCount = (end - start) / step;
+        if (bucketCount > MAX_BUCKETS) {
+            throw new IllegalArgumentException(
+                "Too many buckets: " + bucketCount + " (max " + MAX_BUCKETS + ")");
+        }
+
+        long[] ups = new long[(int) bucketCount];
+        long[] downs = new long[(int) bucketCount];
+        for (Map.Entry<Long, PrayerCount> entry
+                : historyPort.findByMinute(start / MINUTE_MS, end / MINUTE_MS).entrySet()) {
+            int index = (int) ((entry.getKey() * MINUTE_MS - start) / step);
+            ups[index] += entry.getValue().upCount();
+            downs[index] += entry.getValue().downCount();
+        }
+
+        List<PrayerHistory.Bucket> buckets = new ArrayList<>((int) bucketCount);
+        for (int i = 0; i < bucketCount; i++) {
+            buckets.add(new PrayerHistory.Bucket(start + i * step, ups[i], downs[i]));
+        }
+        return new PrayerHistory(resolution, start, end, buckets);
+    }
+}
@@ -2,6 +2,8 @@ package com.crypto.prayer.application.service;
 
 import com.crypto.prayer.application.port.in.PrayerQuery;
 import com.crypto.prayer.application.port.in.PrayerUseCase;
+import com.crypto.prayer.application.port.out.ClusterStatsPort;
+import com.crypto.prayer.application.port.out.PrayerHistoryPort;
 import com.crypto.prayer.domain.model.Prayer;
 import com.crypto.prayer.domain.model.PrayerCount;
 import com.crypto.prayer.domain.model.PrayerStats;
@@ -9,16 +11,21 @@ import com.crypto.prayer.domain.model.Side;
 import com.crypto.prayer.infrastructure.fallback.FallbackManager;
 import org.springframework.stereotype.Service;
 
-import java.util.concurrent.ConcurrentLinkedQueue;
-
 @Service
 public class PrayerService implements PrayerUseCase, PrayerQuery {
 
     private final FallbackManager countPort;
+    private final ClusterStatsPort clusterStatsPort;
+    private final PrayerHistoryPort historyPort;
     private final RpmCalculator rpmCalculator;
 
-    public PrayerService(FallbackManager countPort) {
+    public PrayerService(
+            FallbackManager countPort,
+            ClusterStatsPort clusterStatsPort,
+            PrayerHistoryPort historyPort) {
         this.countPort = countPort;
+        this.clusterStatsPort = clusterStatsPort;
+        this.historyPort = historyPort;
         this.rpmCalculator = new RpmCalculator();
     }
 
@@ -27,15 +34,17 @@ public class PrayerService implements PrayerUseCase, PrayerQuery {
         Prayer prayer = Prayer.create(side, sessionId);
         countPort.increment(side, 1);
         rpmCalculator.record(side);
+        clusterStatsPort.record(side, 1);
+        historyPort.record(side, 1);
         return prayer;
     }
 
     @Override
     public void prayBatch(Side side, String sessionId, int count) {
         countPort.increment(side, count);
-        for (int i = 0; i < count; i++) {
-            rpmCalculator.record(side);
-        }
+        rpmCalculator.record(side, count);
+        clusterStatsPort.record(side, count);
+        historyPort.record(side, count);
     }
 
     @Override
@@ -46,50 +55,16 @@ public class PrayerService implements PrayerUseCase, PrayerQuery {
     @Override
     public PrayerStats getCurrentStats() {
         PrayerCount count = countPort.getCount();
-        double upRpm = rpmCalculator.getRpm(Side.UP);
-        double downRpm = rpmCalculator.getRpm(Side.DOWN);
-        return PrayerStats.create(count, upRpm, downRpm);
+        return PrayerStats.create(count, getRpm(Side.UP), getRpm(Side.DOWN));
     }
 
     /**
-     * 최근 60초 기준 RPM 계산기
+     * 클러스터 모드에서는 모든 노드를 합산한 RPM을 사용
      */
-    private static class RpmCalculator {
-        private static final long WINDOW_MS = 60_000L;
-
-        private final ConcurrentLinkedQueue<TimestampedEvent> upEvents = new ConcurrentLinkedQueue<>();
-        private final ConcurrentLinkedQueue<TimestampedEvent> downEvents = new ConcurrentLinkedQueue<>();
-
-        void record(Side side) {
-            long now = System.currentTimeMillis();
-            TimestampedEvent event = new TimestampedEvent(now);
-
-            switch (side) {
-                case UP -> upEvents.add(event);
-                case DOWN -> downEvents.add(event);
-            }
-
-            cleanOldEvents(now);
+    private double getRpm(Side side) {
+        if (clusterStatsPort.isEnabled()) {
+            return clusterStatsPort.getClusterRpm(side);
         }
-
-        double getRpm(Side side) {
-            long now = System.currentTimeMillis();
-            cleanOldEvents(now);
-
-            ConcurrentLinkedQueue<TimestampedEvent> events = switch (side) {
-                case UP -> upEvents;
-                case DOWN -> downEvents;
-            };
-
-            return events.size();
-        }
-
-        private void cleanOldEvents(long now) {
-            long cutoff = now - WINDOW_MS;
-            upEvents.removeIf(e -> e.timestamp < cutoff);
-            downEvents.removeIf(e -> e.timestamp < cutoff);
-        }
-
-        private record TimestampedEvent(long timestamp) {}
+        return rpmCalculator.getRpm(side);
     }
 }
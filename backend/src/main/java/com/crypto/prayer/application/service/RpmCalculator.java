@@ -0,0 +1,119 @@
+package com.crypto.prayer.application.service;
+
+import com.crypto.prayer.domain.model.Side;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * 최근 60초 기준 RPM 계산기
+ * 1초 단위 버킷 60개를 epoch 초로 순환시키는 고정 메모리 슬라이딩 윈도우.
+ * 각 슬롯은 (epoch 초 태그 | 카운트)를 하나의 long에 담아 CAS로 갱신하므로
+ * 기록은 할당 없이 O(1), 조회는 O(버킷 수)이다.
+ */
+public class RpmCalculator {
+
+    private static final int BUCKET_COUNT = 60;
+    private static final long BUCKET_MS = 1000L;
+
+    // 상위 24비트: epoch 초 태그, 하위 40비트: 카운트
+    private static final int COUNT_BITS = 40;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+    private static final long TAG_MASK = (1L << (Long.SIZE - COUNT_BITS)) - 1;
+
+    private final LongSupplier clock;
+    private final AtomicLongArray upBuckets = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLongArray downBuckets = new AtomicLongArray(BUCKET_COUNT);
+
+    public RpmCalculator() {
+        this(System::currentTimeMillis);
+    }
+
+    public RpmCalculator(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    public void record(Side side) {
+        record(side, 1);
+    }
+
+    public void record(Side side, long count) {
+        recordAt(side, count, clock.getAsLong());
+    }
+
+    /**
+     * 지정한 시각의 버킷에 기록 (다른 노드에서 전달된 델타 병합용)
+     * 윈도우를 벗어난 과거 기록은 버리고, 미래 시각은 현재 버킷으로 당긴다
+     */
+    public void recordAt(Side side, long count, long epochMillis) {
+        if (count <= 0) {
+            return;
+        }
+        long nowSecond = clock.getAsLong() / BUCKET_MS;
+        long second = Math.min(epochMillis / BUCKET_MS, nowSecond);
+        if (nowSecond - second >= BUCKET_COUNT) {
+            return;
+        }
+        add(bucketsOf(side), second, count);
+    }
+
+    public double getRpm(Side side) {
+        long second = clock.getAsLong() / BUCKET_MS;
+        return sum(bucketsOf(side), second);
+    }
+
+    private void add(AtomicLongArray buckets, long second, long count) {
+        int index = index(second);
+        long tag = tag(second);
+
+        while (true) {
+            long current = buckets.get(index);
+            long updated = tagOf(current) == tag
+                ? pack(tag, countOf(current) + count)
+                : pack(tag, count);   // 이전 회전의 버킷은 덮어쓴다
+            if (buckets.compareAndSet(index, current, updated)) {
+                return;
+            }
+        }
+    }
+
+    private long sum(AtomicLongArray buckets, long second) {
+        long currentTag = tag(second);
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long slot = buckets.get(i);
+            long age = (currentTag - tagOf(slot)) & TAG_MASK;
+            if (age < BUCKET_COUNT) {
+                total += countOf(slot);
+            }
+        }
+        return total;
+    }
+
+    private AtomicLongArray bucketsOf(Side side) {
+        return switch (side) {
+            case UP -> upBuckets;
+            case DOWN -> downBuckets;
+        };
+    }
+
+    private static int index(long second) {
+        return (int) Math.floorMod(second, (long) BUCKET_COUNT);
+    }
+
+    private static long tag(long second) {
+        return second & TAG_MASK;
+    }
+
+    private static long pack(long tag, long count) {
+        return (tag << COUNT_BITS) | Math.min(count, COUNT_MASK);
+    }
+
+    private static long tagOf(long slot) {
+        return slot >>> COUNT_BITS;
+    }
+
+    private static long countOf(long slot) {
+        return slot & COUNT_MASK;
+    }
+}
@@ -0,0 +1,122 @@
+package com.crypto.prayer.application.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * 가중치 Space-Saving heavy-hitters 스케치 (지수 감쇠)
+ * 카운터 capacity개만 유지하므로 키 종류 수와 무관하게 메모리가 고정된다.
+ * 새 키가 들어왔는데 자리가 없으면 최솟값 카운터를 빼앗고, 빼앗긴 값을 오차로 기록한다
+ * (추정값 - 오차 <= 실제값 <= 추정값).
+ * 모든 카운터는 halfLifeMs마다 절반으로 줄어 최근 값 위주의 롤링 순위가 된다 (0이면 감쇠 없음).
+ */
+public class SpaceSavingSketch {
+
+    // 감쇠는 이 간격 이상 지났을 때만 한 번에 적용한다 (O(capacity))
+    private static final long DECAY_STEP_MS = 1000L;
+
+    private final String[] keys;
+    private final double[] counts;
+    private final double[] errors;
+    private final Map<String, Integer> slots;
+    private final long halfLifeMs;
+    private final LongSupplier clock;
+
+    private int size;
+    private long decayedAt;
+
+    public SpaceSavingSketch(int capacity, long halfLifeMs, LongSupplier clock) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.keys = new String[capacity];
+        this.counts = new double[capacity];
+        this.errors = new double[capacity];
+        this.slots = new HashMap<>(capacity * 2);
+        this.halfLifeMs = halfLifeMs;
+        this.clock = clock;
+        this.decayedAt = clock.getAsLong();
+    }
+
+    public synchronized void add(String key, double weight) {
+        if (key == null || !(weight > 0)) {
+            return;
+        }
+        decay();
+
+        Integer slot = slots.get(key);
+        if (slot != null) {
+            counts[slot] += weight;
+            return;
+        }
+        if (size < keys.length) {
+            insert(size++, key, weight, 0.0);
+            return;
+        }
+
+        int min = 0;
+        for (int i = 1; i < size; i++) {
+            if (counts[i] < counts[min]) {
+                min = i;
+            }
+        }
+        slots.remove(keys[min]);
+        insert(min, key, counts[min] + weight, counts[min]);
+    }
+
+    /**
+     * 추정값 내림차순 상위 k개
+     */
+    public synchronized List<Entry> top(int k) {
+        decay();
+
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingDouble((Integer i) -> counts[i]).reversed());
+
+        int limit = Math.min(k, size);
+        List<Entry> entries = new ArrayList<>(limit);
+        for (int i = 0; i < limit; i++) {
+            int slot = order[i];
+            entries.add(new Entry(keys[slot], counts[slot], errors[slot]));
+        }
+        return entries;
+    }
+
+    private void insert(int slot, String key, double count, double error) {
+        keys[slot] = key;
+        counts[slot] = count;
+        errors[slot] = error;
+        slots.put(key, slot);
+    }
+
+    private void decay() {
+        if (halfLifeMs <= 0) {
+            return;
+        }
+        long now = clock.getAsLong();
+        long elapsed = now - decayedAt;
+        if (elapsed < DECAY_STEP_MS) {
+            return;
+        }
+        double factor = Math.pow(0.5, (double) elapsed / halfLifeMs);
+        for (int i = 0; i < size; i++) {
+            counts[i] *= factor;
+            errors[i] *= factor;
+        }
+        decayedAt = now;
+    }
+
+    /**
+     * @param estimate 감쇠된 추정값 (상한)
+     * @param error 최대 과대 추정량
+     */
+    public record Entry(String key, double estimate, double error) {}
+}
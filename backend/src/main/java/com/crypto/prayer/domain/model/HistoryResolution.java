@@ -0,0 +1,37 @@
+package com.crypto.prayer.domain.model;
+
+import java.util.Optional;
+
+/**
+ * 기도 히스토리 다운샘플링 단위 (저장은 1분 버킷)
+ */
+public enum HistoryResolution {
+    ONE_MINUTE("1m", 60_000L),
+    FIVE_MINUTES("5m", 300_000L),
+    ONE_HOUR("1h", 3_600_000L);
+
+    private final String label;
+    private final long durationMs;
+
+    HistoryResolution(String label, long durationMs) {
+        this.label = label;
+        this.durationMs = durationMs;
+    }
+
+    public String label() {
+        return label;
+    }
+
+    public long durationMs() {
+        return durationMs;
+    }
+
+    public static Optional<HistoryResolution> fromLabel(String label) {
+        for (HistoryResolution resolution : values()) {
+            if (resolution.label.equals(label)) {
+                return Optional.of(resolution);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,19 @@
+package com.crypto.prayer.domain.model;
+
+import java.util.List;
+
+/**
+ * 최근 청산이 많은 심볼 순위 (USD 기준, 건수 기준)
+ * 값은 반감기 감쇠가 적용된 추정값이며 error만큼 과대 추정될 수 있다.
+ */
+public record LiquidationLeaderboard(
+    List<Entry> byUsdValue,
+    List<Entry> byCount,
+    long timestamp
+) {
+    public record Entry(
+        String symbol,
+        double value,
+        double error
+    ) {}
+}
@@ -0,0 +1,25 @@
+package com.crypto.prayer.domain.model;
+
+import java.util.List;
+
+/**
+ * 윈도우별 롱/숏 청산 집계
+ */
+public record LiquidationSummary(
+    List<WindowTotals> windows,
+    long timestamp
+) {
+    public record WindowTotals(
+        String window,
+        Totals longs,
+        Totals shorts
+    ) {}
+
+    public record Totals(
+        long count,
+        double usdValue,
+        double maxUsdValue
+    ) {
+        public static final Totals EMPTY = new Totals(0, 0.0, 0.0);
+    }
+}
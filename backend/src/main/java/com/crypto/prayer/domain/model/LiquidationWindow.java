@@ -0,0 +1,27 @@
+package com.crypto.prayer.domain.model;
+
+/**
+ * 청산 집계 롤링 윈도우
+ */
+public enum LiquidationWindow {
+    ONE_MINUTE("1m", 60_000L),
+    FIVE_MINUTES("5m", 300_000L),
+    ONE_HOUR("1h", 3_600_000L),
+    ONE_DAY("24h", 86_400_000L);
+
+    private final String label;
+    private final long durationMs;
+
+    LiquidationWindow(String label, long durationMs) {
+        this.label = label;
+        this.durationMs = durationMs;
+    }
+
+    public String label() {
+        return label;
+    }
+
+    public long durationMs() {
+        return durationMs;
+    }
+}
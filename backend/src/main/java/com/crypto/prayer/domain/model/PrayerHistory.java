@@ -0,0 +1,22 @@
+package com.crypto.prayer.domain.model;
+
+import java.util.List;
+
+/**
+ * [from, to) 구간의 UP/DOWN 기도 수 시계열 (resolution 간격, 빈 버킷 포함)
+ */
+public record PrayerHistory(
+    HistoryResolution resolution,
+    long from,
+    long to,
+    List<Bucket> buckets
+) {
+    /**
+     * @param timestamp 버킷 시작 시각 (epoch millis)
+     */
+    public record Bucket(
+        long timestamp,
+        long upCount,
+        long downCount
+    ) {}
+}
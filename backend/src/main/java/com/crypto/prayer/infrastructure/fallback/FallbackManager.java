@@ -4,6 +4,7 @@ import com.crypto.prayer.adapter.out.redis.RedisPrayerCountAdapter;
 import com.crypto.prayer.application.port.out.PrayerCountPort;
 import com.crypto.prayer.domain.model.PrayerCount;
 import com.crypto.prayer.domain.model.Side;
+import com.crypto.prayer.infrastructure.writebehind.WriteBehindPrayerCounter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -18,13 +19,16 @@ public class FallbackManager implements PrayerCountPort {
 
     private final RedisPrayerCountAdapter redisAdapter;
     private final InMemoryPrayerCountAdapter inMemoryAdapter;
+    private final WriteBehindPrayerCounter writeBehindCounter;
     private final AtomicBoolean usingFallback = new AtomicBoolean(false);
 
     public FallbackManager(
             RedisPrayerCountAdapter redisAdapter,
-            InMemoryPrayerCountAdapter inMemoryAdapter) {
+            InMemoryPrayerCountAdapter inMemoryAdapter,
+            WriteBehindPrayerCounter writeBehindCounter) {
         this.redisAdapter = redisAdapter;
         this.inMemoryAdapter = inMemoryAdapter;
+        this.writeBehindCounter = writeBehindCounter;
     }
 
     @Override
@@ -33,6 +37,15 @@ public class FallbackManager implements PrayerCountPort {
             return inMemoryAdapter.increment(side, delta);
         }
 
+        // Write-behind 모드: 로컬 누적 후 주기적으로 flush (실패 시 델타 보존)
+        if (writeBehindCounter.isEnabled()) {
+            if (writeBehindCounter.isBacklogged()) {
+                switchWriteBehindToFallback();
+                return inMemoryAdapter.increment(side, delta);
+            }
+            return writeBehindCounter.increment(side, delta);
+        }
+
         try {
             return redisAdapter.increment(side, delta);
         } catch (Exception e) {
@@ -44,16 +57,20 @@ public class FallbackManager implements PrayerCountPort {
 
     @Override
     public PrayerCount getCount() {
+        // 아직 flush되지 않은 write-behind 델타를 더해 실시간 값처럼 보이게 한다
+        // 저장소를 먼저 읽고 대기 델타를 나중에 읽어야 그 사이 끝난 flush를 두 번 세지 않는다
+        PrayerCount committed;
         if (usingFallback.get()) {
-            return inMemoryAdapter.getCount();
-        }
-
-        try {
-            return redisAdapter.getCount();
-        } catch (Exception e) {
-            log.warn("Redis getCount failed, using fallback: {}", e.getMessage());
-            return inMemoryAdapter.getCount();
+            committed = inMemoryAdapter.getCount();
+        } else {
+            try {
+                committed = redisAdapter.getCount();
+            } catch (Exception e) {
+                log.warn("Redis getCount failed, using fallback: {}", e.getMessage());
+                committed = inMemoryAdapter.getCount();
+            }
         }
+        return committed.merge(writeBehindCounter.getQueued());
     }
 
     @Override
@@ -90,6 +107,20 @@ public class FallbackManager implements PrayerCountPort {
         }
     }
 
+    /**
+     * Redis 장애로 write-behind 델타가 상한까지 쌓이면 인메모리 카운터로 옮기고 폴백 전환
+     * 복구되면 checkAndRecover가 인메모리 데이터를 Redis에 merge한다.
+     */
+    private void switchWriteBehindToFallback() {
+        if (!usingFallback.compareAndSet(false, true)) {
+            return;
+        }
+        PrayerCount backlog = writeBehindCounter.drainPending();
+        inMemoryAdapter.merge(backlog);
+        log.warn("Write-behind backlog reached {} clicks while Redis is failing, switching to fallback",
+            backlog.total());
+    }
+
     public boolean isUsingFallback() {
         return usingFallback.get();
     }
@@ -0,0 +1,111 @@
+package com.crypto.prayer.infrastructure.scheduler;
+
+import com.crypto.prayer.adapter.in.websocket.WebSocketSessionListener;
+import com.crypto.prayer.adapter.in.websocket.outbound.SlowConsumerGuard;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * 기도 통계 브로드캐스트 간격 결정
+ * - 팬아웃 비용(로컬 브로드캐스트 소요 시간, 세션 송신 큐에 밀린 바이트)이 예산을 넘으면 간격을 두 배로
+ *   (브로커 경로와 직접 팬아웃 모두 세션별 송신 큐에 쌓이므로 clientOutboundChannel 큐로는 밀림이 보이지 않는다)
+ * - 접속자가 적고 변화가 잦으면 하한까지 절반씩 줄임
+ * - 그 외에는 한 단계씩 기준 간격으로 복귀
+ * 간격은 기준 간격의 2배수(느릴 때) 또는 기준 간격을 2로 나눈 값(빠를 때)만 쓰므로,
+ * 노드마다 간격이 달라도 벽시계 기준 정렬된 틱은 기준 간격 경계에서 항상 겹친다.
+ * 비활성화 시 항상 기준 간격을 쓴다.
+ */
+@Component
+public class AdaptiveBroadcastCadence {
+
+    private final BroadcastConfig config;
+    private final IntSupplier sessionCount;
+    private final LongSupplier outboundBufferedBytes;
+
+    private volatile long intervalMs;
+
+    @Autowired
+    public AdaptiveBroadcastCadence(
+            BroadcastConfig config,
+            WebSocketSessionListener sessionListener,
+            SlowConsumerGuard slowConsumerGuard,
+            MeterRegistry meterRegistry) {
+        this(config, sessionListener::getConnectedSessionCount, slowConsumerGuard::getBufferedBytes, meterRegistry);
+    }
+
+    public AdaptiveBroadcastCadence(
+            BroadcastConfig config,
+            IntSupplier sessionCount,
+            LongSupplier outboundBufferedBytes,
+            MeterRegistry meterRegistry) {
+        this.config = config;
+        this.sessionCount = sessionCount;
+        this.outboundBufferedBytes = outboundBufferedBytes;
+        this.intervalMs = config.getIntervalMs();
+
+        Gauge.builder("prayer.broadcast.interval", this, AdaptiveBroadcastCadence::currentIntervalMs)
+            .description("Current prayer stats broadcast interval")
+            .baseUnit("milliseconds")
+            .register(meterRegistry);
+    }
+
+    public long currentIntervalMs() {
+        return intervalMs;
+    }
+
+    /**
+     * 직전 틱 결과로 다음 간격 계산
+     * @param broadcastNanos 직전 틱에서 브로드캐스트에 걸린 시간 (보내지 않았으면 0)
+     * @param changes 직전 틱 동안 늘어난 기도 수
+     */
+    public long update(long broadcastNanos, long changes) {
+        BroadcastConfig.Adaptive adaptive = config.getAdaptive();
+        if (!adaptive.isEnabled()) {
+            intervalMs = config.getIntervalMs();
+            return intervalMs;
+        }
+
+        long current = intervalMs;
+        long base = config.getIntervalMs();
+        double budgetNanos = current * 1_000_000.0 * adaptive.getCostBudgetRatio();
+        double changesPerSecond = changes * 1000.0 / current;
+
+        long next;
+        if (broadcastNanos > budgetNanos || outboundBufferedBytes.getAsLong() > adaptive.getMaxOutboundBufferedBytes()) {
+            next = slower(current, adaptive);
+        } else if (sessionCount.getAsInt() <= adaptive.getSmallAudienceSessions()
+                && changesPerSecond >= adaptive.getActiveChangesPerSecond()) {
+            next = faster(current, adaptive);
+        } else if (current < base) {
+            next = slower(current, adaptive);
+        } else if (current > base) {
+            next = faster(current, adaptive);
+        } else {
+            next = current;
+        }
+
+        intervalMs = next;
+        return intervalMs;
+    }
+
+    /**
+     * 한 단계 느리게 (두 배), 상한을 넘으면 그대로
+     */
+    private static long slower(long current, BroadcastConfig.Adaptive adaptive) {
+        long next = current * 2;
+        return next <= adaptive.getMaxIntervalMs() ? next : current;
+    }
+
+    /**
+     * 한 단계 빠르게 (절반), 하한 아래거나 나누어떨어지지 않으면 그대로
+     */
+    private static long faster(long current, BroadcastConfig.Adaptive adaptive) {
+        long next = current / 2;
+        return next * 2 == current && next >= adaptive.getMinIntervalMs() ? next : current;
+    }
+}
@@ -0,0 +1,106 @@
+package com.crypto.prayer.infrastructure.scheduler;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "prayer.broadcast")
+public class BroadcastConfig {
+
+    // 벽시계 기준 interval 배수 시각에 틱을 정렬 (적응형 모드에서는 기준 간격)
+    private long intervalMs = 200;
+
+    private Adaptive adaptive = new Adaptive();
+
+    public long getIntervalMs() {
+        return intervalMs;
+    }
+
+    public void setIntervalMs(long intervalMs) {
+        this.intervalMs = intervalMs;
+    }
+
+    public Adaptive getAdaptive() {
+        return adaptive;
+    }
+
+    public void setAdaptive(Adaptive adaptive) {
+        this.adaptive = adaptive;
+    }
+
+    /**
+     * 접속자 수, 변화율, 팬아웃 비용에 따라 틱 간격 조정
+     */
+    public static class Adaptive {
+
+        private boolean enabled = true;
+
+        // 간격 하한/상한 (기준 간격의 2배수·1/2배 단계 중 이 범위 안의 값만 쓴다)
+        private long minIntervalMs = 50;
+        private long maxIntervalMs = 1000;
+
+        // 이 세션 수 이하이고 초당 변화가 이 이상이면 하한 쪽으로 빠르게
+        private int smallAudienceSessions = 500;
+        private double activeChangesPerSecond = 10;
+
+        // 틱 간격 중 브로드캐스트에 쓸 수 있는 비율, 노드 전체 세션 송신 큐에 쌓인 바이트 예산 (넘으면 간격을 두 배로)
+        private double costBudgetRatio = 0.25;
+        private long maxOutboundBufferedBytes = 4 * 1024 * 1024;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public long getMinIntervalMs() {
+            return minIntervalMs;
+        }
+
+        public void setMinIntervalMs(long minIntervalMs) {
+            this.minIntervalMs = minIntervalMs;
+        }
+
+        public long getMaxIntervalMs() {
+            return maxIntervalMs;
+        }
+
+        public void setMaxIntervalMs(long maxIntervalMs) {
+            this.maxIntervalMs = maxIntervalMs;
+        }
+
+        public int getSmallAudienceSessions() {
+            return smallAudienceSessions;
+        }
+
+        public void setSmallAudienceSessions(int smallAudienceSessions) {
+            this.smallAudienceSessions = smallAudienceSessions;
+        }
+
+        public double getActiveChangesPerSecond() {
+            return activeChangesPerSecond;
+        }
+
+        public void setActiveChangesPerSecond(double activeChangesPerSecond) {
+            this.activeChangesPerSecond = activeChangesPerSecond;
+        }
+
+        public double getCostBudgetRatio() {
+            return costBudgetRatio;
+        }
+
+        public void setCostBudgetRatio(double costBudgetRatio) {
+            this.costBudgetRatio = costBudgetRatio;
+        }
+
+        public long getMaxOutboundBufferedBytes() {
+            return maxOutboundBufferedBytes;
+        }
+
+        public void setMaxOutboundBufferedBytes(long maxOutboundBufferedBytes) {
+            this.maxOutboundBufferedBytes = maxOutboundBufferedBytes;
+        }
+    }
+}
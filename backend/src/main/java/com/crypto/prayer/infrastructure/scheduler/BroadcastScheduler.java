@@ -1,14 +1,23 @@
 package com.crypto.prayer.infrastructure.scheduler;
 
 import com.crypto.prayer.adapter.in.websocket.dto.PrayerResponse;
+import com.crypto.prayer.adapter.out.redis.LeaderElectionConfig;
+import com.crypto.prayer.adapter.out.redis.RedisLeaderLease;
+import com.crypto.prayer.adapter.out.redis.RedisStatsRelay;
 import com.crypto.prayer.application.port.in.PrayerQuery;
 import com.crypto.prayer.application.port.out.BroadcastPort;
 import com.crypto.prayer.domain.model.PrayerStats;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
 @Component
 public class BroadcastScheduler {
 
@@ -16,36 +25,166 @@ public class BroadcastScheduler {
 
     private final PrayerQuery prayerQuery;
     private final BroadcastPort broadcastPort;
+    private final BroadcastConfig config;
+    private final LeaderElectionConfig leaderConfig;
+    private final RedisLeaderLease leaderLease;
+    private final RedisStatsRelay statsRelay;
+    private final AdaptiveBroadcastCadence cadence;
 
     private volatile PrayerStats lastStats;
+    private volatile long lastLeaseCheckMs;
+
+    // 직전 틱의 로컬 브로드캐스트 소요 시간과 늘어난 기도 수 (간격 조정 입력)
+    private long lastBroadcastNanos;
+    private long lastChanges;
+    // 마지막으로 로컬 세션에 보낸 프레임의 총 기도 수 (-1: 아직 없음)
+    private long lastFanoutTotal = -1;
+
+    private ScheduledExecutorService scheduler;
 
     public BroadcastScheduler(
             PrayerQuery prayerQuery,
-            BroadcastPort broadcastPort) {
+            BroadcastPort broadcastPort,
+            BroadcastConfig config,
+            LeaderElectionConfig leaderConfig,
+            RedisLeaderLease leaderLease,
+            RedisStatsRelay statsRelay,
+            AdaptiveBroadcastCadence cadence) {
         this.prayerQuery = prayerQuery;
         this.broadcastPort = broadcastPort;
+        this.config = config;
+        this.leaderConfig = leaderConfig;
+        this.leaderLease = leaderLease;
+        this.statsRelay = statsRelay;
+        this.cadence = cadence;
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "prayer-broadcast");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduleNextTick();
+        log.info("Broadcast scheduler started: interval={}ms, adaptive={}, leaderElection={}",
+            config.getIntervalMs(), config.getAdaptive().isEnabled(), leaderConfig.isEnabled());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        if (leaderConfig.isEnabled()) {
+            leaderLease.release();
+        }
     }
 
     /**
-     * 200ms마다 기도 통계 브로드캐스트
+     * 틱 처리
+     * 리더 선출 모드에서는 리더만 통계를 계산해 한 번 발행하고,
+     * 모든 노드는 RedisStatsRelay로 수신한 최신 프레임을 자기 틱에 로컬 세션으로 전달한다.
+     * 간격 조정에는 어느 모드든 이 노드의 로컬 팬아웃 시간을 쓴다.
+     */
+    public void tick() {
+        lastBroadcastNanos = 0;
+        lastChanges = 0;
+        if (leaderConfig.isEnabled()) {
+            broadcastAsLeader();
+        } else {
+            broadcastPrayerStats();
+        }
+    }
+
+    /**
+     * 로컬 기도 통계 브로드캐스트 (단일 노드 모드)
      */
-    @Scheduled(fixedRate = 200)
     public void broadcastPrayerStats() {
         PrayerStats currentStats = prayerQuery.getCurrentStats();
 
         if (hasChanged(currentStats)) {
-            PrayerResponse response = PrayerResponse.from(
-                currentStats.count().upCount(),
-                currentStats.count().downCount(),
-                currentStats.upRpm(),
-                currentStats.downRpm()
-            );
-
-            broadcastPort.broadcastPrayerStats(response);
+            fanOut(toResponse(currentStats));
             lastStats = currentStats;
         }
     }
 
+    private void broadcastAsLeader() {
+        long now = System.currentTimeMillis();
+        if (now - lastLeaseCheckMs >= leaderConfig.getRenewIntervalMs()) {
+            lastLeaseCheckMs = now;
+            if (leaderLease.tryAcquireOrRenew() == RedisLeaderLease.NOT_LEADER) {
+                // 다시 리더가 되면 첫 틱에 전체 프레임을 발행하도록 초기화
+                lastStats = null;
+            }
+        }
+
+        if (leaderLease.isLeader()) {
+            PrayerStats currentStats = prayerQuery.getCurrentStats();
+            if (hasChanged(currentStats)) {
+                statsRelay.publish(leaderLease.getFencingToken(), leaderLease.getNodeId(), toResponse(currentStats));
+                lastStats = currentStats;
+            }
+        }
+
+        PrayerResponse frame = statsRelay.takeLatest();
+        if (frame != null) {
+            fanOut(frame);
+        }
+    }
+
+    /**
+     * 로컬 세션에 전달하고, 적응형 간격 계산용으로 소요 시간과 증가량을 기록
+     */
+    private void fanOut(PrayerResponse response) {
+        long start = System.nanoTime();
+        broadcastPort.broadcastPrayerStats(response);
+        lastBroadcastNanos = System.nanoTime() - start;
+
+        long total = response.upCount() + response.downCount();
+        if (lastFanoutTotal >= 0) {
+            // 날짜가 바뀌어 카운트가 초기화되면 음수가 되므로 0으로 본다
+            lastChanges = Math.max(0, total - lastFanoutTotal);
+        }
+        lastFanoutTotal = total;
+    }
+
+    /**
+     * 벽시계 기준 다음 interval 배수 시각에 틱 예약 (노드 간 프레임 시점 정렬)
+     * interval은 기준 간격의 2배수 또는 1/2배 단계이므로 기준 간격 경계는 모든 노드의 틱과 겹친다.
+     */
+    private void scheduleNextTick() {
+        long interval = cadence.currentIntervalMs();
+        long delay = interval - (System.currentTimeMillis() % interval);
+        try {
+            scheduler.schedule(this::runTick, delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+        }
+    }
+
+    private void runTick() {
+        try {
+            tick();
+        } catch (Exception e) {
+            log.warn("Prayer stats broadcast failed: {}", e.getMessage());
+        } finally {
+            cadence.update(lastBroadcastNanos, lastChanges);
+            if (!scheduler.isShutdown()) {
+                scheduleNextTick();
+            }
+        }
+    }
+
+    private PrayerResponse toResponse(PrayerStats stats) {
+        return PrayerResponse.from(
+            stats.count().upCount(),
+            stats.count().downCount(),
+            stats.upRpm(),
+            stats.downRpm()
+        );
+    }
+
     private boolean hasChanged(PrayerStats current) {
         if (lastStats == null) {
             return true;
@@ -0,0 +1,30 @@
+package com.crypto.prayer.infrastructure.scheduler;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "liquidation.summary")
+public class LiquidationSummaryConfig {
+
+    private boolean enabled = true;
+
+    // 롱/숏 청산 집계 발행 주기 (값이 바뀐 경우에만 발행)
+    private long intervalMs = 1000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getIntervalMs() {
+        return intervalMs;
+    }
+
+    public void setIntervalMs(long intervalMs) {
+        this.intervalMs = intervalMs;
+    }
+}
@@ -0,0 +1,135 @@
+package com.crypto.prayer.infrastructure.scheduler;
+
+import com.crypto.prayer.adapter.in.websocket.dto.LiquidationLeaderboardMessage;
+import com.crypto.prayer.adapter.in.websocket.dto.LiquidationSummaryMessage;
+import com.crypto.prayer.application.port.in.LiquidationStatsQuery;
+import com.crypto.prayer.application.port.out.BroadcastPort;
+import com.crypto.prayer.application.service.LiquidationLeaderboardConfig;
+import com.crypto.prayer.domain.model.LiquidationLeaderboard;
+import com.crypto.prayer.domain.model.LiquidationSummary;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 청산 통계를 낮은 주기로 발행
+ * - /topic/liquidation/summary: 롱/숏 윈도우 집계. 새 청산이 없어도 오래된 버킷이 빠지며 바뀌므로
+ *   주기적으로 계산하고, 같으면 생략한다.
+ * - /topic/liquidation/leaderboard: 청산 상위 심볼. interval-ms마다 발행하고, 추정값까지 같으면 생략한다.
+ */
+@Component
+public class LiquidationSummaryScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(LiquidationSummaryScheduler.class);
+
+    private final LiquidationStatsQuery liquidationStatsQuery;
+    private final BroadcastPort broadcastPort;
+    private final LiquidationSummaryConfig config;
+    private final LiquidationLeaderboardConfig leaderboardConfig;
+
+    private List<LiquidationSummary.WindowTotals> lastWindows;
+    private LiquidationLeaderboard lastLeaderboard;
+
+    private ScheduledExecutorService scheduler;
+
+    public LiquidationSummaryScheduler(
+            LiquidationStatsQuery liquidationStatsQuery,
+            BroadcastPort broadcastPort,
+            LiquidationSummaryConfig config,
+            LiquidationLeaderboardConfig leaderboardConfig) {
+        this.liquidationStatsQuery = liquidationStatsQuery;
+        this.broadcastPort = broadcastPort;
+        this.config = config;
+        this.leaderboardConfig = leaderboardConfig;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!config.isEnabled() && !leaderboardConfig.isEnabled()) {
+            return;
+        }
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "liquidation-summary");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (config.isEnabled()) {
+            schedule(this::tick, config.getIntervalMs());
+        }
+        if (leaderboardConfig.isEnabled()) {
+            schedule(this::tickLeaderboard, leaderboardConfig.getIntervalMs());
+        }
+        log.info("Liquidation stats scheduler started: summary={}ms, leaderboard={}ms",
+            config.isEnabled() ? config.getIntervalMs() : -1,
+            leaderboardConfig.isEnabled() ? leaderboardConfig.getIntervalMs() : -1);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * 집계가 바뀌었으면 발행
+     */
+    public void tick() {
+        LiquidationSummary summary = liquidationStatsQuery.getSummary();
+        if (summary.windows().equals(lastWindows)) {
+            return;
+        }
+        broadcastPort.broadcastLiquidationSummary(LiquidationSummaryMessage.from(summary));
+        lastWindows = summary.windows();
+    }
+
+    /**
+     * 매 주기 발행하되, 순위와 감쇠된 추정값이 changeEpsilon 안에서 그대로이면 생략
+     */
+    public void tickLeaderboard() {
+        LiquidationLeaderboard leaderboard = liquidationStatsQuery.getLeaderboard();
+        if (lastLeaderboard != null
+                && unchanged(leaderboard.byUsdValue(), lastLeaderboard.byUsdValue())
+                && unchanged(leaderboard.byCount(), lastLeaderboard.byCount())) {
+            return;
+        }
+        broadcastPort.broadcastLiquidationLeaderboard(LiquidationLeaderboardMessage.from(leaderboard));
+        lastLeaderboard = leaderboard;
+    }
+
+    private boolean unchanged(List<LiquidationLeaderboard.Entry> current, List<LiquidationLeaderboard.Entry> last) {
+        if (current.size() != last.size()) {
+            return false;
+        }
+        double epsilon = leaderboardConfig.getChangeEpsilon();
+        for (int i = 0; i < current.size(); i++) {
+            LiquidationLeaderboard.Entry a = current.get(i);
+            LiquidationLeaderboard.Entry b = last.get(i);
+            if (!a.symbol().equals(b.symbol())
+                    || Math.abs(a.value() - b.value()) > epsilon * Math.max(Math.abs(a.value()), Math.abs(b.value()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void schedule(Runnable task, long intervalMs) {
+        scheduler.scheduleAtFixedRate(() -> runQuietly(task), intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void runQuietly(Runnable task) {
+        try {
+            task.run();
+        } catch (Exception e) {
+            log.warn("Liquidation stats broadcast failed: {}", e.getMessage());
+        }
+    }
+}
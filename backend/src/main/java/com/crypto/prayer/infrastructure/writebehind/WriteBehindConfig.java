@@ -0,0 +1,61 @@
+package com.crypto.prayer.infrastructure.writebehind;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "prayer.write-behind")
+public class WriteBehindConfig {
+
+    private boolean enabled = true;
+
+    // N ms마다 또는 M회 클릭이 쌓이면 flush
+    private long flushIntervalMs = 100;
+    private long maxPendingClicks = 1000;
+
+    // Redis 반영이 실패하는 동안 이만큼 쌓이면 인메모리 폴백으로 넘긴다
+    private long maxBackloggedClicks = 100_000;
+
+    // 종료 시 flush 재시도 횟수
+    private int shutdownFlushAttempts = 3;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getFlushIntervalMs() {
+        return flushIntervalMs;
+    }
+
+    public void setFlushIntervalMs(long flushIntervalMs) {
+        this.flushIntervalMs = flushIntervalMs;
+    }
+
+    public long getMaxPendingClicks() {
+        return maxPendingClicks;
+    }
+
+    public void setMaxPendingClicks(long maxPendingClicks) {
+        this.maxPendingClicks = maxPendingClicks;
+    }
+
+    public long getMaxBackloggedClicks() {
+        return maxBackloggedClicks;
+    }
+
+    public void setMaxBackloggedClicks(long maxBackloggedClicks) {
+        this.maxBackloggedClicks = maxBackloggedClicks;
+    }
+
+    public int getShutdownFlushAttempts() {
+        return shutdownFlushAttempts;
+    }
+
+    public void setShutdownFlushAttempts(int shutdownFlushAttempts) {
+        this.shutdownFlushAttempts = shutdownFlushAttempts;
+    }
+}
@@ -0,0 +1,252 @@
+package com.crypto.prayer.infrastructure.writebehind;
+
+import com.crypto.prayer.adapter.out.redis.RedisPrayerCountAdapter;
+import com.crypto.prayer.domain.model.PrayerCount;
+import com.crypto.prayer.domain.model.Side;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Write-behind 기도 카운터
+ * 클릭은 사이드별 LongAdder에 누적하고, N ms 또는 M회 클릭마다
+ * 한 번의 스크립트 호출로 Redis에 반영한다.
+ */
+@Component
+public class WriteBehindPrayerCounter {
+
+    private static final Logger log = LoggerFactory.getLogger(WriteBehindPrayerCounter.class);
+
+    private final RedisPrayerCountAdapter redisAdapter;
+    private final WriteBehindConfig config;
+
+    private final LongAdder upPending = new LongAdder();
+    private final LongAdder downPending = new LongAdder();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean flushRequested = new AtomicBoolean(false);
+
+    // flush 중인 델타 (Redis 반영 전까지 getPending에 포함)
+    private volatile PrayerCount inFlight = PrayerCount.zero();
+    private volatile PrayerCount lastFlushedCount = PrayerCount.zero();
+    // 마지막 flush가 실패했는지 (성공하면 해제)
+    private volatile boolean flushFailing;
+
+    private final Timer flushTimer;
+    private final DistributionSummary batchSizeSummary;
+    private final Counter flushFailureCounter;
+
+    private ScheduledExecutorService scheduler;
+
+    public WriteBehindPrayerCounter(
+            RedisPrayerCountAdapter redisAdapter,
+            WriteBehindConfig config,
+            MeterRegistry meterRegistry) {
+        this.redisAdapter = redisAdapter;
+        this.config = config;
+
+        this.flushTimer = Timer.builder("prayer.writebehind.flush.latency")
+            .description("Write-behind flush latency")
+            .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("prayer.writebehind.flush.batch.size")
+            .description("Clicks coalesced per write-behind flush")
+            .register(meterRegistry);
+        this.flushFailureCounter = Counter.builder("prayer.writebehind.flush.failures")
+            .description("Failed write-behind flushes")
+            .register(meterRegistry);
+        Gauge.builder("prayer.writebehind.pending", this, counter -> counter.getPending().total())
+            .description("Clicks not yet flushed to Redis")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!config.isEnabled()) {
+            return;
+        }
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "prayer-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(
+            this::flushQuietly,
+            config.getFlushIntervalMs(),
+            config.getFlushIntervalMs(),
+            TimeUnit.MILLISECONDS
+        );
+        log.info("Write-behind counter started: interval={}ms, maxPendingClicks={}",
+            config.getFlushIntervalMs(), config.getMaxPendingClicks());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdown();
+
+        // 종료 시 남은 델타를 최대한 반영
+        for (int attempt = 1; attempt <= config.getShutdownFlushAttempts(); attempt++) {
+            try {
+                flush();
+                log.info("Write-behind counter stopped, pending deltas flushed");
+                return;
+            } catch (Exception e) {
+                log.warn("Shutdown flush failed (attempt {}): {}", attempt, e.getMessage());
+                sleepQuietly(config.getFlushIntervalMs());
+            }
+        }
+
+        PrayerCount remaining = getPending();
+        log.error("Write-behind counter stopped with unflushed deltas: up={}, down={}",
+            remaining.upCount(), remaining.downCount());
+    }
+
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    /**
+     * 로컬 델타 누적
+     * @return 마지막 flush 결과에 미반영 델타를 더한 추정 카운트
+     */
+    public long increment(Side side, long delta) {
+        LongAdder pending = switch (side) {
+            case UP -> upPending;
+            case DOWN -> downPending;
+        };
+        pending.add(delta);
+
+        if (upPending.sum() + downPending.sum() >= config.getMaxPendingClicks()) {
+            requestFlush();
+        }
+
+        PrayerCount flushed = lastFlushedCount;
+        long base = side == Side.UP ? flushed.upCount() : flushed.downCount();
+        return base + pending.sum();
+    }
+
+    /**
+     * 아직 Redis에 반영되지 않은 델타 (flush 중인 델타 포함)
+     */
+    public PrayerCount getPending() {
+        PrayerCount flushing = inFlight;
+        return new PrayerCount(
+            upPending.sum() + flushing.upCount(),
+            downPending.sum() + flushing.downCount()
+        );
+    }
+
+    /**
+     * flush를 기다리는 델타 (flush 중인 델타 제외)
+     * Redis를 먼저 읽고 이 값을 더하면 같은 델타를 두 번 세지 않는다.
+     * flush 중에는 그 배치만큼 잠시 적게 보일 수 있다.
+     */
+    public PrayerCount getQueued() {
+        return new PrayerCount(upPending.sum(), downPending.sum());
+    }
+
+    /**
+     * Redis 반영이 실패하는 중에 델타가 상한만큼 쌓였는지
+     */
+    public boolean isBacklogged() {
+        return flushFailing
+            && upPending.sum() + downPending.sum() >= config.getMaxBackloggedClicks();
+    }
+
+    /**
+     * 쌓인 델타를 꺼내고 비운다 (폴백 카운터로 옮길 때 사용)
+     * flush와 겹치지 않도록 flush 락을 잡는다.
+     */
+    public PrayerCount drainPending() {
+        flushLock.lock();
+        try {
+            return new PrayerCount(upPending.sumThenReset(), downPending.sumThenReset());
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 누적된 델타를 Redis에 반영
+     * 실패 시 델타를 pending으로 되돌리고 예외를 다시 던진다
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            long up = upPending.sumThenReset();
+            long down = downPending.sumThenReset();
+            if (up == 0 && down == 0) {
+                return;
+            }
+
+            PrayerCount delta = new PrayerCount(up, down);
+            inFlight = delta;
+            long start = System.nanoTime();
+            try {
+                lastFlushedCount = redisAdapter.incrementAll(delta);
+                flushFailing = false;
+            } catch (RuntimeException e) {
+                // 유실 방지: 다음 flush에서 재시도
+                upPending.add(up);
+                downPending.add(down);
+                flushFailing = true;
+                flushFailureCounter.increment();
+                throw e;
+            } finally {
+                inFlight = PrayerCount.zero();
+            }
+
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            batchSizeSummary.record(delta.total());
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.warn("Write-behind flush failed, will retry: {}", e.getMessage());
+        }
+    }
+
+    private void requestFlush() {
+        ScheduledExecutorService executor = scheduler;
+        if (executor == null || !flushRequested.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                flushRequested.set(false);
+                flushQuietly();
+            });
+        } catch (Exception e) {
+            flushRequested.set(false);
+        }
+    }
+
+    private void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
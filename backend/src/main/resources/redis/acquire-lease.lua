@@ -0,0 +1,17 @@
+-- KEYS[1]: 리스 키, KEYS[2]: 펜싱 토큰 키
+-- ARGV[1]: 노드 ID, ARGV[2]: 리스 TTL (ms)
+-- 리스를 획득하거나 갱신하고 펜싱 토큰을 반환한다 (다른 노드가 보유 중이면 -1)
+local owner = redis.call('GET', KEYS[1])
+
+if not owner then
+    local token = redis.call('INCR', KEYS[2])
+    redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+    return token
+end
+
+if owner == ARGV[1] then
+    redis.call('PEXPIRE', KEYS[1], ARGV[2])
+    return tonumber(redis.call('GET', KEYS[2]))
+end
+
+return -1
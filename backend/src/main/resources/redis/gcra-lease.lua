@@ -0,0 +1,31 @@
+-- KEYS[1]: TAT 키
+-- ARGV[1]: 요청 간격 T (µs), ARGV[2]: 허용 오차 τ (µs), ARGV[3]: 요청 토큰 수
+-- GCRA로 허용되는 만큼(최대 요청 수) 토큰을 한 번에 발급하고 TAT를 발급 수만큼 미룬다.
+-- 시각은 Redis TIME 기준이라 노드 간 시계 차이의 영향을 받지 않는다.
+-- 반환: {발급 수, 발급이 0이면 다음 토큰까지 남은 ms}
+redis.replicate_commands()
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000000 + tonumber(time[2])
+local interval = tonumber(ARGV[1])
+local tolerance = tonumber(ARGV[2])
+local requested = tonumber(ARGV[3])
+
+local tat = tonumber(redis.call('GET', KEYS[1])) or now
+if tat < now then
+    tat = now
+end
+
+-- tat + (n - 1) * T - now <= τ 를 만족하는 최대 n
+local granted = math.floor((tolerance - (tat - now)) / interval) + 1
+if granted > requested then
+    granted = requested
+end
+
+if granted <= 0 then
+    return {0, math.max(1, math.ceil((tat - tolerance - now) / 1000))}
+end
+
+tat = tat + granted * interval
+redis.call('SET', KEYS[1], string.format('%.0f', tat), 'PX', math.ceil((tat - now) / 1000) + 1)
+return {granted, 0}
@@ -0,0 +1,23 @@
+-- KEYS[1]: TAT 키
+-- ARGV[1]: 요청 간격 T (µs), ARGV[2]: 반납 토큰 수
+-- 쓰지 않은 리스 토큰만큼 TAT를 당겨 다른 노드가 바로 쓸 수 있게 한다.
+-- 현재 시각보다 앞으로는 당기지 않는다 (버스트 한도를 넘지 않도록).
+-- 반환: 1 (TAT를 당김), 0 (이미 지난 TAT라 돌려줄 몫이 없음)
+redis.replicate_commands()
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000000 + tonumber(time[2])
+
+local tat = tonumber(redis.call('GET', KEYS[1]))
+if not tat or tat <= now then
+    return 0
+end
+
+tat = tat - tonumber(ARGV[1]) * tonumber(ARGV[2])
+if tat <= now then
+    redis.call('DEL', KEYS[1])
+    return 1
+end
+
+redis.call('SET', KEYS[1], string.format('%.0f', tat), 'PX', math.ceil((tat - now) / 1000) + 1)
+return 1
@@ -0,0 +1,18 @@
+-- KEYS[i]: 날짜별 히스토리 해시 (같은 키가 여러 번 올 수 있음)
+-- ARGV[1]: TTL (초), ARGV[2i]: KEYS[i]의 필드, ARGV[2i+1]: 델타
+-- 분 버킷 증가를 한 번에 반영하고 새로 생긴 해시에만 TTL을 건다
+for i, key in ipairs(KEYS) do
+    redis.call('HINCRBY', key, ARGV[2 * i], ARGV[2 * i + 1])
+end
+
+local seen = {}
+for _, key in ipairs(KEYS) do
+    if not seen[key] then
+        seen[key] = true
+        if redis.call('TTL', key) < 0 then
+            redis.call('EXPIRE', key, ARGV[1])
+        end
+    end
+end
+
+return #KEYS
@@ -0,0 +1,14 @@
+-- KEYS[1]: up 키, KEYS[2]: down 키
+-- ARGV[1]: up 델타, ARGV[2]: down 델타, ARGV[3]: TTL (초)
+-- 증가와 TTL 설정을 원자적으로 처리하고 두 카운트를 함께 반환한다
+local up = redis.call('INCRBY', KEYS[1], ARGV[1])
+local down = redis.call('INCRBY', KEYS[2], ARGV[2])
+
+if redis.call('TTL', KEYS[1]) < 0 then
+    redis.call('EXPIRE', KEYS[1], ARGV[3])
+end
+if redis.call('TTL', KEYS[2]) < 0 then
+    redis.call('EXPIRE', KEYS[2], ARGV[3])
+end
+
+return { up, down }
@@ -0,0 +1,7 @@
+-- KEYS[1]: 리스 키
+-- ARGV[1]: 노드 ID
+-- 자신이 보유한 리스만 해제한다
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('DEL', KEYS[1])
+end
+return 0
@@ -0,0 +1,90 @@
+package com.crypto.prayer.adapter.in.websocket;
+
+import com.crypto.prayer.application.port.out.MarketDataSubscriptionPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.Mockito.*;
+
+@DisplayName("TickerSubscriptionTracker")
+@ExtendWith(MockitoExtension.class)
+class TickerSubscriptionTrackerTest {
+
+    @Mock
+    private MarketDataSubscriptionPort subscriptionPort;
+
+    private TickerSubscriptionTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new TickerSubscriptionTracker(subscriptionPort);
+    }
+
+    @Test
+    @DisplayName("심볼_티커_토픽_구독마다_acquire한다")
+    void 심볼_티커_토픽_구독마다_acquire한다() {
+        tracker.subscribe("s1", "sub-0", "/topic/ticker/ETHUSDT");
+        tracker.subscribe("s2", "sub-0", "/topic/ticker/ETHUSDT");
+
+        verify(subscriptionPort, times(2)).acquireTicker("ETHUSDT");
+    }
+
+    @Test
+    @DisplayName("다른_토픽은_무시한다")
+    void 다른_토픽은_무시한다() {
+        tracker.subscribe("s1", "sub-0", "/topic/ticker");
+        tracker.subscribe("s1", "sub-1", "/topic/prayer");
+        tracker.subscribe("s1", "sub-2", "/topic/ticker/");
+
+        verifyNoInteractions(subscriptionPort);
+    }
+
+    @Test
+    @DisplayName("대문자가_아닌_심볼_토픽은_무시한다")
+    void 대문자가_아닌_심볼_토픽은_무시한다() {
+        tracker.subscribe("s1", "sub-0", "/topic/ticker/ethusdt");
+        tracker.subscribe("s1", "sub-1", "/topic/ticker/EthUsdt");
+
+        verifyNoInteractions(subscriptionPort);
+    }
+
+    @Test
+    @DisplayName("구독_해제시_한_번만_release한다")
+    void 구독_해제시_한_번만_release한다() {
+        tracker.subscribe("s1", "sub-0", "/topic/ticker/ETHUSDT");
+
+        tracker.unsubscribe("s1", "sub-0");
+        tracker.unsubscribe("s1", "sub-0");
+
+        verify(subscriptionPort, times(1)).releaseTicker("ETHUSDT");
+    }
+
+    @Test
+    @DisplayName("연결이_끊기면_세션의_모든_구독을_release한다")
+    void 연결이_끊기면_세션의_모든_구독을_release한다() {
+        tracker.subscribe("s1", "sub-0", "/topic/ticker/ETHUSDT");
+        tracker.subscribe("s1", "sub-1", "/topic/ticker/SOLUSDT");
+
+        tracker.removeSession("s1");
+
+        verify(subscriptionPort).releaseTicker("ETHUSDT");
+        verify(subscriptionPort).releaseTicker("SOLUSDT");
+    }
+
+    @Test
+    @DisplayName("같은_구독_ID로_다른_심볼을_구독하면_새_심볼을_먼저_acquire한다")
+    void 같은_구독_ID로_다른_심볼을_구독하면_새_심볼을_먼저_acquire한다() {
+        tracker.subscribe("s1", "sub-0", "/topic/ticker/ETHUSDT");
+        tracker.subscribe("s1", "sub-0", "/topic/ticker/SOLUSDT");
+
+        InOrder inOrder = inOrder(subscriptionPort);
+        inOrder.verify(subscriptionPort).acquireTicker("ETHUSDT");
+        inOrder.verify(subscriptionPort).acquireTicker("SOLUSDT");
+        inOrder.verify(subscriptionPort).releaseTicker("ETHUSDT");
+    }
+}
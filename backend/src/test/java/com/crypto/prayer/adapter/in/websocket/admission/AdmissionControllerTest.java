@@ -0,0 +1,174 @@
+package com.crypto.prayer.adapter.in.websocket.admission;
+
+import com.crypto.prayer.adapter.in.websocket.ratelimit.ClientIdentity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@DisplayName("AdmissionController")
+class AdmissionControllerTest {
+
+    private static final String IP = "203.0.113.7";
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private AdmissionConfig config;
+    private SimpleMeterRegistry meterRegistry;
+    private AdmissionController controller;
+
+    @BeforeEach
+    void setUp() {
+        config = new AdmissionConfig();
+        config.setMaxSessions(3);
+        config.setMaxSessionsPerIp(2);
+        config.setStrikesToBlock(3);
+        meterRegistry = new SimpleMeterRegistry();
+        controller = new AdmissionController(config, meterRegistry, now::get);
+    }
+
+    private Handshake handshake(String ip) {
+        Handshake handshake = new Handshake();
+        if (ip != null) {
+            handshake.attributes.put(ClientIdentity.IP_ATTRIBUTE, ip);
+        }
+        handshake.admitted = controller.beforeHandshake(
+            handshake.request, handshake.response, null, handshake.attributes);
+        return handshake;
+    }
+
+    private double rejected(String reason) {
+        return meterRegistry.get("websocket.admission.rejected").tag("reason", reason).counter().count();
+    }
+
+    @Nested
+    @DisplayName("beforeHandshake()")
+    class BeforeHandshake {
+
+        @Test
+        @DisplayName("IP당_동시_세션_상한을_넘으면_429와_Retry_After로_거부한다")
+        void IP당_동시_세션_상한을_넘으면_429와_Retry_After로_거부한다() {
+            handshake(IP);
+            handshake(IP);
+
+            Handshake third = handshake(IP);
+
+            assertThat(third.admitted).isFalse();
+            assertThat(third.servletResponse.getStatus()).isEqualTo(429);
+            assertThat(Long.parseLong(third.response.getHeaders().getFirst("Retry-After"))).isBetween(5L, 10L);
+            assertThat(controller.getSessionsFrom(IP)).isEqualTo(2);
+            assertThat(controller.getActiveSessions()).isEqualTo(2);
+            assertThat(rejected("ip_cap")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("노드_세션_예산이_차면_503으로_거부한다")
+        void 노드_세션_예산이_차면_503으로_거부한다() {
+            handshake("10.0.0.1");
+            handshake("10.0.0.2");
+            handshake(null);
+
+            Handshake rejected = handshake("10.0.0.3");
+
+            assertThat(rejected.admitted).isFalse();
+            assertThat(rejected.servletResponse.getStatus()).isEqualTo(503);
+            assertThat(rejected.response.getHeaders().getFirst("Retry-After")).isNotNull();
+            assertThat(controller.getSessionsFrom("10.0.0.3")).isZero();
+        }
+
+        @Test
+        @DisplayName("차단된_IP는_남은_차단_시간을_Retry_After로_알려_거부한다")
+        void 차단된_IP는_남은_차단_시간을_Retry_After로_알려_거부한다() {
+            for (int i = 0; i < 3; i++) {
+                controller.reportAbuse(IP);
+            }
+            now.addAndGet(30_500);
+
+            Handshake blocked = handshake(IP);
+
+            assertThat(blocked.admitted).isFalse();
+            assertThat(blocked.servletResponse.getStatus()).isEqualTo(403);
+            assertThat(blocked.response.getHeaders().getFirst("Retry-After")).isEqualTo("30");
+            assertThat(controller.getActiveSessions()).isZero();
+            assertThat(rejected("blocked")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("비활성화되면_모두_통과시킨다")
+        void 비활성화되면_모두_통과시킨다() {
+            config.setEnabled(false);
+
+            for (int i = 0; i < 5; i++) {
+                assertThat(handshake(IP).admitted).isTrue();
+            }
+            assertThat(controller.getActiveSessions()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("슬롯 반납")
+    class Release {
+
+        @Test
+        @DisplayName("연결이_닫히면_한번만_반납한다")
+        void 연결이_닫히면_한번만_반납한다() throws Exception {
+            Handshake admitted = handshake(IP);
+            controller.afterHandshake(admitted.request, admitted.response, null, null);
+            WebSocketSession session = mock(WebSocketSession.class);
+            when(session.getAttributes()).thenReturn(admitted.attributes);
+            WebSocketHandler handler = controller.decorate(mock(WebSocketHandler.class));
+
+            handler.afterConnectionClosed(session, CloseStatus.NORMAL);
+            handler.afterConnectionClosed(session, CloseStatus.NORMAL);
+
+            assertThat(controller.getActiveSessions()).isZero();
+            assertThat(controller.getSessionsFrom(IP)).isZero();
+        }
+
+        @Test
+        @DisplayName("핸드셰이크가_실패하면_afterHandshake에서_반납한다")
+        void 핸드셰이크가_실패하면_afterHandshake에서_반납한다() {
+            Handshake admitted = handshake(IP);
+            admitted.servletResponse.setStatus(400);
+
+            controller.afterHandshake(admitted.request, admitted.response, null, null);
+
+            assertThat(controller.getActiveSessions()).isZero();
+        }
+
+        @Test
+        @DisplayName("핸드셰이크가_성공하면_세션이_닫힐_때까지_유지한다")
+        void 핸드셰이크가_성공하면_세션이_닫힐_때까지_유지한다() {
+            Handshake admitted = handshake(IP);
+            admitted.servletResponse.setStatus(101);
+
+            controller.afterHandshake(admitted.request, admitted.response, null, null);
+
+            assertThat(controller.getActiveSessions()).isEqualTo(1);
+        }
+    }
+
+    private static final class Handshake {
+
+        final MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/ws");
+        final MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+        final ServletServerHttpRequest request = new ServletServerHttpRequest(servletRequest);
+        final ServletServerHttpResponse response = new ServletServerHttpResponse(servletResponse);
+        final Map<String, Object> attributes = new HashMap<>();
+        boolean admitted;
+    }
+}
@@ -0,0 +1,122 @@
+package com.crypto.prayer.adapter.in.websocket.admission;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("IpBlockList")
+class IpBlockListTest {
+
+    private final IpBlockList blockList = new IpBlockList(64, 3, 1_000, 10_000);
+
+    @Nested
+    @DisplayName("strike()")
+    class Strike {
+
+        @Test
+        @DisplayName("창_안에서_기준_횟수에_이르면_차단한다")
+        void 창_안에서_기준_횟수에_이르면_차단한다() {
+            assertThat(blockList.strike("203.0.113.7", 0)).isFalse();
+            assertThat(blockList.strike("203.0.113.7", 100)).isFalse();
+            assertThat(blockList.strike("203.0.113.7", 200)).isTrue();
+
+            assertThat(blockList.blockedForMs("203.0.113.7", 200)).isEqualTo(10_000);
+            assertThat(blockList.blockedForMs("203.0.113.8", 200)).isZero();
+        }
+
+        @Test
+        @DisplayName("창이_지나면_위반_횟수를_다시_센다")
+        void 창이_지나면_위반_횟수를_다시_센다() {
+            blockList.strike("203.0.113.7", 0);
+            blockList.strike("203.0.113.7", 100);
+
+            assertThat(blockList.strike("203.0.113.7", 1_000)).isFalse();
+            assertThat(blockList.blockedForMs("203.0.113.7", 1_000)).isZero();
+        }
+
+        @Test
+        @DisplayName("차단은_기간이_지나면_풀린다")
+        void 차단은_기간이_지나면_풀린다() {
+            for (int i = 0; i < 3; i++) {
+                blockList.strike("203.0.113.7", 0);
+            }
+
+            assertThat(blockList.blockedForMs("203.0.113.7", 9_999)).isEqualTo(1);
+            assertThat(blockList.blockedForMs("203.0.113.7", 10_000)).isZero();
+        }
+
+        @Test
+        @DisplayName("동시에_위반해도_IP마다_한_번만_새로_차단한다")
+        void 동시에_위반해도_IP마다_한_번만_새로_차단한다() throws Exception {
+            IpBlockList shared = new IpBlockList(1_024, 3, 1_000, 10_000);
+            int threads = 8;
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            CountDownLatch start = new CountDownLatch(1);
+            AtomicInteger newlyBlocked = new AtomicInteger();
+            try {
+                for (int t = 0; t < threads; t++) {
+                    String ownIp = "192.0.2." + t;
+                    executor.execute(() -> {
+                        try {
+                            start.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                        for (int i = 0; i < 100; i++) {
+                            if (shared.strike("203.0.113.7", 0)) {
+                                newlyBlocked.incrementAndGet();
+                            }
+                            if (i < 3 && shared.strike(ownIp, 0)) {
+                                newlyBlocked.incrementAndGet();
+                            }
+                        }
+                    });
+                }
+                start.countDown();
+            } finally {
+                executor.shutdown();
+                executor.awaitTermination(10, TimeUnit.SECONDS);
+            }
+
+            assertThat(newlyBlocked.get()).isEqualTo(threads + 1);
+            assertThat(shared.blockedCount(0)).isEqualTo(threads + 1);
+        }
+    }
+
+    @Nested
+    @DisplayName("고정 크기")
+    class Capacity {
+
+        @Test
+        @DisplayName("IP가_용량보다_많아도_메모리가_늘지_않고_차단_중인_항목을_우선_보존한다")
+        void IP가_용량보다_많아도_메모리가_늘지_않고_차단_중인_항목을_우선_보존한다() {
+            for (int i = 0; i < 3; i++) {
+                blockList.strike("198.51.100.1", 0);
+            }
+
+            for (int i = 0; i < 10_000; i++) {
+                blockList.strike("10.0." + (i / 256) + "." + (i % 256), 0);
+            }
+
+            assertThat(blockList.blockedForMs("198.51.100.1", 0)).isEqualTo(10_000);
+            assertThat(blockList.blockedCount(0)).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("용량이_너무_작으면_예외를_던진다")
+        void 용량이_너무_작으면_예외를_던진다() {
+            assertThatThrownBy(() -> new IpBlockList(2, 3, 1_000, 10_000))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.crypto.prayer.adapter.in.websocket.binary;
+
+import com.crypto.prayer.adapter.in.websocket.admission.AdmissionController;
+import com.crypto.prayer.adapter.in.websocket.ratelimit.ClientIdentity;
+import com.crypto.prayer.adapter.in.websocket.ratelimit.RateLimitRejections;
+import com.crypto.prayer.adapter.in.websocket.ratelimit.RateLimiter;
+import com.crypto.prayer.application.port.in.PrayerUseCase;
+import com.crypto.prayer.domain.model.Side;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BinaryEndpointHandler")
+class BinaryEndpointHandlerTest {
+
+    @Mock
+    private PrayerUseCase prayerUseCase;
+
+    @Mock
+    private RateLimiter rateLimiter;
+
+    @Mock
+    private AdmissionController admissionController;
+
+    @Mock
+    private RateLimitRejections rateLimitRejections;
+
+    @Mock
+    private WebSocketSession session;
+
+    private BinaryEndpointHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new BinaryEndpointHandler(
+            prayerUseCase, rateLimiter, new BinaryEndpointConfig(), admissionController, rateLimitRejections);
+        lenient().when(session.getId()).thenReturn("b1");
+        lenient().when(session.getAttributes()).thenReturn(Map.of());
+    }
+
+    @Nested
+    @DisplayName("기도 프레임 처리")
+    class HandlePray {
+
+        @Test
+        @DisplayName("단건_기도는_pray로_위임한다")
+        void 단건_기도는_pray로_위임한다() throws Exception {
+            when(rateLimiter.tryConsume(ClientIdentity.of("b1", Map.of()))).thenReturn(true);
+
+            handler.handleMessage(session, new BinaryMessage(new byte[] {0x10, 0}));
+
+            verify(prayerUseCase).pray(Side.UP, "b1");
+        }
+
+        @Test
+        @DisplayName("배치_기도는_prayBatch로_위임한다")
+        void 배치_기도는_prayBatch로_위임한다() throws Exception {
+            when(rateLimiter.tryConsume(ClientIdentity.of("b1", Map.of()))).thenReturn(true);
+
+            handler.handleMessage(session, new BinaryMessage(new byte[] {0x10, 1, 5}));
+
+            verify(prayerUseCase).prayBatch(Side.DOWN, "b1", 5);
+        }
+
+        @Test
+        @DisplayName("Rate_limit_초과_시_에러_프레임을_보낸다")
+        void Rate_limit_초과_시_에러_프레임을_보낸다() throws Exception {
+            when(rateLimiter.tryConsume(ClientIdentity.of("b1", Map.of()))).thenReturn(false);
+            when(rateLimitRejections.rejectBinary(Map.of())).thenReturn(true);
+
+            handler.handleMessage(session, new BinaryMessage(new byte[] {0x10, 0}));
+
+            ArgumentCaptor<BinaryMessage> captor = ArgumentCaptor.forClass(BinaryMessage.class);
+            verify(session).sendMessage(captor.capture());
+            assertEquals(BinaryProtocol.TYPE_ERROR, captor.getValue().getPayload().get(0));
+            verify(prayerUseCase, never()).pray(any(), any());
+            verify(admissionController).reportAbuse(null);
+        }
+
+        @Test
+        @DisplayName("에러_응답_창이_닫혀_있으면_프레임_없이_거부한다")
+        void 에러_응답_창이_닫혀_있으면_프레임_없이_거부한다() throws Exception {
+            when(rateLimiter.tryConsume(ClientIdentity.of("b1", Map.of()))).thenReturn(false);
+            when(rateLimitRejections.rejectBinary(Map.of())).thenReturn(false);
+
+            handler.handleMessage(session, new BinaryMessage(new byte[] {0x10, 0}));
+
+            verify(session, never()).sendMessage(any());
+            verify(prayerUseCase, never()).pray(any(), any());
+        }
+
+        @Test
+        @DisplayName("잘못된_프레임은_무시한다")
+        void 잘못된_프레임은_무시한다() throws Exception {
+            handler.handleMessage(session, new BinaryMessage(new byte[] {0x42}));
+
+            verifyNoInteractions(rateLimiter);
+            verify(prayerUseCase, never()).prayBatch(any(), any(), anyInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("broadcast 메서드")
+    class Broadcast {
+
+        @Test
+        @DisplayName("연결된_세션에_프레임을_보낸다")
+        void 연결된_세션에_프레임을_보낸다() throws Exception {
+            when(session.isOpen()).thenReturn(true);
+            handler.afterConnectionEstablished(session);
+
+            int sent = handler.broadcast(new byte[] {0x01, 0});
+
+            assertEquals(1, sent);
+            verify(session).sendMessage(any(BinaryMessage.class));
+        }
+
+        @Test
+        @DisplayName("연결_종료_후에는_보내지_않고_rate_limiter를_정리한다")
+        void 연결_종료_후에는_보내지_않고_rate_limiter를_정리한다() throws Exception {
+            handler.afterConnectionEstablished(session);
+            handler.afterConnectionClosed(session, CloseStatus.NORMAL);
+
+            assertFalse(handler.hasSessions());
+            assertEquals(0, handler.broadcast(new byte[] {0x01, 0}));
+            verify(rateLimiter).removeClient("b1");
+        }
+    }
+}
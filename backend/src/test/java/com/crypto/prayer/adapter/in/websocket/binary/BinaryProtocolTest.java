@@ -0,0 +1,156 @@
+package com.crypto.prayer.adapter.in.websocket.binary;
+
+import com.crypto.prayer.adapter.in.websocket.dto.LiquidationMessage;
+import com.crypto.prayer.adapter.in.websocket.dto.PrayerRequest;
+import com.crypto.prayer.adapter.in.websocket.dto.PrayerResponse;
+import com.crypto.prayer.adapter.in.websocket.dto.TickerMessage;
+import com.crypto.prayer.domain.model.Side;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BinaryProtocol")
+class BinaryProtocolTest {
+
+    @Nested
+    @DisplayName("varint")
+    class Varint {
+
+        @Test
+        @DisplayName("부호_없는_값을_왕복_변환한다")
+        void 부호_없는_값을_왕복_변환한다() {
+            for (long value : new long[] {0, 1, 127, 128, 300, 1_700_000_000_000L, Long.MAX_VALUE}) {
+                ByteBuffer buffer = ByteBuffer.allocate(10);
+                BinaryProtocol.writeUnsignedVarint(buffer, value);
+                buffer.flip();
+
+                assertEquals(value, BinaryProtocol.readUnsignedVarint(buffer));
+            }
+        }
+
+        @Test
+        @DisplayName("zigzag로_음수를_짧게_인코딩한다")
+        void zigzag로_음수를_짧게_인코딩한다() {
+            ByteBuffer buffer = ByteBuffer.allocate(10);
+            BinaryProtocol.writeSignedVarint(buffer, -5);
+
+            assertEquals(1, buffer.position());
+            buffer.flip();
+            assertEquals(-5, BinaryProtocol.readSignedVarint(buffer));
+        }
+    }
+
+    @Nested
+    @DisplayName("서버 프레임 인코딩")
+    class Encode {
+
+        @Test
+        @DisplayName("기도_통계는_타입_태그와_고정소수점_RPM으로_인코딩된다")
+        void 기도_통계는_타입_태그와_고정소수점_RPM으로_인코딩된다() {
+            PrayerResponse response = new PrayerResponse(
+                "PRAYER", 1500, 300, 12.34, 0.5, 0.83, 0.17, 1_700_000_000_000L);
+
+            ByteBuffer frame = ByteBuffer.wrap(BinaryProtocol.encodePrayer(response));
+
+            assertEquals(BinaryProtocol.TYPE_PRAYER, frame.get());
+            assertEquals(1500, BinaryProtocol.readUnsignedVarint(frame));
+            assertEquals(300, BinaryProtocol.readUnsignedVarint(frame));
+            assertEquals(123, BinaryProtocol.readUnsignedVarint(frame));
+            assertEquals(5, BinaryProtocol.readUnsignedVarint(frame));
+            assertEquals(1_700_000_000_000L, BinaryProtocol.readUnsignedVarint(frame));
+            assertFalse(frame.hasRemaining());
+        }
+
+        @Test
+        @DisplayName("기도_통계_프레임은_JSON보다_작다")
+        void 기도_통계_프레임은_JSON보다_작다() {
+            PrayerResponse response = PrayerResponse.from(123_456, 98_765, 420.0, 380.0);
+
+            assertTrue(BinaryProtocol.encodePrayer(response).length < 20);
+        }
+
+        @Test
+        @DisplayName("티커는_심볼과_부호_있는_변동률을_포함한다")
+        void 티커는_심볼과_부호_있는_변동률을_포함한다() {
+            TickerMessage ticker = new TickerMessage("TICKER", "BTCUSDT", 97_123.45, -2.5, 1_700_000_000_000L);
+
+            ByteBuffer frame = ByteBuffer.wrap(BinaryProtocol.encodeTicker(ticker));
+
+            assertEquals(BinaryProtocol.TYPE_TICKER, frame.get());
+            assertEquals("BTCUSDT", readSymbol(frame));
+            assertEquals(9_712_345_000_000L, BinaryProtocol.readUnsignedVarint(frame));
+            assertEquals(-25_000, BinaryProtocol.readSignedVarint(frame));
+            assertEquals(1_700_000_000_000L, BinaryProtocol.readUnsignedVarint(frame));
+        }
+
+        @Test
+        @DisplayName("청산은_방향과_대형_플래그를_1바이트씩_보낸다")
+        void 청산은_방향과_대형_플래그를_1바이트씩_보낸다() {
+            LiquidationMessage liquidation = new LiquidationMessage(
+                "LIQUIDATION", "ETHUSDT", "SHORT", 50.0, 3000.0, 150_000.0, true, 1_700_000_000_000L);
+
+            ByteBuffer frame = ByteBuffer.wrap(BinaryProtocol.encodeLiquidation(liquidation));
+
+            assertEquals(BinaryProtocol.TYPE_LIQUIDATION, frame.get());
+            assertEquals("ETHUSDT", readSymbol(frame));
+            assertEquals(1, frame.get());
+            assertEquals(1, frame.get());
+            assertEquals(5_000_000_000L, BinaryProtocol.readUnsignedVarint(frame));
+            assertEquals(300_000_000_000L, BinaryProtocol.readUnsignedVarint(frame));
+            assertEquals(1_700_000_000_000L, BinaryProtocol.readUnsignedVarint(frame));
+        }
+
+        private String readSymbol(ByteBuffer frame) {
+            byte[] symbol = new byte[frame.get()];
+            frame.get(symbol);
+            return new String(symbol, StandardCharsets.US_ASCII);
+        }
+    }
+
+    @Nested
+    @DisplayName("decodePray 메서드")
+    class DecodePray {
+
+        @Test
+        @DisplayName("방향과_횟수를_해석한다")
+        void 방향과_횟수를_해석한다() {
+            PrayerRequest request = BinaryProtocol.decodePray(ByteBuffer.wrap(new byte[] {0x10, 1, 7}));
+
+            assertEquals(Side.DOWN, request.toSide());
+            assertEquals(7, request.count());
+        }
+
+        @Test
+        @DisplayName("횟수가_없으면_1회로_처리한다")
+        void 횟수가_없으면_1회로_처리한다() {
+            PrayerRequest request = BinaryProtocol.decodePray(ByteBuffer.wrap(new byte[] {0x10, 0}));
+
+            assertEquals(Side.UP, request.toSide());
+            assertEquals(1, request.count());
+        }
+
+        @Test
+        @DisplayName("횟수는_20회로_제한된다")
+        void 횟수는_20회로_제한된다() {
+            PrayerRequest request = BinaryProtocol.decodePray(ByteBuffer.wrap(new byte[] {0x10, 0, (byte) 200}));
+
+            assertEquals(20, request.count());
+        }
+
+        @Test
+        @DisplayName("잘못된_프레임은_예외를_던진다")
+        void 잘못된_프레임은_예외를_던진다() {
+            assertThrows(IllegalArgumentException.class,
+                () -> BinaryProtocol.decodePray(ByteBuffer.wrap(new byte[] {0x01, 0})));
+            assertThrows(IllegalArgumentException.class,
+                () -> BinaryProtocol.decodePray(ByteBuffer.wrap(new byte[] {0x10, 5})));
+            assertThrows(IllegalArgumentException.class,
+                () -> BinaryProtocol.decodePray(ByteBuffer.wrap(new byte[] {0x10})));
+        }
+    }
+}
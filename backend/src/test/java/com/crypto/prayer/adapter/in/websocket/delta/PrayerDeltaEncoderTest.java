@@ -0,0 +1,126 @@
+package com.crypto.prayer.adapter.in.websocket.delta;
+
+import com.crypto.prayer.adapter.in.websocket.dto.PrayerDeltaMessage;
+import com.crypto.prayer.adapter.in.websocket.dto.PrayerResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PrayerDeltaEncoder")
+class PrayerDeltaEncoderTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private PrayerDeltaEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        PrayerDeltaConfig config = new PrayerDeltaConfig();
+        config.setEnabled(true);
+        config.setKeyframeIntervalMs(5_000);
+        encoder = new PrayerDeltaEncoder(config, now::get);
+    }
+
+    private PrayerResponse stats(long up, long down, double upRpm, double downRpm) {
+        return new PrayerResponse("PRAYER", up, down, upRpm, downRpm, 0.5, 0.5, now.get());
+    }
+
+    @Nested
+    @DisplayName("encode 메서드")
+    class Encode {
+
+        @Test
+        @DisplayName("첫_프레임은_키프레임이다")
+        void 첫_프레임은_키프레임이다() {
+            PrayerDeltaMessage frame = encoder.encode(stats(100, 50, 12.0, 3.0));
+
+            assertEquals(PrayerDeltaMessage.TYPE_KEYFRAME, frame.type());
+            assertEquals(1, frame.seq());
+            assertEquals(100L, frame.upCount());
+            assertEquals(50L, frame.downCount());
+            assertEquals(12.0, frame.upRpm());
+            assertNotNull(frame.timestamp());
+        }
+
+        @Test
+        @DisplayName("이후_프레임은_바뀐_필드의_증감만_담는다")
+        void 이후_프레임은_바뀐_필드의_증감만_담는다() {
+            encoder.encode(stats(100, 50, 12.0, 3.0));
+
+            PrayerDeltaMessage frame = encoder.encode(stats(103, 50, 12.0, 3.0));
+
+            assertEquals(PrayerDeltaMessage.TYPE_DELTA, frame.type());
+            assertEquals(2, frame.seq());
+            assertEquals(3L, frame.upCount());
+            assertNull(frame.downCount());
+            assertNull(frame.upRpm());
+            assertNull(frame.downRpm());
+            assertNull(frame.timestamp());
+        }
+
+        @Test
+        @DisplayName("RPM_증감은_0_1_단위로_누적_오차_없이_계산된다")
+        void RPM_증감은_0_1_단위로_누적_오차_없이_계산된다() {
+            encoder.encode(stats(0, 0, 10.0, 0.0));
+            PrayerDeltaMessage first = encoder.encode(stats(0, 0, 10.04, 0.0));
+            PrayerDeltaMessage second = encoder.encode(stats(0, 0, 10.08, 0.0));
+
+            // 10.04 → 10.0 (변화 없음), 10.08 → 10.1 (+0.1)
+            assertNull(first);
+            assertEquals(0.1, second.upRpm(), 1e-9);
+        }
+
+        @Test
+        @DisplayName("변화가_없으면_null을_반환하고_seq를_소비하지_않는다")
+        void 변화가_없으면_null을_반환하고_seq를_소비하지_않는다() {
+            encoder.encode(stats(100, 50, 12.0, 3.0));
+
+            assertNull(encoder.encode(stats(100, 50, 12.0, 3.0)));
+            assertEquals(2, encoder.encode(stats(101, 50, 12.0, 3.0)).seq());
+        }
+
+        @Test
+        @DisplayName("키프레임_주기가_지나면_다시_키프레임을_보낸다")
+        void 키프레임_주기가_지나면_다시_키프레임을_보낸다() {
+            encoder.encode(stats(100, 50, 12.0, 3.0));
+            now.addAndGet(5_000);
+
+            PrayerDeltaMessage frame = encoder.encode(stats(101, 50, 12.0, 3.0));
+
+            assertEquals(PrayerDeltaMessage.TYPE_KEYFRAME, frame.type());
+            assertEquals(101L, frame.upCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("currentKeyframe 메서드")
+    class CurrentKeyframe {
+
+        @Test
+        @DisplayName("마지막으로_보낸_상태를_같은_seq로_반환한다")
+        void 마지막으로_보낸_상태를_같은_seq로_반환한다() {
+            encoder.encode(stats(100, 50, 12.0, 3.0));
+            encoder.encode(stats(105, 52, 12.0, 3.0));
+
+            PrayerDeltaMessage keyframe = encoder.currentKeyframe();
+
+            assertEquals(PrayerDeltaMessage.TYPE_KEYFRAME, keyframe.type());
+            assertEquals(2, keyframe.seq());
+            assertEquals(105L, keyframe.upCount());
+            assertEquals(52L, keyframe.downCount());
+        }
+
+        @Test
+        @DisplayName("아직_보낸_프레임이_없으면_seq_0의_빈_키프레임이다")
+        void 아직_보낸_프레임이_없으면_seq_0의_빈_키프레임이다() {
+            PrayerDeltaMessage keyframe = encoder.currentKeyframe();
+
+            assertEquals(0, keyframe.seq());
+            assertEquals(0L, keyframe.upCount());
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.crypto.prayer.adapter.in.websocket.fanout;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EncodeOnceBroadcaster")
+class EncodeOnceBroadcasterTest {
+
+    @Mock
+    private WebSocketSessionRegistry sessionRegistry;
+
+    @Mock
+    private WebSocketSession session1;
+
+    @Mock
+    private WebSocketSession session2;
+
+    private FanoutConfig config;
+    private TopicSubscriptionRegistry subscriptionRegistry;
+    private EncodeOnceBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        config = new FanoutConfig();
+        config.setEnabled(true);
+        subscriptionRegistry = new TopicSubscriptionRegistry(config);
+        broadcaster = new EncodeOnceBroadcaster(config, sessionRegistry, subscriptionRegistry, new ObjectMapper());
+    }
+
+    @Nested
+    @DisplayName("broadcast 메서드")
+    class Broadcast {
+
+        @Test
+        @DisplayName("같은_subscription_id의_세션에는_같은_프레임을_보낸다")
+        void 같은_subscription_id의_세션에는_같은_프레임을_보낸다() throws Exception {
+            subscriptionRegistry.subscribe("s1", "sub-0", "/topic/prayer");
+            subscriptionRegistry.subscribe("s2", "sub-0", "/topic/prayer");
+            when(sessionRegistry.get("s1")).thenReturn(session1);
+            when(sessionRegistry.get("s2")).thenReturn(session2);
+            when(session1.isOpen()).thenReturn(true);
+            when(session2.isOpen()).thenReturn(true);
+
+            int sent = broadcaster.broadcast("/topic/prayer", Map.of("upCount", 10));
+
+            assertEquals(2, sent);
+            ArgumentCaptor<TextMessage> first = ArgumentCaptor.forClass(TextMessage.class);
+            ArgumentCaptor<TextMessage> second = ArgumentCaptor.forClass(TextMessage.class);
+            verify(session1).sendMessage(first.capture());
+            verify(session2).sendMessage(second.capture());
+            assertSame(first.getValue(), second.getValue());
+        }
+
+        @Test
+        @DisplayName("한_세션이_같은_토픽을_두_번_구독하면_구독마다_보낸다")
+        void 한_세션이_같은_토픽을_두_번_구독하면_구독마다_보낸다() throws Exception {
+            subscriptionRegistry.subscribe("s1", "sub-0", "/topic/prayer");
+            subscriptionRegistry.subscribe("s1", "sub-1", "/topic/prayer");
+            when(sessionRegistry.get("s1")).thenReturn(session1);
+            when(session1.isOpen()).thenReturn(true);
+
+            int sent = broadcaster.broadcast("/topic/prayer", Map.of("upCount", 10));
+
+            assertEquals(2, sent);
+            ArgumentCaptor<TextMessage> frames = ArgumentCaptor.forClass(TextMessage.class);
+            verify(session1, times(2)).sendMessage(frames.capture());
+            assertEquals(Set.of("sub-0", "sub-1"), frames.getAllValues().stream()
+                .map(frame -> frame.getPayload().split("subscription:")[1].split("\n")[0])
+                .collect(Collectors.toSet()));
+        }
+
+        @Test
+        @DisplayName("닫힌_세션은_건너뛴다")
+        void 닫힌_세션은_건너뛴다() throws Exception {
+            subscriptionRegistry.subscribe("s1", "sub-0", "/topic/prayer");
+            when(sessionRegistry.get("s1")).thenReturn(session1);
+            when(session1.isOpen()).thenReturn(false);
+
+            int sent = broadcaster.broadcast("/topic/prayer", Map.of("upCount", 10));
+
+            assertEquals(0, sent);
+            verify(session1, never()).sendMessage(any());
+        }
+
+        @Test
+        @DisplayName("구독자가_없으면_직렬화하지_않는다")
+        void 구독자가_없으면_직렬화하지_않는다() {
+            assertEquals(0, broadcaster.broadcast("/topic/prayer", Map.of("upCount", 10)));
+            verifyNoInteractions(sessionRegistry);
+        }
+    }
+
+    @Nested
+    @DisplayName("handles 메서드")
+    class Handles {
+
+        @Test
+        @DisplayName("비활성화되면_브로커_경로를_사용한다")
+        void 비활성화되면_브로커_경로를_사용한다() {
+            config.setEnabled(false);
+
+            assertFalse(broadcaster.handles("/topic/prayer"));
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.crypto.prayer.adapter.in.websocket.fanout;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompDecoder;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.web.socket.TextMessage;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SharedStompFrame")
+class SharedStompFrameTest {
+
+    private static final byte[] PAYLOAD = "{\"upCount\":10}".getBytes(StandardCharsets.UTF_8);
+
+    @Nested
+    @DisplayName("forSubscription 메서드")
+    class ForSubscription {
+
+        @Test
+        @DisplayName("Spring_STOMP_디코더로_읽을_수_있는_MESSAGE_프레임을_만든다")
+        void Spring_STOMP_디코더로_읽을_수_있는_MESSAGE_프레임을_만든다() {
+            SharedStompFrame frame = SharedStompFrame.of("/topic/prayer", "f-1", PAYLOAD);
+
+            Message<byte[]> decoded = decode(frame.forSubscription("sub-0"));
+            StompHeaderAccessor accessor = StompHeaderAccessor.wrap(decoded);
+
+            assertEquals(StompCommand.MESSAGE, accessor.getCommand());
+            assertEquals("/topic/prayer", accessor.getDestination());
+            assertEquals("sub-0", accessor.getSubscriptionId());
+            assertEquals("f-1", accessor.getMessageId());
+            assertArrayEquals(PAYLOAD, decoded.getPayload());
+        }
+
+        @Test
+        @DisplayName("같은_subscription_id는_같은_프레임_인스턴스를_공유한다")
+        void 같은_subscription_id는_같은_프레임_인스턴스를_공유한다() {
+            SharedStompFrame frame = SharedStompFrame.of("/topic/prayer", "f-1", PAYLOAD);
+
+            assertSame(frame.forSubscription("sub-0"), frame.forSubscription("sub-0"));
+            assertNotSame(frame.forSubscription("sub-0"), frame.forSubscription("sub-1"));
+        }
+
+        @Test
+        @DisplayName("헤더_값의_콜론은_이스케이프된다")
+        void 헤더_값의_콜론은_이스케이프된다() {
+            SharedStompFrame frame = SharedStompFrame.of("/topic/prayer", "f-1", PAYLOAD);
+
+            Message<byte[]> decoded = decode(frame.forSubscription("a:b"));
+
+            assertEquals("a:b", StompHeaderAccessor.wrap(decoded).getSubscriptionId());
+        }
+    }
+
+    private Message<byte[]> decode(TextMessage message) {
+        List<Message<byte[]>> messages = new StompDecoder().decode(ByteBuffer.wrap(message.asBytes()));
+        assertEquals(1, messages.size());
+        return messages.get(0);
+    }
+}
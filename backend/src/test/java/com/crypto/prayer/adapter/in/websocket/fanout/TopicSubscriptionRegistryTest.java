@@ -0,0 +1,88 @@
+package com.crypto.prayer.adapter.in.websocket.fanout;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TopicSubscriptionRegistry")
+class TopicSubscriptionRegistryTest {
+
+    private TopicSubscriptionRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new TopicSubscriptionRegistry(new FanoutConfig());
+    }
+
+    @Nested
+    @DisplayName("subscribe 메서드")
+    class Subscribe {
+
+        @Test
+        @DisplayName("팬아웃_대상_토픽만_기록한다")
+        void 팬아웃_대상_토픽만_기록한다() {
+            registry.subscribe("s1", "sub-0", "/topic/prayer");
+            registry.subscribe("s1", "sub-1", "/user/queue/errors");
+
+            assertEquals(Set.of("sub-0"), registry.getSubscribers("/topic/prayer").get("s1"));
+            assertTrue(registry.getSubscribers("/user/queue/errors").isEmpty());
+        }
+
+        @Test
+        @DisplayName("한_세션의_같은_토픽_구독은_모두_기록한다")
+        void 한_세션의_같은_토픽_구독은_모두_기록한다() {
+            registry.subscribe("s1", "sub-0", "/topic/prayer");
+            registry.subscribe("s1", "sub-3", "/topic/prayer");
+
+            assertEquals(Set.of("sub-0", "sub-3"), registry.getSubscribers("/topic/prayer").get("s1"));
+        }
+    }
+
+    @Nested
+    @DisplayName("unsubscribe 메서드")
+    class Unsubscribe {
+
+        @Test
+        @DisplayName("해제한_구독만_제거하고_다른_구독은_유지한다")
+        void 해제한_구독만_제거하고_다른_구독은_유지한다() {
+            registry.subscribe("s1", "sub-0", "/topic/prayer");
+            registry.subscribe("s1", "sub-3", "/topic/prayer");
+
+            registry.unsubscribe("s1", "sub-3");
+
+            assertEquals(Set.of("sub-0"), registry.getSubscribers("/topic/prayer").get("s1"));
+        }
+
+        @Test
+        @DisplayName("마지막_구독을_해제하면_세션을_제거한다")
+        void 마지막_구독을_해제하면_세션을_제거한다() {
+            registry.subscribe("s1", "sub-0", "/topic/prayer");
+
+            registry.unsubscribe("s1", "sub-0");
+
+            assertTrue(registry.getSubscribers("/topic/prayer").isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("removeSession 메서드")
+    class RemoveSession {
+
+        @Test
+        @DisplayName("세션의_모든_구독을_제거한다")
+        void 세션의_모든_구독을_제거한다() {
+            registry.subscribe("s1", "sub-0", "/topic/prayer");
+            registry.subscribe("s1", "sub-1", "/topic/ticker");
+
+            registry.removeSession("s1");
+
+            assertTrue(registry.getSubscribers("/topic/prayer").isEmpty());
+            assertTrue(registry.getSubscribers("/topic/ticker").isEmpty());
+        }
+    }
+}
@@ -0,0 +1,339 @@
+package com.crypto.prayer.adapter.in.websocket.outbound;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SlowConsumerGuard")
+class SlowConsumerGuardTest {
+
+    @Mock
+    private WebSocketSession rawSession;
+
+    private final List<Runnable> drains = new ArrayList<>();
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+    private SimpleMeterRegistry meterRegistry;
+    private OutboundConfig config;
+    private SlowConsumerGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        config = new OutboundConfig();
+        guard = new SlowConsumerGuard(config, meterRegistry, drains::add, now::get);
+    }
+
+    private ConflatingSessionDecorator session() {
+        lenient().when(rawSession.isOpen()).thenReturn(true);
+        return new ConflatingSessionDecorator(rawSession, guard, drains::add, config);
+    }
+
+    private void runDrains() {
+        while (!drains.isEmpty()) {
+            drains.remove(0).run();
+        }
+    }
+
+    private double conflated() {
+        return meterRegistry.counter("websocket.outbound.conflated").count();
+    }
+
+    private double disconnects() {
+        return meterRegistry.counter("websocket.outbound.slow_consumer.disconnects").count();
+    }
+
+    private static TextMessage frame(String destination, String subscription, String body) {
+        return new TextMessage("MESSAGE\ndestination:" + destination
+            + "\nsubscription:" + subscription
+            + "\nmessage-id:m-1\ncontent-type:application/json\n\n" + body + "\u0000");
+    }
+
+    private static TextMessage error(String message) {
+        return new TextMessage("ERROR\nmessage:" + message + "\ncontent-length:0\n\n\u0000");
+    }
+
+    @Nested
+    @DisplayName("conflationKey 메서드")
+    class ConflationKey {
+
+        @Test
+        @DisplayName("상태_토픽은_목적지와_구독으로_키를_만든다")
+        void 상태_토픽은_목적지와_구독으로_키를_만든다() {
+            assertEquals("/topic/prayer\nsub-0", guard.conflationKey(frame("/topic/prayer", "sub-0", "{}")));
+            assertEquals("/topic/ticker/ETHUSDT\nsub-3",
+                guard.conflationKey(frame("/topic/ticker/ETHUSDT", "sub-3", "{}")));
+        }
+
+        @Test
+        @DisplayName("이벤트_토픽과_하트비트와_바이너리는_null이다")
+        void 이벤트_토픽과_하트비트와_바이너리는_null이다() {
+            assertNull(guard.conflationKey(frame("/topic/liquidation", "sub-1", "{}")));
+            assertNull(guard.conflationKey(frame("/topic/prayer/delta", "sub-2", "{}")));
+            assertNull(guard.conflationKey(new TextMessage("\n")));
+            assertNull(guard.conflationKey(new TextMessage("CONNECTED\nversion:1.2\n\n\u0000")));
+            assertNull(guard.conflationKey(new BinaryMessage(new byte[]{1, 2, 3})));
+        }
+
+        @Test
+        @DisplayName("비활성화되면_핸들러를_그대로_돌려준다")
+        void 비활성화되면_핸들러를_그대로_돌려준다() {
+            config.setEnabled(false);
+            WebSocketHandler handler = mock(WebSocketHandler.class);
+
+            assertSame(handler, guard.decorate(handler));
+        }
+    }
+
+    @Nested
+    @DisplayName("송신 큐")
+    class Outbound {
+
+        @Test
+        @DisplayName("밀린_상태_프레임은_최신_하나만_보낸다")
+        void 밀린_상태_프레임은_최신_하나만_보낸다() throws Exception {
+            ConflatingSessionDecorator session = session();
+            TextMessage latest = frame("/topic/prayer", "sub-0", "{\"up\":3}");
+
+            session.sendMessage(frame("/topic/prayer", "sub-0", "{\"up\":1}"));
+            session.sendMessage(frame("/topic/prayer", "sub-0", "{\"up\":2}"));
+            session.sendMessage(latest);
+            runDrains();
+
+            verify(rawSession, times(1)).sendMessage(any());
+            verify(rawSession).sendMessage(latest);
+            assertEquals(2.0, conflated());
+            assertEquals(0, session.getBufferedBytes());
+        }
+
+        @Test
+        @DisplayName("상태_프레임은_큐의_자리를_지켜_이벤트와의_순서를_유지한다")
+        void 상태_프레임은_큐의_자리를_지켜_이벤트와의_순서를_유지한다() throws Exception {
+            ConflatingSessionDecorator session = session();
+            TextMessage first = frame("/topic/liquidation", "sub-1", "{\"id\":1}");
+            TextMessage stats = frame("/topic/prayer", "sub-0", "{\"up\":2}");
+            TextMessage second = frame("/topic/liquidation", "sub-1", "{\"id\":2}");
+
+            session.sendMessage(frame("/topic/prayer", "sub-0", "{\"up\":1}"));
+            session.sendMessage(first);
+            session.sendMessage(stats);
+            session.sendMessage(second);
+            runDrains();
+
+            InOrder inOrder = inOrder(rawSession);
+            inOrder.verify(rawSession).sendMessage(stats);
+            inOrder.verify(rawSession).sendMessage(first);
+            inOrder.verify(rawSession).sendMessage(second);
+            verify(rawSession, times(3)).sendMessage(any());
+        }
+
+        @Test
+        @DisplayName("심볼이나_구독이_다르면_합치지_않는다")
+        void 심볼이나_구독이_다르면_합치지_않는다() throws Exception {
+            ConflatingSessionDecorator session = session();
+
+            session.sendMessage(frame("/topic/ticker/BTCUSDT", "sub-0", "{}"));
+            session.sendMessage(frame("/topic/ticker/ETHUSDT", "sub-0", "{}"));
+            session.sendMessage(frame("/topic/ticker/BTCUSDT", "sub-1", "{}"));
+            runDrains();
+
+            verify(rawSession, times(3)).sendMessage(any());
+            assertEquals(0.0, conflated());
+        }
+
+        @Test
+        @DisplayName("드레인이_끝나면_다음_프레임은_바로_보낸다")
+        void 드레인이_끝나면_다음_프레임은_바로_보낸다() throws Exception {
+            ConflatingSessionDecorator session = session();
+
+            session.sendMessage(frame("/topic/prayer", "sub-0", "{\"up\":1}"));
+            runDrains();
+            session.sendMessage(frame("/topic/prayer", "sub-0", "{\"up\":2}"));
+            runDrains();
+
+            verify(rawSession, times(2)).sendMessage(any());
+            assertEquals(0.0, conflated());
+        }
+    }
+
+    @Nested
+    @DisplayName("느린 소비자")
+    class SlowConsumer {
+
+        @BeforeEach
+        void setUp() {
+            config.setMaxBufferedBytes(300);
+        }
+
+        @Test
+        @DisplayName("이벤트가_밀려_버퍼_상한을_넘으면_연결을_끊는다")
+        void 이벤트가_밀려_버퍼_상한을_넘으면_연결을_끊는다() throws Exception {
+            ConflatingSessionDecorator session = session();
+
+            for (int i = 0; i < 10; i++) {
+                session.sendMessage(frame("/topic/liquidation", "sub-1", "{\"id\":" + i + "}"));
+            }
+            runDrains();
+
+            verify(rawSession).close(CloseStatus.SESSION_NOT_RELIABLE);
+            verify(rawSession, never()).sendMessage(any());
+            assertEquals(1.0, disconnects());
+            assertEquals(0, session.getBufferedBytes());
+        }
+
+        @Test
+        @DisplayName("상태_프레임만_밀리면_끊지_않는다")
+        void 상태_프레임만_밀리면_끊지_않는다() throws Exception {
+            ConflatingSessionDecorator session = session();
+
+            for (int i = 0; i < 100; i++) {
+                session.sendMessage(frame("/topic/prayer", "sub-0", "{\"up\":" + i + "}"));
+                session.sendMessage(frame("/topic/ticker/BTCUSDT", "sub-1", "{\"price\":" + i + "}"));
+            }
+
+            verify(rawSession, never()).close(any());
+            assertTrue(session.getBufferedBytes() < 300);
+            assertEquals(198.0, conflated());
+        }
+
+        @Test
+        @DisplayName("전송이_막힌_채_이벤트가_쌓이면_연결을_끊는다")
+        void 전송이_막힌_채_이벤트가_쌓이면_연결을_끊는다() throws Exception {
+            config.setMaxBufferedBytes(1024 * 1024);
+            ConflatingSessionDecorator session = session();
+            TextMessage queuedDuringStall = frame("/topic/liquidation", "sub-1", "{\"id\":2}");
+            doAnswer(invocation -> {
+                // 전송이 sendTimeLimit을 넘겨 막힌 동안 다음 이벤트가 들어온다
+                now.addAndGet(TimeUnit.MILLISECONDS.toNanos(config.getSendTimeLimitMs() + 1));
+                session.sendMessage(queuedDuringStall);
+                return null;
+            }).when(rawSession).sendMessage(argThat((WebSocketMessage<?> message) -> message != queuedDuringStall));
+
+            session.sendMessage(frame("/topic/liquidation", "sub-1", "{\"id\":1}"));
+            runDrains();
+
+            verify(rawSession).close(CloseStatus.SESSION_NOT_RELIABLE);
+            verify(rawSession, never()).sendMessage(queuedDuringStall);
+            assertEquals(1.0, disconnects());
+        }
+    }
+
+    @Nested
+    @DisplayName("close 메서드")
+    class Close {
+
+        @Test
+        @DisplayName("보내자마자_닫아도_밀린_프레임을_보낸_뒤_닫는다")
+        void 보내자마자_닫아도_밀린_프레임을_보낸_뒤_닫는다() throws Exception {
+            ConflatingSessionDecorator session = session();
+            TextMessage errorFrame = error("rate limit exceeded");
+
+            session.sendMessage(errorFrame);
+            session.close(CloseStatus.PROTOCOL_ERROR);
+            verify(rawSession, never()).close(any());
+
+            runDrains();
+
+            InOrder inOrder = inOrder(rawSession);
+            inOrder.verify(rawSession).sendMessage(errorFrame);
+            inOrder.verify(rawSession).close(CloseStatus.PROTOCOL_ERROR);
+            assertEquals(0, session.getBufferedBytes());
+        }
+
+        @Test
+        @DisplayName("드레인_중에_닫으면_남은_프레임까지_보내고_한_번만_닫는다")
+        void 드레인_중에_닫으면_남은_프레임까지_보내고_한_번만_닫는다() throws Exception {
+            ConflatingSessionDecorator session = session();
+            TextMessage first = frame("/topic/liquidation", "sub-1", "{\"id\":1}");
+            TextMessage errorFrame = error("server error");
+            doAnswer(invocation -> {
+                // 첫 프레임을 보내는 동안 ERROR 프레임과 close가 들어온다
+                if (invocation.getArgument(0) == first) {
+                    session.sendMessage(errorFrame);
+                    session.close(CloseStatus.SERVER_ERROR);
+                    session.close();
+                }
+                return null;
+            }).when(rawSession).sendMessage(any());
+
+            session.sendMessage(first);
+            runDrains();
+
+            InOrder inOrder = inOrder(rawSession);
+            inOrder.verify(rawSession).sendMessage(first);
+            inOrder.verify(rawSession).sendMessage(errorFrame);
+            inOrder.verify(rawSession).close(CloseStatus.SERVER_ERROR);
+            verify(rawSession, times(1)).close(any());
+        }
+
+        @Test
+        @DisplayName("닫은_뒤에_들어온_프레임은_보내지_않는다")
+        void 닫은_뒤에_들어온_프레임은_보내지_않는다() throws Exception {
+            ConflatingSessionDecorator session = session();
+
+            session.close(CloseStatus.NORMAL);
+            session.sendMessage(frame("/topic/prayer", "sub-0", "{\"up\":1}"));
+            runDrains();
+
+            verify(rawSession, never()).sendMessage(any());
+            verify(rawSession).close(CloseStatus.NORMAL);
+        }
+
+        @Test
+        @DisplayName("제한_시간이_지나면_남은_프레임은_버리고_닫는다")
+        void 제한_시간이_지나면_남은_프레임은_버리고_닫는다() throws Exception {
+            ConflatingSessionDecorator session = session();
+            TextMessage slow = frame("/topic/liquidation", "sub-1", "{\"id\":1}");
+            TextMessage dropped = frame("/topic/liquidation", "sub-1", "{\"id\":2}");
+            doAnswer(invocation -> {
+                now.addAndGet(TimeUnit.MILLISECONDS.toNanos(config.getCloseDrainTimeoutMs() + 1));
+                return null;
+            }).when(rawSession).sendMessage(slow);
+
+            session.sendMessage(slow);
+            session.sendMessage(dropped);
+            session.close(CloseStatus.GOING_AWAY);
+            runDrains();
+
+            verify(rawSession, never()).sendMessage(dropped);
+            verify(rawSession).close(CloseStatus.GOING_AWAY);
+            assertEquals(0, session.getBufferedBytes());
+        }
+
+        @Test
+        @DisplayName("드레인을_예약할_수_없으면_바로_닫는다")
+        void 드레인을_예약할_수_없으면_바로_닫는다() throws Exception {
+            ConflatingSessionDecorator session = new ConflatingSessionDecorator(rawSession, guard, task -> {
+                throw new RejectedExecutionException("shut down");
+            }, config);
+
+            session.sendMessage(frame("/topic/liquidation", "sub-1", "{\"id\":1}"));
+            session.close(CloseStatus.NORMAL);
+
+            verify(rawSession).close(CloseStatus.NORMAL);
+            assertEquals(0, session.getBufferedBytes());
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.crypto.prayer.adapter.in.websocket.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ClientIdentityHandshakeInterceptor")
+class ClientIdentityHandshakeInterceptorTest {
+
+    private RateLimitConfig config;
+    private ClientIdentityHandshakeInterceptor interceptor;
+    private MockHttpServletRequest servletRequest;
+
+    @BeforeEach
+    void setUp() {
+        config = new RateLimitConfig();
+        interceptor = new ClientIdentityHandshakeInterceptor(config);
+        servletRequest = new MockHttpServletRequest("GET", "/ws");
+        servletRequest.setRemoteAddr("10.0.0.1");
+        servletRequest.addHeader("X-Forwarded-For", "203.0.113.7, 10.0.0.1");
+    }
+
+    private Map<String, Object> handshake() {
+        Map<String, Object> attributes = new HashMap<>();
+        boolean proceed = interceptor.beforeHandshake(
+            new ServletServerHttpRequest(servletRequest),
+            new ServletServerHttpResponse(new MockHttpServletResponse()),
+            null,
+            attributes);
+        assertThat(proceed).isTrue();
+        return attributes;
+    }
+
+    @Test
+    @DisplayName("원격_주소와_cid를_세션_속성에_저장한다")
+    void 원격_주소와_cid를_세션_속성에_저장한다() {
+        servletRequest.setQueryString("cid=3f2a9c1e-7b4d-4e8a");
+
+        Map<String, Object> attributes = handshake();
+
+        assertThat(ClientIdentity.of("s1", attributes))
+            .isEqualTo(new ClientIdentity("s1", "10.0.0.1", "3f2a9c1e-7b4d-4e8a"));
+    }
+
+    @Test
+    @DisplayName("신뢰_설정이면_X_Forwarded_For의_오른쪽에서_프록시_수_번째_주소를_쓴다")
+    void 신뢰_설정이면_X_Forwarded_For의_오른쪽에서_프록시_수_번째_주소를_쓴다() {
+        config.setTrustForwardedFor(true);
+        config.setTrustedProxyHops(2);
+
+        assertThat(handshake()).containsEntry(ClientIdentity.IP_ATTRIBUTE, "203.0.113.7");
+    }
+
+    @Test
+    @DisplayName("클라이언트가_왼쪽에_넣은_주소는_무시한다")
+    void 클라이언트가_왼쪽에_넣은_주소는_무시한다() {
+        config.setTrustForwardedFor(true);
+        servletRequest.removeHeader("X-Forwarded-For");
+        // 클라이언트가 보낸 가짜 주소 뒤에 로드밸런서가 실제 주소를 붙인다
+        servletRequest.addHeader("X-Forwarded-For", "198.51.100.99, 203.0.113.7");
+
+        assertThat(handshake()).containsEntry(ClientIdentity.IP_ATTRIBUTE, "203.0.113.7");
+    }
+
+    @Test
+    @DisplayName("여러_X_Forwarded_For_헤더는_순서대로_이어서_본다")
+    void 여러_X_Forwarded_For_헤더는_순서대로_이어서_본다() {
+        config.setTrustForwardedFor(true);
+        servletRequest.removeHeader("X-Forwarded-For");
+        servletRequest.addHeader("X-Forwarded-For", "198.51.100.99");
+        servletRequest.addHeader("X-Forwarded-For", "203.0.113.7");
+
+        assertThat(handshake()).containsEntry(ClientIdentity.IP_ATTRIBUTE, "203.0.113.7");
+    }
+
+    @Test
+    @DisplayName("형식이_맞지_않는_cid는_무시하고_세션_단위로_센다")
+    void 형식이_맞지_않는_cid는_무시하고_세션_단위로_센다() {
+        servletRequest.setQueryString("cid=a:b");
+
+        ClientIdentity identity = ClientIdentity.of("s1", handshake());
+
+        assertThat(identity.clientId()).isNull();
+        assertThat(identity.clientKey()).isEqualTo("s1");
+    }
+}
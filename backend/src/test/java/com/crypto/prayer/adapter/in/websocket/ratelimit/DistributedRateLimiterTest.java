@@ -0,0 +1,283 @@
+package com.crypto.prayer.adapter.in.websocket.ratelimit;
+
+import com.crypto.prayer.adapter.out.redis.RedisRateLimitLeaser;
+import com.crypto.prayer.adapter.out.redis.RedisRateLimitLeaser.Grant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DistributedRateLimiter")
+class DistributedRateLimiterTest {
+
+    private static final long MILLIS = 1_000_000L;
+    private static final String IP_KEY = "ratelimit:ip:10.0.0.1";
+    private static final String CLIENT_KEY = "ratelimit:client:client-abc";
+
+    @Mock
+    private RedisRateLimitLeaser leaser;
+
+    private final AtomicLong nanos = new AtomicLong(0);
+    private RateLimitConfig config;
+    private DistributedRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        config = new RateLimitConfig();
+        config.getDistributed().setEnabled(true);
+        rateLimiter = new DistributedRateLimiter(config, leaser, nanos::get);
+    }
+
+    private ClientIdentity identity(String sessionId) {
+        return new ClientIdentity(sessionId, "10.0.0.1", "client-abc");
+    }
+
+    private int consumeAll(ClientIdentity identity, int attempts) {
+        int allowed = 0;
+        for (int i = 0; i < attempts; i++) {
+            if (rateLimiter.tryConsume(identity)) {
+                allowed++;
+            }
+        }
+        return allowed;
+    }
+
+    @Nested
+    @DisplayName("토큰 리스")
+    class Leasing {
+
+        @Test
+        @DisplayName("받아_온_토큰을_다_쓸_때까지_Redis를_다시_호출하지_않는다")
+        void 받아_온_토큰을_다_쓸_때까지_Redis를_다시_호출하지_않는다() {
+            when(leaser.lease(anyString(), anyLong(), anyLong(), eq(5))).thenReturn(new Grant(5, 0));
+
+            assertThat(consumeAll(identity("s1"), 5)).isEqualTo(5);
+            verify(leaser, times(1)).lease(eq(IP_KEY), anyLong(), anyLong(), eq(5));
+            verify(leaser, times(1)).lease(eq(CLIENT_KEY), anyLong(), anyLong(), eq(5));
+
+            rateLimiter.tryConsume(identity("s1"));
+
+            verify(leaser, times(2)).lease(eq(CLIENT_KEY), anyLong(), anyLong(), eq(5));
+        }
+
+        @Test
+        @DisplayName("IP와_클라이언트_한도를_GCRA_파라미터로_넘긴다")
+        void IP와_클라이언트_한도를_GCRA_파라미터로_넘긴다() {
+            when(leaser.lease(anyString(), anyLong(), anyLong(), anyInt())).thenReturn(new Grant(5, 0));
+
+            rateLimiter.tryConsume(identity("s1"));
+
+            // 초당 50회, 버스트 200 / 초당 5회, 버스트 20 (µs)
+            verify(leaser).lease(IP_KEY, 20_000L, 20_000L * 199, 5);
+            verify(leaser).lease(CLIENT_KEY, 200_000L, 200_000L * 19, 5);
+        }
+
+        @Test
+        @DisplayName("같은_클라이언트의_다른_세션도_같은_한도를_나눠_쓴다")
+        void 같은_클라이언트의_다른_세션도_같은_한도를_나눠_쓴다() {
+            when(leaser.lease(eq(IP_KEY), anyLong(), anyLong(), anyInt())).thenReturn(new Grant(5, 0));
+            when(leaser.lease(eq(CLIENT_KEY), anyLong(), anyLong(), anyInt()))
+                .thenReturn(new Grant(2, 0))
+                .thenReturn(new Grant(0, 1_000));
+
+            assertThat(rateLimiter.tryConsume(identity("s1"))).isTrue();
+            assertThat(rateLimiter.tryConsume(identity("s2"))).isTrue();
+            assertThat(rateLimiter.tryConsume(identity("s3"))).isFalse();
+        }
+
+        @Test
+        @DisplayName("거부되면_retry_after까지_Redis_없이_거부한다")
+        void 거부되면_retry_after까지_Redis_없이_거부한다() {
+            when(leaser.lease(eq(IP_KEY), anyLong(), anyLong(), anyInt())).thenReturn(new Grant(0, 100));
+
+            assertThat(consumeAll(identity("s1"), 3)).isZero();
+            verify(leaser, times(1)).lease(eq(IP_KEY), anyLong(), anyLong(), anyInt());
+
+            nanos.addAndGet(100 * MILLIS);
+            rateLimiter.tryConsume(identity("s1"));
+
+            verify(leaser, times(2)).lease(eq(IP_KEY), anyLong(), anyLong(), anyInt());
+        }
+
+        @Test
+        @DisplayName("만료된_리스는_남은_토큰을_반납하고_새로_받는다")
+        void 만료된_리스는_남은_토큰을_반납하고_새로_받는다() {
+            when(leaser.lease(anyString(), anyLong(), anyLong(), anyInt())).thenReturn(new Grant(5, 0));
+            rateLimiter.tryConsume(identity("s1"));
+
+            nanos.addAndGet(1_000 * MILLIS);
+            rateLimiter.tryConsume(identity("s1"));
+
+            InOrder inOrder = inOrder(leaser);
+            inOrder.verify(leaser).release(CLIENT_KEY, 200_000L, 4);
+            inOrder.verify(leaser).lease(eq(CLIENT_KEY), anyLong(), anyLong(), anyInt());
+            verify(leaser, times(2)).lease(eq(CLIENT_KEY), anyLong(), anyLong(), anyInt());
+        }
+
+        @Test
+        @DisplayName("반납_주기에_만료된_리스의_남은_토큰을_돌려준다")
+        void 반납_주기에_만료된_리스의_남은_토큰을_돌려준다() {
+            when(leaser.lease(anyString(), anyLong(), anyLong(), anyInt())).thenReturn(new Grant(5, 0));
+            rateLimiter.tryConsume(identity("s1"));
+
+            assertThat(rateLimiter.releaseUnused()).isZero();
+
+            nanos.addAndGet(1_000 * MILLIS);
+            assertThat(rateLimiter.releaseUnused()).isEqualTo(8);
+            verify(leaser).release(IP_KEY, 20_000L, 4);
+            verify(leaser).release(CLIENT_KEY, 200_000L, 4);
+
+            assertThat(rateLimiter.releaseUnused()).isZero();
+        }
+
+        @Test
+        @DisplayName("cid_없는_세션이_끊기면_그_세션의_리스를_반납한다")
+        void cid_없는_세션이_끊기면_그_세션의_리스를_반납한다() {
+            when(leaser.lease(anyString(), anyLong(), anyLong(), anyInt())).thenReturn(new Grant(5, 0));
+            rateLimiter.tryConsume(new ClientIdentity("s9", "10.0.0.1", null));
+
+            rateLimiter.removeClient("s9");
+
+            assertThat(rateLimiter.releaseUnused()).isEqualTo(4);
+            verify(leaser).release("ratelimit:client:s9", 200_000L, 4);
+            // IP 리스는 다른 세션과 공유하므로 만료 전에는 유지
+            verify(leaser, never()).release(eq(IP_KEY), anyLong(), anyInt());
+        }
+
+        @Test
+        @DisplayName("세션_한도를_넘으면_Redis를_호출하지_않는다")
+        void 세션_한도를_넘으면_Redis를_호출하지_않는다() {
+            when(leaser.lease(anyString(), anyLong(), anyLong(), anyInt())).thenReturn(new Grant(5, 0));
+            consumeAll(identity("s1"), 20);
+            clearInvocations(leaser);
+
+            assertThat(rateLimiter.tryConsume(identity("s1"))).isFalse();
+
+            verifyNoInteractions(leaser);
+        }
+
+        @Test
+        @DisplayName("IP를_모르면_클라이언트_한도만_검사한다")
+        void IP를_모르면_클라이언트_한도만_검사한다() {
+            when(leaser.lease(eq("ratelimit:client:s1"), anyLong(), anyLong(), anyInt())).thenReturn(new Grant(5, 0));
+
+            assertThat(rateLimiter.tryConsume("s1")).isTrue();
+
+            verify(leaser, never()).lease(startsWith("ratelimit:ip:"), anyLong(), anyLong(), anyInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("거부 시 토큰 반환")
+    class Refund {
+
+        @Test
+        @DisplayName("클라이언트_한도에서_거부되면_IP_토큰을_돌려준다")
+        void 클라이언트_한도에서_거부되면_IP_토큰을_돌려준다() {
+            when(leaser.lease(eq(IP_KEY), anyLong(), anyLong(), anyInt())).thenReturn(new Grant(1, 0));
+            when(leaser.lease(eq(CLIENT_KEY), anyLong(), anyLong(), anyInt()))
+                .thenReturn(new Grant(0, 1))
+                .thenReturn(new Grant(5, 0));
+
+            assertThat(rateLimiter.tryConsume(identity("s1"))).isFalse();
+            nanos.addAndGet(MILLIS);
+
+            assertThat(rateLimiter.tryConsume(identity("s1"))).isTrue();
+            verify(leaser, times(1)).lease(eq(IP_KEY), anyLong(), anyLong(), anyInt());
+        }
+
+        @Test
+        @DisplayName("IP나_클라이언트_한도에서_거부되면_세션_토큰을_돌려준다")
+        void IP나_클라이언트_한도에서_거부되면_세션_토큰을_돌려준다() {
+            config.setBurst(1);
+            rateLimiter = new DistributedRateLimiter(config, leaser, nanos::get);
+            when(leaser.lease(eq(IP_KEY), anyLong(), anyLong(), anyInt()))
+                .thenReturn(new Grant(0, 1))
+                .thenReturn(new Grant(5, 0));
+            when(leaser.lease(eq(CLIENT_KEY), anyLong(), anyLong(), anyInt())).thenReturn(new Grant(5, 0));
+
+            assertThat(rateLimiter.tryConsume(identity("s1"))).isFalse();
+            nanos.addAndGet(MILLIS);
+
+            // 세션 버스트 1, 초당 5회라 1ms 뒤에는 돌려받은 토큰으로만 통과할 수 있다
+            assertThat(rateLimiter.tryConsume(identity("s1"))).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("Redis 장애")
+    class RedisFailure {
+
+        @BeforeEach
+        void setUp() {
+            config.getDistributed().getPerClient().setBurst(3);
+            rateLimiter = new DistributedRateLimiter(config, leaser, nanos::get);
+        }
+
+        @Test
+        @DisplayName("Redis_호출이_실패하면_노드_로컬_한도로_대체한다")
+        void Redis_호출이_실패하면_노드_로컬_한도로_대체한다() {
+            when(leaser.lease(anyString(), anyLong(), anyLong(), anyInt()))
+                .thenThrow(new RuntimeException("Redis down"));
+
+            assertThat(consumeAll(identity("s1"), 5)).isEqualTo(3);
+            assertThat(rateLimiter.isRedisSuspended()).isTrue();
+        }
+
+        @Test
+        @DisplayName("재시도_시간_전에는_Redis를_다시_호출하지_않는다")
+        void 재시도_시간_전에는_Redis를_다시_호출하지_않는다() {
+            when(leaser.lease(anyString(), anyLong(), anyLong(), anyInt()))
+                .thenThrow(new RuntimeException("Redis down"));
+            rateLimiter.tryConsume(identity("s1"));
+            verify(leaser, times(1)).lease(anyString(), anyLong(), anyLong(), anyInt());
+
+            nanos.addAndGet(4_999 * MILLIS);
+            rateLimiter.tryConsume(identity("s1"));
+
+            verify(leaser, times(1)).lease(anyString(), anyLong(), anyLong(), anyInt());
+        }
+
+        @Test
+        @DisplayName("재시도_시간이_지나_성공하면_Redis_한도로_돌아간다")
+        void 재시도_시간이_지나_성공하면_Redis_한도로_돌아간다() {
+            when(leaser.lease(anyString(), anyLong(), anyLong(), anyInt()))
+                .thenThrow(new RuntimeException("Redis down"))
+                .thenReturn(new Grant(5, 0));
+            rateLimiter.tryConsume(identity("s1"));
+
+            nanos.addAndGet(5_000 * MILLIS);
+
+            assertThat(rateLimiter.tryConsume(identity("s1"))).isTrue();
+            assertThat(rateLimiter.isRedisSuspended()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("sweep()")
+    class Sweep {
+
+        @Test
+        @DisplayName("만료된_리스를_제거한다")
+        void 만료된_리스를_제거한다() {
+            when(leaser.lease(anyString(), anyLong(), anyLong(), anyInt())).thenReturn(new Grant(5, 0));
+            rateLimiter.tryConsume(identity("s1"));
+
+            assertThat(rateLimiter.sweep()).isZero();
+
+            nanos.addAndGet(1_000 * MILLIS);
+            assertThat(rateLimiter.sweep()).isEqualTo(2);
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.crypto.prayer.adapter.in.websocket.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("GcraRateLimiter")
+class GcraRateLimiterTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    // nanoTime처럼 음수에서 시작해도 동작해야 한다
+    private final AtomicLong nanos = new AtomicLong(-5_000 * MILLIS);
+
+    private RateLimitConfig config;
+    private GcraRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        config = new RateLimitConfig();
+        rateLimiter = new GcraRateLimiter(config, nanos::get);
+    }
+
+    private int consumeAll(String clientId, int attempts) {
+        int allowed = 0;
+        for (int i = 0; i < attempts; i++) {
+            if (rateLimiter.tryConsume(clientId)) {
+                allowed++;
+            }
+        }
+        return allowed;
+    }
+
+    @Nested
+    @DisplayName("tryConsume()")
+    class TryConsume {
+
+        @Test
+        @DisplayName("새_클라이언트는_버스트만큼_바로_허용한다")
+        void 새_클라이언트는_버스트만큼_바로_허용한다() {
+            assertThat(consumeAll("client-1", 25)).isEqualTo(20);
+        }
+
+        @Test
+        @DisplayName("요청_간격마다_하나씩_다시_허용한다")
+        void 요청_간격마다_하나씩_다시_허용한다() {
+            consumeAll("client-1", 20);
+
+            nanos.addAndGet(199 * MILLIS);
+            assertThat(rateLimiter.tryConsume("client-1")).isFalse();
+
+            nanos.addAndGet(MILLIS);
+            assertThat(rateLimiter.tryConsume("client-1")).isTrue();
+            assertThat(rateLimiter.tryConsume("client-1")).isFalse();
+        }
+
+        @Test
+        @DisplayName("오래_쉬어도_버스트_이상은_쌓이지_않는다")
+        void 오래_쉬어도_버스트_이상은_쌓이지_않는다() {
+            consumeAll("client-1", 20);
+
+            nanos.addAndGet(3_600_000 * MILLIS);
+
+            assertThat(consumeAll("client-1", 30)).isEqualTo(20);
+        }
+
+        @Test
+        @DisplayName("클라이언트별로_독립적으로_계산한다")
+        void 클라이언트별로_독립적으로_계산한다() {
+            consumeAll("client-1", 20);
+
+            assertThat(rateLimiter.tryConsume("client-2")).isTrue();
+        }
+
+        @Test
+        @DisplayName("동시_요청에서도_버스트를_넘겨_허용하지_않는다")
+        void 동시_요청에서도_버스트를_넘겨_허용하지_않는다() throws Exception {
+            int threads = 8;
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            CountDownLatch start = new CountDownLatch(1);
+            AtomicInteger allowed = new AtomicInteger();
+            try {
+                for (int t = 0; t < threads; t++) {
+                    executor.execute(() -> {
+                        try {
+                            start.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                        for (int i = 0; i < 1_000; i++) {
+                            if (rateLimiter.tryConsume("shared")) {
+                                allowed.incrementAndGet();
+                            }
+                        }
+                    });
+                }
+                start.countDown();
+            } finally {
+                executor.shutdown();
+                executor.awaitTermination(10, TimeUnit.SECONDS);
+            }
+
+            assertThat(allowed.get()).isEqualTo(20);
+        }
+
+        @Test
+        @DisplayName("rate나_burst가_양수가_아니면_예외")
+        void rate나_burst가_양수가_아니면_예외() {
+            config.setBurst(0);
+
+            assertThatThrownBy(() -> new GcraRateLimiter(config, nanos::get))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("refund()")
+    class Refund {
+
+        @Test
+        @DisplayName("돌려받은_토큰만큼_다시_허용한다")
+        void 돌려받은_토큰만큼_다시_허용한다() {
+            consumeAll("client-1", 20);
+
+            rateLimiter.refund("client-1");
+            rateLimiter.refund("client-1");
+
+            assertThat(consumeAll("client-1", 5)).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("모르는_클라이언트는_무시한다")
+        void 모르는_클라이언트는_무시한다() {
+            rateLimiter.refund("unknown");
+
+            assertThat(rateLimiter.size()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("sweep()")
+    class Sweep {
+
+        @Test
+        @DisplayName("유휴_시간이_지난_클라이언트만_제거한다")
+        void 유휴_시간이_지난_클라이언트만_제거한다() {
+            rateLimiter.tryConsume("idle");
+            nanos.addAndGet(59_000 * MILLIS);
+            rateLimiter.tryConsume("active");
+            nanos.addAndGet(2_000 * MILLIS);
+
+            assertThat(rateLimiter.sweep()).isEqualTo(1);
+            assertThat(rateLimiter.size()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("제거된_클라이언트는_버스트가_찬_새_항목으로_시작한다")
+        void 제거된_클라이언트는_버스트가_찬_새_항목으로_시작한다() {
+            consumeAll("client-1", 20);
+            nanos.addAndGet(120_000 * MILLIS);
+            rateLimiter.sweep();
+
+            assertThat(consumeAll("client-1", 25)).isEqualTo(20);
+        }
+    }
+
+    @Nested
+    @DisplayName("removeClient()")
+    class RemoveClient {
+
+        @Test
+        @DisplayName("연결_해제된_클라이언트를_바로_제거한다")
+        void 연결_해제된_클라이언트를_바로_제거한다() {
+            consumeAll("client-1", 20);
+
+            rateLimiter.removeClient("client-1");
+
+            assertThat(rateLimiter.size()).isZero();
+            assertThat(rateLimiter.tryConsume("client-1")).isTrue();
+        }
+    }
+}
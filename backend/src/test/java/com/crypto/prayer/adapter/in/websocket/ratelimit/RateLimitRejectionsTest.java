@@ -0,0 +1,123 @@
+package com.crypto.prayer.adapter.in.websocket.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RateLimitRejections")
+class RateLimitRejectionsTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    @Mock
+    private SimpMessageSendingOperations messagingTemplate;
+
+    private final AtomicLong nanos = new AtomicLong(-3_000 * MILLIS);
+    private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimitRejections rejections;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        rejections = new RateLimitRejections(
+            new RateLimitConfig(), new ObjectMapper(), messagingTemplate, meterRegistry, nanos::get);
+    }
+
+    private double rejected(String endpoint) {
+        return meterRegistry.get("websocket.ratelimit.rejected").tag("endpoint", endpoint).counter().count();
+    }
+
+    @Nested
+    @DisplayName("rejectStomp()")
+    class RejectStomp {
+
+        @Test
+        @DisplayName("공유_JSON_본문을_해당_세션의_에러_큐로_보낸다")
+        @SuppressWarnings("unchecked")
+        void 공유_JSON_본문을_해당_세션의_에러_큐로_보낸다() {
+            rejections.rejectStomp("s1", attributes);
+
+            ArgumentCaptor<Message<?>> captor = ArgumentCaptor.forClass(Message.class);
+            verify(messagingTemplate).send(eq("/user/s1/queue/errors"), captor.capture());
+            Message<?> message = captor.getValue();
+            assertThat(new String((byte[]) message.getPayload(), StandardCharsets.UTF_8))
+                .contains("\"code\":\"RATE_LIMIT_EXCEEDED\"");
+            assertThat(SimpMessageHeaderAccessor.getSessionId(message.getHeaders())).isEqualTo("s1");
+            assertThat(SimpMessageHeaderAccessor.getContentType(message.getHeaders()))
+                .isEqualTo(MimeTypeUtils.APPLICATION_JSON);
+        }
+
+        @Test
+        @DisplayName("창_안의_거부는_응답_없이_메트릭으로만_센다")
+        void 창_안의_거부는_응답_없이_메트릭으로만_센다() {
+            for (int i = 0; i < 50; i++) {
+                rejections.rejectStomp("s1", attributes);
+            }
+
+            verify(messagingTemplate, times(1)).send(anyString(), any());
+            assertThat(rejected("stomp")).isEqualTo(50.0);
+        }
+
+        @Test
+        @DisplayName("창이_지나면_다시_응답한다")
+        void 창이_지나면_다시_응답한다() {
+            rejections.rejectStomp("s1", attributes);
+            nanos.addAndGet(999 * MILLIS);
+            rejections.rejectStomp("s1", attributes);
+            nanos.addAndGet(MILLIS);
+            rejections.rejectStomp("s1", attributes);
+
+            verify(messagingTemplate, times(2)).send(anyString(), any());
+        }
+
+        @Test
+        @DisplayName("응답_창은_세션마다_따로_센다")
+        void 응답_창은_세션마다_따로_센다() {
+            rejections.rejectStomp("s1", attributes);
+            rejections.rejectStomp("s2", new ConcurrentHashMap<>());
+
+            verify(messagingTemplate).send(eq("/user/s1/queue/errors"), any());
+            verify(messagingTemplate).send(eq("/user/s2/queue/errors"), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("rejectBinary()")
+    class RejectBinary {
+
+        @Test
+        @DisplayName("창마다_한번만_에러_프레임을_허용한다")
+        void 창마다_한번만_에러_프레임을_허용한다() {
+            assertThat(rejections.rejectBinary(attributes)).isTrue();
+            assertThat(rejections.rejectBinary(attributes)).isFalse();
+
+            nanos.addAndGet(1_000 * MILLIS);
+
+            assertThat(rejections.rejectBinary(attributes)).isTrue();
+            assertThat(rejected("binary")).isEqualTo(3.0);
+            verifyNoInteractions(messagingTemplate);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.crypto.prayer.adapter.in.websocket.snapshot;
+
+import com.crypto.prayer.adapter.out.binance.BinanceConfig;
+import com.crypto.prayer.adapter.in.websocket.dto.LiquidationMessage;
+import com.crypto.prayer.adapter.in.websocket.dto.PrayerResponse;
+import com.crypto.prayer.adapter.in.websocket.dto.SnapshotMessage;
+import com.crypto.prayer.adapter.in.websocket.dto.TickerMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SnapshotCache")
+class SnapshotCacheTest {
+
+    private SnapshotConfig config;
+    private SnapshotCache cache;
+
+    @BeforeEach
+    void setUp() {
+        config = new SnapshotConfig();
+        config.setLiquidationCount(3);
+        cache = new SnapshotCache(config, new BinanceConfig());
+    }
+
+    private static LiquidationMessage liquidation(String symbol) {
+        return LiquidationMessage.of(symbol, "LONG", 1.0, 100.0);
+    }
+
+    @Test
+    @DisplayName("받은_값이_없으면_빈_스냅샷이다")
+    void 받은_값이_없으면_빈_스냅샷이다() {
+        SnapshotMessage snapshot = cache.snapshot();
+
+        assertEquals("SNAPSHOT", snapshot.type());
+        assertNull(snapshot.prayer());
+        assertNull(snapshot.ticker());
+        assertTrue(snapshot.tickers().isEmpty());
+        assertTrue(snapshot.liquidations().isEmpty());
+    }
+
+    @Test
+    @DisplayName("최신_기도_통계와_심볼별_최신_티커를_담는다")
+    void 최신_기도_통계와_심볼별_최신_티커를_담는다() {
+        PrayerResponse prayer = PrayerResponse.from(10, 5, 1.0, 0.5);
+        cache.updatePrayer(PrayerResponse.from(1, 1, 0, 0));
+        cache.updatePrayer(prayer);
+        cache.updateTicker(TickerMessage.of("ETHUSDT", 2500, 1.0));
+        cache.updateTicker(TickerMessage.of("BTCUSDT", 42000, 2.0));
+        cache.updateTicker(TickerMessage.of("BTCUSDT", 42100, 2.1));
+
+        SnapshotMessage snapshot = cache.snapshot();
+
+        assertEquals(prayer, snapshot.prayer());
+        assertEquals(42100, snapshot.ticker().price());
+        assertEquals(List.of("BTCUSDT", "ETHUSDT"),
+            snapshot.tickers().stream().map(TickerMessage::symbol).toList());
+    }
+
+    @Test
+    @DisplayName("최근_청산은_설정한_수만큼_오래된_것부터_담는다")
+    void 최근_청산은_설정한_수만큼_오래된_것부터_담는다() {
+        cache.addLiquidation(liquidation("A"));
+        cache.addLiquidations(List.of(liquidation("B"), liquidation("C"), liquidation("D")));
+
+        List<String> symbols = cache.snapshot().liquidations().stream()
+            .map(LiquidationMessage::symbol)
+            .toList();
+
+        assertEquals(List.of("B", "C", "D"), symbols);
+    }
+
+    @Test
+    @DisplayName("청산_수가_0이면_청산을_보관하지_않는다")
+    void 청산_수가_0이면_청산을_보관하지_않는다() {
+        config.setLiquidationCount(0);
+
+        cache.addLiquidation(liquidation("A"));
+
+        assertTrue(cache.snapshot().liquidations().isEmpty());
+    }
+}
@@ -0,0 +1,94 @@
+package com.crypto.prayer.adapter.in.websocket.snapshot;
+
+import com.crypto.prayer.adapter.out.binance.BinanceConfig;
+import com.crypto.prayer.adapter.in.websocket.dto.SnapshotMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.user.UserDestinationMessageHandler;
+import org.springframework.messaging.support.MessageBuilder;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SnapshotOnSubscribeInterceptor")
+class SnapshotOnSubscribeInterceptorTest {
+
+    @Mock
+    private SimpMessageSendingOperations messagingTemplate;
+
+    @Mock
+    private MessageChannel channel;
+
+    @Mock
+    private UserDestinationMessageHandler userDestinationHandler;
+
+    @Mock
+    private MessageHandler otherHandler;
+
+    private SnapshotConfig config;
+    private SnapshotOnSubscribeInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        config = new SnapshotConfig();
+        interceptor = new SnapshotOnSubscribeInterceptor(
+            new SnapshotCache(config, new BinanceConfig()), messagingTemplate);
+    }
+
+    private static Message<byte[]> message(SimpMessageType type, String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(type);
+        accessor.setSessionId("session-1");
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    @Test
+    @DisplayName("스냅샷_큐_구독이_처리되면_해당_세션에_스냅샷을_보낸다")
+    void 스냅샷_큐_구독이_처리되면_해당_세션에_스냅샷을_보낸다() {
+        interceptor.afterMessageHandled(
+            message(SimpMessageType.SUBSCRIBE, "/user/queue/snapshot"), channel, userDestinationHandler, null);
+
+        ArgumentCaptor<MessageHeaders> headers = ArgumentCaptor.forClass(MessageHeaders.class);
+        verify(messagingTemplate).convertAndSendToUser(
+            eq("session-1"), eq("/queue/snapshot"), any(SnapshotMessage.class), headers.capture());
+        assertEquals("session-1", SimpMessageHeaderAccessor.getSessionId(headers.getValue()));
+    }
+
+    @Test
+    @DisplayName("다른_목적지나_다른_핸들러는_무시한다")
+    void 다른_목적지나_다른_핸들러는_무시한다() {
+        interceptor.afterMessageHandled(
+            message(SimpMessageType.SUBSCRIBE, "/topic/prayer"), channel, userDestinationHandler, null);
+        interceptor.afterMessageHandled(
+            message(SimpMessageType.SUBSCRIBE, "/user/queue/snapshot"), channel, otherHandler, null);
+        interceptor.afterMessageHandled(
+            message(SimpMessageType.MESSAGE, "/user/queue/snapshot"), channel, userDestinationHandler, null);
+
+        verifyNoInteractions(messagingTemplate);
+    }
+
+    @Test
+    @DisplayName("비활성화되면_보내지_않는다")
+    void 비활성화되면_보내지_않는다() {
+        config.setEnabled(false);
+
+        interceptor.afterMessageHandled(
+            message(SimpMessageType.SUBSCRIBE, "/user/queue/snapshot"), channel, userDestinationHandler, null);
+
+        verifyNoInteractions(messagingTemplate);
+    }
+}
@@ -44,6 +44,23 @@ class BinanceConfigTest {
 
             assertEquals(30000, config.getReconnectMaxDelayMs());
         }
+
+        @Test
+        @DisplayName("수신_요청_윈도우_기본값이_16이다")
+        void 수신_요청_윈도우_기본값이_16이다() {
+            BinanceConfig config = new BinanceConfig();
+
+            assertEquals(16, config.getRequestWindow());
+        }
+
+        @Test
+        @DisplayName("HTTP_및_재연결_스레드_수_기본값이_2이다")
+        void HTTP_및_재연결_스레드_수_기본값이_2이다() {
+            BinanceConfig config = new BinanceConfig();
+
+            assertEquals(2, config.getHttpClientThreads());
+            assertEquals(2, config.getReconnectThreads());
+        }
     }
 
     @Nested
@@ -1,5 +1,8 @@
 package com.crypto.prayer.adapter.out.binance;
 
+import com.crypto.prayer.adapter.out.binance.ingest.IngestConfig;
+import com.crypto.prayer.adapter.out.binance.ingest.MarketDataIngest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -19,7 +22,8 @@ class BinanceWebSocketClientTest {
     @BeforeEach
     void setUp() {
         config = new BinanceConfig();
-        client = new BinanceWebSocketClient(config);
+        client = new BinanceWebSocketClient(config,
+            new MarketDataIngest(new IngestConfig(), new SimpleMeterRegistry()));
     }
 
     @Nested
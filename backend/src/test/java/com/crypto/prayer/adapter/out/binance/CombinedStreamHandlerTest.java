@@ -0,0 +1,149 @@
+package com.crypto.prayer.adapter.out.binance;
+
+import com.crypto.prayer.adapter.in.websocket.dto.LiquidationMessage;
+import com.crypto.prayer.adapter.in.websocket.dto.TickerMessage;
+import com.crypto.prayer.adapter.out.binance.decode.BinanceEventDecoder;
+import com.crypto.prayer.application.port.out.BroadcastPort;
+import com.crypto.prayer.application.service.LiquidationLeaderboardConfig;
+import com.crypto.prayer.application.service.LiquidationStatsService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("CombinedStreamHandler")
+@ExtendWith(MockitoExtension.class)
+class CombinedStreamHandlerTest {
+
+    @Mock
+    private BinanceWebSocketClient webSocketClient;
+
+    @Mock
+    private BroadcastPort broadcastPort;
+
+    private BinanceConfig config;
+    private ObjectMapper objectMapper;
+    private TickerStreamHandler tickerStreamHandler;
+    private CombinedStreamHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        config = new BinanceConfig();
+        config.setSymbols(List.of("BTCUSDT", "ETHUSDT", "SOLUSDT"));
+        objectMapper = new ObjectMapper();
+        tickerStreamHandler = new TickerStreamHandler(webSocketClient, config, broadcastPort,
+            new ConflatingTickerPublisher(broadcastPort, new TickerConflationConfig(), new SimpleMeterRegistry()),
+            objectMapper);
+        LiquidationStreamHandler liquidationStreamHandler = new LiquidationStreamHandler(
+            webSocketClient, config, broadcastPort,
+            new LiquidationBatcher(broadcastPort, new LiquidationBatchConfig(), new SimpleMeterRegistry()),
+            new LiquidationStatsService(new LiquidationLeaderboardConfig()), objectMapper);
+        TickerDemandSubscriber demandSubscriber = new TickerDemandSubscriber(
+            webSocketClient, config, objectMapper, new SimpleMeterRegistry());
+        handler = new CombinedStreamHandler(
+            webSocketClient, config, tickerStreamHandler, liquidationStreamHandler, demandSubscriber, objectMapper);
+    }
+
+    @Nested
+    @DisplayName("start 메서드")
+    class Start {
+
+        @Test
+        @DisplayName("비활성화면_연결하지_않는다")
+        void 비활성화면_연결하지_않는다() {
+            handler.start();
+
+            verifyNoInteractions(webSocketClient);
+        }
+
+        @Test
+        @DisplayName("모든_심볼_티커와_청산을_한_연결로_구독한다")
+        void 모든_심볼_티커와_청산을_한_연결로_구독한다() {
+            config.getCombined().setEnabled(true);
+
+            handler.start();
+
+            verify(webSocketClient).connect(eq("combined-0"),
+                eq("wss://fstream.binance.com/stream?streams=btcusdt@ticker/ethusdt@ticker/solusdt@ticker/!forceOrder@arr"),
+                any(), any());
+        }
+
+        @Test
+        @DisplayName("연결당_스트림_수를_넘으면_연결을_나눈다")
+        void 연결당_스트림_수를_넘으면_연결을_나눈다() {
+            config.getCombined().setEnabled(true);
+            config.getCombined().setMaxStreamsPerConnection(3);
+
+            handler.start();
+
+            verify(webSocketClient, times(2)).connect(anyString(), anyString(), any(), any());
+            verify(webSocketClient).connect(eq("combined-1"),
+                eq("wss://fstream.binance.com/stream?streams=!forceOrder@arr"), any(), any());
+        }
+
+        @Test
+        @DisplayName("수요_기반_모드에서는_대표_심볼과_청산만_URL로_구독한다")
+        void 수요_기반_모드에서는_대표_심볼과_청산만_URL로_구독한다() {
+            config.getCombined().setEnabled(true);
+            config.getCombined().setDemandDriven(true);
+
+            handler.start();
+
+            verify(webSocketClient).connect(eq("combined-0"),
+                eq("wss://fstream.binance.com/stream?streams=btcusdt@ticker/!forceOrder@arr"), any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("handleMessage 메서드")
+    class HandleMessage {
+
+        private final BinanceEventDecoder decoder = new BinanceEventDecoder(new ObjectMapper().getFactory());
+
+        @Test
+        @DisplayName("티커_봉투는_심볼별_최신값을_갱신하고_브로드캐스트한다")
+        void 티커_봉투는_심볼별_최신값을_갱신하고_브로드캐스트한다() {
+            handler.handleMessage(decoder, """
+                {"stream": "ethusdt@ticker", "data": {"e": "24hrTicker", "s": "ETHUSDT", "c": "2500.5", "P": "1.5"}}
+                """);
+
+            ArgumentCaptor<TickerMessage> captor = ArgumentCaptor.forClass(TickerMessage.class);
+            verify(broadcastPort).broadcastTicker(captor.capture());
+            assertEquals("ETHUSDT", captor.getValue().symbol());
+            assertEquals(2500.5, tickerStreamHandler.getLatestTicker("ETHUSDT").price());
+        }
+
+        @Test
+        @DisplayName("청산_봉투는_청산으로_브로드캐스트한다")
+        void 청산_봉투는_청산으로_브로드캐스트한다() {
+            handler.handleMessage(decoder, """
+                {"stream": "!forceOrder@arr", "data": {"e": "forceOrder", "o": {"s": "BTCUSDT", "S": "SELL", "ap": "50000", "z": "0.1"}}}
+                """);
+
+            ArgumentCaptor<LiquidationMessage> captor = ArgumentCaptor.forClass(LiquidationMessage.class);
+            verify(broadcastPort).broadcastLiquidation(captor.capture());
+            assertEquals("LONG", captor.getValue().side());
+        }
+
+        @Test
+        @DisplayName("잘못된_JSON은_예외없이_무시된다")
+        void 잘못된_JSON은_예외없이_무시된다() {
+            assertDoesNotThrow(() -> handler.handleMessage(decoder, "{ invalid"));
+            verifyNoInteractions(broadcastPort);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.crypto.prayer.adapter.out.binance;
+
+import com.crypto.prayer.adapter.in.websocket.dto.TickerMessage;
+import com.crypto.prayer.application.port.out.BroadcastPort;
+import com.crypto.prayer.domain.model.Ticker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ConflatingTickerPublisher")
+@ExtendWith(MockitoExtension.class)
+class ConflatingTickerPublisherTest {
+
+    @Mock
+    private BroadcastPort broadcastPort;
+
+    private final AtomicLong now = new AtomicLong(10_000L);
+    private TickerConflationConfig config;
+    private ConflatingTickerPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        config = new TickerConflationConfig();
+        config.setEnabled(true);
+        publisher = new ConflatingTickerPublisher(broadcastPort, config, new SimpleMeterRegistry(), now::get);
+    }
+
+    @Nested
+    @DisplayName("병합")
+    class Conflation {
+
+        @Test
+        @DisplayName("주기_안의_여러_업데이트는_최신값_하나로_전송된다")
+        void 주기_안의_여러_업데이트는_최신값_하나로_전송된다() {
+            publisher.offer(Ticker.of("BTCUSDT", 100.0, 1.0));
+            publisher.offer(Ticker.of("BTCUSDT", 101.0, 1.1));
+            publisher.offer(Ticker.of("BTCUSDT", 102.0, 1.2));
+
+            publisher.emit();
+
+            ArgumentCaptor<TickerMessage> captor = ArgumentCaptor.forClass(TickerMessage.class);
+            verify(broadcastPort).broadcastTicker(captor.capture());
+            assertEquals(102.0, captor.getValue().price());
+            assertEquals(2, publisher.getConflatedCount());
+        }
+
+        @Test
+        @DisplayName("심볼별로_따로_병합한다")
+        void 심볼별로_따로_병합한다() {
+            publisher.offer(Ticker.of("BTCUSDT", 100.0, 1.0));
+            publisher.offer(Ticker.of("ETHUSDT", 10.0, 1.0));
+
+            publisher.emit();
+
+            verify(broadcastPort, times(2)).broadcastTicker(any());
+            assertEquals(0, publisher.getConflatedCount());
+        }
+
+        @Test
+        @DisplayName("새_업데이트가_없으면_전송하지_않는다")
+        void 새_업데이트가_없으면_전송하지_않는다() {
+            publisher.offer(Ticker.of("BTCUSDT", 100.0, 1.0));
+            publisher.emit();
+
+            publisher.emit();
+
+            verify(broadcastPort, times(1)).broadcastTicker(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("dead-band")
+    class DeadBand {
+
+        @BeforeEach
+        void setUp() {
+            config.setDeadBandBps(10.0);
+            config.setMaxSilenceMs(5_000);
+        }
+
+        @Test
+        @DisplayName("dead-band_안의_변동은_생략하고_집계한다")
+        void dead_band_안의_변동은_생략하고_집계한다() {
+            publisher.offer(Ticker.of("BTCUSDT", 10_000.0, 1.0));
+            publisher.emit();
+
+            // 5bp 변동
+            publisher.offer(Ticker.of("BTCUSDT", 10_005.0, 1.0));
+            publisher.emit();
+
+            verify(broadcastPort, times(1)).broadcastTicker(any());
+            assertEquals(1, publisher.getDroppedCount());
+        }
+
+        @Test
+        @DisplayName("dead-band를_넘는_변동은_전송한다")
+        void dead_band를_넘는_변동은_전송한다() {
+            publisher.offer(Ticker.of("BTCUSDT", 10_000.0, 1.0));
+            publisher.emit();
+
+            publisher.offer(Ticker.of("BTCUSDT", 10_020.0, 1.0));
+            publisher.emit();
+
+            verify(broadcastPort, times(2)).broadcastTicker(any());
+        }
+
+        @Test
+        @DisplayName("최대_침묵_시간이_지나면_dead-band_안이어도_전송한다")
+        void 최대_침묵_시간이_지나면_dead_band_안이어도_전송한다() {
+            publisher.offer(Ticker.of("BTCUSDT", 10_000.0, 1.0));
+            publisher.emit();
+            now.addAndGet(5_000);
+
+            publisher.offer(Ticker.of("BTCUSDT", 10_001.0, 1.0));
+            publisher.emit();
+
+            verify(broadcastPort, times(2)).broadcastTicker(any());
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.crypto.prayer.adapter.out.binance;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FrameAssembler")
+class FrameAssemblerTest {
+
+    private FrameAssembler assembler;
+    private List<CharSequence> received;
+    private List<String> contents;
+
+    @BeforeEach
+    void setUp() {
+        assembler = new FrameAssembler();
+        received = new ArrayList<>();
+        contents = new ArrayList<>();
+    }
+
+    private void accept(CharSequence fragment, boolean last) {
+        assembler.accept(fragment, last, message -> {
+            received.add(message);
+            contents.add(message.toString());
+        });
+    }
+
+    @Test
+    @DisplayName("단일_조각_메시지는_원본을_복사_없이_넘긴다")
+    void 단일_조각_메시지는_원본을_복사_없이_넘긴다() {
+        String message = "{\"s\":\"BTCUSDT\"}";
+
+        accept(message, true);
+
+        assertSame(message, received.get(0));
+    }
+
+    @Test
+    @DisplayName("여러_조각_메시지는_합쳐서_한_번만_넘긴다")
+    void 여러_조각_메시지는_합쳐서_한_번만_넘긴다() {
+        accept("{\"s\":", false);
+        accept("\"BTC", false);
+        assertTrue(received.isEmpty());
+
+        accept("USDT\"}", true);
+
+        assertEquals(List.of("{\"s\":\"BTCUSDT\"}"), contents);
+    }
+
+    @Test
+    @DisplayName("조립_버퍼는_다음_메시지에_재사용된다")
+    void 조립_버퍼는_다음_메시지에_재사용된다() {
+        accept("ab", false);
+        accept("cd", true);
+        accept("ef", false);
+        accept("gh", true);
+
+        assertEquals(List.of("abcd", "efgh"), contents);
+        assertSame(received.get(0), received.get(1));
+    }
+
+    @Test
+    @DisplayName("핸들러가_예외를_던져도_버퍼는_비워진다")
+    void 핸들러가_예외를_던져도_버퍼는_비워진다() {
+        assembler.accept("ab", false, message -> { });
+        assertThrows(IllegalStateException.class,
+            () -> assembler.accept("cd", true, message -> {
+                throw new IllegalStateException("boom");
+            }));
+
+        String next = "next";
+        accept(next, true);
+
+        assertSame(next, received.get(0));
+    }
+
+    @Test
+    @DisplayName("너무_커진_버퍼는_유지하지_않는다")
+    void 너무_커진_버퍼는_유지하지_않는다() {
+        accept("x".repeat(512 * 1024), false);
+        accept("y", true);
+
+        assertTrue(assembler.retainedCapacity() <= 256 * 1024);
+    }
+}
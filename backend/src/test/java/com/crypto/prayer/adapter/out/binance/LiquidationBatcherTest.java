@@ -0,0 +1,188 @@
+package com.crypto.prayer.adapter.out.binance;
+
+import com.crypto.prayer.adapter.in.websocket.dto.LiquidationBatchMessage;
+import com.crypto.prayer.adapter.in.websocket.dto.LiquidationMessage;
+import com.crypto.prayer.application.port.out.BroadcastPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("LiquidationBatcher")
+@ExtendWith(MockitoExtension.class)
+class LiquidationBatcherTest {
+
+    @Mock
+    private BroadcastPort broadcastPort;
+
+    private LiquidationBatchConfig config;
+    private LiquidationBatcher batcher;
+
+    @BeforeEach
+    void setUp() {
+        config = new LiquidationBatchConfig();
+        config.setEnabled(true);
+        config.setMaxBatchSize(3);
+        batcher = new LiquidationBatcher(broadcastPort, config, new SimpleMeterRegistry());
+    }
+
+    private LiquidationMessage small() {
+        return LiquidationMessage.of("BTCUSDT", "LONG", 0.1, 50_000.0);
+    }
+
+    private LiquidationMessage large() {
+        return LiquidationMessage.of("BTCUSDT", "SHORT", 5.0, 50_000.0);
+    }
+
+    @Nested
+    @DisplayName("윈도우 배칭")
+    class Windowing {
+
+        @Test
+        @DisplayName("윈도우_안의_청산은_한_번의_배치로_전송된다")
+        void 윈도우_안의_청산은_한_번의_배치로_전송된다() {
+            batcher.offer(small());
+            batcher.offer(small());
+            verifyNoInteractions(broadcastPort);
+
+            batcher.flush();
+
+            ArgumentCaptor<LiquidationBatchMessage> captor = ArgumentCaptor.forClass(LiquidationBatchMessage.class);
+            verify(broadcastPort).broadcastLiquidationBatch(captor.capture());
+            assertEquals("LIQUIDATION_BATCH", captor.getValue().type());
+            assertEquals(2, captor.getValue().liquidations().size());
+        }
+
+        @Test
+        @DisplayName("최대_개수에_도달하면_즉시_전송한다")
+        void 최대_개수에_도달하면_즉시_전송한다() {
+            batcher.offer(small());
+            batcher.offer(small());
+            batcher.offer(small());
+
+            verify(broadcastPort).broadcastLiquidationBatch(any());
+        }
+
+        @Test
+        @DisplayName("한_건뿐이면_단건_메시지로_보낸다")
+        void 한_건뿐이면_단건_메시지로_보낸다() {
+            batcher.offer(small());
+
+            batcher.flush();
+
+            verify(broadcastPort).broadcastLiquidation(any());
+            verify(broadcastPort, never()).broadcastLiquidationBatch(any());
+        }
+
+        @Test
+        @DisplayName("먼저_전송된_윈도우의_예약은_다음_윈도우를_닫지_않는다")
+        void 먼저_전송된_윈도우의_예약은_다음_윈도우를_닫지_않는다() {
+            batcher.offer(small());
+            batcher.offer(small());
+            batcher.offer(small());
+            batcher.offer(small());
+
+            batcher.flushWindow(1);
+            verify(broadcastPort, never()).broadcastLiquidation(any());
+
+            batcher.flushWindow(2);
+            verify(broadcastPort).broadcastLiquidation(any());
+            verify(broadcastPort, times(1)).broadcastLiquidationBatch(any());
+        }
+
+        @Test
+        @DisplayName("타이머_flush가_전송하는_동안_크기_flush는_기다렸다가_뒤에_보낸다")
+        void 타이머_flush가_전송하는_동안_크기_flush는_기다렸다가_뒤에_보낸다() throws Exception {
+            List<String> published = Collections.synchronizedList(new ArrayList<>());
+            CountDownLatch timerSending = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            doAnswer(invocation -> {
+                timerSending.countDown();
+                release.await(1, TimeUnit.SECONDS);
+                published.add("window-1");
+                return null;
+            }).when(broadcastPort).broadcastLiquidation(any());
+            doAnswer(invocation -> {
+                published.add("window-2");
+                return null;
+            }).when(broadcastPort).broadcastLiquidationBatch(any());
+            batcher.offer(small());
+
+            Thread timer = new Thread(() -> batcher.flushWindow(1));
+            timer.start();
+            timerSending.await(1, TimeUnit.SECONDS);
+            Thread ingest = new Thread(() -> {
+                batcher.offer(small());
+                batcher.offer(small());
+                batcher.offer(small());
+            });
+            ingest.start();
+            awaitBlocked(ingest);
+            release.countDown();
+            timer.join(1000);
+            ingest.join(1000);
+
+            assertEquals(List.of("window-1", "window-2"), published);
+        }
+
+        private void awaitBlocked(Thread thread) throws InterruptedException {
+            long deadline = System.nanoTime() + 1_000_000_000L;
+            while (thread.getState() != Thread.State.BLOCKED && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+        }
+
+        @Test
+        @DisplayName("비어_있으면_전송하지_않는다")
+        void 비어_있으면_전송하지_않는다() {
+            batcher.flush();
+
+            verifyNoInteractions(broadcastPort);
+        }
+    }
+
+    @Nested
+    @DisplayName("대형 청산")
+    class LargeLiquidation {
+
+        @Test
+        @DisplayName("대형_청산은_윈도우를_건너뛰고_즉시_전송한다")
+        void 대형_청산은_윈도우를_건너뛰고_즉시_전송한다() {
+            batcher.offer(small());
+            LiquidationMessage large = large();
+
+            batcher.offer(large);
+
+            verify(broadcastPort).broadcastLiquidation(large);
+            verify(broadcastPort, never()).broadcastLiquidationBatch(any());
+        }
+
+        @Test
+        @DisplayName("bypass를_끄면_대형_청산도_배치에_포함된다")
+        void bypass를_끄면_대형_청산도_배치에_포함된다() {
+            config.setLargeBypass(false);
+            batcher.offer(small());
+            batcher.offer(large());
+
+            batcher.flush();
+
+            verify(broadcastPort, never()).broadcastLiquidation(any());
+            verify(broadcastPort).broadcastLiquidationBatch(any());
+        }
+    }
+}
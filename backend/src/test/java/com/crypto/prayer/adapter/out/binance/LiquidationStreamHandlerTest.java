@@ -1,8 +1,11 @@
 package com.crypto.prayer.adapter.out.binance;
 
 import com.crypto.prayer.adapter.in.websocket.dto.LiquidationMessage;
+import com.crypto.prayer.application.port.in.LiquidationStatsUseCase;
 import com.crypto.prayer.application.port.out.BroadcastPort;
+import com.crypto.prayer.domain.model.Liquidation;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -25,6 +28,9 @@ class LiquidationStreamHandlerTest {
     @Mock
     private BroadcastPort broadcastPort;
 
+    @Mock
+    private LiquidationStatsUseCase liquidationStats;
+
     private BinanceConfig config;
     private ObjectMapper objectMapper;
     private LiquidationStreamHandler handler;
@@ -33,7 +39,10 @@ class LiquidationStreamHandlerTest {
     void setUp() {
         config = new BinanceConfig();
         objectMapper = new ObjectMapper();
-        handler = new LiquidationStreamHandler(webSocketClient, config, broadcastPort, objectMapper);
+        LiquidationBatcher disabledBatcher = new LiquidationBatcher(
+            broadcastPort, new LiquidationBatchConfig(), new SimpleMeterRegistry());
+        handler = new LiquidationStreamHandler(
+            webSocketClient, config, broadcastPort, disabledBatcher, liquidationStats, objectMapper);
     }
 
     @Nested
@@ -69,6 +78,11 @@ class LiquidationStreamHandlerTest {
             assertEquals("LONG", captured.side()); // SELL -> LONG 청산
             assertEquals(1.0, captured.quantity());
             assertEquals(50000.0, captured.price());
+
+            ArgumentCaptor<Liquidation> recorded = ArgumentCaptor.forClass(Liquidation.class);
+            verify(liquidationStats).record(recorded.capture());
+            assertEquals(Liquidation.LiquidationSide.LONG, recorded.getValue().side());
+            assertEquals(50000.0, recorded.getValue().usdValue());
             assertEquals(50000.0, captured.usdValue());
         }
 
@@ -0,0 +1,190 @@
+package com.crypto.prayer.adapter.out.binance;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("TickerDemandSubscriber")
+@ExtendWith(MockitoExtension.class)
+class TickerDemandSubscriberTest {
+
+    @Mock
+    private BinanceWebSocketClient webSocketClient;
+
+    private BinanceConfig config;
+    private AtomicLong now;
+    private TickerDemandSubscriber subscriber;
+
+    @BeforeEach
+    void setUp() {
+        config = new BinanceConfig();
+        config.setSymbols(List.of("BTCUSDT", "ETHUSDT", "SOLUSDT"));
+        config.getCombined().setEnabled(true);
+        config.getCombined().setDemandDriven(true);
+        config.getCombined().setUnsubscribeDelayMs(1000);
+        now = new AtomicLong(0);
+        subscriber = new TickerDemandSubscriber(
+            webSocketClient, config, new ObjectMapper(), new SimpleMeterRegistry(), now::get);
+    }
+
+    private List<String> sentRequests() {
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(webSocketClient, atLeastOnce()).send(eq("combined-0"), captor.capture());
+        return captor.getAllValues();
+    }
+
+    @Nested
+    @DisplayName("구독")
+    class Subscribe {
+
+        @Test
+        @DisplayName("첫_로컬_구독이_생기면_SUBSCRIBE를_보낸다")
+        void 첫_로컬_구독이_생기면_SUBSCRIBE를_보낸다() {
+            when(webSocketClient.send(anyString(), anyString())).thenReturn(true);
+            subscriber.acquireTicker("ethusdt");
+            subscriber.acquireTicker("ETHUSDT");
+
+            subscriber.flush();
+            subscriber.flush();
+
+            assertEquals(List.of("{\"method\":\"SUBSCRIBE\",\"params\":[\"ethusdt@ticker\"],\"id\":1}"),
+                sentRequests());
+            assertEquals(1, subscriber.activeCount());
+        }
+
+        @Test
+        @DisplayName("대표_심볼과_허용_목록_밖_심볼은_관리하지_않는다")
+        void 대표_심볼과_허용_목록_밖_심볼은_관리하지_않는다() {
+            subscriber.acquireTicker("BTCUSDT");
+            subscriber.acquireTicker("DOGEUSDT");
+
+            subscriber.flush();
+
+            verifyNoInteractions(webSocketClient);
+        }
+
+        @Test
+        @DisplayName("전송에_실패하면_다음_flush에서_다시_보낸다")
+        void 전송에_실패하면_다음_flush에서_다시_보낸다() {
+            when(webSocketClient.send(anyString(), anyString())).thenReturn(false, true);
+            subscriber.acquireTicker("ETHUSDT");
+
+            subscriber.flush();
+            assertEquals(0, subscriber.activeCount());
+            subscriber.flush();
+
+            assertEquals(1, subscriber.activeCount());
+        }
+
+        @Test
+        @DisplayName("재연결되면_동적_구독을_다시_보낸다")
+        void 재연결되면_동적_구독을_다시_보낸다() {
+            when(webSocketClient.send(anyString(), anyString())).thenReturn(true);
+            subscriber.acquireTicker("ETHUSDT");
+            subscriber.flush();
+
+            subscriber.onConnected("combined-0");
+            subscriber.flush();
+
+            verify(webSocketClient, times(2)).send(eq("combined-0"), contains("SUBSCRIBE"));
+        }
+
+        @Test
+        @DisplayName("flush_도중_재연결되면_flush가_끝난_뒤_비워_다시_보낸다")
+        void flush_도중_재연결되면_flush가_끝난_뒤_비워_다시_보낸다() throws Exception {
+            Thread[] reconnect = new Thread[1];
+            when(webSocketClient.send(anyString(), anyString())).thenAnswer(invocation -> {
+                if (reconnect[0] == null) {
+                    reconnect[0] = new Thread(() -> subscriber.onConnected("combined-0"));
+                    reconnect[0].start();
+                    awaitBlocked(reconnect[0]);
+                }
+                return true;
+            });
+            subscriber.acquireTicker("ETHUSDT");
+
+            subscriber.flush();
+            reconnect[0].join(1000);
+
+            assertEquals(0, subscriber.activeCount());
+            subscriber.flush();
+            verify(webSocketClient, times(2)).send(eq("combined-0"), contains("SUBSCRIBE"));
+        }
+
+        private void awaitBlocked(Thread thread) throws InterruptedException {
+            long deadline = System.nanoTime() + 1_000_000_000L;
+            while (thread.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("구독 해제")
+    class Unsubscribe {
+
+        @BeforeEach
+        void subscribeEth() {
+            when(webSocketClient.send(anyString(), anyString())).thenReturn(true);
+            subscriber.acquireTicker("ETHUSDT");
+            subscriber.flush();
+        }
+
+        @Test
+        @DisplayName("마지막_구독이_사라지고_지연_시간이_지나면_UNSUBSCRIBE를_보낸다")
+        void 마지막_구독이_사라지고_지연_시간이_지나면_UNSUBSCRIBE를_보낸다() {
+            subscriber.releaseTicker("ETHUSDT");
+            now.set(999);
+            subscriber.flush();
+            assertEquals(1, subscriber.activeCount());
+
+            now.set(1000);
+            subscriber.flush();
+
+            assertEquals("{\"method\":\"UNSUBSCRIBE\",\"params\":[\"ethusdt@ticker\"],\"id\":2}",
+                sentRequests().get(1));
+            assertEquals(0, subscriber.activeCount());
+        }
+
+        @Test
+        @DisplayName("지연_시간_안에_다시_구독하면_업스트림_구독을_유지한다")
+        void 지연_시간_안에_다시_구독하면_업스트림_구독을_유지한다() {
+            subscriber.releaseTicker("ETHUSDT");
+            now.set(500);
+            subscriber.acquireTicker("ETHUSDT");
+            now.set(5000);
+
+            subscriber.flush();
+
+            assertEquals(1, sentRequests().size());
+            assertEquals(1, subscriber.activeCount());
+        }
+
+        @Test
+        @DisplayName("다른_구독이_남아_있으면_유지한다")
+        void 다른_구독이_남아_있으면_유지한다() {
+            subscriber.acquireTicker("ETHUSDT");
+            subscriber.releaseTicker("ETHUSDT");
+            now.set(5000);
+
+            subscriber.flush();
+
+            assertEquals(1, subscriber.activeCount());
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.crypto.prayer.adapter.in.websocket.dto.TickerMessage;
 import com.crypto.prayer.application.port.out.BroadcastPort;
 import com.crypto.prayer.domain.model.Ticker;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -34,7 +35,9 @@ class TickerStreamHandlerTest {
     void setUp() {
         config = new BinanceConfig();
         objectMapper = new ObjectMapper();
-        handler = new TickerStreamHandler(webSocketClient, config, broadcastPort, objectMapper);
+        ConflatingTickerPublisher disabledPublisher = new ConflatingTickerPublisher(
+            broadcastPort, new TickerConflationConfig(), new SimpleMeterRegistry());
+        handler = new TickerStreamHandler(webSocketClient, config, broadcastPort, disabledPublisher, objectMapper);
     }
 
     @Nested
@@ -122,10 +125,70 @@ class TickerStreamHandlerTest {
             assertEquals(42150.50, latest.price());
         }
 
+        @Test
+        @DisplayName("심볼별_최신_티커를_따로_보관한다")
+        void 심볼별_최신_티커를_따로_보관한다() {
+            handler.handleMessage("{\"s\": \"BTCUSDT\", \"c\": \"42000.0\"}");
+            handler.handleMessage("{\"s\": \"ETHUSDT\", \"c\": \"2500.0\"}");
+
+            assertEquals(42000.0, handler.getLatestTicker().price());
+            assertEquals(2500.0, handler.getLatestTicker("ethusdt").price());
+            assertEquals(2, handler.getLatestTickers().size());
+        }
+
         @Test
         @DisplayName("메시지_수신_전에는_null을_반환한다")
         void 메시지_수신_전에는_null을_반환한다() {
             assertNull(handler.getLatestTicker());
         }
     }
+
+    @Nested
+    @DisplayName("start 메서드")
+    class Start {
+
+        @Test
+        @DisplayName("결합_스트림_모드에서는_별도_연결을_열지_않는다")
+        void 결합_스트림_모드에서는_별도_연결을_열지_않는다() {
+            config.getCombined().setEnabled(true);
+
+            handler.start();
+
+            verifyNoInteractions(webSocketClient);
+        }
+    }
+
+    @Nested
+    @DisplayName("병합 모드")
+    class ConflationMode {
+
+        @Test
+        @DisplayName("수신_스레드에서는_브로드캐스트하지_않고_발행기에_넘긴다")
+        void 수신_스레드에서는_브로드캐스트하지_않고_발행기에_넘긴다() {
+            TickerConflationConfig conflationConfig = new TickerConflationConfig();
+            conflationConfig.setEnabled(true);
+            ConflatingTickerPublisher publisher = new ConflatingTickerPublisher(
+                broadcastPort, conflationConfig, new SimpleMeterRegistry());
+            TickerStreamHandler conflatingHandler = new TickerStreamHandler(
+                webSocketClient, config, broadcastPort, publisher, objectMapper);
+            String json = """
+                {
+                  "e": "24hrTicker",
+                  "E": 1672515782136,
+                  "s": "BTCUSDT",
+                  "P": "2.50",
+                  "c": "42150.50"
+                }
+                """;
+
+            conflatingHandler.handleMessage(json);
+
+            verify(broadcastPort, never()).broadcastTicker(any());
+            assertEquals(42150.50, conflatingHandler.getLatestTicker().price());
+
+            publisher.emit();
+
+            verify(broadcastPort).broadcastTicker(any());
+        }
+    }
 }
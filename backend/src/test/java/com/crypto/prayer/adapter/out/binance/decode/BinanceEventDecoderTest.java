@@ -0,0 +1,237 @@
+package com.crypto.prayer.adapter.out.binance.decode;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BinanceEventDecoder")
+class BinanceEventDecoderTest {
+
+    private BinanceEventDecoder decoder;
+
+    @BeforeEach
+    void setUp() {
+        decoder = new BinanceEventDecoder(new JsonFactory());
+    }
+
+    @Nested
+    @DisplayName("forEachTicker 메서드")
+    class ForEachTicker {
+
+        @Test
+        @DisplayName("필요한_필드만_읽어_홀더에_채운다")
+        void 필요한_필드만_읽어_홀더에_채운다() throws Exception {
+            String json = """
+                {
+                  "e": "24hrTicker",
+                  "E": 1672515782136,
+                  "s": "BTCUSDT",
+                  "p": "100.00000000",
+                  "P": "-0.50",
+                  "c": "20100.12000000",
+                  "h": "20500.00000000",
+                  "v": "100000.00000000"
+                }
+                """;
+            List<String> seen = new ArrayList<>();
+
+            int count = decoder.forEachTicker(json, event ->
+                seen.add(event.symbol() + "|" + event.price() + "|" + event.priceChangePercent() + "|" + event.eventTime()));
+
+            assertEquals(1, count);
+            assertEquals(List.of("BTCUSDT|20100.12|-0.5|1672515782136"), seen);
+        }
+
+        @Test
+        @DisplayName("배열_메시지의_각_이벤트를_순서대로_넘긴다")
+        void 배열_메시지의_각_이벤트를_순서대로_넘긴다() throws Exception {
+            String json = """
+                [
+                  {"e": "24hrTicker", "s": "BTCUSDT", "c": "42000.5", "P": "1.0"},
+                  {"e": "24hrTicker", "s": "ETHUSDT", "c": "2500.25", "P": "2.0"}
+                ]
+                """;
+            List<String> symbols = new ArrayList<>();
+
+            int count = decoder.forEachTicker(json, event -> symbols.add(event.symbol()));
+
+            assertEquals(2, count);
+            assertEquals(List.of("BTCUSDT", "ETHUSDT"), symbols);
+        }
+
+        @Test
+        @DisplayName("같은_심볼은_같은_String_인스턴스를_재사용한다")
+        void 같은_심볼은_같은_String_인스턴스를_재사용한다() throws Exception {
+            String json = "{\"s\": \"BTCUSDT\", \"c\": \"1.0\"}";
+            List<String> symbols = new ArrayList<>();
+
+            decoder.forEachTicker(json, event -> symbols.add(event.symbol()));
+            decoder.forEachTicker(json, event -> symbols.add(event.symbol()));
+
+            assertSame(symbols.get(0), symbols.get(1));
+        }
+
+        @Test
+        @DisplayName("필수_필드가_없는_객체는_건너뛴다")
+        void 필수_필드가_없는_객체는_건너뛴다() throws Exception {
+            int count = decoder.forEachTicker("{\"result\": null, \"id\": 1}", event -> fail());
+
+            assertEquals(0, count);
+        }
+
+        @Test
+        @DisplayName("String이_아닌_CharSequence도_같은_결과를_낸다")
+        void String이_아닌_CharSequence도_같은_결과를_낸다() throws Exception {
+            String json = "{\"s\": \"BTCUSDT\", \"c\": \"42000.5\", \"P\": \"1.25\"}";
+            List<String> seen = new ArrayList<>();
+
+            decoder.forEachTicker(new StringBuilder(json), event -> seen.add(event.symbol() + "|" + event.price()));
+            decoder.forEachTicker(CharBuffer.wrap(("xx" + json).toCharArray(), 2, json.length()),
+                event -> seen.add(event.symbol() + "|" + event.price()));
+
+            assertEquals(List.of("BTCUSDT|42000.5", "BTCUSDT|42000.5"), seen);
+        }
+
+        @Test
+        @DisplayName("잘못된_JSON은_예외를_던진다")
+        void 잘못된_JSON은_예외를_던진다() {
+            assertThrows(JsonParseException.class,
+                () -> decoder.forEachTicker("{ invalid json }", event -> { }));
+        }
+    }
+
+    @Nested
+    @DisplayName("forEachLiquidation 메서드")
+    class ForEachLiquidation {
+
+        @Test
+        @DisplayName("주문_객체에서_심볼_방향_체결수량_평균가를_읽는다")
+        void 주문_객체에서_심볼_방향_체결수량_평균가를_읽는다() throws Exception {
+            String json = """
+                {
+                  "e": "forceOrder",
+                  "E": 1568014460893,
+                  "o": {
+                    "s": "BTCUSDT",
+                    "S": "SELL",
+                    "o": "LIMIT",
+                    "q": "0.014",
+                    "p": "9910",
+                    "ap": "9910.5",
+                    "X": "FILLED",
+                    "z": "0.014",
+                    "T": 1568014460893
+                  }
+                }
+                """;
+            List<String> seen = new ArrayList<>();
+
+            int count = decoder.forEachLiquidation(json, event ->
+                seen.add(event.symbol() + "|" + event.side() + "|" + event.quantity() + "|" + event.price()));
+
+            assertEquals(1, count);
+            assertEquals(List.of("BTCUSDT|SELL|0.014|9910.5"), seen);
+        }
+
+        @Test
+        @DisplayName("배열_메시지를_처리한다")
+        void 배열_메시지를_처리한다() throws Exception {
+            String json = """
+                [
+                  {"e": "forceOrder", "o": {"s": "BTCUSDT", "S": "BUY", "ap": "50000", "z": "1"}},
+                  {"e": "forceOrder", "o": {"s": "ETHUSDT", "S": "SELL", "ap": "3000", "z": "2"}}
+                ]
+                """;
+            List<String> sides = new ArrayList<>();
+
+            int count = decoder.forEachLiquidation(json, event -> sides.add(event.side()));
+
+            assertEquals(2, count);
+            assertEquals(List.of("BUY", "SELL"), sides);
+        }
+    }
+
+    @Nested
+    @DisplayName("forEachCombined 메서드")
+    class ForEachCombined {
+
+        private final List<String> seen = new ArrayList<>();
+
+        private int decode(String json) throws Exception {
+            return decoder.forEachCombined(json,
+                ticker -> seen.add("T|" + ticker.symbol() + "|" + ticker.price()),
+                liquidation -> seen.add("L|" + liquidation.symbol() + "|" + liquidation.side()));
+        }
+
+        @Test
+        @DisplayName("티커_스트림은_티커_콜백으로_넘긴다")
+        void 티커_스트림은_티커_콜백으로_넘긴다() throws Exception {
+            int count = decode("""
+                {"stream": "ethusdt@ticker", "data": {"e": "24hrTicker", "s": "ETHUSDT", "c": "2500.25", "P": "1.0"}}
+                """);
+
+            assertEquals(1, count);
+            assertEquals(List.of("T|ETHUSDT|2500.25"), seen);
+        }
+
+        @Test
+        @DisplayName("청산_스트림은_청산_콜백으로_넘긴다")
+        void 청산_스트림은_청산_콜백으로_넘긴다() throws Exception {
+            int count = decode("""
+                {"stream": "!forceOrder@arr", "data": {"e": "forceOrder", "o": {"s": "BTCUSDT", "S": "SELL", "ap": "50000", "z": "1"}}}
+                """);
+
+            assertEquals(1, count);
+            assertEquals(List.of("L|BTCUSDT|SELL"), seen);
+        }
+
+        @Test
+        @DisplayName("모르는_스트림이나_stream보다_먼저_온_data는_건너뛴다")
+        void 모르는_스트림이나_stream보다_먼저_온_data는_건너뛴다() throws Exception {
+            assertEquals(0, decode("{\"stream\": \"btcusdt@depth\", \"data\": {\"s\": \"BTCUSDT\", \"c\": \"1\"}}"));
+            assertEquals(0, decode("{\"data\": {\"s\": \"BTCUSDT\", \"c\": \"1\"}, \"stream\": \"btcusdt@ticker\"}"));
+            assertTrue(seen.isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("parseDecimal 메서드")
+    class ParseDecimal {
+
+        private double parse(String value) {
+            return BinanceEventDecoder.parseDecimal(value.toCharArray(), 0, value.length());
+        }
+
+        @Test
+        @DisplayName("Double_parseDouble과_같은_값을_낸다")
+        void Double_parseDouble과_같은_값을_낸다() {
+            for (String value : new String[] {
+                    "0", "1", "-3.25", "42150.50", "20100.00000000", "0.00012345", "97123.45", "+1.5"}) {
+                assertEquals(Double.parseDouble(value), parse(value), value);
+            }
+        }
+
+        @Test
+        @DisplayName("지수_표기와_긴_가수는_폴백으로_처리한다")
+        void 지수_표기와_긴_가수는_폴백으로_처리한다() {
+            assertEquals(1.5e-7, parse("1.5E-7"));
+            assertEquals(Double.parseDouble("12345678901234567890.5"), parse("12345678901234567890.5"));
+        }
+
+        @Test
+        @DisplayName("숫자가_아니면_NaN이다")
+        void 숫자가_아니면_NaN이다() {
+            assertTrue(Double.isNaN(parse("abc")));
+            assertTrue(Double.isNaN(parse("")));
+        }
+    }
+}
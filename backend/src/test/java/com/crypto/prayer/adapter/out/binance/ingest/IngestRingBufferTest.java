@@ -0,0 +1,142 @@
+package com.crypto.prayer.adapter.out.binance.ingest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("IngestRingBuffer")
+class IngestRingBufferTest {
+
+    private static List<String> drain(IngestRingBuffer ring) throws InterruptedException {
+        List<String> messages = new ArrayList<>();
+        while (ring.size() > 0) {
+            ring.take(message -> messages.add(message.toString()));
+        }
+        return messages;
+    }
+
+    @Nested
+    @DisplayName("기본 동작")
+    class Basics {
+
+        @Test
+        @DisplayName("넣은_순서대로_꺼낸다")
+        void 넣은_순서대로_꺼낸다() throws Exception {
+            IngestRingBuffer ring = new IngestRingBuffer(4, IngestPolicy.BLOCK);
+            ring.offer("a");
+            ring.offer("b");
+            ring.offer("c");
+
+            assertEquals(List.of("a", "b", "c"), drain(ring));
+        }
+
+        @Test
+        @DisplayName("원본이_바뀌어도_복사된_내용을_꺼낸다")
+        void 원본이_바뀌어도_복사된_내용을_꺼낸다() throws Exception {
+            IngestRingBuffer ring = new IngestRingBuffer(2, IngestPolicy.BLOCK);
+            StringBuilder source = new StringBuilder("first");
+
+            ring.offer(source);
+            source.setLength(0);
+            source.append("changed");
+
+            assertEquals(List.of("first"), drain(ring));
+        }
+
+        @Test
+        @DisplayName("처리_중인_버퍼는_생산자가_덮어쓰지_않는다")
+        void 처리_중인_버퍼는_생산자가_덮어쓰지_않는다() throws Exception {
+            IngestRingBuffer ring = new IngestRingBuffer(1, IngestPolicy.DROP_OLDEST);
+            ring.offer("first");
+            List<String> seen = new ArrayList<>();
+
+            ring.take(message -> {
+                ring.offer("second");
+                seen.add(message.toString());
+            });
+
+            assertEquals(List.of("first"), seen);
+            assertEquals(List.of("second"), drain(ring));
+        }
+
+        @Test
+        @DisplayName("용량은_1_이상이어야_한다")
+        void 용량은_1_이상이어야_한다() {
+            assertThrows(IllegalArgumentException.class, () -> new IngestRingBuffer(0, IngestPolicy.BLOCK));
+        }
+    }
+
+    @Nested
+    @DisplayName("가득 찼을 때")
+    class WhenFull {
+
+        @Test
+        @DisplayName("DROP_OLDEST는_가장_오래된_메시지를_버린다")
+        void DROP_OLDEST는_가장_오래된_메시지를_버린다() throws Exception {
+            IngestRingBuffer ring = new IngestRingBuffer(2, IngestPolicy.DROP_OLDEST);
+            ring.offer("a");
+            ring.offer("b");
+
+            assertEquals(1, ring.offer("c"));
+            assertEquals(List.of("b", "c"), drain(ring));
+        }
+
+        @Test
+        @DisplayName("CONFLATE는_최신_메시지만_남긴다")
+        void CONFLATE는_최신_메시지만_남긴다() throws Exception {
+            IngestRingBuffer ring = new IngestRingBuffer(2, IngestPolicy.CONFLATE);
+            ring.offer("a");
+            ring.offer("b");
+
+            assertEquals(2, ring.offer("c"));
+            assertEquals(List.of("c"), drain(ring));
+        }
+
+        @Test
+        @DisplayName("BLOCK은_자리가_날_때까지_기다린다")
+        void BLOCK은_자리가_날_때까지_기다린다() throws Exception {
+            IngestRingBuffer ring = new IngestRingBuffer(1, IngestPolicy.BLOCK);
+            ring.offer("a");
+            CountDownLatch offered = new CountDownLatch(1);
+            AtomicInteger dropped = new AtomicInteger(-1);
+
+            Thread producer = Thread.ofPlatform().start(() -> {
+                dropped.set(ring.offer("b"));
+                offered.countDown();
+            });
+            assertFalse(offered.await(100, TimeUnit.MILLISECONDS));
+
+            List<String> seen = new ArrayList<>();
+            ring.take(message -> seen.add(message.toString()));
+
+            assertTrue(offered.await(1, TimeUnit.SECONDS));
+            producer.join();
+            assertEquals(0, dropped.get());
+            assertEquals(List.of("a", "b"), List.of(seen.get(0), drain(ring).get(0)));
+        }
+
+        @Test
+        @DisplayName("닫으면_대기_중인_생산자가_깨어나고_메시지는_버려진다")
+        void 닫으면_대기_중인_생산자가_깨어나고_메시지는_버려진다() throws Exception {
+            IngestRingBuffer ring = new IngestRingBuffer(1, IngestPolicy.BLOCK);
+            ring.offer("a");
+            AtomicInteger dropped = new AtomicInteger(-1);
+
+            Thread producer = Thread.ofPlatform().start(() -> dropped.set(ring.offer("b")));
+            Thread.sleep(50);
+            ring.close();
+            producer.join(1000);
+
+            assertEquals(1, dropped.get());
+            assertFalse(ring.take(message -> fail()));
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.crypto.prayer.adapter.out.binance.ingest;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MarketDataIngest")
+class MarketDataIngestTest {
+
+    private IngestConfig config;
+    private SimpleMeterRegistry meterRegistry;
+    private MarketDataIngest ingest;
+
+    @BeforeEach
+    void setUp() {
+        config = new IngestConfig();
+        meterRegistry = new SimpleMeterRegistry();
+        ingest = new MarketDataIngest(config, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ingest.destroy();
+    }
+
+    @Test
+    @DisplayName("비활성화면_핸들러를_그대로_돌려준다")
+    void 비활성화면_핸들러를_그대로_돌려준다() {
+        Consumer<CharSequence> handler = message -> { };
+
+        assertSame(handler, ingest.attach("ticker", handler));
+    }
+
+    @Test
+    @DisplayName("활성화면_전용_스레드에서_핸들러를_호출한다")
+    void 활성화면_전용_스레드에서_핸들러를_호출한다() throws Exception {
+        config.setEnabled(true);
+        List<String> threads = new CopyOnWriteArrayList<>();
+        List<String> messages = new CopyOnWriteArrayList<>();
+        CountDownLatch handled = new CountDownLatch(2);
+
+        Consumer<CharSequence> sink = ingest.attach("ticker", message -> {
+            threads.add(Thread.currentThread().getName());
+            messages.add(message.toString());
+            handled.countDown();
+        });
+        sink.accept("a");
+        sink.accept("b");
+
+        assertTrue(handled.await(1, TimeUnit.SECONDS));
+        assertEquals(List.of("a", "b"), messages);
+        assertEquals(List.of("binance-ingest-ticker", "binance-ingest-ticker"), threads);
+    }
+
+    @Test
+    @DisplayName("정책으로_버린_메시지_수를_기록한다")
+    void 정책으로_버린_메시지_수를_기록한다() throws Exception {
+        config.setEnabled(true);
+        IngestConfig.StreamSettings settings = new IngestConfig.StreamSettings();
+        settings.setCapacity(1);
+        settings.setPolicy(IngestPolicy.DROP_OLDEST);
+        config.getStreams().put("liquidation", settings);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Consumer<CharSequence> sink = ingest.attach("liquidation", message -> {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        sink.accept("busy");
+        assertTrue(entered.await(1, TimeUnit.SECONDS));
+        sink.accept("a");
+        sink.accept("b");
+
+        assertEquals(1, ingest.queueDepth("liquidation"));
+        assertEquals(1.0, meterRegistry.get("binance.ingest.dropped")
+            .tag("stream", "liquidation").counter().count());
+        assertEquals(1.0, meterRegistry.get("binance.ingest.queue.depth")
+            .tag("stream", "liquidation").gauge().value());
+        release.countDown();
+    }
+}
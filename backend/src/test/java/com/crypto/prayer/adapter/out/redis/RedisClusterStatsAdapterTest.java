@@ -0,0 +1,123 @@
+package com.crypto.prayer.adapter.out.redis;
+
+import com.crypto.prayer.domain.model.Side;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisClusterStatsAdapter")
+class RedisClusterStatsAdapterTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private ClusterStatsConfig config;
+    private RedisClusterStatsAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        config = new ClusterStatsConfig();
+        config.setEnabled(true);
+        adapter = new RedisClusterStatsAdapter(redisTemplate, listenerContainer, config);
+    }
+
+    @Nested
+    @DisplayName("publishDeltas 메서드")
+    class PublishDeltas {
+
+        @Test
+        @DisplayName("틱_동안_누적된_델타를_한번에_발행한다")
+        void 틱_동안_누적된_델타를_한번에_발행한다() {
+            adapter.record(Side.UP, 3);
+            adapter.record(Side.UP, 2);
+            adapter.record(Side.DOWN, 1);
+
+            adapter.publishDeltas();
+
+            ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+            verify(redisTemplate, times(1)).convertAndSend(eq(config.getChannel()), captor.capture());
+            String[] parts = captor.getValue().split(":");
+            assertEquals(adapter.getNodeId(), parts[0]);
+            assertEquals("5", parts[2]);
+            assertEquals("1", parts[3]);
+        }
+
+        @Test
+        @DisplayName("델타가_없으면_발행하지_않는다")
+        void 델타가_없으면_발행하지_않는다() {
+            adapter.publishDeltas();
+
+            verifyNoInteractions(redisTemplate);
+        }
+
+        @Test
+        @DisplayName("비활성화되면_기록도_발행도_하지_않는다")
+        void 비활성화되면_기록도_발행도_하지_않는다() {
+            config.setEnabled(false);
+            adapter.record(Side.UP, 3);
+
+            adapter.publishDeltas();
+
+            verifyNoInteractions(redisTemplate);
+            assertEquals(0.0, adapter.getClusterRpm(Side.UP));
+        }
+    }
+
+    @Nested
+    @DisplayName("onMessage 메서드")
+    class OnMessage {
+
+        @Test
+        @DisplayName("다른_노드의_델타를_클러스터_RPM에_합산한다")
+        void 다른_노드의_델타를_클러스터_RPM에_합산한다() {
+            adapter.record(Side.UP, 2);
+
+            adapter.onMessage(message("other-node:" + System.currentTimeMillis() + ":10:4"), null);
+
+            assertEquals(12.0, adapter.getClusterRpm(Side.UP));
+            assertEquals(4.0, adapter.getClusterRpm(Side.DOWN));
+        }
+
+        @Test
+        @DisplayName("자기_노드의_메시지는_중복_반영하지_않는다")
+        void 자기_노드의_메시지는_중복_반영하지_않는다() {
+            adapter.record(Side.UP, 2);
+
+            adapter.onMessage(message(adapter.getNodeId() + ":" + System.currentTimeMillis() + ":2:0"), null);
+
+            assertEquals(2.0, adapter.getClusterRpm(Side.UP));
+        }
+
+        @Test
+        @DisplayName("잘못된_메시지는_예외없이_무시된다")
+        void 잘못된_메시지는_예외없이_무시된다() {
+            assertDoesNotThrow(() -> adapter.onMessage(message("garbage"), null));
+            assertDoesNotThrow(() -> adapter.onMessage(message("node:x:1:2"), null));
+            assertEquals(0.0, adapter.getClusterRpm(Side.UP));
+        }
+
+        private DefaultMessage message(String body) {
+            return new DefaultMessage(
+                config.getChannel().getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -87,4 +87,17 @@ class RedisKeyGeneratorTest {
             assertEquals(48 * 60 * 60, ttl);
         }
     }
+
+    @Nested
+    @DisplayName("generateHistoryKey 메서드")
+    class GenerateHistoryKey {
+
+        @Test
+        @DisplayName("히스토리_키는_prayer_history_날짜_형식이다")
+        void 히스토리_키는_prayer_history_날짜_형식이다() {
+            String key = keyGenerator.generateHistoryKey(LocalDate.of(2024, 1, 15));
+
+            assertEquals("prayer:history:20240115", key);
+        }
+    }
 }
@@ -11,6 +11,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 
 import java.util.List;
 
@@ -43,35 +44,90 @@ class RedisPrayerCountAdapterTest {
     class Increment {
 
         @Test
-        @DisplayName("UP_증가시_Redis_INCRBY를_호출한다")
-        void UP_증가시_Redis_INCRBY를_호출한다() {
-            when(valueOperations.increment(anyString(), eq(5L))).thenReturn(5L);
+        @DisplayName("UP_증가시_스크립트로_up_델타만_전달한다")
+        void UP_증가시_스크립트로_up_델타만_전달한다() {
+            stubScript(5L, 0L);
 
             long result = adapter.increment(Side.UP, 5L);
 
             assertEquals(5L, result);
-            verify(valueOperations).increment(contains(":up"), eq(5L));
+            verify(redisTemplate).execute(any(RedisScript.class), anyList(), eq("5"), eq("0"), anyString());
         }
 
         @Test
-        @DisplayName("DOWN_증가시_Redis_INCRBY를_호출한다")
-        void DOWN_증가시_Redis_INCRBY를_호출한다() {
-            when(valueOperations.increment(anyString(), eq(3L))).thenReturn(3L);
+        @DisplayName("DOWN_증가시_스크립트로_down_델타만_전달한다")
+        void DOWN_증가시_스크립트로_down_델타만_전달한다() {
+            stubScript(10L, 3L);
 
             long result = adapter.increment(Side.DOWN, 3L);
 
             assertEquals(3L, result);
-            verify(valueOperations).increment(contains(":down"), eq(3L));
+            verify(redisTemplate).execute(any(RedisScript.class), anyList(), eq("0"), eq("3"), anyString());
         }
 
         @Test
-        @DisplayName("최초_증가시_TTL을_설정한다")
-        void 최초_증가시_TTL을_설정한다() {
-            when(valueOperations.increment(anyString(), eq(1L))).thenReturn(1L);
+        @DisplayName("TTL은_스크립트_안에서_설정되어_별도_EXPIRE를_호출하지_않는다")
+        void TTL은_스크립트_안에서_설정되어_별도_EXPIRE를_호출하지_않는다() {
+            stubScript(1L, 0L);
 
             adapter.increment(Side.UP, 1L);
 
-            verify(redisTemplate).expire(anyString(), any());
+            verify(redisTemplate, never()).expire(anyString(), any());
+            verify(redisTemplate).execute(
+                any(RedisScript.class), anyList(), anyString(), anyString(),
+                eq(String.valueOf(keyGenerator.getTtlSeconds())));
+        }
+
+        @Test
+        @DisplayName("incrementAndGet은_양쪽_카운트를_함께_반환한다")
+        void incrementAndGet은_양쪽_카운트를_함께_반환한다() {
+            stubScript(101L, 50L);
+
+            PrayerCount result = adapter.incrementAndGet(Side.UP, 1L);
+
+            assertEquals(new PrayerCount(101L, 50L), result);
+        }
+    }
+
+    @Nested
+    @DisplayName("incrementAll 메서드")
+    class IncrementAll {
+
+        @Test
+        @DisplayName("UP과_DOWN을_한번의_스크립트_호출로_반영한다")
+        void UP과_DOWN을_한번의_스크립트_호출로_반영한다() {
+            stubScript(105L, 52L);
+
+            PrayerCount result = adapter.incrementAll(new PrayerCount(5L, 2L));
+
+            assertEquals(105L, result.upCount());
+            assertEquals(52L, result.downCount());
+            verify(redisTemplate, times(1)).execute(any(RedisScript.class), anyList(), eq("5"), eq("2"), anyString());
+        }
+
+        @Test
+        @DisplayName("직후_getCount는_MGET을_생략한다")
+        void 직후_getCount는_MGET을_생략한다() {
+            stubScript(105L, 52L);
+            adapter.incrementAll(new PrayerCount(5L, 2L));
+
+            PrayerCount count = adapter.getCount();
+
+            assertEquals(new PrayerCount(105L, 52L), count);
+            verify(valueOperations, never()).multiGet(anyList());
+        }
+
+        @Test
+        @DisplayName("신선도_기간이_지나면_MGET으로_다시_조회한다")
+        void 신선도_기간이_지나면_MGET으로_다시_조회한다() {
+            RedisPrayerCountAdapter uncached = new RedisPrayerCountAdapter(redisTemplate, keyGenerator, 0);
+            stubScript(105L, 52L);
+            when(valueOperations.multiGet(anyList())).thenReturn(List.of("110", "60"));
+            uncached.incrementAll(new PrayerCount(5L, 2L));
+
+            PrayerCount count = uncached.getCount();
+
+            assertEquals(new PrayerCount(110L, 60L), count);
         }
     }
 
@@ -118,25 +174,29 @@ class RedisPrayerCountAdapterTest {
     class Merge {
 
         @Test
-        @DisplayName("delta가_0보다_크면_increment를_호출한다")
-        void delta가_0보다_크면_increment를_호출한다() {
-            when(valueOperations.increment(anyString(), anyLong())).thenReturn(10L);
+        @DisplayName("delta가_0보다_크면_한번의_스크립트로_반영한다")
+        void delta가_0보다_크면_한번의_스크립트로_반영한다() {
+            stubScript(15L, 13L);
             PrayerCount delta = new PrayerCount(5L, 3L);
 
             adapter.merge(delta);
 
-            verify(valueOperations).increment(contains(":up"), eq(5L));
-            verify(valueOperations).increment(contains(":down"), eq(3L));
+            verify(redisTemplate, times(1)).execute(any(RedisScript.class), anyList(), eq("5"), eq("3"), anyString());
         }
 
         @Test
-        @DisplayName("delta가_0이면_increment를_호출하지_않는다")
-        void delta가_0이면_increment를_호출하지_않는다() {
+        @DisplayName("delta가_0이면_스크립트를_호출하지_않는다")
+        void delta가_0이면_스크립트를_호출하지_않는다() {
             PrayerCount delta = new PrayerCount(0L, 0L);
 
             adapter.merge(delta);
 
-            verify(valueOperations, never()).increment(anyString(), anyLong());
+            verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(), any(), any());
         }
     }
+
+    private void stubScript(long upCount, long downCount) {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any()))
+            .thenReturn(List.of(upCount, downCount));
+    }
 }
@@ -0,0 +1,213 @@
+package com.crypto.prayer.adapter.out.redis;
+
+import com.crypto.prayer.domain.model.PrayerCount;
+import com.crypto.prayer.domain.model.Side;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.invocation.Invocation;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisPrayerHistoryAdapter")
+class RedisPrayerHistoryAdapterTest {
+
+    private static final long MINUTE = 60_000L;
+    private static final long DAY = 19_737L;
+    private static final String DAY_KEY = "prayer:history:" + LocalDate.ofEpochDay(DAY).toString().replace("-", "");
+
+    // DAY 10:00:30 UTC
+    private static final long START = DAY * 86_400_000L + 600 * MINUTE + 30_000L;
+    private static final long CURRENT_MINUTE = DAY * 1440 + 600;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    private final AtomicLong now = new AtomicLong(START);
+    private PrayerHistoryConfig config;
+    private RedisPrayerHistoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        config = new PrayerHistoryConfig();
+        adapter = new RedisPrayerHistoryAdapter(redisTemplate, new RedisKeyGenerator(), config, now::get);
+    }
+
+    private List<List<Object>> scriptCalls() {
+        return mockingDetails(redisTemplate).getInvocations().stream()
+            .filter(invocation -> invocation.getMethod().getName().equals("execute"))
+            .map(Invocation::getArguments)
+            .map(Arrays::asList)
+            .toList();
+    }
+
+    @Nested
+    @DisplayName("flush 메서드")
+    class Flush {
+
+        @Test
+        @DisplayName("분별_델타를_한번의_HINCRBY_스크립트로_반영한다")
+        void 분별_델타를_한번의_HINCRBY_스크립트로_반영한다() {
+            adapter.record(Side.UP, 3);
+            adapter.record(Side.DOWN, 1);
+            adapter.record(Side.UP, 2);
+
+            adapter.flush();
+
+            List<List<Object>> calls = scriptCalls();
+            assertEquals(1, calls.size());
+            List<Object> call = calls.get(0);
+            assertEquals(List.of(DAY_KEY, DAY_KEY), call.get(1));
+            assertEquals(List.of(String.valueOf(8 * 24 * 60 * 60), "600:u", "5", "600:d", "1"),
+                call.subList(2, call.size()));
+        }
+
+        @Test
+        @DisplayName("반영할_델타가_없으면_호출하지_않는다")
+        void 반영할_델타가_없으면_호출하지_않는다() {
+            adapter.record(Side.UP, 1);
+            adapter.flush();
+
+            adapter.flush();
+
+            assertEquals(1, scriptCalls().size());
+        }
+
+        @Test
+        @DisplayName("실패하면_다음_flush에서_같은_델타를_재시도한다")
+        void 실패하면_다음_flush에서_같은_델타를_재시도한다() {
+            when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new RuntimeException("Redis down"))
+                .thenReturn(2L);
+            adapter.record(Side.UP, 4);
+            adapter.flush();
+
+            adapter.record(Side.UP, 1);
+            adapter.flush();
+
+            List<Object> retry = scriptCalls().get(1);
+            assertEquals(List.of(String.valueOf(8 * 24 * 60 * 60), "600:u", "5"), retry.subList(2, retry.size()));
+        }
+
+        @Test
+        @DisplayName("비활성화되면_기록하지_않는다")
+        void 비활성화되면_기록하지_않는다() {
+            config.setEnabled(false);
+            adapter.record(Side.UP, 1);
+
+            adapter.flush();
+
+            verifyNoInteractions(redisTemplate);
+        }
+    }
+
+    @Nested
+    @DisplayName("findByMinute 메서드")
+    class FindByMinute {
+
+        @BeforeEach
+        void setUp() {
+            when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        }
+
+        // HMGET처럼 요청한 필드 순서대로 값을 돌려주고, 없는 필드는 null
+        private void stubHash(String key, Map<String, String> stored) {
+            when(hashOperations.multiGet(eq(key), anyCollection())).thenAnswer(invocation -> {
+                Collection<?> fields = invocation.getArgument(1);
+                return fields.stream().map(field -> (Object) stored.get(field.toString())).toList();
+            });
+        }
+
+        @SuppressWarnings("unchecked")
+        private List<List<Object>> requestedFields(String key) {
+            return mockingDetails(hashOperations).getInvocations().stream()
+                .filter(invocation -> invocation.getMethod().getName().equals("multiGet"))
+                .filter(invocation -> key.equals(invocation.getArgument(0)))
+                .map(invocation -> List.copyOf((Collection<Object>) invocation.getArgument(1)))
+                .toList();
+        }
+
+        @Test
+        @DisplayName("날짜_해시의_필드를_분_버킷으로_읽고_구간_밖은_버린다")
+        void 날짜_해시의_필드를_분_버킷으로_읽고_구간_밖은_버린다() {
+            stubHash(DAY_KEY, Map.of(
+                "590:u", "3", "590:d", "1", "595:d", "2", "500:u", "9"));
+
+            SortedMap<Long, PrayerCount> result = adapter.findByMinute(DAY * 1440 + 590, CURRENT_MINUTE + 1);
+
+            assertEquals(Map.of(
+                DAY * 1440 + 590, new PrayerCount(3, 1),
+                DAY * 1440 + 595, new PrayerCount(0, 2)), result);
+        }
+
+        @Test
+        @DisplayName("닫힌_분은_캐시하고_열린_분만_다시_읽는다")
+        void 닫힌_분은_캐시하고_열린_분만_다시_읽는다() {
+            stubHash(DAY_KEY, Map.of("590:u", "3"));
+            adapter.findByMinute(DAY * 1440 + 590, CURRENT_MINUTE - 1);
+            adapter.findByMinute(DAY * 1440 + 590, CURRENT_MINUTE - 1);
+
+            assertEquals(1, requestedFields(DAY_KEY).size());
+            assertEquals(9, adapter.cachedMinutes());
+
+            SortedMap<Long, PrayerCount> result = adapter.findByMinute(DAY * 1440 + 590, CURRENT_MINUTE + 1);
+
+            List<List<Object>> requests = requestedFields(DAY_KEY);
+            assertEquals(2, requests.size());
+            assertEquals(List.of("599:u", "599:d", "600:u", "600:d"), requests.get(1));
+            assertEquals(new PrayerCount(3, 0), result.get(DAY * 1440 + 590));
+        }
+
+        @Test
+        @DisplayName("재시도_대기_중인_분은_캐시하지_않는다")
+        void 재시도_대기_중인_분은_캐시하지_않는다() {
+            when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new RuntimeException("Redis down"));
+            adapter.record(Side.UP, 1);
+            adapter.flush();
+            now.addAndGet(10 * MINUTE);
+            stubHash(DAY_KEY, Map.of());
+
+            adapter.findByMinute(CURRENT_MINUTE - 5, CURRENT_MINUTE + 5);
+
+            assertEquals(5, adapter.cachedMinutes());
+        }
+
+        @Test
+        @DisplayName("자정을_넘는_구간은_두_날짜_해시를_읽는다")
+        void 자정을_넘는_구간은_두_날짜_해시를_읽는다() {
+            String previousDayKey = "prayer:history:" + LocalDate.ofEpochDay(DAY - 1).toString().replace("-", "");
+            stubHash(previousDayKey, Map.of("1439:d", "7"));
+            stubHash(DAY_KEY, Map.of("0:u", "2"));
+
+            SortedMap<Long, PrayerCount> result = adapter.findByMinute(DAY * 1440 - 1, DAY * 1440 + 1);
+
+            assertEquals(Map.of(
+                DAY * 1440 - 1, new PrayerCount(0, 7),
+                DAY * 1440, new PrayerCount(2, 0)), result);
+            assertEquals(List.of(List.of("1439:u", "1439:d")), requestedFields(previousDayKey));
+            assertEquals(List.of(List.of("0:u", "0:d")), requestedFields(DAY_KEY));
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.crypto.prayer.adapter.out.redis;
+
+import com.crypto.prayer.adapter.in.websocket.dto.PrayerResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisStatsRelay")
+class RedisStatsRelayTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private LeaderElectionConfig config;
+    private ObjectMapper objectMapper;
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private RedisStatsRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        config = new LeaderElectionConfig();
+        objectMapper = new ObjectMapper();
+        relay = new RedisStatsRelay(redisTemplate, listenerContainer, config, objectMapper, now::get);
+    }
+
+    @Nested
+    @DisplayName("publish 메서드")
+    class Publish {
+
+        @Test
+        @DisplayName("펜싱_토큰을_붙여_채널에_발행한다")
+        void 펜싱_토큰을_붙여_채널에_발행한다() {
+            relay.publish(3L, "node-a", PrayerResponse.from(10L, 5L, 1.0, 2.0));
+
+            ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+            verify(redisTemplate).convertAndSend(eq(config.getRelayChannel()), captor.capture());
+            assertTrue(captor.getValue().startsWith("3|node-a|{"));
+        }
+    }
+
+    @Nested
+    @DisplayName("onMessage 메서드")
+    class OnMessage {
+
+        @Test
+        @DisplayName("수신한_프레임을_한_번만_꺼낼_수_있다")
+        void 수신한_프레임을_한_번만_꺼낼_수_있다() throws Exception {
+            relay.onMessage(frame(1L, "node-a", PrayerResponse.from(10L, 5L, 1.0, 2.0)), null);
+
+            PrayerResponse latest = relay.takeLatest();
+            assertEquals(10L, latest.upCount());
+            assertEquals(5L, latest.downCount());
+            assertNull(relay.takeLatest());
+        }
+
+        @Test
+        @DisplayName("틱_사이에_여러_프레임이_오면_마지막_것만_남는다")
+        void 틱_사이에_여러_프레임이_오면_마지막_것만_남는다() throws Exception {
+            relay.onMessage(frame(1L, "node-a", PrayerResponse.from(10L, 5L, 1.0, 2.0)), null);
+            relay.onMessage(frame(1L, "node-a", PrayerResponse.from(11L, 5L, 1.0, 2.0)), null);
+
+            assertEquals(11L, relay.takeLatest().upCount());
+        }
+
+        @Test
+        @DisplayName("이전_리더의_낮은_펜싱_토큰_프레임은_버린다")
+        void 이전_리더의_낮은_펜싱_토큰_프레임은_버린다() throws Exception {
+            relay.onMessage(frame(5L, "node-b", PrayerResponse.from(10L, 5L, 1.0, 2.0)), null);
+            relay.takeLatest();
+            relay.onMessage(frame(4L, "node-a", PrayerResponse.from(9L, 5L, 1.0, 2.0)), null);
+
+            assertNull(relay.takeLatest());
+        }
+
+        @Test
+        @DisplayName("낮은_토큰이_같은_리더에서_리스_TTL_넘게_이어지면_토큰을_재설정한다")
+        void 낮은_토큰이_같은_리더에서_리스_TTL_넘게_이어지면_토큰을_재설정한다() throws Exception {
+            relay.onMessage(frame(5L, "node-a", PrayerResponse.from(10L, 5L, 1.0, 2.0)), null);
+            relay.takeLatest();
+
+            // Redis 재시작으로 펜싱 키가 사라져 새 리더가 1부터 다시 시작
+            relay.onMessage(frame(1L, "node-b", PrayerResponse.from(11L, 5L, 1.0, 2.0)), null);
+            now.addAndGet(config.getLeaseTtlMs() - 1);
+            relay.onMessage(frame(1L, "node-b", PrayerResponse.from(12L, 5L, 1.0, 2.0)), null);
+            assertNull(relay.takeLatest());
+
+            now.addAndGet(1);
+            relay.onMessage(frame(1L, "node-b", PrayerResponse.from(13L, 5L, 1.0, 2.0)), null);
+            assertEquals(13L, relay.takeLatest().upCount());
+            relay.onMessage(frame(2L, "node-b", PrayerResponse.from(14L, 5L, 1.0, 2.0)), null);
+            assertEquals(14L, relay.takeLatest().upCount());
+        }
+
+        @Test
+        @DisplayName("다른_리더의_낮은_토큰이_번갈아_오면_재설정하지_않는다")
+        void 다른_리더의_낮은_토큰이_번갈아_오면_재설정하지_않는다() throws Exception {
+            relay.onMessage(frame(5L, "node-a", PrayerResponse.from(10L, 5L, 1.0, 2.0)), null);
+            relay.takeLatest();
+
+            relay.onMessage(frame(3L, "node-b", PrayerResponse.from(11L, 5L, 1.0, 2.0)), null);
+            now.addAndGet(config.getLeaseTtlMs());
+            relay.onMessage(frame(4L, "node-c", PrayerResponse.from(12L, 5L, 1.0, 2.0)), null);
+
+            assertNull(relay.takeLatest());
+        }
+
+        @Test
+        @DisplayName("잘못된_프레임은_예외없이_무시된다")
+        void 잘못된_프레임은_예외없이_무시된다() {
+            assertDoesNotThrow(() -> relay.onMessage(message("garbage"), null));
+            assertDoesNotThrow(() -> relay.onMessage(message("1|{invalid"), null));
+            assertDoesNotThrow(() -> relay.onMessage(message("1|node-a|{invalid"), null));
+            assertNull(relay.takeLatest());
+        }
+
+        private DefaultMessage frame(long token, String leaderId, PrayerResponse response) throws Exception {
+            return message(token + "|" + leaderId + "|" + objectMapper.writeValueAsString(response));
+        }
+
+        private DefaultMessage message(String body) {
+            return new DefaultMessage(
+                config.getRelayChannel().getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.crypto.prayer.application.service;
+
+import com.crypto.prayer.domain.model.Liquidation.LiquidationSide;
+import com.crypto.prayer.domain.model.LiquidationSummary;
+import com.crypto.prayer.domain.model.LiquidationSummary.Totals;
+import com.crypto.prayer.domain.model.LiquidationWindow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LiquidationWindowAggregator")
+class LiquidationWindowAggregatorTest {
+
+    private static final long START = 1_700_000_000_000L;
+
+    private AtomicLong now;
+    private LiquidationWindowAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong(START);
+        aggregator = new LiquidationWindowAggregator(now::get);
+    }
+
+    @Nested
+    @DisplayName("record 메서드")
+    class Record {
+
+        @Test
+        @DisplayName("방향별로_건수_합계_최대값을_집계한다")
+        void 방향별로_건수_합계_최대값을_집계한다() {
+            aggregator.record(LiquidationSide.LONG, 1_000.0);
+            aggregator.record(LiquidationSide.LONG, 5_000.0);
+            aggregator.record(LiquidationSide.SHORT, 2_000.0);
+
+            assertEquals(new Totals(2, 6_000.0, 5_000.0),
+                aggregator.totals(LiquidationWindow.ONE_MINUTE, LiquidationSide.LONG));
+            assertEquals(new Totals(1, 2_000.0, 2_000.0),
+                aggregator.totals(LiquidationWindow.ONE_DAY, LiquidationSide.SHORT));
+        }
+
+        @Test
+        @DisplayName("0_이하나_NaN_금액은_무시한다")
+        void 영_이하나_NaN_금액은_무시한다() {
+            aggregator.record(LiquidationSide.LONG, 0.0);
+            aggregator.record(LiquidationSide.LONG, Double.NaN);
+
+            assertEquals(Totals.EMPTY, aggregator.totals(LiquidationWindow.ONE_MINUTE, LiquidationSide.LONG));
+        }
+    }
+
+    @Nested
+    @DisplayName("윈도우 만료")
+    class Expiry {
+
+        @Test
+        @DisplayName("1분이_지나면_1m에서는_빠지고_5m에는_남는다")
+        void 일분이_지나면_1m에서는_빠지고_5m에는_남는다() {
+            aggregator.record(LiquidationSide.LONG, 1_000.0);
+
+            now.addAndGet(60_000);
+
+            assertEquals(Totals.EMPTY, aggregator.totals(LiquidationWindow.ONE_MINUTE, LiquidationSide.LONG));
+            assertEquals(1, aggregator.totals(LiquidationWindow.FIVE_MINUTES, LiquidationSide.LONG).count());
+        }
+
+        @Test
+        @DisplayName("버킷이_한_바퀴_돌아도_이전_값이_섞이지_않는다")
+        void 버킷이_한_바퀴_돌아도_이전_값이_섞이지_않는다() {
+            aggregator.record(LiquidationSide.SHORT, 1_000.0);
+
+            now.addAndGet(300_000);
+            aggregator.record(LiquidationSide.SHORT, 2_000.0);
+
+            assertEquals(new Totals(1, 2_000.0, 2_000.0),
+                aggregator.totals(LiquidationWindow.FIVE_MINUTES, LiquidationSide.SHORT));
+            assertEquals(2, aggregator.totals(LiquidationWindow.ONE_HOUR, LiquidationSide.SHORT).count());
+        }
+
+        @Test
+        @DisplayName("24시간이_지나면_모든_윈도우에서_빠진다")
+        void 이십사시간이_지나면_모든_윈도우에서_빠진다() {
+            aggregator.record(LiquidationSide.LONG, 1_000.0);
+
+            now.addAndGet(86_400_000);
+
+            assertEquals(Totals.EMPTY, aggregator.totals(LiquidationWindow.ONE_DAY, LiquidationSide.LONG));
+        }
+    }
+
+    @Nested
+    @DisplayName("summary 메서드")
+    class Summary {
+
+        @Test
+        @DisplayName("모든_윈도우를_순서대로_담는다")
+        void 모든_윈도우를_순서대로_담는다() {
+            aggregator.record(LiquidationSide.LONG, 1_000.0);
+
+            LiquidationSummary summary = aggregator.summary();
+
+            assertEquals(4, summary.windows().size());
+            assertEquals("1m", summary.windows().get(0).window());
+            assertEquals("24h", summary.windows().get(3).window());
+            assertEquals(1, summary.windows().get(0).longs().count());
+            assertEquals(Totals.EMPTY, summary.windows().get(0).shorts());
+            assertEquals(START, summary.timestamp());
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.crypto.prayer.application.service;
+
+import com.crypto.prayer.application.port.out.PrayerHistoryPort;
+import com.crypto.prayer.domain.model.HistoryResolution;
+import com.crypto.prayer.domain.model.PrayerCount;
+import com.crypto.prayer.domain.model.PrayerHistory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PrayerHistoryService")
+class PrayerHistoryServiceTest {
+
+    private static final long MINUTE = 60_000L;
+
+    // 분 경계에 맞춘 고정 시각
+    private static final long NOW = 1_700_000_000_000L / MINUTE * MINUTE;
+
+    @Mock
+    private PrayerHistoryPort historyPort;
+
+    private PrayerHistoryService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new PrayerHistoryService(historyPort, () -> NOW + 30_000L);
+    }
+
+    private static TreeMap<Long, PrayerCount> minutes(long... minuteUpDown) {
+        TreeMap<Long, PrayerCount> map = new TreeMap<>();
+        for (int i = 0; i < minuteUpDown.length; i += 3) {
+            map.put(minuteUpDown[i], new PrayerCount(minuteUpDown[i + 1], minuteUpDown[i + 2]));
+        }
+        return map;
+    }
+
+    @Test
+    @DisplayName("일분_해상도는_빈_분도_0_버킷으로_채운다")
+    void 일분_해상도는_빈_분도_0_버킷으로_채운다() {
+        long from = NOW - 3 * MINUTE;
+        long m = from / MINUTE;
+        when(historyPort.findByMinute(m, m + 3)).thenReturn(minutes(m, 2, 1, m + 2, 0, 4));
+
+        PrayerHistory history = service.getHistory(from, NOW, HistoryResolution.ONE_MINUTE);
+
+        assertEquals(List.of(
+            new PrayerHistory.Bucket(from, 2, 1),
+            new PrayerHistory.Bucket(from + MINUTE, 0, 0),
+            new PrayerHistory.Bucket(from + 2 * MINUTE, 0, 4)
+        ), history.buckets());
+    }
+
+    @Test
+    @DisplayName("오분_해상도는_경계에_맞춰_분_버킷을_합산한다")
+    void 오분_해상도는_경계에_맞춰_분_버킷을_합산한다() {
+        long step = 5 * MINUTE;
+        long start = (NOW - 10 * MINUTE) / step * step;
+        long m = start / MINUTE;
+        when(historyPort.findByMinute(eq(m), anyLong())).thenReturn(minutes(m, 1, 0, m + 4, 2, 0, m + 5, 0, 7));
+
+        PrayerHistory history = service.getHistory(start + 1, start + 2 * step, HistoryResolution.FIVE_MINUTES);
+
+        assertEquals(start, history.from());
+        assertEquals(new PrayerHistory.Bucket(start, 3, 0), history.buckets().get(0));
+        assertEquals(new PrayerHistory.Bucket(start + step, 0, 7), history.buckets().get(1));
+    }
+
+    @Test
+    @DisplayName("현재_버킷_이후는_잘라낸다")
+    void 현재_버킷_이후는_잘라낸다() {
+        when(historyPort.findByMinute(anyLong(), anyLong())).thenReturn(new TreeMap<>());
+
+        PrayerHistory history = service.getHistory(NOW - MINUTE, NOW + 10 * MINUTE, HistoryResolution.ONE_MINUTE);
+
+        assertEquals(2, history.buckets().size());
+        assertEquals(NOW + MINUTE, history.to());
+    }
+
+    @Test
+    @DisplayName("버킷이_너무_많거나_구간이_비면_예외")
+    void 버킷이_너무_많거나_구간이_비면_예외() {
+        long tooLong = (PrayerHistoryService.MAX_BUCKETS + 1) * MINUTE;
+
+        assertThrows(IllegalArgumentException.class,
+            () -> service.getHistory(NOW - tooLong, NOW, HistoryResolution.ONE_MINUTE));
+        assertThrows(IllegalArgumentException.class,
+            () -> service.getHistory(NOW, NOW, HistoryResolution.ONE_HOUR));
+        verifyNoInteractions(historyPort);
+    }
+}
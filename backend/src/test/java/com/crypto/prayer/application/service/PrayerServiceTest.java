@@ -1,5 +1,7 @@
 package com.crypto.prayer.application.service;
 
+import com.crypto.prayer.application.port.out.ClusterStatsPort;
+import com.crypto.prayer.application.port.out.PrayerHistoryPort;
 import com.crypto.prayer.domain.model.Prayer;
 import com.crypto.prayer.domain.model.PrayerCount;
 import com.crypto.prayer.domain.model.PrayerStats;
@@ -23,11 +25,17 @@ class PrayerServiceTest {
     @Mock
     private FallbackManager countPort;
 
+    @Mock
+    private ClusterStatsPort clusterStatsPort;
+
+    @Mock
+    private PrayerHistoryPort historyPort;
+
     private PrayerService prayerService;
 
     @BeforeEach
     void setUp() {
-        prayerService = new PrayerService(countPort);
+        prayerService = new PrayerService(countPort, clusterStatsPort, historyPort);
     }
 
     @Nested
@@ -72,6 +80,14 @@ class PrayerServiceTest {
 
             verify(countPort).increment(Side.UP, 5L);
         }
+
+        @Test
+        @DisplayName("히스토리_분_버킷에도_count만큼_기록한다")
+        void 히스토리_분_버킷에도_count만큼_기록한다() {
+            prayerService.prayBatch(Side.DOWN, "session-123", 3);
+
+            verify(historyPort).record(Side.DOWN, 3L);
+        }
     }
 
     @Nested
@@ -116,5 +132,31 @@ class PrayerServiceTest {
             assertTrue(result.upRpm() >= 0);
             assertTrue(result.downRpm() >= 0);
         }
+
+        @Test
+        @DisplayName("배치_기도는_RPM에_count만큼_반영된다")
+        void 배치_기도는_RPM에_count만큼_반영된다() {
+            when(countPort.getCount()).thenReturn(PrayerCount.zero());
+            prayerService.prayBatch(Side.UP, "session-123", 5);
+
+            PrayerStats result = prayerService.getCurrentStats();
+
+            assertEquals(5.0, result.upRpm());
+            verify(clusterStatsPort).record(Side.UP, 5L);
+        }
+
+        @Test
+        @DisplayName("클러스터_모드에서는_클러스터_RPM을_반환한다")
+        void 클러스터_모드에서는_클러스터_RPM을_반환한다() {
+            when(countPort.getCount()).thenReturn(PrayerCount.zero());
+            when(clusterStatsPort.isEnabled()).thenReturn(true);
+            when(clusterStatsPort.getClusterRpm(Side.UP)).thenReturn(42.0);
+            when(clusterStatsPort.getClusterRpm(Side.DOWN)).thenReturn(7.0);
+
+            PrayerStats result = prayerService.getCurrentStats();
+
+            assertEquals(42.0, result.upRpm());
+            assertEquals(7.0, result.downRpm());
+        }
     }
 }
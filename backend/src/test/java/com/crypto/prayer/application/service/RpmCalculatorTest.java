@@ -0,0 +1,121 @@
+package com.crypto.prayer.application.service;
+
+import com.crypto.prayer.domain.model.Side;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RpmCalculator")
+class RpmCalculatorTest {
+
+    private AtomicLong now;
+    private RpmCalculator calculator;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong(1_700_000_000_000L);
+        calculator = new RpmCalculator(now::get);
+    }
+
+    @Nested
+    @DisplayName("record 메서드")
+    class Record {
+
+        @Test
+        @DisplayName("사이드별로_독립적으로_집계한다")
+        void 사이드별로_독립적으로_집계한다() {
+            calculator.record(Side.UP);
+            calculator.record(Side.UP);
+            calculator.record(Side.DOWN);
+
+            assertEquals(2.0, calculator.getRpm(Side.UP));
+            assertEquals(1.0, calculator.getRpm(Side.DOWN));
+        }
+
+        @Test
+        @DisplayName("배치는_count만큼_한번에_더한다")
+        void 배치는_count만큼_한번에_더한다() {
+            calculator.record(Side.UP, 20);
+
+            assertEquals(20.0, calculator.getRpm(Side.UP));
+        }
+
+        @Test
+        @DisplayName("0_이하의_count는_무시한다")
+        void 영_이하의_count는_무시한다() {
+            calculator.record(Side.UP, 0);
+            calculator.record(Side.UP, -3);
+
+            assertEquals(0.0, calculator.getRpm(Side.UP));
+        }
+    }
+
+    @Nested
+    @DisplayName("getRpm 메서드")
+    class GetRpm {
+
+        @Test
+        @DisplayName("60초_이내의_기록을_합산한다")
+        void 육십초_이내의_기록을_합산한다() {
+            calculator.record(Side.UP, 5);
+            now.addAndGet(30_000L);
+            calculator.record(Side.UP, 3);
+
+            assertEquals(8.0, calculator.getRpm(Side.UP));
+        }
+
+        @Test
+        @DisplayName("60초가_지난_기록은_제외한다")
+        void 육십초가_지난_기록은_제외한다() {
+            calculator.record(Side.UP, 5);
+            now.addAndGet(60_000L);
+            calculator.record(Side.UP, 3);
+
+            assertEquals(3.0, calculator.getRpm(Side.UP));
+        }
+
+        @Test
+        @DisplayName("한_바퀴_돈_버킷은_이전_값을_덮어쓴다")
+        void 한_바퀴_돈_버킷은_이전_값을_덮어쓴다() {
+            calculator.record(Side.DOWN, 7);
+            now.addAndGet(120_000L);
+            calculator.record(Side.DOWN, 1);
+
+            assertEquals(1.0, calculator.getRpm(Side.DOWN));
+        }
+    }
+
+    @Nested
+    @DisplayName("동시성")
+    class Concurrency {
+
+        @Test
+        @DisplayName("여러_스레드에서_기록해도_유실되지_않는다")
+        void 여러_스레드에서_기록해도_유실되지_않는다() throws InterruptedException {
+            int threadCount = 8;
+            int recordsPerThread = 10_000;
+
+            Thread[] threads = new Thread[threadCount];
+            for (int i = 0; i < threadCount; i++) {
+                threads[i] = new Thread(() -> {
+                    for (int j = 0; j < recordsPerThread; j++) {
+                        calculator.record(Side.UP);
+                    }
+                });
+            }
+            for (Thread thread : threads) {
+                thread.start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            assertEquals((double) threadCount * recordsPerThread, calculator.getRpm(Side.UP));
+        }
+    }
+}
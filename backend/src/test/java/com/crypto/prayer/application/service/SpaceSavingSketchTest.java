@@ -0,0 +1,124 @@
+package com.crypto.prayer.application.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SpaceSavingSketch")
+class SpaceSavingSketchTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+
+    private SpaceSavingSketch sketch(int capacity, long halfLifeMs) {
+        return new SpaceSavingSketch(capacity, halfLifeMs, now::get);
+    }
+
+    private static List<String> keys(List<SpaceSavingSketch.Entry> entries) {
+        return entries.stream().map(SpaceSavingSketch.Entry::key).toList();
+    }
+
+    @Nested
+    @DisplayName("add / top")
+    class AddAndTop {
+
+        @Test
+        @DisplayName("용량_안에서는_정확한_합계를_내림차순으로_반환한다")
+        void 용량_안에서는_정확한_합계를_내림차순으로_반환한다() {
+            SpaceSavingSketch sketch = sketch(4, 0);
+            sketch.add("ETHUSDT", 100);
+            sketch.add("BTCUSDT", 300);
+            sketch.add("ETHUSDT", 50);
+            sketch.add("SOLUSDT", 10);
+
+            List<SpaceSavingSketch.Entry> top = sketch.top(2);
+
+            assertEquals(List.of("BTCUSDT", "ETHUSDT"), keys(top));
+            assertEquals(300.0, top.get(0).estimate());
+            assertEquals(150.0, top.get(1).estimate());
+            assertEquals(0.0, top.get(1).error());
+        }
+
+        @Test
+        @DisplayName("용량을_넘으면_최솟값_카운터를_빼앗고_오차로_기록한다")
+        void 용량을_넘으면_최솟값_카운터를_빼앗고_오차로_기록한다() {
+            SpaceSavingSketch sketch = sketch(2, 0);
+            sketch.add("BTCUSDT", 100);
+            sketch.add("ETHUSDT", 10);
+            sketch.add("SOLUSDT", 5);
+
+            List<SpaceSavingSketch.Entry> top = sketch.top(10);
+
+            assertEquals(List.of("BTCUSDT", "SOLUSDT"), keys(top));
+            assertEquals(15.0, top.get(1).estimate());
+            assertEquals(10.0, top.get(1).error());
+        }
+
+        @Test
+        @DisplayName("키_종류가_많아도_자주_나오는_키는_상위에_남는다")
+        void 키_종류가_많아도_자주_나오는_키는_상위에_남는다() {
+            SpaceSavingSketch sketch = sketch(8, 0);
+            for (int i = 0; i < 1_000; i++) {
+                sketch.add("BTCUSDT", 10);
+                sketch.add("ETHUSDT", 5);
+                sketch.add("ALT" + i + "USDT", 1);
+            }
+
+            List<SpaceSavingSketch.Entry> top = sketch.top(2);
+
+            assertEquals(List.of("BTCUSDT", "ETHUSDT"), keys(top));
+            SpaceSavingSketch.Entry btc = top.get(0);
+            assertTrue(btc.estimate() - btc.error() <= 10_000.0);
+            assertTrue(btc.estimate() >= 10_000.0);
+        }
+
+        @Test
+        @DisplayName("null_키와_0_이하_가중치는_무시한다")
+        void null_키와_0_이하_가중치는_무시한다() {
+            SpaceSavingSketch sketch = sketch(2, 0);
+            sketch.add(null, 10);
+            sketch.add("BTCUSDT", 0);
+            sketch.add("BTCUSDT", Double.NaN);
+
+            assertTrue(sketch.top(10).isEmpty());
+        }
+
+        @Test
+        @DisplayName("용량이_1보다_작으면_예외")
+        void 용량이_1보다_작으면_예외() {
+            assertThrows(IllegalArgumentException.class, () -> sketch(0, 0));
+        }
+    }
+
+    @Nested
+    @DisplayName("감쇠")
+    class Decay {
+
+        @Test
+        @DisplayName("반감기마다_값이_절반으로_줄어든다")
+        void 반감기마다_값이_절반으로_줄어든다() {
+            SpaceSavingSketch sketch = sketch(4, 60_000);
+            sketch.add("BTCUSDT", 100);
+
+            now.addAndGet(60_000);
+
+            assertEquals(50.0, sketch.top(1).get(0).estimate(), 1e-9);
+        }
+
+        @Test
+        @DisplayName("최근_청산이_많은_심볼이_예전_상위를_앞지른다")
+        void 최근_청산이_많은_심볼이_예전_상위를_앞지른다() {
+            SpaceSavingSketch sketch = sketch(4, 60_000);
+            sketch.add("BTCUSDT", 100);
+
+            now.addAndGet(180_000);
+            sketch.add("ETHUSDT", 20);
+
+            assertEquals(List.of("ETHUSDT", "BTCUSDT"), keys(sketch.top(2)));
+        }
+    }
+}
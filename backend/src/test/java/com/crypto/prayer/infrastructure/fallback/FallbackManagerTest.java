@@ -3,6 +3,9 @@ package com.crypto.prayer.infrastructure.fallback;
 import com.crypto.prayer.adapter.out.redis.RedisPrayerCountAdapter;
 import com.crypto.prayer.domain.model.PrayerCount;
 import com.crypto.prayer.domain.model.Side;
+import com.crypto.prayer.infrastructure.writebehind.WriteBehindConfig;
+import com.crypto.prayer.infrastructure.writebehind.WriteBehindPrayerCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -27,7 +30,11 @@ class FallbackManagerTest {
     @BeforeEach
     void setUp() {
         inMemoryAdapter = new InMemoryPrayerCountAdapter();
-        fallbackManager = new FallbackManager(redisAdapter, inMemoryAdapter);
+        WriteBehindConfig config = new WriteBehindConfig();
+        config.setEnabled(false);
+        WriteBehindPrayerCounter writeBehindCounter = new WriteBehindPrayerCounter(
+            redisAdapter, config, new SimpleMeterRegistry());
+        fallbackManager = new FallbackManager(redisAdapter, inMemoryAdapter, writeBehindCounter);
     }
 
     @Nested
@@ -126,6 +133,73 @@ class FallbackManagerTest {
         }
     }
 
+    @Nested
+    @DisplayName("write-behind 모드")
+    class WriteBehind {
+
+        private WriteBehindPrayerCounter writeBehindCounter;
+        private FallbackManager writeBehindManager;
+
+        @BeforeEach
+        void setUp() {
+            WriteBehindConfig config = new WriteBehindConfig();
+            config.setMaxBackloggedClicks(10);
+            writeBehindCounter = new WriteBehindPrayerCounter(redisAdapter, config, new SimpleMeterRegistry());
+            writeBehindManager = new FallbackManager(redisAdapter, inMemoryAdapter, writeBehindCounter);
+        }
+
+        @Test
+        @DisplayName("increment시_Redis를_직접_호출하지_않는다")
+        void increment시_Redis를_직접_호출하지_않는다() {
+            writeBehindManager.increment(Side.UP, 5L);
+
+            verify(redisAdapter, never()).increment(any(), anyLong());
+        }
+
+        @Test
+        @DisplayName("getCount는_미반영_델타를_포함한다")
+        void getCount는_미반영_델타를_포함한다() {
+            when(redisAdapter.getCount()).thenReturn(new PrayerCount(100L, 50L));
+            writeBehindManager.increment(Side.UP, 5L);
+            writeBehindManager.increment(Side.DOWN, 2L);
+
+            PrayerCount result = writeBehindManager.getCount();
+
+            assertEquals(105L, result.upCount());
+            assertEquals(52L, result.downCount());
+        }
+
+        @Test
+        @DisplayName("조회_중에_끝난_flush를_두번_세지_않는다")
+        void 조회_중에_끝난_flush를_두번_세지_않는다() {
+            when(redisAdapter.incrementAll(new PrayerCount(5L, 0L))).thenReturn(new PrayerCount(105L, 50L));
+            when(redisAdapter.getCount()).thenAnswer(invocation -> {
+                writeBehindCounter.flush();
+                return new PrayerCount(105L, 50L);
+            });
+            writeBehindManager.increment(Side.UP, 5L);
+
+            PrayerCount result = writeBehindManager.getCount();
+
+            assertEquals(new PrayerCount(105L, 50L), result);
+        }
+
+        @Test
+        @DisplayName("Redis_장애로_델타가_상한까지_쌓이면_인메모리로_옮긴다")
+        void Redis_장애로_델타가_상한까지_쌓이면_인메모리로_옮긴다() {
+            when(redisAdapter.incrementAll(any())).thenThrow(new RuntimeException("Redis down"));
+            writeBehindManager.increment(Side.UP, 8L);
+            writeBehindManager.increment(Side.DOWN, 2L);
+            assertThrows(RuntimeException.class, () -> writeBehindCounter.flush());
+
+            writeBehindManager.increment(Side.UP, 1L);
+
+            assertTrue(writeBehindManager.isUsingFallback());
+            assertEquals(new PrayerCount(9L, 2L), inMemoryAdapter.getCount());
+            assertEquals(PrayerCount.zero(), writeBehindCounter.getPending());
+        }
+    }
+
     @Nested
     @DisplayName("isAvailable 메서드")
     class IsAvailable {
@@ -0,0 +1,140 @@
+package com.crypto.prayer.infrastructure.scheduler;
+
+import com.crypto.prayer.adapter.in.websocket.outbound.OutboundConfig;
+import com.crypto.prayer.adapter.in.websocket.outbound.SlowConsumerGuard;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("AdaptiveBroadcastCadence")
+class AdaptiveBroadcastCadenceTest {
+
+    private final AtomicInteger sessions = new AtomicInteger(10);
+    private final AtomicLong bufferedBytes = new AtomicLong(0);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private BroadcastConfig config;
+    private AdaptiveBroadcastCadence cadence;
+
+    @BeforeEach
+    void setUp() {
+        config = new BroadcastConfig();
+        config.getAdaptive().setEnabled(true);
+        cadence = new AdaptiveBroadcastCadence(config, sessions::get, bufferedBytes::get, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("접속자가_적고_변화가_잦으면_하한까지_빨라진다")
+    void 접속자가_적고_변화가_잦으면_하한까지_빨라진다() {
+        for (int i = 0; i < 10; i++) {
+            cadence.update(0, 100);
+        }
+
+        assertEquals(50, cadence.currentIntervalMs());
+    }
+
+    @Test
+    @DisplayName("브로드캐스트_시간이_예산을_넘으면_간격을_두_배로_늘리고_상한에서_멈춘다")
+    void 브로드캐스트_시간이_예산을_넘으면_간격을_두_배로_늘리고_상한에서_멈춘다() {
+        // 200ms 간격의 25% = 50ms 초과
+        assertEquals(400, cadence.update(60_000_000L, 0));
+
+        for (int i = 0; i < 5; i++) {
+            cadence.update(Long.MAX_VALUE, 0);
+        }
+        // 1600은 상한 1000을 넘으므로 800에서 멈춘다
+        assertEquals(800, cadence.currentIntervalMs());
+    }
+
+    @Test
+    @DisplayName("간격은_기준_간격의_2배수나_1_2배_단계만_쓴다")
+    void 간격은_기준_간격의_2배수나_1_2배_단계만_쓴다() {
+        long[] costs = {Long.MAX_VALUE, 0, Long.MAX_VALUE, Long.MAX_VALUE, 0, 0, 0, 0, 0, 0};
+        long[] changes = {0, 100, 0, 0, 100, 0, 100, 100, 100, 0};
+
+        for (int i = 0; i < costs.length; i++) {
+            long interval = cadence.update(costs[i], changes[i]);
+            assertTrue(interval % 200 == 0 || 200 % interval == 0, "interval=" + interval);
+        }
+    }
+
+    @Test
+    @DisplayName("송신_큐에_밀린_바이트가_예산을_넘으면_느려진다")
+    void 송신_큐에_밀린_바이트가_예산을_넘으면_느려진다() {
+        bufferedBytes.set(config.getAdaptive().getMaxOutboundBufferedBytes() + 1);
+
+        assertEquals(400, cadence.update(0, 100));
+    }
+
+    @Test
+    @DisplayName("세션_송신_큐에_쌓인_바이트를_SlowConsumerGuard에서_읽는다")
+    void 세션_송신_큐에_쌓인_바이트를_SlowConsumerGuard에서_읽는다() throws Exception {
+        OutboundConfig outboundConfig = new OutboundConfig();
+        List<Runnable> drains = new ArrayList<>();
+        SlowConsumerGuard guard = new SlowConsumerGuard(
+            outboundConfig, new SimpleMeterRegistry(), drains::add, System::nanoTime);
+        WebSocketHandler handler = mock(WebSocketHandler.class);
+        WebSocketSession rawSession = mock(WebSocketSession.class);
+        when(rawSession.getId()).thenReturn("s1");
+        guard.decorate(handler).afterConnectionEstablished(rawSession);
+        ArgumentCaptor<WebSocketSession> decorated = ArgumentCaptor.forClass(WebSocketSession.class);
+        verify(handler).afterConnectionEstablished(decorated.capture());
+        config.getAdaptive().setMaxOutboundBufferedBytes(100);
+        cadence = new AdaptiveBroadcastCadence(config, sessions::get, guard::getBufferedBytes, meterRegistry);
+
+        // 드레인을 돌리지 않아 이벤트 프레임이 송신 큐에 남는다
+        decorated.getValue().sendMessage(new TextMessage("MESSAGE\ndestination:/topic/liquidation\n\n" + "x".repeat(200)));
+
+        assertEquals(200, cadence.currentIntervalMs());
+        assertEquals(400, cadence.update(0, 0));
+    }
+
+    @Test
+    @DisplayName("접속자가_많으면_변화가_잦아도_기준_간격을_유지한다")
+    void 접속자가_많으면_변화가_잦아도_기준_간격을_유지한다() {
+        sessions.set(50_000);
+
+        assertEquals(200, cadence.update(0, 1_000));
+    }
+
+    @Test
+    @DisplayName("부하가_사라지면_기준_간격으로_돌아온다")
+    void 부하가_사라지면_기준_간격으로_돌아온다() {
+        cadence.update(Long.MAX_VALUE, 0);
+        cadence.update(0, 100);
+        for (int i = 0; i < 20; i++) {
+            cadence.update(0, 0);
+        }
+
+        assertEquals(200, cadence.currentIntervalMs());
+    }
+
+    @Test
+    @DisplayName("비활성화되면_항상_기준_간격이다")
+    void 비활성화되면_항상_기준_간격이다() {
+        config.getAdaptive().setEnabled(false);
+
+        assertEquals(200, cadence.update(Long.MAX_VALUE, 0));
+    }
+
+    @Test
+    @DisplayName("현재_간격을_게이지로_노출한다")
+    void 현재_간격을_게이지로_노출한다() {
+        cadence.update(0, 100);
+
+        assertEquals(100.0, meterRegistry.get("prayer.broadcast.interval").gauge().value());
+    }
+}
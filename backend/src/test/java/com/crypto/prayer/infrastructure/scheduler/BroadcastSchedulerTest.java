@@ -0,0 +1,133 @@
+package com.crypto.prayer.infrastructure.scheduler;
+
+import com.crypto.prayer.adapter.in.websocket.dto.PrayerResponse;
+import com.crypto.prayer.adapter.out.redis.LeaderElectionConfig;
+import com.crypto.prayer.adapter.out.redis.RedisLeaderLease;
+import com.crypto.prayer.adapter.out.redis.RedisStatsRelay;
+import com.crypto.prayer.application.port.in.PrayerQuery;
+import com.crypto.prayer.application.port.out.BroadcastPort;
+import com.crypto.prayer.domain.model.PrayerCount;
+import com.crypto.prayer.domain.model.PrayerStats;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BroadcastScheduler")
+class BroadcastSchedulerTest {
+
+    @Mock
+    private PrayerQuery prayerQuery;
+
+    @Mock
+    private BroadcastPort broadcastPort;
+
+    @Mock
+    private RedisLeaderLease leaderLease;
+
+    @Mock
+    private RedisStatsRelay statsRelay;
+
+    private LeaderElectionConfig leaderConfig;
+    private BroadcastScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        leaderConfig = new LeaderElectionConfig();
+        BroadcastConfig config = new BroadcastConfig();
+        AdaptiveBroadcastCadence cadence = new AdaptiveBroadcastCadence(
+            config, () -> 0, () -> 0, new SimpleMeterRegistry());
+        scheduler = new BroadcastScheduler(
+            prayerQuery, broadcastPort, config, leaderConfig, leaderLease, statsRelay, cadence);
+    }
+
+    @Nested
+    @DisplayName("단일 노드 모드")
+    class SingleNode {
+
+        @Test
+        @DisplayName("통계가_변경되면_로컬로_브로드캐스트한다")
+        void 통계가_변경되면_로컬로_브로드캐스트한다() {
+            when(prayerQuery.getCurrentStats()).thenReturn(stats(10L, 5L));
+
+            scheduler.tick();
+
+            verify(broadcastPort).broadcastPrayerStats(any(PrayerResponse.class));
+            verifyNoInteractions(leaderLease, statsRelay);
+        }
+
+        @Test
+        @DisplayName("통계가_같으면_다시_보내지_않는다")
+        void 통계가_같으면_다시_보내지_않는다() {
+            when(prayerQuery.getCurrentStats()).thenReturn(stats(10L, 5L));
+
+            scheduler.tick();
+            scheduler.tick();
+
+            verify(broadcastPort, times(1)).broadcastPrayerStats(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("리더 선출 모드")
+    class LeaderElection {
+
+        @BeforeEach
+        void setUp() {
+            leaderConfig.setEnabled(true);
+        }
+
+        @Test
+        @DisplayName("리더는_펜싱_토큰과_함께_한번_발행한다")
+        void 리더는_펜싱_토큰과_함께_한번_발행한다() {
+            when(leaderLease.tryAcquireOrRenew()).thenReturn(7L);
+            when(leaderLease.isLeader()).thenReturn(true);
+            when(leaderLease.getFencingToken()).thenReturn(7L);
+            when(leaderLease.getNodeId()).thenReturn("node-a");
+            when(prayerQuery.getCurrentStats()).thenReturn(stats(10L, 5L));
+
+            scheduler.tick();
+
+            verify(statsRelay).publish(eq(7L), eq("node-a"), any(PrayerResponse.class));
+            verify(broadcastPort, never()).broadcastPrayerStats(any());
+        }
+
+        @Test
+        @DisplayName("팔로워는_카운트를_조회하지_않는다")
+        void 팔로워는_카운트를_조회하지_않는다() {
+            when(leaderLease.tryAcquireOrRenew()).thenReturn(RedisLeaderLease.NOT_LEADER);
+            when(leaderLease.isLeader()).thenReturn(false);
+
+            scheduler.tick();
+
+            verifyNoInteractions(prayerQuery, broadcastPort);
+            verify(statsRelay, never()).publish(anyLong(), anyString(), any());
+        }
+
+        @Test
+        @DisplayName("수신한_최신_프레임은_자기_틱에_로컬로_전달한다")
+        void 수신한_최신_프레임은_자기_틱에_로컬로_전달한다() {
+            PrayerResponse frame = PrayerResponse.from(10L, 5L, 0.0, 0.0);
+            when(leaderLease.tryAcquireOrRenew()).thenReturn(RedisLeaderLease.NOT_LEADER);
+            when(leaderLease.isLeader()).thenReturn(false);
+            when(statsRelay.takeLatest()).thenReturn(frame, (PrayerResponse) null);
+
+            scheduler.tick();
+            scheduler.tick();
+
+            verify(broadcastPort, times(1)).broadcastPrayerStats(frame);
+        }
+    }
+
+    private PrayerStats stats(long up, long down) {
+        return PrayerStats.create(new PrayerCount(up, down), 0.0, 0.0);
+    }
+}
@@ -0,0 +1,125 @@
+package com.crypto.prayer.infrastructure.scheduler;
+
+import com.crypto.prayer.application.port.in.LiquidationStatsQuery;
+import com.crypto.prayer.application.port.out.BroadcastPort;
+import com.crypto.prayer.application.service.LiquidationLeaderboardConfig;
+import com.crypto.prayer.domain.model.LiquidationLeaderboard;
+import com.crypto.prayer.domain.model.LiquidationSummary;
+import com.crypto.prayer.domain.model.LiquidationSummary.Totals;
+import com.crypto.prayer.domain.model.LiquidationSummary.WindowTotals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("LiquidationSummaryScheduler")
+@ExtendWith(MockitoExtension.class)
+class LiquidationSummarySchedulerTest {
+
+    @Mock
+    private LiquidationStatsQuery liquidationStatsQuery;
+
+    @Mock
+    private BroadcastPort broadcastPort;
+
+    private LiquidationSummaryScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new LiquidationSummaryScheduler(
+            liquidationStatsQuery, broadcastPort, new LiquidationSummaryConfig(), new LiquidationLeaderboardConfig());
+    }
+
+    private static LiquidationSummary summary(long longCount, long timestamp) {
+        return new LiquidationSummary(
+            List.of(new WindowTotals("1m", new Totals(longCount, longCount * 1_000.0, 1_000.0), Totals.EMPTY)),
+            timestamp
+        );
+    }
+
+    @Test
+    @DisplayName("집계가_바뀌면_발행한다")
+    void 집계가_바뀌면_발행한다() {
+        when(liquidationStatsQuery.getSummary()).thenReturn(summary(1, 1000), summary(2, 2000));
+
+        scheduler.tick();
+        scheduler.tick();
+
+        verify(broadcastPort, times(2)).broadcastLiquidationSummary(any());
+    }
+
+    @Test
+    @DisplayName("시각만_다르고_집계가_같으면_생략한다")
+    void 시각만_다르고_집계가_같으면_생략한다() {
+        when(liquidationStatsQuery.getSummary()).thenReturn(summary(1, 1000), summary(1, 2000));
+
+        scheduler.tick();
+        scheduler.tick();
+
+        verify(broadcastPort, times(1)).broadcastLiquidationSummary(any());
+    }
+
+    private static LiquidationLeaderboard leaderboard(long timestamp, String... symbols) {
+        return leaderboard(timestamp, 1.0, symbols);
+    }
+
+    private static LiquidationLeaderboard leaderboard(long timestamp, double value, String... symbols) {
+        List<LiquidationLeaderboard.Entry> entries = Arrays.stream(symbols)
+            .map(symbol -> new LiquidationLeaderboard.Entry(symbol, value, 0.0))
+            .toList();
+        return new LiquidationLeaderboard(entries, entries, timestamp);
+    }
+
+    @Test
+    @DisplayName("순위가_바뀌면_리더보드를_발행한다")
+    void 순위가_바뀌면_리더보드를_발행한다() {
+        when(liquidationStatsQuery.getLeaderboard()).thenReturn(
+            leaderboard(1_000, "BTCUSDT", "ETHUSDT"),
+            leaderboard(6_000, "ETHUSDT", "BTCUSDT"));
+
+        scheduler.tickLeaderboard();
+        scheduler.tickLeaderboard();
+
+        verify(broadcastPort, times(2)).broadcastLiquidationLeaderboard(any());
+    }
+
+    @Test
+    @DisplayName("순위가_같아도_감쇠로_값이_바뀌면_매_주기_발행한다")
+    void 순위가_같아도_감쇠로_값이_바뀌면_매_주기_발행한다() {
+        when(liquidationStatsQuery.getLeaderboard()).thenReturn(
+            leaderboard(1_000, 1_000.0, "BTCUSDT"),
+            leaderboard(6_000, 988.5, "BTCUSDT"),
+            leaderboard(11_000, 977.1, "BTCUSDT"));
+
+        scheduler.tickLeaderboard();
+        scheduler.tickLeaderboard();
+        scheduler.tickLeaderboard();
+
+        verify(broadcastPort, times(3)).broadcastLiquidationLeaderboard(any());
+    }
+
+    @Test
+    @DisplayName("순위와_값이_epsilon_안에서_같으면_생략한다")
+    void 순위와_값이_epsilon_안에서_같으면_생략한다() {
+        when(liquidationStatsQuery.getLeaderboard()).thenReturn(
+            leaderboard(1_000, 1_000.0, "BTCUSDT"),
+            leaderboard(6_000, 999.9999, "BTCUSDT"),
+            leaderboard(11_000, 0.0),
+            leaderboard(16_000, 0.0));
+
+        scheduler.tickLeaderboard();
+        scheduler.tickLeaderboard();
+        scheduler.tickLeaderboard();
+        scheduler.tickLeaderboard();
+
+        verify(broadcastPort, times(2)).broadcastLiquidationLeaderboard(any());
+    }
+}
@@ -0,0 +1,143 @@
+package com.crypto.prayer.infrastructure.writebehind;
+
+import com.crypto.prayer.adapter.out.redis.RedisPrayerCountAdapter;
+import com.crypto.prayer.domain.model.PrayerCount;
+import com.crypto.prayer.domain.model.Side;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WriteBehindPrayerCounter")
+class WriteBehindPrayerCounterTest {
+
+    @Mock
+    private RedisPrayerCountAdapter redisAdapter;
+
+    private SimpleMeterRegistry meterRegistry;
+    private WriteBehindPrayerCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        WriteBehindConfig config = new WriteBehindConfig();
+        config.setMaxBackloggedClicks(5);
+        meterRegistry = new SimpleMeterRegistry();
+        counter = new WriteBehindPrayerCounter(redisAdapter, config, meterRegistry);
+    }
+
+    @Nested
+    @DisplayName("increment 메서드")
+    class Increment {
+
+        @Test
+        @DisplayName("Redis를_호출하지_않고_로컬에_누적한다")
+        void Redis를_호출하지_않고_로컬에_누적한다() {
+            counter.increment(Side.UP, 3L);
+            counter.increment(Side.UP, 2L);
+            counter.increment(Side.DOWN, 1L);
+
+            assertEquals(new PrayerCount(5L, 1L), counter.getPending());
+            verifyNoInteractions(redisAdapter);
+        }
+    }
+
+    @Nested
+    @DisplayName("flush 메서드")
+    class Flush {
+
+        @Test
+        @DisplayName("누적된_델타를_한번에_반영한다")
+        void 누적된_델타를_한번에_반영한다() {
+            when(redisAdapter.incrementAll(new PrayerCount(5L, 2L)))
+                .thenReturn(new PrayerCount(105L, 52L));
+            counter.increment(Side.UP, 5L);
+            counter.increment(Side.DOWN, 2L);
+
+            counter.flush();
+
+            verify(redisAdapter, times(1)).incrementAll(new PrayerCount(5L, 2L));
+            assertEquals(PrayerCount.zero(), counter.getPending());
+            assertEquals(1L, meterRegistry.get("prayer.writebehind.flush.batch.size").summary().count());
+            assertEquals(7.0, meterRegistry.get("prayer.writebehind.flush.batch.size").summary().totalAmount());
+        }
+
+        @Test
+        @DisplayName("델타가_없으면_Redis를_호출하지_않는다")
+        void 델타가_없으면_Redis를_호출하지_않는다() {
+            counter.flush();
+
+            verifyNoInteractions(redisAdapter);
+        }
+
+        @Test
+        @DisplayName("실패시_델타를_보존한다")
+        void 실패시_델타를_보존한다() {
+            when(redisAdapter.incrementAll(any())).thenThrow(new RuntimeException("Redis down"));
+            counter.increment(Side.UP, 5L);
+
+            assertThrows(RuntimeException.class, () -> counter.flush());
+
+            assertEquals(new PrayerCount(5L, 0L), counter.getPending());
+            assertEquals(1.0, meterRegistry.get("prayer.writebehind.flush.failures").counter().count());
+        }
+
+        @Test
+        @DisplayName("flush_이후_increment는_반영된_카운트를_기준으로_반환한다")
+        void flush_이후_increment는_반영된_카운트를_기준으로_반환한다() {
+            when(redisAdapter.incrementAll(any())).thenReturn(new PrayerCount(100L, 0L));
+            counter.increment(Side.UP, 1L);
+            counter.flush();
+
+            long result = counter.increment(Side.UP, 1L);
+
+            assertEquals(101L, result);
+        }
+    }
+
+    @Nested
+    @DisplayName("isBacklogged 메서드")
+    class IsBacklogged {
+
+        @Test
+        @DisplayName("flush가_성공하는_동안에는_쌓여도_false다")
+        void flush가_성공하는_동안에는_쌓여도_false다() {
+            counter.increment(Side.UP, 10L);
+
+            assertFalse(counter.isBacklogged());
+        }
+
+        @Test
+        @DisplayName("flush가_실패하고_상한만큼_쌓이면_true다")
+        void flush가_실패하고_상한만큼_쌓이면_true다() {
+            when(redisAdapter.incrementAll(any()))
+                .thenThrow(new RuntimeException("Redis down"))
+                .thenReturn(new PrayerCount(5L, 0L));
+            counter.increment(Side.UP, 5L);
+            assertThrows(RuntimeException.class, () -> counter.flush());
+
+            assertTrue(counter.isBacklogged());
+
+            counter.flush();
+            assertFalse(counter.isBacklogged());
+        }
+
+        @Test
+        @DisplayName("drainPending은_쌓인_델타를_꺼내고_비운다")
+        void drainPending은_쌓인_델타를_꺼내고_비운다() {
+            counter.increment(Side.UP, 3L);
+            counter.increment(Side.DOWN, 1L);
+
+            assertEquals(new PrayerCount(3L, 1L), counter.drainPending());
+            assertEquals(PrayerCount.zero(), counter.getPending());
+        }
+    }
+}
@@ -1,12 +1,14 @@
 import { useEffect, useRef, useCallback } from 'react';
 import { useSetAtom } from 'jotai';
 import { StompClient } from '@/lib/stomp';
+import { withClientId } from '@/lib/clientId';
 import { prayerCountAtom, pendingPrayersAtom } from '@/stores/prayerStore';
 import { websocketStateAtom } from '@/stores/websocketStore';
 import { addToastAtom } from '@/stores/toastStore';
 import type { PrayerCount, Side } from '@/types/prayer';
 import type { Ticker } from '@/types/ticker';
 import type { Liquidation } from '@/types/liquidation';
+import type { Snapshot } from '@/types/websocket';
 
 const BATCH_INTERVAL = 500; // 500ms batching
 
@@ -20,6 +22,8 @@ export function usePrayerSocket(options: UsePrayerSocketOptions = {}) {
   const batchRef = useRef<{ up: number; down: number }>({ up: 0, down: 0 });
   const batchTimerRef = useRef<ReturnType<typeof setTimeout> | null>(null);
   const optionsRef = useRef(options);
+  // Snapshot liquidations are only replayed before any live liquidation arrives (avoids duplicates on reconnect)
+  const receivedLiquidationRef = useRef(false);
 
   // Keep options ref updated
   optionsRef.current = options;
@@ -69,9 +73,18 @@ export function usePrayerSocket(options: UsePrayerSocketOptions = {}) {
 
   // WebSocket connection
   useEffect(() => {
-    const wsUrl =
+    const wsUrl = withClientId(
       import.meta.env.VITE_WS_URL ||
-      `${window.location.protocol === 'https:' ? 'wss:' : 'ws:'}//${window.location.host}/ws`;
+        `${window.location.protocol === 'https:' ? 'wss:' : 'ws:'}//${window.location.host}/ws`
+    );
+
+    const emitLiquidation = (item: Omit<Liquidation, 'id'>) => {
+      const liquidation: Liquidation = {
+        ...item,
+        id: `${item.timestamp}-${Math.random().toString(36).substring(2, 9)}`,
+      };
+      optionsRef.current.onLiquidation?.(liquidation);
+    };
 
     const client = new StompClient({
       brokerURL: wsUrl,
@@ -95,11 +108,28 @@ export function usePrayerSocket(options: UsePrayerSocketOptions = {}) {
         // Subscribe to liquidation updates
         client.subscribe('/topic/liquidation', (message) => {
           const data = JSON.parse(message.body);
-          const liquidation: Liquidation = {
-            ...data,
-            id: `${data.timestamp}-${Math.random().toString(36).substring(2, 9)}`,
-          };
-          optionsRef.current.onLiquidation?.(liquidation);
+          // Batched delivery: { type: 'LIQUIDATION_BATCH', liquidations: [...] }
+          const items = data.type === 'LIQUIDATION_BATCH' ? data.liquidations : [data];
+          receivedLiquidationRef.current = true;
+          for (const item of items) {
+            emitLiquidation(item);
+          }
+        });
+
+        // Current state sent once right after subscribing (no wait for the next change-driven frame)
+        client.subscribe('/user/queue/snapshot', (message) => {
+          const snapshot: Snapshot = JSON.parse(message.body);
+          if (snapshot.prayer) {
+            setPrayerCount(snapshot.prayer);
+          }
+          if (snapshot.ticker) {
+            optionsRef.current.onTicker?.(snapshot.ticker);
+          }
+          if (!receivedLiquidationRef.current) {
+            for (const item of snapshot.liquidations) {
+              emitLiquidation(item);
+            }
+          }
         });
 
         // Subscribe to personal error queue
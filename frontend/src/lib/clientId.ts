@@ -0,0 +1,22 @@
+// Stable per-browser id sent as ?cid= so the server can rate limit across sessions and replicas
+const STORAGE_KEY = 'prayer-client-id';
+
+export function getClientId(): string {
+  try {
+    const stored = localStorage.getItem(STORAGE_KEY);
+    if (stored) {
+      return stored;
+    }
+    const id = crypto.randomUUID();
+    localStorage.setItem(STORAGE_KEY, id);
+    return id;
+  } catch {
+    // Storage disabled (private mode): fall back to a per-page id
+    return crypto.randomUUID();
+  }
+}
+
+export function withClientId(url: string): string {
+  const separator = url.includes('?') ? '&' : '?';
+  return `${url}${separator}cid=${encodeURIComponent(getClientId())}`;
+}
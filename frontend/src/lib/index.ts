@@ -1,2 +1,3 @@
 export * from './exponentialBackoff';
 export * from './stomp';
+export * from './clientId';
@@ -1,3 +1,7 @@
+import type { PrayerCount } from './prayer';
+import type { Ticker } from './ticker';
+import type { Liquidation } from './liquidation';
+
 export type ConnectionStatus =
   | 'disconnected'
   | 'connecting'
@@ -15,3 +19,13 @@ export interface StompMessage<T = unknown> {
   payload: T;
   timestamp: number;
 }
+
+// Sent once on SUBSCRIBE /user/queue/snapshot
+export interface Snapshot {
+  type: 'SNAPSHOT';
+  prayer: PrayerCount | null;
+  ticker: Ticker | null;
+  tickers: Ticker[];
+  liquidations: Omit<Liquidation, 'id'>[];
+  timestamp: number;
+}